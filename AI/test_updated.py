@@ -92,6 +92,7 @@ class ResumeQAItem(BaseModel):
 
 class InterviewInput(BaseModel):
     jd_presigned_url: Optional[str] = None  # Pre-signed URL for JD PDF/image (only used in s1)
+    jd_text: Optional[str] = None  # JD text already OCR'd by the backend (skips OCR of jd_presigned_url)
     resume: List[ResumeQAItem]
     qna_history: List[Dict[str, str]] = []  # list of {question: str, answer: str}
     latest_wav_file_url: Optional[str] = None  # Pre-signed URL for downloading user's WAV
@@ -99,6 +100,7 @@ class InterviewInput(BaseModel):
 
 class EndInterviewInput(BaseModel):
     jd_presigned_url: str  # Pre-signed URL for JD PDF/image
+    jd_text: Optional[str] = None  # JD text already OCR'd by the backend (skips OCR of jd_presigned_url)
     resume: List[ResumeQAItem]
     qna_history: List[Dict[str, str]]
     preflight_urls: List[str]  # List of pre-signed URLs for downloading WAV files
@@ -555,7 +557,10 @@ async def s1(input_data: InterviewInput):
         
         # Extract JD text from pre-signed URL (OCR)
         jd_text = ""
-        if input_data.jd_presigned_url:
+        if input_data.jd_text:
+            jd_text = input_data.jd_text
+            logger.info(f"S1: Using JD text from backend ({len(jd_text)} chars)")
+        elif input_data.jd_presigned_url:
             logger.info("S1: Extracting JD text from pre-signed URL")
             try:
                 jd_text = await _extract_jd_text_from_presigned_url(input_data.jd_presigned_url)
@@ -697,17 +702,21 @@ async def s3(input_data: EndInterviewInput):
     Returns comprehensive interview assessment.
     """
     try:
-        # Extract JD text from pre-signed URL (OCR)
-        logger.info("S3: Extracting JD text from pre-signed URL")
-        try:
-            jd_text = await _extract_jd_text_from_presigned_url(input_data.jd_presigned_url)
-            logger.info(f"S3: Extracted JD text ({len(jd_text)} chars)")
-        except Exception as e:
-            if STRICT_PRESIGNED_URL_ERRORS:
-                logger.error(f"S3: JD OCR failed: {e}")
-                raise
-            jd_text = ""
-            logger.warning(f"S3: JD OCR failed (url may be invalid); proceeding without JD. Error: {e}")
+        # Extract JD text from pre-signed URL (OCR) unless the backend already sent it
+        if input_data.jd_text:
+            jd_text = input_data.jd_text
+            logger.info(f"S3: Using JD text from backend ({len(jd_text)} chars)")
+        else:
+            logger.info("S3: Extracting JD text from pre-signed URL")
+            try:
+                jd_text = await _extract_jd_text_from_presigned_url(input_data.jd_presigned_url)
+                logger.info(f"S3: Extracted JD text ({len(jd_text)} chars)")
+            except Exception as e:
+                if STRICT_PRESIGNED_URL_ERRORS:
+                    logger.error(f"S3: JD OCR failed: {e}")
+                    raise
+                jd_text = ""
+                logger.warning(f"S3: JD OCR failed (url may be invalid); proceeding without JD. Error: {e}")
         
         # Compute intent scores and emotion labels from all Q&A answers
         logger.info("S3: Computing intent scores and emotion labels")
@@ -0,0 +1,65 @@
+#!/bin/bash
+
+# 동시 세션 수를 단계적으로 늘리며 SLO(실패율 1% 미만, 답변 p95 기준)를 만족하는 최대 세션 수를 측정
+# 서버를 플랫폼 스레드 모드 / 가상 스레드 모드로 각각 띄운 뒤 실행하여 결과를 비교한다.
+#
+# 사용법: ./compare_thread_modes.sh <라벨> [세션 단계...]
+#   예) ./compare_thread_modes.sh platform 50 100 200 400 800
+BASE_URL="${API_URL:-http://localhost:8080}"
+JWT_TOKEN="${JWT_TOKEN:-your-jwt-token-here}"
+LABEL="${1:-run}"
+[ $# -gt 0 ] && shift
+if [ $# -gt 0 ]; then
+  LEVELS=("$@")
+else
+  LEVELS=(50 100 200 400 800)
+fi
+DURATION="${DURATION:-60s}"
+RESULT_DIR="results/${LABEL}"
+
+command -v k6 >/dev/null || { echo "❌ k6가 설치되어 있지 않습니다."; exit 1; }
+command -v jq >/dev/null || { echo "❌ jq가 설치되어 있지 않습니다."; exit 1; }
+
+mkdir -p "${RESULT_DIR}"
+
+echo "======================================"
+echo "  동시 세션 부하 테스트 (${LABEL})"
+echo "======================================"
+echo "API URL: ${BASE_URL}"
+echo "단계: ${LEVELS[*]} (단계별 ${DURATION})"
+echo "======================================"
+echo ""
+
+MAX_PASSED=0
+for SESSIONS in "${LEVELS[@]}"; do
+  SUMMARY="${RESULT_DIR}/sessions-${SESSIONS}.json"
+  echo "▶ 동시 세션 ${SESSIONS}개 실행 중..."
+
+  k6 run --quiet \
+    -e API_URL="${BASE_URL}" \
+    -e JWT_TOKEN="${JWT_TOKEN}" \
+    -e SESSIONS="${SESSIONS}" \
+    -e DURATION="${DURATION}" \
+    --summary-export "${SUMMARY}" \
+    concurrent-sessions.js > /dev/null
+  EXIT_CODE=$?
+
+  FAILED_RATE=$(jq -r '.metrics.http_req_failed.value // .metrics.http_req_failed.rate' "${SUMMARY}")
+  P95=$(jq -r '.metrics.answer_duration["p(95)"]' "${SUMMARY}")
+  ITERATIONS=$(jq -r '.metrics.iterations.count' "${SUMMARY}")
+  echo "  실패율: ${FAILED_RATE}, 답변 p95: ${P95}ms, 반복: ${ITERATIONS}"
+
+  # k6 종료 코드 99 = threshold 실패
+  if [ ${EXIT_CODE} -ne 0 ]; then
+    echo "  ❌ SLO 미충족 - 측정 종료"
+    break
+  fi
+  echo "  ✅ SLO 충족"
+  MAX_PASSED=${SESSIONS}
+done
+
+echo ""
+echo "======================================"
+echo "  [${LABEL}] SLO를 만족한 최대 동시 세션: ${MAX_PASSED}"
+echo "======================================"
+echo "${MAX_PASSED}" > "${RESULT_DIR}/max-sessions.txt"
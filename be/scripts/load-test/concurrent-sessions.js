@@ -0,0 +1,102 @@
+// VR 면접 동시 세션 부하 테스트 (k6)
+// VU 1개 = 면접 세션 1개: 데모 면접 생성 → 질문 presigned URL 조회 → (답변 업로드 URL 발급 → 꼬리질문 요청) 반복
+//
+// 실행 예: k6 run -e JWT_TOKEN=... -e SESSIONS=200 concurrent-sessions.js
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.API_URL || 'http://localhost:8080';
+const JWT_TOKEN = __ENV.JWT_TOKEN || 'your-jwt-token-here';
+const JOB_POSTING_ID = __ENV.JOB_POSTING_ID || '1';
+const SESSIONS = parseInt(__ENV.SESSIONS || '50', 10);
+const DURATION = __ENV.DURATION || '60s';
+const ANSWER_MODE = __ENV.ANSWER_MODE || 'related'; // related | reply
+const UPLOAD_PING = __ENV.UPLOAD_PING === 'true'; // 업로드 완료 알림으로 선행 STT 시작
+const THINK_TIME_SECONDS = parseFloat(__ENV.THINK_TIME_SECONDS || '1');
+const P95_SLO_MS = parseInt(__ENV.P95_SLO_MS || '15000', 10);
+
+const answerDuration = new Trend('answer_duration', true);
+
+export const options = {
+  scenarios: {
+    sessions: {
+      executor: 'constant-vus',
+      vus: SESSIONS,
+      duration: DURATION,
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    answer_duration: [`p(95)<${P95_SLO_MS}`],
+  },
+};
+
+const headers = {
+  Authorization: `Bearer ${JWT_TOKEN}`,
+  'Content-Type': 'application/json',
+};
+
+// VU별 세션 상태 (VU마다 독립된 JS 런타임)
+let session = null;
+
+function startSession() {
+  const created = http.post(
+    `${BASE_URL}/api/Interview/demo/create?jobPostingId=${JOB_POSTING_ID}`, null,
+    { headers, tags: { name: 'demo-create' } });
+  if (!check(created, { '데모 면접 생성 200': (r) => r.status === 200 })) {
+    return null;
+  }
+  const data = created.json('data');
+
+  const questions = http.get(
+    `${BASE_URL}/api/Interview/${data.interviewId}/questions/presigned-urls`,
+    { headers, tags: { name: 'question-presigned-urls' } });
+  check(questions, { '질문 URL 조회 200': (r) => r.status === 200 });
+
+  return { interviewId: data.interviewId, questionId: data.questionId };
+}
+
+export default function () {
+  if (session === null) {
+    session = startSession();
+    if (session === null) {
+      sleep(THINK_TIME_SECONDS);
+      return;
+    }
+  }
+
+  const upload = http.post(
+    `${BASE_URL}/api/Interview/presigned-url?fileName=load-test-answer.wav`, null,
+    { headers, tags: { name: 'answer-presigned-url' } });
+  if (!check(upload, { '업로드 URL 발급 200': (r) => r.status === 200 })) {
+    sleep(THINK_TIME_SECONDS);
+    return;
+  }
+
+  const s3Key = upload.json('data.s3Key');
+  if (UPLOAD_PING) {
+    const ping = http.post(
+      `${BASE_URL}/api/Interview/presigned-url/uploaded?s3Key=${encodeURIComponent(s3Key)}`,
+      null, { headers, tags: { name: 'answer-uploaded' } });
+    check(ping, { '업로드 완료 알림 202': (r) => r.status === 202 });
+    // 업로드 완료 후 다음 요청까지의 클라이언트 처리 시간
+    sleep(THINK_TIME_SECONDS);
+  }
+
+  const body = JSON.stringify({
+    questionId: session.questionId,
+    s3Key,
+  });
+  const answer = http.post(`${BASE_URL}/api/Interview/${ANSWER_MODE}`, body,
+    { headers, tags: { name: `answer-${ANSWER_MODE}` }, timeout: '180s' });
+  answerDuration.add(answer.timings.duration);
+
+  if (check(answer, { '답변 등록 200': (r) => r.status === 200 })
+      && ANSWER_MODE === 'related') {
+    // 다음 답변은 생성된 꼬리질문에 대해 등록
+    session.questionId = answer.json('data.questionId');
+  }
+
+  sleep(THINK_TIME_SECONDS);
+}
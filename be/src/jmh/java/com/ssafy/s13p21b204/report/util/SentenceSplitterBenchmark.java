@@ -0,0 +1,127 @@
+package com.ssafy.s13p21b204.report.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 긴 한국어 답변에 대한 문장 수 계산 / 라벨 정렬 벤치마크
+ * 기존 정규식 방식(split("\\R") + Pattern.split)과 단일 순회 스캐너를 비교한다.
+ * 실행: ./gradlew jmh (-prof gc 옵션으로 할당량 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SentenceSplitterBenchmark {
+
+  private static final Pattern LEGACY_SPLIT_PATTERN =
+      Pattern.compile("(?<=[\\.!?])\\s+|(?<=다\\.)\\s+|(?<=요\\.)\\s+");
+
+  private static final String[] SENTENCES = {
+      "저는 백엔드 개발자로서 대용량 트래픽을 처리하는 경험을 쌓아왔습니다.",
+      "특히 결제 시스템의 응답 속도를 개선하기 위해 캐시 계층을 도입했어요.",
+      "그 과정에서 팀원들과 의견 차이가 있었지만, 데이터를 근거로 설득했습니다!",
+      "결과적으로 평균 응답 시간이 40% 줄었습니다.",
+      "이 경험이 귀사의 서비스에도 도움이 될 수 있을까요?"
+  };
+
+  @Param({"5", "50", "500"})
+  private int sentencesPerAnswer;
+
+  private List<String> answers;
+  private List<Integer> labels;
+
+  @Setup
+  public void setUp() {
+    answers = new ArrayList<>();
+    for (int a = 0; a < 10; a++) {
+      StringBuilder sb = new StringBuilder();
+      for (int i = 0; i < sentencesPerAnswer; i++) {
+        sb.append(SENTENCES[(a + i) % SENTENCES.length]);
+        sb.append(i % 7 == 6 ? "\n" : " ");
+      }
+      answers.add(sb.toString());
+    }
+    labels = new ArrayList<>();
+    for (int i = 0; i < 10 * sentencesPerAnswer; i++) {
+      labels.add(i % 3);
+    }
+  }
+
+  @Benchmark
+  public int legacyRegexCount() {
+    int total = 0;
+    for (String answer : answers) {
+      total += legacyCountSentences(answer);
+    }
+    return total;
+  }
+
+  @Benchmark
+  public int scannerCount() {
+    int total = 0;
+    for (String answer : answers) {
+      total += SentenceSplitter.countSentences(answer);
+    }
+    return total;
+  }
+
+  @Benchmark
+  public List<List<Integer>> legacySliceLabels() {
+    List<List<Integer>> result = new ArrayList<>(answers.size());
+    int pos = 0;
+    for (String answer : answers) {
+      int need = legacyCountSentences(answer);
+      List<Integer> slice = new ArrayList<>();
+      int end = Math.min(pos + need, labels.size());
+      if (pos < end) {
+        slice.addAll(labels.subList(pos, end));
+      }
+      while (slice.size() < need) {
+        slice.add(0);
+      }
+      pos = end;
+      result.add(slice);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public SentenceLabelAligner.AlignedLabels scannerAlignLabels() {
+    int[] counts = new int[answers.size()];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = SentenceSplitter.countSentences(answers.get(i));
+    }
+    return SentenceLabelAligner.align(labels, counts);
+  }
+
+  // 기존 ReportServiceImpl.countSentences와 동일한 방식 (쉼표 규칙 제외)
+  private static int legacyCountSentences(String paragraph) {
+    String trimmed = paragraph.trim();
+    if (trimmed.isEmpty()) {
+      return 0;
+    }
+    int count = 0;
+    for (String rawLine : trimmed.split("\\R")) {
+      String line = rawLine.trim();
+      if (line.isEmpty()) {
+        continue;
+      }
+      for (String piece : LEGACY_SPLIT_PATTERN.split(line)) {
+        if (!piece.trim().isEmpty()) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,309 @@
+package com.ssafy.s13p21b204.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FastAPI(/api/v1/*) 대역 서버
+ *
+ * 실제 AI 서버와 같은 요청/응답 형식으로 동작하며, 엔드포인트마다 설정한 지연 분포만큼 대기한 뒤 응답한다.
+ * - 실제 서버처럼 Presigned URL의 파일을 내려받고(stt_url, jd_presigned_url, preflight_urls)
+ *   saved_tts_file_url에 TTS 음성(WAV)을 업로드한다.
+ * - failure-rate 확률로 500을 반환한다.
+ * 지연 설정: loadtest.fastapi.{ocr|stt|start|answer|end}.{median-ms|p99-ms|failure-rate}
+ */
+@Slf4j
+class FastApiStub implements AutoCloseable {
+
+  // 백엔드가 기대하는 면접 시작 질문 수 (InterviewQuestionCreationService.EXPECTED_QUESTION_COUNT)
+  private static final int START_QUESTION_COUNT = 5;
+
+  private static final List<String> SCORE_KEYS = List.of(
+      "Communication", "Teamwork_Leadership", "Integrity", "Adaptability", "Job_Competency");
+
+  private final HttpServer server;
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final byte[] ttsAudio;
+  private final Map<String, LatencyDistribution> latencies = new LinkedHashMap<>();
+  private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+  private final Map<String, AtomicLong> failureCounts = new ConcurrentHashMap<>();
+
+  FastApiStub(double latencyScale) throws IOException {
+    latencies.put("/api/v1/ocr", LatencyDistribution.of("fastapi.ocr", 3000, 8000, latencyScale));
+    latencies.put("/api/v1/stt", LatencyDistribution.of("fastapi.stt", 1500, 6000, latencyScale));
+    latencies.put("/api/v1/interview/start",
+        LatencyDistribution.of("fastapi.start", 8000, 20000, latencyScale));
+    latencies.put("/api/v1/interview/answer",
+        LatencyDistribution.of("fastapi.answer", 2500, 8000, latencyScale));
+    latencies.put("/api/v1/interview/end",
+        LatencyDistribution.of("fastapi.end", 15000, 40000, latencyScale));
+
+    this.ttsAudio = Wav.silence(3);
+    this.httpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    this.server.createContext("/api/v1/ocr", exchange -> handle(exchange, this::ocr));
+    this.server.createContext("/api/v1/stt", exchange -> handle(exchange, this::stt));
+    this.server.createContext("/api/v1/interview/start", exchange -> handle(exchange, this::start));
+    this.server.createContext("/api/v1/interview/answer",
+        exchange -> handle(exchange, this::answer));
+    this.server.createContext("/api/v1/interview/end", exchange -> handle(exchange, this::end));
+  }
+
+  void start() {
+    server.start();
+    log.info("[FastApiStub] 시작 - {}", baseUrl());
+    latencies.forEach((path, latency) -> log.info("[FastApiStub] {} {}", path, latency));
+  }
+
+  String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  /**
+   * 엔드포인트별 (요청 수, 실패 응답 수)
+   */
+  Map<String, long[]> counts() {
+    Map<String, long[]> counts = new LinkedHashMap<>();
+    for (String path : latencies.keySet()) {
+      counts.put(path, new long[]{
+          requestCounts.getOrDefault(path, new AtomicLong()).get(),
+          failureCounts.getOrDefault(path, new AtomicLong()).get()
+      });
+    }
+    return counts;
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+
+  private void handle(HttpExchange exchange, Handler handler) throws IOException {
+    String path = exchange.getHttpContext().getPath();
+    requestCounts.computeIfAbsent(path, p -> new AtomicLong()).incrementAndGet();
+    try (exchange) {
+      JsonNode body;
+      try (InputStream in = exchange.getRequestBody()) {
+        body = objectMapper.readTree(in);
+      }
+      Object response = handler.handle(body);
+      if (latencies.get(path).await()) {
+        failureCounts.computeIfAbsent(path, p -> new AtomicLong()).incrementAndGet();
+        send(exchange, 500, Map.of("detail", "stub failure"));
+        return;
+      }
+      send(exchange, 200, response);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.warn("[FastApiStub] {} 처리 실패: {}", path, e.toString());
+      failureCounts.computeIfAbsent(path, p -> new AtomicLong()).incrementAndGet();
+      try {
+        send(exchange, 500, Map.of("detail", String.valueOf(e.getMessage())));
+      } catch (IOException ignored) {
+        // 응답 전송 중 연결이 끊긴 경우
+      }
+    }
+  }
+
+  private void send(HttpExchange exchange, int status, Object body) throws IOException {
+    byte[] bytes = objectMapper.writeValueAsBytes(body);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private Object ocr(JsonNode body) throws IOException, InterruptedException {
+    int size = download(body.path("pre_signed_url").asText(null));
+    return Map.of("status", "success", "text",
+        "[우대사항] Java/Spring 기반 서버 개발 경험, 대용량 트래픽 처리 경험 (원본 " + size + " bytes)");
+  }
+
+  private Object stt(JsonNode body) throws IOException, InterruptedException {
+    int size = download(body.path("stt_url").asText(null));
+    return Map.of("status", "success", "converted_text", transcript(size));
+  }
+
+  private Object start(JsonNode body) throws IOException, InterruptedException {
+    downloadJdIfNeeded(body);
+    List<String> questions = new ArrayList<>();
+    List<Integer> talkers = new ArrayList<>();
+    JsonNode ttsUrls = body.path("saved_tts_file_url");
+    for (int i = 0; i < START_QUESTION_COUNT; i++) {
+      questions.add("자기소개서 " + (i + 1) + "번 항목에서 가장 어려웠던 점은 무엇인가요?");
+      talkers.add(i % 2);
+      if (i < ttsUrls.size()) {
+        upload(ttsUrls.get(i).asText());
+      }
+    }
+    return interviewResponse(null, questions, talkers);
+  }
+
+  private Object answer(JsonNode body) throws IOException, InterruptedException {
+    downloadJdIfNeeded(body);
+    int size = download(body.path("latest_wav_file_url").asText(null));
+    JsonNode ttsUrls = body.path("saved_tts_file_url");
+    if (!ttsUrls.isEmpty()) {
+      upload(ttsUrls.get(0).asText());
+    }
+    return interviewResponse(transcript(size), List.of("방금 말씀하신 경험에서 본인의 역할을 더 구체적으로 설명해 주세요."),
+        List.of(ThreadLocalRandom.current().nextInt(2)));
+  }
+
+  private Object end(JsonNode body) throws IOException, InterruptedException {
+    downloadJdIfNeeded(body);
+    if (body.path("preflight_transcript").isMissingNode()) {
+      for (JsonNode url : body.path("preflight_urls")) {
+        download(url.asText());
+      }
+    }
+
+    int sentences = 0;
+    for (JsonNode qna : body.path("qna_history")) {
+      sentences += Math.max(1, qna.path("answer").asText("").split("[.?!]+\\s*").length);
+    }
+    List<Integer> labels = new ArrayList<>();
+    for (int i = 0; i < sentences; i++) {
+      labels.add(ThreadLocalRandom.current().nextInt(3));
+    }
+    Map<String, Integer> scores = new LinkedHashMap<>();
+    for (String key : SCORE_KEYS) {
+      scores.put(key, ThreadLocalRandom.current().nextInt(1, 6));
+    }
+
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("status", "success");
+    response.put("scores", scores);
+    response.put("labels", labels);
+    response.put("report", "부하 테스트용 리포트 - 답변 " + body.path("qna_history").size() + "개 분석");
+    return response;
+  }
+
+  private Map<String, Object> interviewResponse(String convertedText, List<String> questions,
+      List<Integer> talkers) {
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("status", "success");
+    response.put("converted_text_with_stt", convertedText);
+    response.put("text_from_tts", questions);
+    response.put("talker", talkers);
+    return response;
+  }
+
+  private void downloadJdIfNeeded(JsonNode body) throws IOException, InterruptedException {
+    if (body.path("jd_text").isMissingNode()) {
+      download(body.path("jd_presigned_url").asText(null));
+    }
+  }
+
+  private int download(String url) throws IOException, InterruptedException {
+    if (url == null || url.isBlank()) {
+      return 0;
+    }
+    HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(URI.create(url)).GET()
+        .build(), HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() / 100 != 2) {
+      throw new IOException("파일 다운로드 실패 - status=" + response.statusCode());
+    }
+    return response.body().length;
+  }
+
+  private void upload(String url) throws IOException, InterruptedException {
+    HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+        .header("Content-Type", "audio/wav")
+        .PUT(HttpRequest.BodyPublishers.ofByteArray(ttsAudio))
+        .build(), HttpResponse.BodyHandlers.discarding());
+    if (response.statusCode() / 100 != 2) {
+      throw new IOException("TTS 업로드 실패 - status=" + response.statusCode());
+    }
+  }
+
+  private static String transcript(int audioBytes) {
+    int sentences = Math.max(1, audioBytes / Wav.BYTES_PER_SECOND / 5);
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < sentences; i++) {
+      text.append("저는 프로젝트에서 서버 성능 개선을 맡아 응답 시간을 줄였습니다. ");
+    }
+    return text.toString().trim();
+  }
+
+  @FunctionalInterface
+  private interface Handler {
+
+    Object handle(JsonNode body) throws IOException, InterruptedException;
+  }
+
+  /**
+   * 16kHz 16bit mono PCM WAV
+   */
+  static final class Wav {
+
+    static final int SAMPLE_RATE = 16_000;
+    static final int BYTES_PER_SECOND = SAMPLE_RATE * 2;
+
+    private Wav() {
+    }
+
+    static byte[] silence(int seconds) {
+      int dataSize = BYTES_PER_SECOND * seconds;
+      byte[] wav = new byte[44 + dataSize];
+      writeAscii(wav, 0, "RIFF");
+      writeInt(wav, 4, 36 + dataSize);
+      writeAscii(wav, 8, "WAVE");
+      writeAscii(wav, 12, "fmt ");
+      writeInt(wav, 16, 16);
+      writeShort(wav, 20, 1);
+      writeShort(wav, 22, 1);
+      writeInt(wav, 24, SAMPLE_RATE);
+      writeInt(wav, 28, BYTES_PER_SECOND);
+      writeShort(wav, 32, 2);
+      writeShort(wav, 34, 16);
+      writeAscii(wav, 36, "data");
+      writeInt(wav, 40, dataSize);
+      return wav;
+    }
+
+    private static void writeAscii(byte[] target, int offset, String value) {
+      byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+      System.arraycopy(bytes, 0, target, offset, bytes.length);
+    }
+
+    private static void writeInt(byte[] target, int offset, int value) {
+      for (int i = 0; i < 4; i++) {
+        target[offset + i] = (byte) (value >>> (8 * i));
+      }
+    }
+
+    private static void writeShort(byte[] target, int offset, int value) {
+      target[offset] = (byte) value;
+      target[offset + 1] = (byte) (value >>> 8);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.ssafy.s13p21b204.loadtest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+
+/**
+ * FCM 대역 (firebaseApp/firebaseMessaging 빈 교체)
+ *
+ * Firebase Admin SDK는 전송 엔드포인트를 바꿀 수 없으므로 HTTP 대역 대신 FirebaseMessaging 빈을 교체한다.
+ * send()는 loadtest.fcm.{median-ms|p99-ms|failure-rate} 분포만큼 대기한 뒤 메시지 ID를 반환한다.
+ */
+@Slf4j
+class FcmStub implements BeanDefinitionRegistryPostProcessor {
+
+  private static final String FIREBASE_APP_BEAN = "firebaseApp";
+  private static final String FIREBASE_MESSAGING_BEAN = "firebaseMessaging";
+
+  private final LatencyDistribution latency;
+  private final AtomicLong sent = new AtomicLong();
+
+  FcmStub(double latencyScale) {
+    this.latency = LatencyDistribution.of("fcm", 80, 400, latencyScale);
+  }
+
+  long sentCount() {
+    return sent.get();
+  }
+
+  @Override
+  public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+  }
+
+  /**
+   * 컨텍스트에 직접 추가한 후처리기는 설정 클래스 파싱보다 먼저 실행되므로,
+   * FireBaseFcmConfig의 빈 정의가 등록된 뒤인 이 단계에서 교체한다.
+   */
+  @Override
+  public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+    BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
+    // 자격 증명이 없으면 FirebaseApp 초기화가 실패하므로 앱 빈은 제거하고 메시징 빈만 대역으로 등록
+    if (registry.containsBeanDefinition(FIREBASE_APP_BEAN)) {
+      registry.removeBeanDefinition(FIREBASE_APP_BEAN);
+    }
+    if (registry.containsBeanDefinition(FIREBASE_MESSAGING_BEAN)) {
+      registry.removeBeanDefinition(FIREBASE_MESSAGING_BEAN);
+    }
+    registry.registerBeanDefinition(FIREBASE_MESSAGING_BEAN, BeanDefinitionBuilder
+        .genericBeanDefinition(FirebaseMessaging.class, this::firebaseMessaging)
+        .getBeanDefinition());
+    log.info("[FcmStub] FirebaseMessaging 대역 등록 - {}", latency);
+  }
+
+  private FirebaseMessaging firebaseMessaging() {
+    FirebaseMessaging messaging = mock(FirebaseMessaging.class);
+    try {
+      when(messaging.send(any(Message.class))).thenAnswer(invocation -> {
+        if (latency.await()) {
+          throw new IllegalStateException("stub failure");
+        }
+        return "projects/loadtest/messages/" + sent.incrementAndGet();
+      });
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+    return messaging;
+  }
+}
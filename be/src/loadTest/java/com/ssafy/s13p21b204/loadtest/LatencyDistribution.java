@@ -0,0 +1,52 @@
+package com.ssafy.s13p21b204.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스텁 응답 지연 분포 (로그정규분포 - 중앙값과 p99로 지정) + 실패율
+ * AI 추론 지연은 오른쪽 꼬리가 긴 분포이므로 평균/고정 지연 대신 로그정규분포를 사용한다.
+ */
+record LatencyDistribution(double medianMillis, double p99Millis, double failureRate) {
+
+  // 표준정규분포 99 백분위 z값
+  private static final double Z_99 = 2.3263;
+
+  /**
+   * loadtest.{prefix}.median-ms / p99-ms / failure-rate 프로퍼티로 생성 (지연은 scale 배)
+   */
+  static LatencyDistribution of(String prefix, double defaultMedianMillis, double defaultP99Millis,
+      double scale) {
+    double median = LoadTestConfig.doubleValue("loadtest." + prefix + ".median-ms",
+        defaultMedianMillis);
+    double p99 = LoadTestConfig.doubleValue("loadtest." + prefix + ".p99-ms", defaultP99Millis);
+    double failureRate = LoadTestConfig.doubleValue("loadtest." + prefix + ".failure-rate", 0.0);
+    return new LatencyDistribution(median * scale, Math.max(median, p99) * scale, failureRate);
+  }
+
+  long sampleMillis() {
+    if (medianMillis <= 0) {
+      return 0;
+    }
+    double mu = Math.log(medianMillis);
+    double sigma = (Math.log(p99Millis) - mu) / Z_99;
+    return Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+  }
+
+  boolean shouldFail() {
+    return failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate;
+  }
+
+  /**
+   * 지연만큼 대기 후 실패 여부 반환
+   */
+  boolean await() throws InterruptedException {
+    Thread.sleep(sampleMillis());
+    return shouldFail();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("median=%.0fms p99=%.0fms failure=%.1f%%", medianMillis, p99Millis,
+        failureRate * 100);
+  }
+}
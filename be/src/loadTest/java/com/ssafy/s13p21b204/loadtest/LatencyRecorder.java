@@ -0,0 +1,85 @@
+package com.ssafy.s13p21b204.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시나리오 단계별 응답 시간/실패 기록
+ * 표본 수가 세션 수 x 질문 수 수준이므로 히스토그램 대신 전체 값을 보관하고 종료 시 정렬해 백분위를 계산한다.
+ */
+class LatencyRecorder {
+
+  private final Map<String, Step> steps = new ConcurrentHashMap<>();
+  private final List<String> order = new ArrayList<>();
+
+  void record(String step, long nanos, boolean success) {
+    Step target = steps.computeIfAbsent(step, name -> {
+      synchronized (order) {
+        order.add(name);
+      }
+      return new Step();
+    });
+    if (success) {
+      target.latencies.add(nanos);
+    } else {
+      target.failures.incrementAndGet();
+    }
+  }
+
+  /**
+   * 단계별 요약 (처음 기록된 순서)
+   *
+   * @param elapsedSeconds 처리량 계산 기준 시간 (부하 구간 전체)
+   */
+  Map<String, StepSummary> summarize(double elapsedSeconds) {
+    Map<String, StepSummary> summaries = new LinkedHashMap<>();
+    List<String> names;
+    synchronized (order) {
+      names = List.copyOf(order);
+    }
+    for (String name : names) {
+      Step step = steps.get(name);
+      long[] sorted = step.latencies.stream().mapToLong(Long::longValue).toArray();
+      Arrays.sort(sorted);
+      long failures = step.failures.get();
+      summaries.put(name, new StepSummary(
+          sorted.length,
+          failures,
+          elapsedSeconds > 0 ? sorted.length / elapsedSeconds : 0,
+          percentileMillis(sorted, 0.50),
+          percentileMillis(sorted, 0.95),
+          percentileMillis(sorted, 0.99),
+          sorted.length > 0 ? sorted[sorted.length - 1] / 1_000_000.0 : 0
+      ));
+    }
+    return summaries;
+  }
+
+  private static double percentileMillis(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+  }
+
+  private static final class Step {
+
+    private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final AtomicLong failures = new AtomicLong();
+  }
+
+  /**
+   * @param throughput 초당 성공 건수
+   */
+  record StepSummary(long count, long failures, double throughput, double p50Millis,
+                     double p95Millis, double p99Millis, double maxMillis) {
+
+  }
+}
@@ -0,0 +1,234 @@
+package com.ssafy.s13p21b204.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s13p21b204.BeApplication;
+import com.ssafy.s13p21b204.company.entity.Company;
+import com.ssafy.s13p21b204.company.repository.CompanyRepository;
+import com.ssafy.s13p21b204.jobPosting.entity.JobPosting;
+import com.ssafy.s13p21b204.jobPosting.repository.JobPostingRepository;
+import com.ssafy.s13p21b204.jobPosting.service.JobPostingPreferenceService;
+import com.ssafy.s13p21b204.loadtest.SessionScenario.Seed;
+import com.ssafy.s13p21b204.notification.service.FirebasePushService;
+import com.ssafy.s13p21b204.question.entity.Question;
+import com.ssafy.s13p21b204.question.repository.QuestionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * VR 면접 파이프라인 부하 테스트 (실행: ./gradlew loadTest -Ploadtest.sessions=50)
+ *
+ * FastAPI/S3/FCM 대역을 띄우고 백엔드(BeApplication)를 같은 JVM에서 기동한 뒤,
+ * N개의 VR 면접 세션을 동시에 진행하며 단계별 응답 시간과 풀 포화 지표를 수집한다.
+ * DB는 H2(MySQL 모드)를 사용하고, Redis와 MongoDB는 로컬 인스턴스가 필요하다.
+ */
+@Slf4j
+public class LoadTestApplication {
+
+  private static final String BUCKET = "loadtest";
+  private static final String PREFERENCE_KEY = "job-postings/loadtest_preference.pdf";
+  private static final int RESUME_QUESTION_COUNT = 3;
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    String label = config.label() != null ? config.label() : gitRevision();
+
+    try (FastApiStub fastApi = new FastApiStub(config.latencyScale());
+        S3StandIn s3 = new S3StandIn()) {
+      fastApi.start();
+      s3.start();
+      FcmStub fcm = new FcmStub(config.latencyScale());
+
+      SpringApplication application = new SpringApplication(BeApplication.class);
+      application.addInitializers(context -> context.addBeanFactoryPostProcessor(fcm));
+      try (ConfigurableApplicationContext context = application.run(
+          backendArgs(config, fastApi.baseUrl(), s3.endpoint()))) {
+        String baseUrl = "http://127.0.0.1:"
+            + context.getEnvironment().getProperty("local.server.port");
+        reset(context);
+        Seed seed = seed(context, s3);
+
+        LoadTestReport report = run(config, label, baseUrl, seed, context, fastApi, s3, fcm);
+        report.print();
+        Path output = report.write(config.outputDir());
+        log.info("[LoadTest] 결과 저장 - {}", output.toAbsolutePath());
+      }
+    }
+    System.exit(0);
+  }
+
+  private static LoadTestReport run(LoadTestConfig config, String label, String baseUrl, Seed seed,
+      ConfigurableApplicationContext context, FastApiStub fastApi, S3StandIn s3, FcmStub fcm)
+      throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    LatencyRecorder recorder = new LatencyRecorder();
+    FirebasePushService firebasePushService = context.getBean(FirebasePushService.class);
+    byte[] answerAudio = FastApiStub.Wav.silence(config.answerSeconds());
+    byte[] recordingAudio = FastApiStub.Wav.silence(config.recordingSeconds());
+    HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    log.info("[LoadTest] 시작 - label={}, 세션={}, ramp-up={}s, 꼬리질문={}, 업로드 알림={}", label,
+        config.sessions(), config.rampUpSeconds(), config.followUps(), config.uploadPing());
+    OffsetDateTime startedAt = OffsetDateTime.now();
+    long started = System.nanoTime();
+    long completed = 0;
+    try (SaturationSampler sampler = new SaturationSampler(context.getBean(MeterRegistry.class));
+        ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor()) {
+      sampler.start(config.sampleIntervalMillis());
+
+      long rampUpNanos = Duration.ofSeconds(config.rampUpSeconds()).toNanos();
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < config.sessions(); i++) {
+        SessionScenario scenario = new SessionScenario(i, config, baseUrl, seed, httpClient,
+            objectMapper, recorder, firebasePushService::saveToken, answerAudio, recordingAudio);
+        long delayNanos = config.sessions() > 1 ? rampUpNanos * i / (config.sessions() - 1) : 0;
+        results.add(sessions.submit(() -> {
+          Thread.sleep(Duration.ofNanos(delayNanos));
+          return scenario.run();
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        if (Boolean.TRUE.equals(result.get())) {
+          completed++;
+        }
+      }
+
+      double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+      return new LoadTestReport(
+          label,
+          startedAt,
+          config.sessions(),
+          completed,
+          elapsedSeconds,
+          elapsedSeconds > 0 ? completed * 60 / elapsedSeconds : 0,
+          config.backendOverrides(),
+          recorder.summarize(elapsedSeconds),
+          sampler.summarize(),
+          fastApi.counts(),
+          fcm.sentCount(),
+          s3.putCount(),
+          s3.getCount()
+      );
+    }
+  }
+
+  /**
+   * 백엔드 기동 인자 (backend.* 프로퍼티로 덮어쓰기)
+   * 명령행 인자는 같은 키가 중복되면 값이 합쳐지므로 맵으로 합친 뒤 변환한다.
+   */
+  private static String[] backendArgs(LoadTestConfig config, String fastApiBaseUrl,
+      String s3Endpoint) {
+    Map<String, String> properties = new LinkedHashMap<>();
+    properties.put("server.port", "0");
+    properties.put("server.tomcat.mbeanregistry.enabled", "true");
+    properties.put("spring.datasource.url", config.datasourceUrl());
+    properties.put("spring.datasource.username", "sa");
+    properties.put("spring.datasource.password", "");
+    properties.put("spring.jpa.hibernate.ddl-auto", "create");
+    properties.put("spring.data.redis.host", config.redisHost());
+    properties.put("spring.data.redis.port", String.valueOf(config.redisPort()));
+    properties.put("spring.data.redis.password", "");
+    properties.put("spring.data.redis.database", String.valueOf(config.redisDatabase()));
+    properties.put("spring.data.mongodb.uri", config.mongoUri());
+    properties.put("cloud.aws.credentials.access-key", "loadtest");
+    properties.put("cloud.aws.credentials.secret-key", "loadtest");
+    properties.put("cloud.aws.region.static", "ap-northeast-2");
+    properties.put("cloud.aws.s3.bucket", BUCKET);
+    properties.put("cloud.aws.s3.endpoint", s3Endpoint);
+    // 환경변수 AI_FASTAPI_BASE_URL보다 명령행 인자가 우선
+    properties.put("AI_FASTAPI_BASE_URL", fastApiBaseUrl);
+    properties.put("logging.level.com.ssafy.s13p21b204", "WARN");
+    properties.putAll(config.backendOverrides());
+
+    return properties.entrySet().stream()
+        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+        .toArray(String[]::new);
+  }
+
+  /**
+   * 이전 실행 상태 정리
+   * H2/S3 대역은 실행마다 새로 만들어지지만 Redis/MongoDB는 남으므로, 이전 실행의 TTS 저장소 인덱스나
+   * 면접 컨텍스트가 새 면접 ID와 섞이지 않도록 전용 Redis DB와 MongoDB 데이터베이스를 비운다.
+   */
+  private static void reset(ConfigurableApplicationContext context) {
+    try (RedisConnection connection = context.getBean(StringRedisTemplate.class)
+        .getRequiredConnectionFactory().getConnection()) {
+      connection.serverCommands().flushDb();
+    }
+    context.getBean(MongoTemplate.class).getDb().drop();
+    log.info("[LoadTest] 이전 실행 상태 정리 완료 (Redis DB, MongoDB)");
+  }
+
+  /**
+   * 채용 공고/자소서 문항 시드 (우대사항 파일은 S3 대역에 올리고 OCR 텍스트를 미리 추출)
+   */
+  private static Seed seed(ConfigurableApplicationContext context, S3StandIn s3) {
+    s3.put(BUCKET, PREFERENCE_KEY,
+        "%PDF-1.4\n% loadtest preference\n".getBytes(StandardCharsets.US_ASCII));
+
+    Company company = context.getBean(CompanyRepository.class).save(Company.builder()
+        .name("부하테스트")
+        .build());
+    JobPosting jobPosting = context.getBean(JobPostingRepository.class).save(JobPosting.builder()
+        .company(company)
+        .createdAt(LocalDateTime.now())
+        .expiredAt(LocalDateTime.now().plusDays(30))
+        .s3PreferenceFileKey(PREFERENCE_KEY)
+        .build());
+
+    QuestionRepository questionRepository = context.getBean(QuestionRepository.class);
+    List<Long> questionIds = new ArrayList<>();
+    for (int i = 1; i <= RESUME_QUESTION_COUNT; i++) {
+      questionIds.add(questionRepository.save(Question.builder()
+          .jobPosting(jobPosting)
+          .content("자기소개서 문항 " + i)
+          .limitCnt(1000)
+          .build()).getQuestionId());
+    }
+
+    if (LoadTestConfig.bool("loadtest.jd-text", true)) {
+      context.getBean(JobPostingPreferenceService.class).extract(PREFERENCE_KEY);
+    }
+    log.info("[LoadTest] 시드 완료 - jobPostingId={}, 문항={}", jobPosting.getJobPostingId(),
+        questionIds);
+    return new Seed(jobPosting.getJobPostingId(), questionIds);
+  }
+
+  private static String gitRevision() {
+    try {
+      Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+          .redirectErrorStream(true)
+          .start();
+      String revision = new String(process.getInputStream().readAllBytes(),
+          StandardCharsets.UTF_8).trim();
+      return process.waitFor() == 0 && !revision.isEmpty() ? revision : "local";
+    } catch (IOException e) {
+      return "local";
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return "local";
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.ssafy.s13p21b204.loadtest;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*, Gradle에서는 -Ploadtest.*로 전달)
+ *
+ * @param label 결과 라벨 (기본: 현재 git 커밋)
+ * @param sessions 동시 VR 면접 세션 수
+ * @param rampUpSeconds 세션 시작을 나누어 퍼뜨리는 시간
+ * @param followUps 대질문마다 꼬리질문(/related) 후 꼬리질문 답변(/reply) 수행 여부
+ * @param uploadPing 답변 업로드 후 /presigned-url/uploaded 호출 여부 (선행 STT)
+ * @param answerSeconds 답변 녹음 길이
+ * @param recordingSeconds 면접 전체 녹음 길이 (120초 이상이면 구간 분할 전사 대상)
+ * @param thinkTimeMillis 답변 사이 대기 시간
+ * @param pollIntervalMillis 질문 생성/리포트 완료 확인 주기
+ * @param sessionTimeoutSeconds 세션 1개 제한 시간
+ * @param sampleIntervalMillis 풀 포화 지표 표본 주기
+ * @param outputDir 결과 저장 디렉토리
+ * @param redisDatabase 부하 테스트 전용 Redis DB 번호 (기동 시 비움)
+ * @param backendOverrides 백엔드 설정 덮어쓰기 (backend.* 프로퍼티, 예: -Pbackend.spring.threads.virtual.enabled=true)
+ */
+record LoadTestConfig(
+    String label,
+    int sessions,
+    int rampUpSeconds,
+    boolean followUps,
+    boolean uploadPing,
+    int answerSeconds,
+    int recordingSeconds,
+    long thinkTimeMillis,
+    long pollIntervalMillis,
+    long sessionTimeoutSeconds,
+    long sampleIntervalMillis,
+    String outputDir,
+    String redisHost,
+    int redisPort,
+    int redisDatabase,
+    String mongoUri,
+    String datasourceUrl,
+    double latencyScale,
+    Map<String, String> backendOverrides
+) {
+
+  private static final String BACKEND_PREFIX = "backend.";
+
+  static LoadTestConfig fromSystemProperties() {
+    Properties props = System.getProperties();
+    Map<String, String> backendOverrides = new TreeMap<>();
+    for (String name : props.stringPropertyNames()) {
+      if (name.startsWith(BACKEND_PREFIX)) {
+        backendOverrides.put(name.substring(BACKEND_PREFIX.length()), props.getProperty(name));
+      }
+    }
+
+    return new LoadTestConfig(
+        string("loadtest.label", null),
+        integer("loadtest.sessions", 20),
+        integer("loadtest.ramp-up-seconds", 10),
+        bool("loadtest.follow-ups", true),
+        bool("loadtest.upload-ping", false),
+        integer("loadtest.answer-seconds", 5),
+        integer("loadtest.recording-seconds", 60),
+        longValue("loadtest.think-time-ms", 1000),
+        longValue("loadtest.poll-interval-ms", 500),
+        longValue("loadtest.session-timeout-seconds", 900),
+        longValue("loadtest.sample-interval-ms", 500),
+        string("loadtest.output-dir", "build/load-test"),
+        string("loadtest.redis-host", "localhost"),
+        integer("loadtest.redis-port", 6379),
+        integer("loadtest.redis-database", 15),
+        string("loadtest.mongo-uri", "mongodb://localhost:27017/loadtest"),
+        string("loadtest.datasource-url",
+            "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"),
+        doubleValue("loadtest.fastapi.latency-scale", 1.0),
+        Collections.unmodifiableMap(backendOverrides)
+    );
+  }
+
+  static String string(String name, String defaultValue) {
+    String value = System.getProperty(name);
+    return value == null || value.isBlank() ? defaultValue : value.trim();
+  }
+
+  static int integer(String name, int defaultValue) {
+    String value = string(name, null);
+    return value == null ? defaultValue : Integer.parseInt(value);
+  }
+
+  static long longValue(String name, long defaultValue) {
+    String value = string(name, null);
+    return value == null ? defaultValue : Long.parseLong(value);
+  }
+
+  static double doubleValue(String name, double defaultValue) {
+    String value = string(name, null);
+    return value == null ? defaultValue : Double.parseDouble(value);
+  }
+
+  static boolean bool(String name, boolean defaultValue) {
+    String value = string(name, null);
+    return value == null ? defaultValue : Boolean.parseBoolean(value);
+  }
+}
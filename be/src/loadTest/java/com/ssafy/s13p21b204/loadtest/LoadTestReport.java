@@ -0,0 +1,97 @@
+package com.ssafy.s13p21b204.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ssafy.s13p21b204.loadtest.LatencyRecorder.StepSummary;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (빌드별 비교용)
+ *
+ * - {outputDir}/{label}-{sessions}.json: 전체 결과
+ * - {outputDir}/summary.tsv: 실행마다 한 줄씩 추가 (라벨, 세션 수, 완료율, 처리량, 세션/주요 단계 p95)
+ */
+record LoadTestReport(
+    String label,
+    OffsetDateTime startedAt,
+    int sessions,
+    long completedSessions,
+    double elapsedSeconds,
+    double sessionsPerMinute,
+    Map<String, String> backendOverrides,
+    Map<String, StepSummary> steps,
+    Map<String, double[]> saturation,
+    Map<String, long[]> fastApiRequests,
+    long fcmSent,
+    long s3Puts,
+    long s3Gets
+) {
+
+  private static final String[] SUMMARY_STEPS = {
+      "session", "questions.ready", "interview.related", "interview.reply", "report.ready"
+  };
+
+  void print() {
+    StringBuilder out = new StringBuilder();
+    out.append(String.format("%n===== 부하 테스트 결과 [%s] =====%n", label));
+    out.append(String.format("세션 %d개 중 %d개 완료, 소요 %.1fs, 처리량 %.2f 세션/분%n",
+        sessions, completedSessions, elapsedSeconds, sessionsPerMinute));
+    if (!backendOverrides.isEmpty()) {
+      out.append("백엔드 설정: ").append(backendOverrides).append('\n');
+    }
+
+    out.append(String.format("%n%-22s %7s %6s %9s %10s %10s %10s %10s%n",
+        "단계", "성공", "실패", "건/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+    steps.forEach((name, s) -> out.append(String.format(
+        "%-22s %7d %6d %9.2f %10.0f %10.0f %10.0f %10.0f%n",
+        name, s.count(), s.failures(), s.throughput(), s.p50Millis(), s.p95Millis(),
+        s.p99Millis(), s.maxMillis())));
+
+    out.append(String.format("%n%-80s %10s %10s%n", "풀 포화 지표", "max", "mean"));
+    saturation.forEach((name, values) -> out.append(String.format("%-80s %10.1f %10.1f%n",
+        name, values[0], values[1])));
+
+    out.append(String.format("%nFastAPI 대역 요청(실패): "));
+    fastApiRequests.forEach((path, counts) -> out.append(String.format("%s=%d(%d) ", path,
+        counts[0], counts[1])));
+    out.append(String.format("%nFCM 전송 %d건, S3 PUT %d건 / GET %d건%n", fcmSent, s3Puts, s3Gets));
+    System.out.println(out);
+  }
+
+  Path write(String outputDir) throws IOException {
+    Path dir = Path.of(outputDir);
+    Files.createDirectories(dir);
+
+    Path json = dir.resolve(label + "-" + sessions + ".json");
+    new ObjectMapper().findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .writeValue(json.toFile(), this);
+
+    Path summary = dir.resolve("summary.tsv");
+    if (Files.notExists(summary)) {
+      StringBuilder header = new StringBuilder("started_at\tlabel\tsessions\tcompleted\tsessions_per_min");
+      for (String step : SUMMARY_STEPS) {
+        header.append('\t').append(step).append("_p95_ms");
+      }
+      Files.writeString(summary, header.append('\n'), StandardCharsets.UTF_8);
+    }
+    StringBuilder row = new StringBuilder()
+        .append(startedAt).append('\t').append(label).append('\t').append(sessions).append('\t')
+        .append(completedSessions).append('\t').append(String.format("%.2f", sessionsPerMinute));
+    for (String step : SUMMARY_STEPS) {
+      StepSummary summaryStep = steps.get(step);
+      row.append('\t').append(summaryStep != null
+          ? String.format("%.0f", summaryStep.p95Millis()) : "");
+    }
+    Files.writeString(summary, row.append('\n'), StandardCharsets.UTF_8,
+        StandardOpenOption.APPEND);
+    return json;
+  }
+}
@@ -0,0 +1,226 @@
+package com.ssafy.s13p21b204.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * S3 대역 서버 (path-style /{bucket}/{key}, 메모리 저장)
+ *
+ * 백엔드는 cloud.aws.s3.endpoint로 이 서버를 바라보며, S3Client(HEAD/GET/DELETE/Range GET)와
+ * Presigned URL(PUT/GET) 요청을 모두 받는다. 서명은 검증하지 않는다.
+ */
+@Slf4j
+class S3StandIn implements AutoCloseable {
+
+  private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d*)");
+
+  private final HttpServer server;
+  private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+  private final AtomicLong storedBytes = new AtomicLong();
+  private final AtomicLong puts = new AtomicLong();
+  private final AtomicLong gets = new AtomicLong();
+
+  S3StandIn() throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    this.server.createContext("/", this::handle);
+  }
+
+  void start() {
+    server.start();
+    log.info("[S3StandIn] 시작 - {}", endpoint());
+  }
+
+  String endpoint() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  void put(String bucket, String key, byte[] content) {
+    store(bucket + "/" + key, content);
+  }
+
+  int objectCount() {
+    return objects.size();
+  }
+
+  long storedBytes() {
+    return storedBytes.get();
+  }
+
+  long putCount() {
+    return puts.get();
+  }
+
+  long getCount() {
+    return gets.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      String path = URLDecoder.decode(exchange.getRequestURI().getRawPath(), StandardCharsets.UTF_8);
+      String objectPath = path.startsWith("/") ? path.substring(1) : path;
+      switch (exchange.getRequestMethod()) {
+        case "PUT" -> {
+          byte[] content;
+          try (InputStream in = exchange.getRequestBody()) {
+            content = in.readAllBytes();
+          }
+          if (isAwsChunked(exchange)) {
+            content = decodeAwsChunked(content);
+          }
+          StoredObject stored = store(objectPath, content);
+          puts.incrementAndGet();
+          exchange.getResponseHeaders().set("ETag", stored.eTag());
+          exchange.sendResponseHeaders(200, -1);
+        }
+        case "HEAD" -> {
+          StoredObject stored = objects.get(objectPath);
+          if (stored == null) {
+            exchange.sendResponseHeaders(404, -1);
+            return;
+          }
+          exchange.getResponseHeaders().set("ETag", stored.eTag());
+          exchange.getResponseHeaders().set("Content-Length", String.valueOf(stored.content().length));
+          exchange.sendResponseHeaders(200, -1);
+        }
+        case "GET" -> get(exchange, objectPath);
+        case "DELETE" -> {
+          StoredObject removed = objects.remove(objectPath);
+          if (removed != null) {
+            storedBytes.addAndGet(-removed.content().length);
+          }
+          exchange.sendResponseHeaders(204, -1);
+        }
+        default -> exchange.sendResponseHeaders(405, -1);
+      }
+    }
+  }
+
+  private void get(HttpExchange exchange, String objectPath) throws IOException {
+    StoredObject stored = objects.get(objectPath);
+    if (stored == null) {
+      byte[] body = ("<Error><Code>NoSuchKey</Code><Key>" + objectPath + "</Key></Error>")
+          .getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/xml");
+      exchange.sendResponseHeaders(404, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+      return;
+    }
+    gets.incrementAndGet();
+
+    byte[] content = stored.content();
+    int from = 0;
+    int to = content.length - 1;
+    int status = 200;
+    String range = exchange.getRequestHeaders().getFirst("Range");
+    Matcher matcher = range != null ? RANGE.matcher(range) : null;
+    if (matcher != null && matcher.matches()) {
+      from = Integer.parseInt(matcher.group(1));
+      if (!matcher.group(2).isEmpty()) {
+        to = Math.min(to, Integer.parseInt(matcher.group(2)));
+      }
+      if (from > to) {
+        exchange.getResponseHeaders().set("Content-Range", "bytes */" + content.length);
+        exchange.sendResponseHeaders(416, -1);
+        return;
+      }
+      status = 206;
+      exchange.getResponseHeaders()
+          .set("Content-Range", "bytes " + from + "-" + to + "/" + content.length);
+    }
+
+    int length = to - from + 1;
+    exchange.getResponseHeaders().set("ETag", stored.eTag());
+    exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+    exchange.sendResponseHeaders(status, length == 0 ? -1 : length);
+    if (length > 0) {
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(content, from, length);
+      }
+    }
+  }
+
+  /**
+   * SDK의 PutObject는 HTTP 엔드포인트에서 서명 청크 인코딩(aws-chunked)으로 전송된다
+   */
+  private static boolean isAwsChunked(HttpExchange exchange) {
+    String sha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+    String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+    return (sha256 != null && sha256.startsWith("STREAMING-"))
+        || (encoding != null && encoding.contains("aws-chunked"));
+  }
+
+  // {size hex};chunk-signature=...\r\n{data}\r\n ... 0;chunk-signature=...\r\n
+  private static byte[] decodeAwsChunked(byte[] encoded) {
+    ByteArrayOutputStream decoded = new ByteArrayOutputStream(encoded.length);
+    int pos = 0;
+    while (pos < encoded.length) {
+      int lineEnd = indexOfCrlf(encoded, pos);
+      if (lineEnd < 0) {
+        break;
+      }
+      String header = new String(encoded, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+      int separator = header.indexOf(';');
+      int size = Integer.parseInt(separator >= 0 ? header.substring(0, separator) : header, 16);
+      if (size == 0) {
+        break;
+      }
+      pos = lineEnd + 2;
+      decoded.write(encoded, pos, size);
+      pos += size + 2;
+    }
+    return decoded.toByteArray();
+  }
+
+  private static int indexOfCrlf(byte[] bytes, int from) {
+    for (int i = from; i + 1 < bytes.length; i++) {
+      if (bytes[i] == '\r' && bytes[i + 1] == '\n') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private StoredObject store(String objectPath, byte[] content) {
+    StoredObject stored = new StoredObject(content, "\"" + md5(content) + "\"");
+    StoredObject previous = objects.put(objectPath, stored);
+    storedBytes.addAndGet(content.length - (previous != null ? previous.content().length : 0));
+    return stored;
+  }
+
+  private static String md5(byte[] content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record StoredObject(byte[] content, String eTag) {
+
+  }
+}
@@ -0,0 +1,107 @@
+package com.ssafy.s13p21b204.loadtest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 백엔드 풀 포화 지표 표본 수집 (MeterRegistry 게이지를 주기적으로 읽어 최대/평균 계산)
+ *
+ * - hikaricp.connections.*: DB 커넥션 풀
+ * - executor.*: 비동기 스테이지 실행기 (AsyncConfig)
+ * - reactor.netty.connection.provider.*: FastAPI WebClient 커넥션 풀
+ * - ai.client.*: FastAPI 호출 대기열/동시 실행/동시성 한도
+ * - tomcat.threads.*: 요청 처리 스레드
+ */
+class SaturationSampler implements AutoCloseable {
+
+  private static final List<String> GAUGES = List.of(
+      "hikaricp.connections.active",
+      "hikaricp.connections.pending",
+      "executor.active",
+      "executor.queued",
+      "executor.pool.size",
+      "reactor.netty.connection.provider.active.connections",
+      "reactor.netty.connection.provider.pending.connections",
+      "ai.client.queue.size",
+      "ai.client.dispatch.running",
+      "ai.client.inflight",
+      "ai.client.limit",
+      "tomcat.threads.busy",
+      "tomcat.threads.config.max"
+  );
+
+  private final MeterRegistry registry;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().daemon().name("saturation-sampler").factory());
+  private final Map<String, Series> series = new TreeMap<>();
+
+  SaturationSampler(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  void start(long intervalMillis) {
+    scheduler.scheduleAtFixedRate(this::sample, 0, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  synchronized Map<String, double[]> summarize() {
+    return series.entrySet().stream().collect(Collectors.toMap(
+        Map.Entry::getKey,
+        entry -> new double[]{entry.getValue().max, entry.getValue().mean()},
+        (a, b) -> a,
+        TreeMap::new));
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  private synchronized void sample() {
+    for (Meter meter : registry.getMeters()) {
+      if (!(meter instanceof Gauge gauge) || !GAUGES.contains(meter.getId().getName())) {
+        continue;
+      }
+      double value = gauge.value();
+      if (Double.isNaN(value)) {
+        continue;
+      }
+      series.computeIfAbsent(key(meter), k -> new Series()).add(value);
+    }
+  }
+
+  private static String key(Meter meter) {
+    List<Tag> tags = meter.getId().getTags();
+    if (tags.isEmpty()) {
+      return meter.getId().getName();
+    }
+    return meter.getId().getName() + tags.stream()
+        .map(tag -> tag.getKey() + "=" + tag.getValue())
+        .collect(Collectors.joining(",", "{", "}"));
+  }
+
+  private static final class Series {
+
+    private double max;
+    private double sum;
+    private long count;
+
+    void add(double value) {
+      max = count == 0 ? value : Math.max(max, value);
+      sum += value;
+      count++;
+    }
+
+    double mean() {
+      return count == 0 ? 0 : sum / count;
+    }
+  }
+}
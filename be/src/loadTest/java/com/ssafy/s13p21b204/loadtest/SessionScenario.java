@@ -0,0 +1,280 @@
+package com.ssafy.s13p21b204.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * VR 면접 세션 1개 시나리오 (클라이언트 앱과 같은 API 순서)
+ *
+ * 회원가입/로그인 → 자소서 등록 → 질문 생성 완료 대기 → 질문 TTS 조회(면접 시작)
+ * → 질문마다 [답변 업로드 → 꼬리질문(/related) → 꼬리질문 답변 업로드 → 답변 등록(/reply)]
+ * → 전체 녹음 업로드 → 면접 종료(/end) → 리포트 생성 완료 대기
+ * 단계별 응답 시간은 LatencyRecorder에 기록한다 (질문 생성/리포트는 요청부터 상태 전환까지의 시간).
+ */
+@Slf4j
+class SessionScenario {
+
+  private static final String PASSWORD = "LoadTest1!";
+
+  private final int sessionNo;
+  private final LoadTestConfig config;
+  private final String baseUrl;
+  private final Seed seed;
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final LatencyRecorder recorder;
+  private final BiConsumer<Long, String> fcmTokenRegistrar;
+  private final byte[] answerAudio;
+  private final byte[] recordingAudio;
+
+  private String accessToken;
+
+  SessionScenario(int sessionNo, LoadTestConfig config, String baseUrl, Seed seed,
+      HttpClient httpClient, ObjectMapper objectMapper, LatencyRecorder recorder,
+      BiConsumer<Long, String> fcmTokenRegistrar, byte[] answerAudio, byte[] recordingAudio) {
+    this.sessionNo = sessionNo;
+    this.config = config;
+    this.baseUrl = baseUrl;
+    this.seed = seed;
+    this.httpClient = httpClient;
+    this.objectMapper = objectMapper;
+    this.recorder = recorder;
+    this.fcmTokenRegistrar = fcmTokenRegistrar;
+    this.answerAudio = answerAudio;
+    this.recordingAudio = recordingAudio;
+  }
+
+  /**
+   * @return 리포트 생성까지 완료하면 true
+   */
+  boolean run() {
+    long startedAt = System.nanoTime();
+    try {
+      login();
+      Long interviewId = registerResume();
+      JsonNode questions = timed("interview.start", () -> get(
+          "/api/Interview/" + interviewId + "/questions/presigned-urls"));
+
+      for (JsonNode question : questions) {
+        timed("tts.download", () -> download(question.path("preSignedUrl").asText()));
+        answer(question.path("interviewQuestionId").asLong());
+      }
+
+      String recordingKey = upload("interview_" + interviewId + "_audio.wav", recordingAudio, null);
+      timed("interview.end", () -> post("/api/Interview/end",
+          Map.of("interviewId", interviewId, "s3Key", recordingKey)));
+      String status = timed("report.ready", () -> awaitStatus(interviewId, "REPORTED"));
+      boolean completed = "REPORTED".equals(status);
+      recorder.record("session", System.nanoTime() - startedAt, completed);
+      return completed;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      recorder.record("session", System.nanoTime() - startedAt, false);
+      return false;
+    } catch (Exception e) {
+      log.warn("[LoadTest] 세션 {} 실패: {}", sessionNo, e.getMessage());
+      recorder.record("session", System.nanoTime() - startedAt, false);
+      return false;
+    }
+  }
+
+  private void login() throws Exception {
+    String email = "loadtest" + sessionNo + "_" + System.currentTimeMillis() + "@example.com";
+    timed("auth.sign-up", () -> post("/api/auth/signUp",
+        Map.of("email", email, "password", PASSWORD, "name", "LoadTester")));
+    JsonNode token = timed("auth.login", () -> post("/api/auth/login",
+        Map.of("email", email, "password", PASSWORD)));
+    accessToken = token.path("accessToken").asText();
+    fcmTokenRegistrar.accept(token.path("userId").asLong(), "loadtest-fcm-" + sessionNo);
+  }
+
+  private Long registerResume() throws Exception {
+    List<Map<String, Object>> answers = new ArrayList<>();
+    for (Long questionId : seed.questionIds()) {
+      answers.add(Map.of("questionId", questionId,
+          "content", "저는 서버 개발자로서 트래픽이 몰리는 상황에서 병목을 찾아 개선한 경험이 있습니다. "
+              + "모니터링 지표로 원인을 좁히고 캐시와 비동기 처리를 도입해 응답 시간을 절반으로 줄였습니다."));
+    }
+    timed("resume.register", () -> post("/api/resume/register",
+        Map.of("jobPostingId", seed.jobPostingId(), "answerRequestDtos", answers)));
+
+    // 자소서 등록 후 질문 생성 완료(NOT_STARTED)까지
+    long startedAt = System.nanoTime();
+    JsonNode resume = null;
+    long deadline = startedAt + Duration.ofSeconds(config.sessionTimeoutSeconds()).toNanos();
+    while (System.nanoTime() < deadline) {
+      resume = latestResume();
+      String status = resume != null ? resume.path("progressStatus").asText() : "";
+      if ("NOT_STARTED".equals(status)) {
+        recorder.record("questions.ready", System.nanoTime() - startedAt, true);
+        return resume.path("interviewId").asLong();
+      }
+      if ("FAILED".equals(status)) {
+        break;
+      }
+      Thread.sleep(config.pollIntervalMillis());
+    }
+    recorder.record("questions.ready", System.nanoTime() - startedAt, false);
+    throw new IllegalStateException("질문 생성 실패 - status="
+        + (resume != null ? resume.path("progressStatus").asText() : null));
+  }
+
+  private void answer(Long questionId) throws Exception {
+    Thread.sleep(config.thinkTimeMillis());
+    String s3Key = upload("answer_" + questionId + ".wav", answerAudio, questionId);
+
+    if (!config.followUps()) {
+      timed("interview.reply", () -> post("/api/Interview/reply",
+          Map.of("questionId", questionId, "s3Key", s3Key)));
+      return;
+    }
+
+    JsonNode related = timed("interview.related", () -> post("/api/Interview/related",
+        Map.of("questionId", questionId, "s3Key", s3Key)));
+    timed("tts.download", () -> download(related.path("preSignedUrl").asText()));
+    Long followUpId = related.path("questionId").asLong();
+
+    Thread.sleep(config.thinkTimeMillis());
+    String followUpKey = upload("answer_" + followUpId + ".wav", answerAudio, followUpId);
+    timed("interview.reply", () -> post("/api/Interview/reply",
+        Map.of("questionId", followUpId, "s3Key", followUpKey)));
+  }
+
+  /**
+   * 업로드 URL 발급 → Presigned PUT (→ 답변 오디오면 업로드 완료 알림)
+   */
+  private String upload(String fileName, byte[] audio, Long questionId) throws Exception {
+    JsonNode uploadInfo = timed("upload.presign", () -> post(
+        "/api/Interview/presigned-url?fileName=" + URLEncoder.encode(fileName, StandardCharsets.UTF_8),
+        null));
+    String s3Key = uploadInfo.path("s3Key").asText();
+    timed("upload.put", () -> {
+      HttpResponse<Void> response = httpClient.send(
+          HttpRequest.newBuilder(URI.create(uploadInfo.path("presignedUrl").asText()))
+              .header("Content-Type", "audio/wav")
+              .PUT(HttpRequest.BodyPublishers.ofByteArray(audio))
+              .build(),
+          HttpResponse.BodyHandlers.discarding());
+      check(response.statusCode(), "S3 PUT");
+      return null;
+    });
+    if (config.uploadPing() && questionId != null) {
+      timed("upload.notify", () -> post("/api/Interview/presigned-url/uploaded?questionId="
+          + questionId + "&s3Key=" + URLEncoder.encode(s3Key, StandardCharsets.UTF_8), null));
+    }
+    return s3Key;
+  }
+
+  private String awaitStatus(Long interviewId, String expected) throws Exception {
+    long deadline = System.nanoTime() + Duration.ofSeconds(config.sessionTimeoutSeconds()).toNanos();
+    String status = null;
+    while (System.nanoTime() < deadline) {
+      JsonNode resume = latestResume();
+      status = resume != null && resume.path("interviewId").asLong() == interviewId
+          ? resume.path("progressStatus").asText()
+          : null;
+      if (expected.equals(status)) {
+        return status;
+      }
+      if ("FAILED".equals(status)) {
+        throw new IllegalStateException("리포트 생성 실패 - interviewId=" + interviewId);
+      }
+      Thread.sleep(config.pollIntervalMillis());
+    }
+    throw new IllegalStateException("상태 대기 시간 초과 - interviewId=" + interviewId
+        + ", status=" + status);
+  }
+
+  private JsonNode latestResume() throws IOException, InterruptedException {
+    JsonNode resumes = get("/api/resume/me");
+    return resumes.isArray() && !resumes.isEmpty() ? resumes.get(0) : null;
+  }
+
+  private int download(String url) throws IOException, InterruptedException {
+    HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(URI.create(url)).GET()
+        .build(), HttpResponse.BodyHandlers.ofByteArray());
+    check(response.statusCode(), "S3 GET");
+    return response.body().length;
+  }
+
+  private JsonNode get(String path) throws IOException, InterruptedException {
+    return send(authorized(path).GET().build());
+  }
+
+  private JsonNode post(String path, Object body) throws IOException, InterruptedException {
+    HttpRequest.BodyPublisher publisher = body != null
+        ? HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))
+        : HttpRequest.BodyPublishers.noBody();
+    return send(authorized(path).header("Content-Type", "application/json").POST(publisher)
+        .build());
+  }
+
+  private HttpRequest.Builder authorized(String path) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(Duration.ofSeconds(config.sessionTimeoutSeconds()));
+    if (accessToken != null) {
+      builder.header("Authorization", "Bearer " + accessToken);
+    }
+    return builder;
+  }
+
+  /**
+   * ApiResult 응답의 data 반환 (2xx가 아니면 예외)
+   */
+  private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+    HttpResponse<byte[]> response = httpClient.send(request,
+        HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() / 100 != 2) {
+      throw new IOException(request.method() + " " + request.uri().getPath() + " 실패 - status="
+          + response.statusCode() + ", body=" + new String(response.body(), StandardCharsets.UTF_8));
+    }
+    if (response.body().length == 0) {
+      return objectMapper.missingNode();
+    }
+    return objectMapper.readTree(response.body()).path("data");
+  }
+
+  private static void check(int statusCode, String operation) throws IOException {
+    if (statusCode / 100 != 2) {
+      throw new IOException(operation + " 실패 - status=" + statusCode);
+    }
+  }
+
+  private <T> T timed(String step, Call<T> call) throws Exception {
+    long startedAt = System.nanoTime();
+    boolean success = false;
+    try {
+      T result = call.call();
+      success = true;
+      return result;
+    } finally {
+      recorder.record(step, System.nanoTime() - startedAt, success);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Call<T> {
+
+    T call() throws Exception;
+  }
+
+  /**
+   * 시나리오에 사용할 시드 데이터 (채용 공고와 자소서 문항)
+   */
+  record Seed(Long jobPostingId, List<Long> questionIds) {
+
+  }
+}
@@ -17,4 +17,6 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
    */
   @EntityGraph(attributePaths = {"question"})
   List<Answer> findByResumeId(Long resumeId);
+
+  boolean existsByResumeId(Long resumeId);
 }
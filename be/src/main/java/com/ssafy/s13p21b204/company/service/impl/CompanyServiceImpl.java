@@ -6,11 +6,14 @@ import com.ssafy.s13p21b204.company.entity.Company;
 import com.ssafy.s13p21b204.company.repository.CompanyRepository;
 import com.ssafy.s13p21b204.company.service.CompanyService;
 import com.ssafy.s13p21b204.global.exception.ApiException;
+import com.ssafy.s13p21b204.global.event.GenerationBumpEvent;
 import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import com.ssafy.s13p21b204.global.redis.GenerationKeys;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CompanyServiceImpl implements CompanyService {
 
   private final CompanyRepository companyRepository;
+  private final ApplicationEventPublisher applicationEventPublisher;
 
   @Override
   @Transactional
@@ -48,6 +52,10 @@ public class CompanyServiceImpl implements CompanyService {
     });
     companyRepository.delete(c);
     log.info("[CompanyService] 기업 삭제 완료");
+
+    // 삭제된 기업의 공고는 목록에서 빠지므로 커밋 이후 채용 공고 목록 세대 증가
+    applicationEventPublisher.publishEvent(
+        new GenerationBumpEvent(GenerationKeys.JOB_POSTING_CATALOG));
   }
 
   @Override
@@ -1,33 +1,158 @@
 package com.ssafy.s13p21b204.global.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
- * 비동기 처리 설정 Interview 워크플로우 백그라운드 처리용
+ * 비동기 처리 설정 (단계별 격리 실행기)
+ *
+ * 단계마다 스레드 풀을 분리하여 한 단계의 폭주가 다른 단계를 막지 않도록 한다.
+ * 큐가 가득 차면 호출 스레드(Tomcat)에서 실행하지 않고 거절(TaskRejectedException)하며,
+ * 거절된 작업은 각 단계의 복구 경로(워크플로우/아웃박스 주기 실행, 꼬리질문 작업 FAILED 처리)가 이어받는다.
+ *
+ * 크기 설정: async.{stage}.core-size / max-size / queue-capacity
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true): 작업자를 가상 스레드로 생성하며,
+ * 풀 크기·큐 용량은 그대로 단계별 동시 실행 상한으로 동작한다.
+ * 메트릭(tag name={stage}): executor.active, executor.queued, executor.rejected, executor.queue.wait
  */
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 @Slf4j
 public class AsyncConfig {
 
-  @Bean(name = "interviewWorkflowExecutor")
-  public Executor interviewWorkflowExecutor() {
+  private final Environment environment;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * 자소서 기반 면접 질문 생성 워크플로우
+   */
+  @Bean(name = "questionGenerationExecutor")
+  public ThreadPoolTaskExecutor questionGenerationExecutor() {
+    return buildExecutor("question-generation", 4, 8, 20);
+  }
+
+  /**
+   * 면접 종료 후 FastAPI end 호출 및 리포트 업데이트
+   */
+  @Bean(name = "reportUpdateExecutor")
+  public ThreadPoolTaskExecutor reportUpdateExecutor() {
+    return buildExecutor("report-update", 4, 8, 50);
+  }
+
+  /**
+   * 면접 중 꼬리질문 생성 (사용자가 대기 중이므로 다른 단계와 분리)
+   */
+  @Bean(name = "relatedQuestionExecutor")
+  public ThreadPoolTaskExecutor relatedQuestionExecutor() {
+    return buildExecutor("related-question", 8, 16, 32);
+  }
+
+  /**
+   * 리액티브 면접 API의 JPA 조회/저장 (FastAPI 응답 대기와 분리하여 DB 커넥션 풀 크기 이하로 제한)
+   */
+  @Bean(name = "interviewPersistenceExecutor")
+  public ThreadPoolTaskExecutor interviewPersistenceExecutor() {
+    return buildExecutor("interview-persistence", 8, 8, 200);
+  }
+
+  /**
+   * 업로드 완료 알림 직후의 선행 STT (거절되면 답변 등록 시점의 STT로 대체되므로 작게 유지)
+   */
+  @Bean(name = "speculativeSttExecutor")
+  public ThreadPoolTaskExecutor speculativeSttExecutor() {
+    return buildExecutor("speculative-stt", 4, 8, 16);
+  }
+
+  /**
+   * 면접 종료 녹음의 구간 분할 전사 (구간별 Range GET·업로드, 전체 동시 구간 수 상한)
+   */
+  @Bean(name = "chunkedSttExecutor")
+  public ThreadPoolTaskExecutor chunkedSttExecutor() {
+    return buildExecutor("chunked-stt", 8, 8, 64);
+  }
+
+  /**
+   * 시연용 면접 풀 보충 (단일 작업자로 DB 쓰기를 직렬화하여 실제 사용자 요청과 커넥션을 다투지 않도록 제한)
+   */
+  @Bean(name = "demoPoolExecutor")
+  public ThreadPoolTaskExecutor demoPoolExecutor() {
+    return buildExecutor("demo-pool", 1, 1, 64);
+  }
+
+  /**
+   * 질문 TTS 저장소 정리 (스케줄러 스레드를 점유하지 않도록 분리, 한 번에 한 주기만 수행)
+   */
+  @Bean(name = "ttsStoreGcExecutor")
+  public ThreadPoolTaskExecutor ttsStoreGcExecutor() {
+    return buildExecutor("tts-store-gc", 1, 1, 1);
+  }
+
+  /**
+   * 꼬리질문 TTS 저장 중복 제거 등록 (커밋 후 S3 업로드 확인, 포화 시 등록 생략)
+   */
+  @Bean(name = "ttsStoreRegisterExecutor")
+  public ThreadPoolTaskExecutor ttsStoreRegisterExecutor() {
+    return buildExecutor("tts-store-register", 1, 2, 100);
+  }
+
+  private ThreadPoolTaskExecutor buildExecutor(String stage, int defaultCoreSize,
+      int defaultMaxSize, int defaultQueueCapacity) {
+    int coreSize = property(stage, "core-size", defaultCoreSize);
+    int maxSize = property(stage, "max-size", defaultMaxSize);
+    int queueCapacity = property(stage, "queue-capacity", defaultQueueCapacity);
+    boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled",
+        Boolean.class, false);
+
+    Tags tags = Tags.of("name", stage);
+    Counter rejected = Counter.builder("executor.rejected")
+        .description("큐 포화로 거절된 작업 수")
+        .tags(tags)
+        .register(meterRegistry);
+    Timer queueWait = Timer.builder("executor.queue.wait")
+        .description("작업 제출부터 실행 시작까지 대기 시간")
+        .tags(tags)
+        .register(meterRegistry);
+
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(coreSize);
+    executor.setMaxPoolSize(maxSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix(stage + "-");
+    if (virtualThreads) {
+      // 블로킹 AI/S3 호출 동안 캐리어 스레드를 반납하도록 작업자를 가상 스레드로 생성
+      executor.setThreadFactory(Thread.ofVirtual().name(stage + "-vt-", 0).factory());
+    }
 
-    executor.setCorePoolSize(5);
-    executor.setMaxPoolSize(10);
-    executor.setQueueCapacity(100);
-    executor.setThreadNamePrefix("interview-workflow-");
+    // 제출 시각을 기록해 두었다가 실행 시작 시 대기 시간 측정
+    executor.setTaskDecorator(task -> {
+      long submittedAt = System.nanoTime();
+      return () -> {
+        queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+        task.run();
+      };
+    });
 
-    // 큐가 꽉 찬 경우 정책
-    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    // 큐가 꽉 찬 경우 정책: 호출 스레드에서 실행하지 않고 거절
+    executor.setRejectedExecutionHandler((task, pool) -> {
+      rejected.increment();
+      log.warn("[AsyncConfig] 작업 거절 - stage={}, active={}, queued={}", stage,
+          pool.getActiveCount(), pool.getQueue().size());
+      throw new TaskRejectedException("[" + stage + "] 실행기 포화로 작업이 거절되었습니다.");
+    });
 
     // 스레드 풀 종료 시 대기 중인 작업 완료
     executor.setWaitForTasksToCompleteOnShutdown(true);
@@ -35,10 +160,17 @@ public class AsyncConfig {
 
     executor.initialize();
 
-    log.info("[AsyncConfig] Interview Workflow Executor 초기화 완료 - core: {}, max: {}, queue: {}",
-        executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+    // executor.active, executor.queued, executor.pool.size 등
+    new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), stage, Tags.empty())
+        .bindTo(meterRegistry);
+
+    log.info("[AsyncConfig] {} Executor 초기화 완료 - core: {}, max: {}, queue: {}, virtual: {}",
+        stage, coreSize, maxSize, queueCapacity, virtualThreads);
 
     return executor;
   }
-}
 
+  private int property(String stage, String key, int defaultValue) {
+    return environment.getProperty("async." + stage + "." + key, Integer.class, defaultValue);
+  }
+}
@@ -22,6 +22,9 @@ public class RedisConfig {
   @Value("${spring.data.redis.password}")
   private String password;
 
+  @Value("${spring.data.redis.database:0}")
+  private int database;
+
   /**
    * RedisConnectionFactory는 Redis 서버와의 연결을 관리
    * LettuceConnectionFactory는 Lettuce 클라이언트를 사용하는 Redis 연결을 설정
@@ -42,6 +45,7 @@ public class RedisConfig {
     RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
     config.setHostName(host);
     config.setPort(port);
+    config.setDatabase(database);
 
     if (password != null && !password.isBlank()) {
       config.setPassword(password);
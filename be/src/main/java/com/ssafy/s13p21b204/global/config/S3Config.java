@@ -1,12 +1,16 @@
 package com.ssafy.s13p21b204.global.config;
 
+import java.net.URI;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
@@ -18,24 +22,34 @@ public class S3Config {
   private String secretKey;
   @Value("${cloud.aws.region.static}")
   private String region;
+  // S3 호환 엔드포인트 (MinIO, 부하 테스트 S3 대역 등 - 비어 있으면 AWS 기본 엔드포인트, 지정 시 path-style)
+  @Value("${cloud.aws.s3.endpoint:}")
+  private String endpoint;
 
   @Bean
   public S3Client s3Client() {
-    return S3Client.builder()
+    S3ClientBuilder builder = S3Client.builder()
         .region(Region.of(region))
         .credentialsProvider(
-            StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
-        .build();
+            StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+    if (StringUtils.hasText(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+    }
+    return builder.build();
   }
 
   // 프리사인드 URL이 필요할 때만
   @Bean
   public S3Presigner s3Presigner() {
-    return S3Presigner.builder()
+    S3Presigner.Builder builder = S3Presigner.builder()
         .region(Region.of(region))
         .credentialsProvider(
-            StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
-        .build();
+            StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+    if (StringUtils.hasText(endpoint)) {
+      builder.endpointOverride(URI.create(endpoint))
+          .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+    }
+    return builder.build();
   }
 }
 
@@ -0,0 +1,13 @@
+package com.ssafy.s13p21b204.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 (면접 종료 아웃박스 릴레이 등 주기 작업용)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
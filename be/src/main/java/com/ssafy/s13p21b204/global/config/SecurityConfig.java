@@ -5,6 +5,7 @@ import com.ssafy.s13p21b204.security.handler.JwtAuthenticationEntryPoint;
 import com.ssafy.s13p21b204.security.service.JwtAuthenticationFilter;
 import com.ssafy.s13p21b204.security.filter.HmacVerificationFilter;
 import com.ssafy.s13p21b204.security.service.HmacAuthService;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -81,6 +82,8 @@ public class SecurityConfig {
         .sessionManagement(
             session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(authorize -> authorize
+            // SSE 구독, 리액티브 면접 API(Mono 반환)의 비동기 디스패치는 최초 요청에서 이미 인증됨
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers(
                 "/v3/api-docs/**",
                 "/swagger-ui/**",
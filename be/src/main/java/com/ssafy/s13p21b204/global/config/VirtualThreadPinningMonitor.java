@@ -0,0 +1,92 @@
+package com.ssafy.s13p21b204.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감시
+ *
+ * synchronized 블록이나 네이티브 호출 안에서 블로킹되면 가상 스레드가 캐리어 스레드를 점유한 채 대기하여
+ * 가상 스레드 모드의 이점이 사라진다. JFR jdk.VirtualThreadPinned 이벤트를 구독해 임계값 이상 고정된 경우
+ * 호출 위치를 경고 로그로 남기고 jvm.threads.virtual.pinned 카운터를 증가시킨다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final int STACK_DEPTH = 8;
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${virtual-threads.pinning.threshold-ms:20}")
+  private long thresholdMs;
+
+  private RecordingStream recordingStream;
+
+  @PostConstruct
+  public void start() {
+    Counter pinned = Counter.builder("jvm.threads.virtual.pinned")
+        .description("임계값 이상 캐리어 스레드에 고정된 가상 스레드 수")
+        .register(meterRegistry);
+
+    recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT)
+        .withThreshold(Duration.ofMillis(thresholdMs))
+        .withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, event -> {
+      pinned.increment();
+      log.warn("[VirtualThreadPinningMonitor] 가상 스레드 고정 감지 - duration={}ms, stack={}",
+          event.getDuration().toMillis(), describeStack(event));
+    });
+    recordingStream.startAsync();
+
+    log.info("[VirtualThreadPinningMonitor] 고정 감시 시작 - threshold={}ms", thresholdMs);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (recordingStream != null) {
+      recordingStream.close();
+    }
+  }
+
+  private String describeStack(RecordedEvent event) {
+    RecordedStackTrace stackTrace = event.getStackTrace();
+    if (stackTrace == null) {
+      return "unknown";
+    }
+    // 상위 프레임은 VirtualThread 내부 park 호출이므로 제외하고 실제 블로킹 위치부터 기록
+    return stackTrace.getFrames().stream()
+        .filter(frame -> !isParkingFrame(frame))
+        .limit(STACK_DEPTH)
+        .map(this::describeFrame)
+        .collect(Collectors.joining(" <- "));
+  }
+
+  private boolean isParkingFrame(RecordedFrame frame) {
+    String type = frame.getMethod().getType().getName();
+    return type.startsWith("java.lang.VirtualThread") || type.startsWith("jdk.internal.");
+  }
+
+  private String describeFrame(RecordedFrame frame) {
+    return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+        + ":" + frame.getLineNumber();
+  }
+}
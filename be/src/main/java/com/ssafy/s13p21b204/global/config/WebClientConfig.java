@@ -25,16 +25,22 @@ public class WebClientConfig {
     @Value("${AI_FASTAPI_BASE_URL:${ai.fastapi.base-url:http://localhost:8000}}")
     private String fastApiBaseUrl;
 
+    // 가상 스레드 모드에서는 요청 스레드 수 대신 커넥션 풀이 FastAPI 동시 호출 상한이 되므로 설정으로 조정
+    @Value("${ai.fastapi.max-connections:100}")
+    private int maxConnections;
+
     @Bean
     public WebClient fastApiWebClient() {
-        log.info("[WebClient] FastAPI baseUrl: {}", fastApiBaseUrl);
+        log.info("[WebClient] FastAPI baseUrl: {}, maxConnections: {}", fastApiBaseUrl, maxConnections);
         // 커넥션 풀 설정
         ConnectionProvider connectionProvider = ConnectionProvider.builder("fastapi-pool")
-            .maxConnections(100)              // 최대 커넥션 수
+            .maxConnections(maxConnections)   // 최대 커넥션 수
             .maxIdleTime(Duration.ofSeconds(20))      // 유휴 커넥션 유지 시간
             .maxLifeTime(Duration.ofSeconds(60))      // 커넥션 최대 생명 시간
             .pendingAcquireTimeout(Duration.ofSeconds(5)) // 커넥션 획득 대기 시간
             .evictInBackground(Duration.ofSeconds(120))   // 백그라운드 정리 주기
+            // 커넥션 풀 게이지 (reactor.netty.connection.provider.active/idle/pending/total.connections, tag name=fastapi-pool)
+            .metrics(true)
             .build();
 
         // HTTP 클라이언트 설정 (타임아웃, 커넥션 풀)
@@ -50,23 +56,28 @@ public class WebClientConfig {
         return WebClient.builder()
             .baseUrl(fastApiBaseUrl)
             .clientConnector(new ReactorClientHttpConnector(httpClient))
-            .filter(logRequest())   // 요청 로깅
-            .filter(logResponse())  // 응답 로깅
+            .filter(logRequest())   // 요청 로깅 (DEBUG)
+            .filter(logResponse())  // 응답 로깅 (DEBUG)
             .build();
     }
 
-    // 요청 로깅 필터
+    // 요청 로깅 필터 (호출 지표는 AiClient의 Micrometer 메트릭으로 수집하므로 DEBUG에서만 기록)
     private ExchangeFilterFunction logRequest() {
         return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-            log.info("[WebClient] 요청: {} {}", clientRequest.method(), clientRequest.url());
+            if (log.isDebugEnabled()) {
+                log.debug("[WebClient] 요청: {} {}", clientRequest.method(), clientRequest.url());
+            }
             return Mono.just(clientRequest);
         });
     }
 
-    // 응답 로깅 필터
+    // 응답 로깅 필터 (헤더 전체는 DEBUG에서만 기록)
     private ExchangeFilterFunction logResponse() {
         return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-            log.info("[WebClient] 응답: {} {}", clientResponse.statusCode(), clientResponse.headers().asHttpHeaders());
+            if (log.isDebugEnabled()) {
+                log.debug("[WebClient] 응답: {} {}", clientResponse.statusCode(),
+                    clientResponse.headers().asHttpHeaders());
+            }
             return Mono.just(clientResponse);
         });
     }
@@ -0,0 +1,26 @@
+package com.ssafy.s13p21b204.global.config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC 비동기 요청 설정
+ *
+ * 리액티브 면접 API(Mono 반환)는 FastAPI 응답을 기다리는 동안 서블릿 비동기 요청으로 유지된다.
+ * 컨테이너 기본 비동기 타임아웃(Tomcat 30초)은 AI 응답 타임아웃(120초)보다 짧으므로 기본값을 늘린다.
+ * SSE 구독은 SseEmitter에 지정한 타임아웃이 우선한다.
+ */
+@Configuration
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+  @Value("${spring.mvc.async.request-timeout:150s}")
+  private Duration asyncRequestTimeout;
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+  }
+}
@@ -0,0 +1,11 @@
+package com.ssafy.s13p21b204.global.event;
+
+/**
+ * 조회 결과가 바뀌었음을 알리는 이벤트
+ * 커밋 이후 Redis 세대 카운터를 증가시켜 이전 ETag를 무효화한다.
+ */
+public record GenerationBumpEvent(
+    String generationKey
+) {
+
+}
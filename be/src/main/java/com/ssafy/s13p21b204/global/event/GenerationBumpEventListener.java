@@ -0,0 +1,29 @@
+package com.ssafy.s13p21b204.global.event;
+
+import com.ssafy.s13p21b204.global.redis.RedisDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GenerationBumpEventListener {
+
+  private final RedisDao redisDao;
+
+  // 커밋 전에 세대를 올리면 이전 데이터로 새 ETag가 만들어질 수 있으므로 커밋 이후에 증가
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handleGenerationBump(GenerationBumpEvent event) {
+    try {
+      long generation = redisDao.increaseGeneration(event.generationKey());
+      log.info("[GenerationBumpEventListener] 세대 증가 완료 - key={}, generation={}",
+          event.generationKey(), generation);
+    } catch (Exception e) {
+      log.error("[GenerationBumpEventListener] 세대 증가 실패 - key={}, error={}",
+          event.generationKey(), e.getMessage(), e);
+    }
+  }
+}
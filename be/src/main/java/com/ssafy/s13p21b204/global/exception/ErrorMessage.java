@@ -4,6 +4,7 @@ public class ErrorMessage {
 
   // 400 Bad Request
   public static final String BAD_REQUEST = "요청 파라미터가 올바르지 않습니다.";
+  public static final String INVALID_REPORT_FIELDS = "지원하지 않는 리포트 필드입니다. (comment, heartBeats, myScores, averageScores, qnaList)";
 
   // 401 Unauthorized (인증 실패 / 토큰 문제)
   public static final String UNAUTHORIZED = "인증이 필요합니다.";
@@ -29,6 +30,7 @@ public class ErrorMessage {
   public static final String INTERVIEW_NOT_FOUND = "면접이 없습니다.";
   public static final String INTERVIEW_QUESTIONS_NOT_FOUND = "면접 질문이 없습니다.";
   public static final String REPORT_NOT_FOUND = "레포트가 없습니다.";
+  public static final String RELATED_QUESTION_JOB_NOT_FOUND = "꼬리질문 생성 작업을 찾을 수 없습니다.";
 
   // 409 Conflict (상태/비즈니스 로직 충돌)
   public static final String EMAIL_ALREADY_EXISTS = "존재하는 이메일입니다.";
@@ -56,11 +58,17 @@ public class ErrorMessage {
   // 500 Internal Server Error
   public static final String INTERNAL_SERVER_ERROR = "알 수 없는 서버 오류가 발생했습니다.";
   public static final String FCM_SEND_FAILED = "FCM 전송에 실패했습니다.";
+  public static final String RELATED_QUESTION_GENERATION_FAILED = "꼬리질문 생성에 실패했습니다.";
 
   // 502 Bad Gateway (업스트림/AI 서비스 연동 실패)
   public static final String AI_SERVICE_CALL_FAILED = "AI 서비스 호출에 실패했습니다.";
   public static final String AI_SERVICE_CONNECTION_ERROR = "AI 서비스와의 연결에 실패했습니다.";
 
+  // 503 Service Unavailable (서버 내부 실행기 포화, AI 호출 동시성 제한/차단)
+  public static final String SERVER_BUSY = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+  public static final String AI_SERVICE_BUSY = "AI 서비스 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+  public static final String AI_SERVICE_UNAVAILABLE = "AI 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.";
+
   // 504 Gateway Timeout (업스트림 타임아웃)
   public static final String AI_SERVICE_TIMEOUT = "AI 서비스 응답 시간이 초과되었습니다.";
 }
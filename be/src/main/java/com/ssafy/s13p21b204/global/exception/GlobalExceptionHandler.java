@@ -3,6 +3,7 @@ package com.ssafy.s13p21b204.global.exception;
 import com.ssafy.s13p21b204.global.util.ApiResult;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -96,6 +97,21 @@ public class GlobalExceptionHandler {
    *
    * 일관된 예외 처리와 다양한 상태코드 활용을 위해 IllegalArgumentException 보다는 ApiException.of(HttpStatus, ErrorMessage) 사용을 권장한다.
    */
+  /**
+   * 일시적인 과부하로 요청을 거절한 경우 (503 + Retry-After)
+   * - 예: FastAPI 호출 동시성 한도 초과, 서킷 브레이커 OPEN
+   * - 클라이언트가 재시도 시점을 알 수 있도록 Retry-After(초) 헤더를 함께 내려준다.
+   */
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<ApiResult<Void>> handleServiceUnavailable(ServiceUnavailableException e) {
+    log.warn("Service Unavailable: message={}, retryAfter={}s", e.getMessage(),
+        e.getRetryAfterSeconds());
+    return ResponseEntity
+        .status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+        .body(ApiResult.fail(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage()));
+  }
+
   @ExceptionHandler(ApiException.class)
   public ResponseEntity<ApiResult<Void>> handleApiException(ApiException e) {
     log.error("API Exception: code={}, message={}", e.getCode(), e.getMessage());
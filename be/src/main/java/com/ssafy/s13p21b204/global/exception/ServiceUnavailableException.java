@@ -0,0 +1,20 @@
+package com.ssafy.s13p21b204.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 일시적인 과부하로 요청을 처리하지 않고 거절할 때 사용 (503 + Retry-After)
+ */
+public class ServiceUnavailableException extends ApiException {
+
+  private final long retryAfterSeconds;
+
+  public ServiceUnavailableException(String message, long retryAfterSeconds) {
+    super(HttpStatus.SERVICE_UNAVAILABLE.value(), message);
+    this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
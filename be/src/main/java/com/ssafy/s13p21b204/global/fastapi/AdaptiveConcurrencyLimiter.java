@@ -0,0 +1,90 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+/**
+ * 응답 지연 기반 적응형 동시성 제한 (FastAPI 엔드포인트별)
+ *
+ * - 장기 평균 응답 시간 대비 최근 응답 시간이 tolerance 배 이상 느려지면 그 비율만큼 한도를 줄이고(Vegas/Gradient),
+ *   지연이 안정적이면 sqrt(limit)만큼 여유를 두고 한도를 늘린다.
+ * - 5xx·타임아웃·연결 실패(드롭)는 즉시 한도를 절반으로 줄인다(AIMD의 곱셈 감소).
+ * - 한도의 절반도 사용하지 않는 동안에는 한도를 늘리지 않는다(부하 없이 한도만 커지는 것 방지).
+ */
+class AdaptiveConcurrencyLimiter {
+
+    // 새 한도를 반영하는 비율
+    private static final double SMOOTHING = 0.2;
+    // 장기 평균 응답 시간의 표본 수
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private double limit;
+    private int inFlight;
+    private double longRttNanos;
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 한도 내이면 진행 중 요청 수를 늘리고 true
+     */
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 정상 응답 (4xx 포함) - 응답 시간으로 한도 조정
+     */
+    synchronized void onSuccess(long rttNanos) {
+        int inFlightAtSample = inFlight;
+        inFlight--;
+
+        longRttNanos = longRttNanos == 0
+            ? rttNanos
+            : longRttNanos + (rttNanos - longRttNanos) / LONG_WINDOW;
+
+        if (inFlightAtSample < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+    }
+
+    /**
+     * 5xx·타임아웃·연결 실패 - 한도를 절반으로
+     */
+    synchronized void onDropped() {
+        inFlight--;
+        limit = clamp(limit / 2);
+    }
+
+    /**
+     * 취소 등 응답 시간을 알 수 없는 경우 - 한도는 그대로 두고 반납만
+     */
+    synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
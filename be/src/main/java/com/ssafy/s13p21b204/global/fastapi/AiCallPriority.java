@@ -0,0 +1,27 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+/**
+ * FastAPI 호출 우선순위 (AiDispatchQueue 배분 기준)
+ */
+public enum AiCallPriority {
+
+    /**
+     * 면접 진행 중 사용자가 응답을 기다리는 호출 (꼬리질문 생성, 답변 STT)
+     */
+    INTERACTIVE("interactive"),
+
+    /**
+     * 사용자가 기다리지 않는 백그라운드 호출 (면접 질문 생성, 면접 종료 리포트, OCR, 종료 녹음 분할 전사)
+     */
+    BATCH("batch");
+
+    private final String tag;
+
+    AiCallPriority(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,144 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+/**
+ * FastAPI 엔드포인트별 서킷 브레이커
+ *
+ * - CLOSED: 최근 windowSize건 중 실패율이 임계치 이상이면(최소 minimumCalls건) OPEN
+ * - OPEN: openNanos 동안 모든 요청을 즉시 거절
+ * - HALF_OPEN: 최대 halfOpenProbes건만 시험 요청으로 통과시키고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+class AiCircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    enum Admission {
+        REJECTED, PERMITTED, PROBE
+    }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    // 최근 결과 (true = 실패)
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    AiCircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, long openNanos,
+        int halfOpenProbes) {
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openNanos;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    synchronized Admission tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return Admission.REJECTED;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                return Admission.REJECTED;
+            }
+            probesInFlight++;
+            return Admission.PROBE;
+        }
+        return Admission.PERMITTED;
+    }
+
+    /**
+     * 호출 결과 기록
+     *
+     * @return 이번 결과로 OPEN 전환되었으면 true
+     */
+    synchronized boolean onResult(Admission admission, boolean failed) {
+        if (admission == Admission.PROBE) {
+            if (state != State.HALF_OPEN) {
+                return false;
+            }
+            probesInFlight--;
+            if (failed) {
+                open();
+                return true;
+            }
+            if (++probeSuccesses >= halfOpenProbes) {
+                close();
+            }
+            return false;
+        }
+
+        // OPEN 전환 이전에 통과한 요청의 늦은 결과는 반영하지 않음
+        if (state != State.CLOSED) {
+            return false;
+        }
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                failureCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+
+        if (outcomeCount >= minimumCalls && failureCount * 100 >= failureRateThreshold * outcomeCount) {
+            open();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 결과 없이 종료된 시험 요청 반납 (취소 등)
+     */
+    synchronized void release(Admission admission) {
+        if (admission == Admission.PROBE && state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    /**
+     * 다시 시도해 볼 수 있을 때까지 남은 시간 (초, 최소 1)
+     */
+    synchronized long retryAfterSeconds() {
+        if (state != State.OPEN) {
+            return 1;
+        }
+        long remaining = openNanos - (System.nanoTime() - openedAt);
+        return Math.max(1, (remaining + 999_999_999) / 1_000_000_000);
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        outcomeIndex = 0;
+        outcomeCount = 0;
+        failureCount = 0;
+    }
+}
@@ -10,9 +10,15 @@ import com.ssafy.s13p21b204.global.fastapi.dto.AiOCRInput;
 import com.ssafy.s13p21b204.global.fastapi.dto.AiSttRequestDto;
 import com.ssafy.s13p21b204.global.fastapi.dto.AiSttResponseDto;
 import com.ssafy.s13p21b204.global.fastapi.dto.AiTextResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
@@ -22,7 +28,15 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor
@@ -31,6 +45,103 @@ public class AiClient {
 
     private final WebClient fastApiWebClient;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AiDispatchQueue aiDispatchQueue;
+
+    // 엔드포인트(path)별 동시성 제한 + 서킷 브레이커
+    private final Map<String, AiEndpointGuard> guards = new ConcurrentHashMap<>();
+
+    @Value("${ai.fastapi.limiter.initial-limit:20}")
+    private int limiterInitialLimit;
+
+    @Value("${ai.fastapi.limiter.min-limit:1}")
+    private int limiterMinLimit;
+
+    @Value("${ai.fastapi.limiter.max-limit:${ai.fastapi.max-connections:100}}")
+    private int limiterMaxLimit;
+
+    // 장기 평균 대비 이 배수까지의 응답 지연은 정상으로 보고 한도를 줄이지 않음
+    @Value("${ai.fastapi.limiter.latency-tolerance:2.0}")
+    private double limiterLatencyTolerance;
+
+    // BATCH 호출이 동시성 한도/서킷 거절 후 허가를 다시 기다리는 최대 시간 (INTERACTIVE는 즉시 503)
+    @Value("${ai.fastapi.limiter.batch-wait-seconds:120}")
+    private long limiterBatchWaitSeconds;
+
+    @Value("${ai.fastapi.circuit.window-size:20}")
+    private int circuitWindowSize;
+
+    @Value("${ai.fastapi.circuit.minimum-calls:10}")
+    private int circuitMinimumCalls;
+
+    @Value("${ai.fastapi.circuit.failure-rate-threshold:50}")
+    private int circuitFailureRateThreshold;
+
+    @Value("${ai.fastapi.circuit.open-seconds:30}")
+    private long circuitOpenSeconds;
+
+    @Value("${ai.fastapi.circuit.half-open-probes:2}")
+    private int circuitHalfOpenProbes;
+
+    // 답변 STT 헤지 요청 (기본 꺼짐)
+    @Value("${ai.fastapi.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    // 이 백분위 응답 시간까지 응답이 없으면 중복 요청
+    @Value("${ai.fastapi.hedge.percentile:0.9}")
+    private double hedgePercentile;
+
+    // 헤지 요청으로 늘어나는 부하 상한 (원 요청 대비 비율)
+    @Value("${ai.fastapi.hedge.budget-ratio:0.05}")
+    private double hedgeBudgetRatio;
+
+    @Value("${ai.fastapi.hedge.window-size:500}")
+    private int hedgeWindowSize;
+
+    @Value("${ai.fastapi.hedge.min-samples:50}")
+    private int hedgeMinSamples;
+
+    @Value("${ai.fastapi.hedge.min-delay-ms:500}")
+    private long hedgeMinDelayMillis;
+
+    // 멱등 엔드포인트(OCR, STT) 동일 요청 병합
+    @Value("${ai.fastapi.coalesce.enabled:true}")
+    private boolean coalesceEnabled;
+
+    // OCR 결과 재사용 시간 (0이면 병합만 수행)
+    @Value("${ai.fastapi.coalesce.ocr-cache-ttl-seconds:300}")
+    private long ocrCacheTtlSeconds;
+
+    @Value("${ai.fastapi.coalesce.max-cache-entries:1000}")
+    private int coalesceMaxCacheEntries;
+
+    // 요청/응답 바디 DEBUG 로그 표본 비율 (DEBUG 레벨일 때만 적용)
+    @Value("${ai.fastapi.log.body-sample-rate:0.01}")
+    private double bodyLogSampleRate;
+
+    private AiClientMetrics metrics;
+    private AiRequestCoalescer coalescer;
+    private AiHedgePolicy sttHedgePolicy;
+    private Counter hedgeFired;
+    private Counter hedgeWon;
+    private Counter hedgeBudgetExhausted;
+
+    @PostConstruct
+    public void init() {
+        metrics = new AiClientMetrics(meterRegistry);
+        coalescer = new AiRequestCoalescer(objectMapper, meterRegistry, coalesceMaxCacheEntries);
+        sttHedgePolicy = new AiHedgePolicy(hedgeWindowSize, hedgePercentile, hedgeMinSamples,
+            TimeUnit.MILLISECONDS.toNanos(hedgeMinDelayMillis), hedgeBudgetRatio);
+
+        Gauge.builder("ai.client.hedge.delay", sttHedgePolicy,
+                policy -> Math.max(0, policy.getDelayNanos()) / 1_000_000.0)
+            .description("답변 STT 헤지 요청 대기 시간 (ms, 0이면 표본 부족으로 헤지하지 않음)")
+            .tag("endpoint", "/api/v1/stt")
+            .register(meterRegistry);
+        hedgeFired = hedgeCounter("fired");
+        hedgeWon = hedgeCounter("won");
+        hedgeBudgetExhausted = hedgeCounter("budget_exhausted");
+    }
 
     /**
      * OCR API 호출 (우대사항 파일 텍스트 추출)
@@ -40,7 +151,9 @@ public class AiClient {
             .preSignedUrl(preSignedUrl)
             .build();
 
-        return postJson("/api/v1/ocr", body, AiTextResponse.class)
+        // 같은 공고 파일의 OCR이 동시에 몰리면 한 번만 호출하고 결과를 짧게 재사용
+        return coalesced("/api/v1/ocr", body, Duration.ofSeconds(ocrCacheTtlSeconds),
+                () -> postJson("/api/v1/ocr", body, AiTextResponse.class, AiCallPriority.BATCH))
             .block();  // 동기 처리
     }
 
@@ -48,14 +161,8 @@ public class AiClient {
      * 면접 시작 API 호출
      */
     public AiInterviewResponse startInterview(AiInterviewInput input) {
-        // 요청 바디 로깅 (JSON)
-        try {
-            String requestJson = objectMapper.writeValueAsString(input);
-            log.info("[AiClient] /api/v1/interview/start 요청 바디: {}", requestJson);
-        } catch (Exception e) {
-            log.warn("[AiClient] /api/v1/interview/start 요청 바디 직렬화 실패: {}", e.getMessage());
-        }
-        return postJson("/api/v1/interview/start", input, AiInterviewResponse.class)
+        return postJson("/api/v1/interview/start", input, AiInterviewResponse.class,
+                AiCallPriority.BATCH)
             .block();  // 동기 처리
     }
 
@@ -63,30 +170,25 @@ public class AiClient {
      * 면접 답변 API 호출
      */
     public AiInterviewResponse answerInterview(AiInterviewInput input) {
-        // 요청 바디 로깅 (JSON)
-        try {
-            String requestJson = objectMapper.writeValueAsString(input);
-            log.info("[AiClient] /api/v1/interview/answer 요청 바디: {}", requestJson);
-        } catch (Exception e) {
-            log.warn("[AiClient] /api/v1/interview/answer 요청 바디 직렬화 실패: {}", e.getMessage());
-        }
-        return postJson("/api/v1/interview/answer", input, AiInterviewResponse.class)
+        return answerInterviewReactive(input)
             .block();  // 동기 처리
     }
 
+    /**
+     * 면접 답변 API 호출 (리액티브 - 응답 대기 중 스레드를 점유하지 않음)
+     */
+    public Mono<AiInterviewResponse> answerInterviewReactive(AiInterviewInput input) {
+        return postJson("/api/v1/interview/answer", input, AiInterviewResponse.class,
+            AiCallPriority.INTERACTIVE);
+    }
+
 
     /**
      * 면접 종료 API 호출
      */
     public AiEndInterviewResponse endInterview(AiEndInterviewInput input) {
-        // 요청 바디 로깅 (JSON)
-        try {
-            String requestJson = objectMapper.writeValueAsString(input);
-            log.info("[AiClient] /api/v1/interview/end 요청 바디: {}", requestJson);
-        } catch (Exception e) {
-            log.warn("[AiClient] /api/v1/interview/end 요청 바디 직렬화 실패: {}", e.getMessage());
-        }
-        return postJson("/api/v1/interview/end", input, AiEndInterviewResponse.class)
+        return postJson("/api/v1/interview/end", input, AiEndInterviewResponse.class,
+                AiCallPriority.BATCH)
             .block();  // 동기 처리
     }
 
@@ -94,20 +196,43 @@ public class AiClient {
      * STT API 호출 (음성 파일 텍스트 변환)
      */
     public String transcribeAudio(String sttUrl) {
-        AiSttRequestDto request = new AiSttRequestDto(sttUrl);
-        
-        try {
-            String requestJson = objectMapper.writeValueAsString(request);
-            log.info("[AiClient] /api/v1/stt 요청 바디: {}", requestJson);
-        } catch (Exception e) {
-            log.warn("[AiClient] /api/v1/stt 요청 바디 직렬화 실패: {}", e.getMessage());
-        }
-        
-        AiSttResponseDto response = postJson("/api/v1/stt", request, AiSttResponseDto.class)
+        return transcribeAudioReactive(sttUrl)
             .block();  // 동기 처리
-        
+    }
+
+    /**
+     * STT API 호출 (리액티브 - 응답 대기 중 스레드를 점유하지 않음)
+     */
+    public Mono<String> transcribeAudioReactive(String sttUrl) {
+        return transcribeAudioReactive(sttUrl, AiCallPriority.INTERACTIVE);
+    }
+
+    /**
+     * STT API 호출 (리액티브, 우선순위 지정 - 백그라운드 전사는 BATCH)
+     */
+    public Mono<String> transcribeAudioReactive(String sttUrl, AiCallPriority priority) {
+        AiSttRequestDto request = new AiSttRequestDto(sttUrl);
+
+        Supplier<Mono<AiSttResponseDto>> call =
+            () -> postJson("/api/v1/stt", request, AiSttResponseDto.class, priority);
+        // 사용자가 기다리는 답변 STT만 헤지 (배치 전사는 지연보다 부하가 중요)
+        Supplier<Mono<AiSttResponseDto>> attempt = hedgeEnabled && priority == AiCallPriority.INTERACTIVE
+            ? () -> hedged("/api/v1/stt", sttHedgePolicy, call)
+            : call;
+        // 같은 음성 파일의 전사가 진행 중이면 합류 (헤지 요청은 병합 안쪽에서 발사되므로 합쳐지지 않음)
+        Mono<AiSttResponseDto> response = coalesced("/api/v1/stt", request, Duration.ZERO, attempt);
+
+        return response
+            .defaultIfEmpty(new AiSttResponseDto(null, null))
+            .map(this::extractConvertedText);
+    }
+
+    /**
+     * STT 응답 검증 후 변환된 텍스트 반환
+     */
+    private String extractConvertedText(AiSttResponseDto response) {
         // 응답 검증
-        if (response == null || response.convertedText() == null) {
+        if (response.convertedText() == null) {
             log.error("[AiClient] STT 응답이 올바르지 않음 - response: {}", response);
             throw ApiException.of(HttpStatus.INTERNAL_SERVER_ERROR, 
                 ErrorMessage.INTERNAL_SERVER_ERROR);
@@ -125,44 +250,23 @@ public class AiClient {
 
     /**
      * WebClient 기반 POST 요청 (비동기 - 동기 변환)
+     * - 우선순위 배분: 시도마다 AiDispatchQueue에서 슬롯을 받음 (INTERACTIVE 우선, BATCH 최소 배분 보장)
+     * - 호출 보호: 시도마다 엔드포인트별 동시성 한도/서킷 브레이커 허가를 받고, 거절 시 INTERACTIVE는 즉시 503(Retry-After),
+     *   BATCH는 Retry-After만큼 기다린 뒤 대기열에 다시 들어감 (batch-wait-seconds까지)
      * - 재시도 정책: 최대 3번, 500 에러 및 타임아웃 시
      * - 폴백 정책: 제거됨 (명확한 실패 처리를 위해)
      */
-    private <T> Mono<T> postJson(String path, Object body, Class<T> responseType) {
-        return fastApiWebClient.post()
-            .uri(path)
-            .contentType(MediaType.APPLICATION_JSON)
-            .accept(MediaType.APPLICATION_JSON)
-            .bodyValue(body)
-            .retrieve()
-            .onStatus(
-                HttpStatusCode::is4xxClientError,
-                clientResponse -> clientResponse.bodyToMono(String.class)
-                    .flatMap(errorBody -> {
-                        log.warn("[AiClient] {} 4xx 에러: status={}, body={}", 
-                            path, clientResponse.statusCode(), errorBody);
-                        return Mono.error(ApiException.of(
-                            HttpStatus.valueOf(clientResponse.statusCode().value()),
-                            errorBody.isBlank() ? ErrorMessage.BAD_REQUEST : errorBody
-                        ));
-                    })
-            )
-            .onStatus(
-                HttpStatusCode::is5xxServerError,
-                clientResponse -> clientResponse.bodyToMono(String.class)
-                    .flatMap(errorBody -> {
-                        log.warn("[AiClient] {} 5xx 에러: status={}, body={}", 
-                            path, clientResponse.statusCode(), errorBody);
-                        return Mono.error(new WebClientResponseException(
-                            clientResponse.statusCode().value(),
-                            "AI 서버 에러",
-                            clientResponse.headers().asHttpHeaders(),
-                            errorBody.getBytes(),
-                            null
-                        ));
-                    })
-            )
-            .bodyToMono(responseType)
+    private <T> Mono<T> postJson(String path, Object body, Class<T> responseType,
+        AiCallPriority priority) {
+        AiEndpointGuard guard = guard(path);
+        return aiDispatchQueue.submit(priority, () -> {
+                AiEndpointGuard.Permit permit = guard.acquire();
+                return exchange(path, body, responseType)
+                    .doOnSuccess(response -> permit.onSuccess())
+                    .doOnError(permit::onError)
+                    .doOnCancel(permit::onCancel);
+            })
+            .retryWhen(awaitPermit(path, priority))
             // 재시도 정책: 최대 3번 재시도, 지수 백오프
             .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
                 .filter(throwable -> {
@@ -171,6 +275,7 @@ public class AiClient {
                         int statusCode = wcre.getStatusCode().value();
                         boolean shouldRetry = statusCode >= 500 && statusCode < 600;
                         if (shouldRetry) {
+                            metrics.recordRetry(path, "server_error");
                             log.warn("[AiClient] {} 재시도 예정 - status={}", path, statusCode);
                         }
                         return shouldRetry;
@@ -181,6 +286,7 @@ public class AiClient {
                         || throwable.getCause() instanceof java.net.SocketTimeoutException;
                     
                     if (isNetworkError) {
+                        metrics.recordRetry(path, "network");
                         log.warn("[AiClient] {} 네트워크 에러 - 재시도 예정: {}", path, throwable.getMessage());
                     }
                     return isNetworkError;
@@ -241,6 +347,189 @@ public class AiClient {
             );
     }
 
+    /**
+     * BATCH 호출의 허가 대기: 동시성 한도/서킷 거절(RejectedException)이면 Retry-After(+지터) 뒤 다시 큐에 넣음
+     * - 배분 큐 자체의 거절(포화/대기 시간 초과)과 INTERACTIVE 호출은 그대로 실패
+     * - 구독마다 batch-wait-seconds 안에서만 기다리고, 넘기면 마지막 거절(503)로 실패
+     */
+    private Retry awaitPermit(String path, AiCallPriority priority) {
+        return Retry.from(signals -> {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(limiterBatchWaitSeconds);
+            return signals.concatMap(signal -> {
+                Throwable failure = signal.failure();
+                if (priority != AiCallPriority.BATCH
+                    || !(failure instanceof AiEndpointGuard.RejectedException rejected)) {
+                    return Mono.error(failure);
+                }
+                long delayMillis = TimeUnit.SECONDS.toMillis(rejected.getRetryAfterSeconds())
+                    + ThreadLocalRandom.current().nextLong(500);
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis) > deadline) {
+                    log.warn("[AiClient] {} 허가 대기 시간 초과 - {}", path, failure.getMessage());
+                    return Mono.error(failure);
+                }
+                log.debug("[AiClient] {} 허가 거절 - {}ms 후 다시 대기열 진입", path, delayMillis);
+                return Mono.delay(Duration.ofMillis(delayMillis));
+            });
+        });
+    }
+
+    /**
+     * 헤지 요청: 원 요청이 관측된 백분위 응답 시간 안에 끝나지 않으면 같은 요청을 한 건 더 보내고 먼저 온 응답 사용
+     * - 늦게 끝난 쪽은 구독 취소로 중단 (큐 슬롯/동시성 허가 반납)
+     * - 헤지 요청이 실패하면 원 요청 결과를 기다림
+     * - 예산(원 요청 대비 budget-ratio)이 바닥나면 헤지하지 않음
+     */
+    private <T> Mono<T> hedged(String path, AiHedgePolicy policy, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            long delayNanos = policy.onRequest();
+            Mono<T> primary = timed(policy, call);
+            if (delayNanos < 0) {
+                return primary;
+            }
+
+            Mono<T> hedge = Mono.delay(Duration.ofNanos(delayNanos))
+                .flatMap(tick -> {
+                    if (!policy.tryHedge()) {
+                        hedgeBudgetExhausted.increment();
+                        return Mono.<T>never();
+                    }
+                    hedgeFired.increment();
+                    log.info("[AiClient] {} 응답 지연으로 헤지 요청 - delay={}ms", path,
+                        TimeUnit.NANOSECONDS.toMillis(delayNanos));
+                    return timed(policy, call)
+                        .doOnSuccess(response -> hedgeWon.increment())
+                        .onErrorResume(e -> {
+                            log.warn("[AiClient] {} 헤지 요청 실패 - 원 요청 대기: {}", path, e.getMessage());
+                            return Mono.never();
+                        });
+                });
+            return Mono.firstWithSignal(primary, hedge);
+        });
+    }
+
+    /**
+     * 멱등 엔드포인트 동일 요청 병합 (꺼져 있으면 그대로 호출)
+     */
+    private <T> Mono<T> coalesced(String path, Object body, Duration cacheTtl,
+        Supplier<Mono<T>> call) {
+        if (!coalesceEnabled) {
+            return Mono.defer(call);
+        }
+        return coalescer.execute(path, body, cacheTtl, call);
+    }
+
+    /**
+     * 성공한 시도의 응답 시간을 헤지 정책에 기록
+     */
+    private <T> Mono<T> timed(AiHedgePolicy policy, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return call.get()
+                .doOnSuccess(response -> policy.record(System.nanoTime() - startedAt));
+        });
+    }
+
+    private Counter hedgeCounter(String result) {
+        return Counter.builder("ai.client.hedge")
+            .description("답변 STT 헤지 요청 결과 (fired 발사, won 헤지 응답 채택, budget_exhausted 예산 부족으로 생략)")
+            .tag("endpoint", "/api/v1/stt")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private AiEndpointGuard guard(String path) {
+        return guards.computeIfAbsent(path, endpoint -> new AiEndpointGuard(
+            endpoint,
+            new AdaptiveConcurrencyLimiter(limiterInitialLimit, limiterMinLimit, limiterMaxLimit,
+                limiterLatencyTolerance),
+            new AiCircuitBreaker(circuitWindowSize, circuitMinimumCalls, circuitFailureRateThreshold,
+                Duration.ofSeconds(circuitOpenSeconds).toNanos(), circuitHalfOpenProbes),
+            meterRegistry
+        ));
+    }
+
+    /**
+     * FastAPI 단일 호출 (4xx는 ApiException, 5xx는 WebClientResponseException으로 변환)
+     * - 바디는 한 번만 직렬화하여 전송하고 크기를 기록, 응답도 바이트로 받아 크기 기록 후 역직렬화
+     * - 시도마다 응답 시간을 결과(outcome)별로 기록
+     */
+    private <T> Mono<T> exchange(String path, Object body, Class<T> responseType) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return Mono.fromCallable(() -> serialize(path, body))
+                .flatMap(payload -> send(path, payload))
+                .map(bytes -> deserialize(path, bytes, responseType))
+                .doOnSuccess(response -> metrics.recordLatency(path, AiClientMetrics.Outcome.SUCCESS,
+                    System.nanoTime() - startedAt))
+                .doOnError(e -> metrics.recordLatency(path, AiClientMetrics.classify(e),
+                    System.nanoTime() - startedAt))
+                .doOnCancel(() -> metrics.recordLatency(path, AiClientMetrics.Outcome.CANCELLED,
+                    System.nanoTime() - startedAt));
+        });
+    }
+
+    private byte[] serialize(String path, Object body) throws JsonProcessingException {
+        byte[] payload = objectMapper.writeValueAsBytes(body);
+        metrics.recordRequestSize(path, payload.length);
+        if (isBodyLogSampled()) {
+            log.debug("[AiClient] {} 요청 바디: {}", path, new String(payload, StandardCharsets.UTF_8));
+        }
+        return payload;
+    }
+
+    private <T> T deserialize(String path, byte[] bytes, Class<T> responseType) {
+        metrics.recordResponseSize(path, bytes.length);
+        if (isBodyLogSampled()) {
+            log.debug("[AiClient] {} 응답 바디: {}", path, new String(bytes, StandardCharsets.UTF_8));
+        }
+        try {
+            return objectMapper.readValue(bytes, responseType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("FastAPI 응답 역직렬화 실패: " + path, e);
+        }
+    }
+
+    private boolean isBodyLogSampled() {
+        return log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < bodyLogSampleRate;
+    }
+
+    private Mono<byte[]> send(String path, byte[] payload) {
+        return fastApiWebClient.post()
+            .uri(path)
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.APPLICATION_JSON)
+            .bodyValue(payload)
+            .retrieve()
+            .onStatus(
+                HttpStatusCode::is4xxClientError,
+                clientResponse -> clientResponse.bodyToMono(String.class)
+                    .flatMap(errorBody -> {
+                        log.warn("[AiClient] {} 4xx 에러: status={}, body={}", 
+                            path, clientResponse.statusCode(), errorBody);
+                        return Mono.error(ApiException.of(
+                            HttpStatus.valueOf(clientResponse.statusCode().value()),
+                            errorBody.isBlank() ? ErrorMessage.BAD_REQUEST : errorBody
+                        ));
+                    })
+            )
+            .onStatus(
+                HttpStatusCode::is5xxServerError,
+                clientResponse -> clientResponse.bodyToMono(String.class)
+                    .flatMap(errorBody -> {
+                        log.warn("[AiClient] {} 5xx 에러: status={}, body={}", 
+                            path, clientResponse.statusCode(), errorBody);
+                        return Mono.error(new WebClientResponseException(
+                            clientResponse.statusCode().value(),
+                            "AI 서버 에러",
+                            clientResponse.headers().asHttpHeaders(),
+                            errorBody.getBytes(),
+                            null
+                        ));
+                    })
+            )
+            .bodyToMono(byte[].class);
+    }
+
     /**
      * 폴백 응답 생성 (주석 처리 - 폴백 정책 제거)
      * 폴백이 있어도 결국 질문 개수 불일치로 실패 처리되므로 의미 없음
@@ -0,0 +1,119 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+import com.ssafy.s13p21b204.global.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * FastAPI 호출 메트릭 (HTTP 시도 단위, tag endpoint={path})
+ *
+ * - ai.client.requests: 응답 시간 (tag outcome, SLO 히스토그램 버킷)
+ * - ai.client.request.size / ai.client.response.size: 요청/응답 바디 크기 (bytes)
+ * - ai.client.retries: 재시도 횟수 (tag reason=server_error|network)
+ * - ai.client.timeouts: 타임아웃 횟수
+ * 커넥션 풀 지표는 WebClientConfig의 Reactor Netty 메트릭(reactor.netty.connection.provider.*)으로 수집한다.
+ */
+class AiClientMetrics {
+
+    // 답변 STT/꼬리질문(수 초)부터 면접 종료 리포트(수십 초~응답 타임아웃 120초)까지
+    private static final Duration[] LATENCY_SLO = {
+        Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2),
+        Duration.ofSeconds(3), Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(20),
+        Duration.ofSeconds(30), Duration.ofSeconds(60), Duration.ofSeconds(120)
+    };
+
+    private static final double[] SIZE_SLO = {
+        1_024, 4_096, 16_384, 65_536, 262_144, 1_048_576
+    };
+
+    enum Outcome {
+        SUCCESS, CLIENT_ERROR, SERVER_ERROR, TIMEOUT, ERROR, CANCELLED
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    AiClientMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    void recordLatency(String endpoint, Outcome outcome, long nanos) {
+        Timer.builder("ai.client.requests")
+            .description("FastAPI HTTP 호출 응답 시간 (재시도는 시도마다 기록)")
+            .tag("endpoint", endpoint)
+            .tag("outcome", outcome.name())
+            .serviceLevelObjectives(LATENCY_SLO)
+            .register(meterRegistry)
+            .record(Duration.ofNanos(nanos));
+        if (outcome == Outcome.TIMEOUT) {
+            Counter.builder("ai.client.timeouts")
+                .description("FastAPI HTTP 호출 타임아웃 횟수")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+
+    void recordRequestSize(String endpoint, int bytes) {
+        size("ai.client.request.size", "FastAPI 요청 바디 크기", endpoint, bytes);
+    }
+
+    void recordResponseSize(String endpoint, int bytes) {
+        size("ai.client.response.size", "FastAPI 응답 바디 크기", endpoint, bytes);
+    }
+
+    void recordRetry(String endpoint, String reason) {
+        Counter.builder("ai.client.retries")
+            .description("FastAPI 호출 재시도 횟수")
+            .tag("endpoint", endpoint)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * 시도 결과 분류 (4xx는 AiClient에서 ApiException, 5xx는 WebClientResponseException으로 변환됨)
+     */
+    static Outcome classify(Throwable throwable) {
+        if (throwable instanceof ApiException) {
+            return Outcome.CLIENT_ERROR;
+        }
+        if (throwable instanceof WebClientResponseException) {
+            return Outcome.SERVER_ERROR;
+        }
+        if (isTimeout(throwable)) {
+            return Outcome.TIMEOUT;
+        }
+        return Outcome.ERROR;
+    }
+
+    private static boolean isTimeout(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException || t instanceof SocketTimeoutException
+                || t instanceof ReadTimeoutException || t instanceof WriteTimeoutException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private void size(String name, String description, String endpoint, int bytes) {
+        DistributionSummary.builder(name)
+            .description(description)
+            .baseUnit("bytes")
+            .tag("endpoint", endpoint)
+            .serviceLevelObjectives(SIZE_SLO)
+            .register(meterRegistry)
+            .record(bytes);
+    }
+}
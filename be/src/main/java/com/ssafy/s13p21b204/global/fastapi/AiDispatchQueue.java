@@ -0,0 +1,241 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import com.ssafy.s13p21b204.global.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * FastAPI 호출 우선순위 배분 큐 (fastApiWebClient 앞단)
+ *
+ * 전체 동시 호출 수(max-concurrency)를 슬롯으로 나누어 배분한다.
+ * - INTERACTIVE(면접 진행 중 호출)가 대기 중이면 BATCH보다 먼저 슬롯을 받는다.
+ * - BATCH는 interactive-reserved만큼의 슬롯을 사용할 수 없어, 배치가 몰려도 실시간 호출 자리가 남는다.
+ * - BATCH가 대기하는 동안 INTERACTIVE가 먼저 나갈 때마다 batch-min-share만큼 적립하여,
+ *   1이 쌓이면 BATCH를 한 건 내보낸다(경합 중에도 최소 배분 보장).
+ * 이미 나간 호출은 중단하지 않으며, 대기열이 가득 차거나 queue-timeout을 넘기면 503(Retry-After)으로 거절한다.
+ * 대기 시간 초과는 호출마다 타이머로 판정하므로 슬롯이 모두 찬 동안에도 제시간에 거절된다.
+ * 메트릭(tag class=interactive|batch): ai.client.queue.wait, ai.client.queue.size, ai.client.dispatch.running,
+ * ai.client.queue.rejected
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AiDispatchQueue {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.fastapi.dispatch.max-concurrency:${ai.fastapi.max-connections:100}}")
+    private int maxConcurrency;
+
+    // BATCH가 사용할 수 없는 슬롯 수 (실시간 호출 전용)
+    @Value("${ai.fastapi.dispatch.interactive-reserved:20}")
+    private int interactiveReserved;
+
+    // 경합 중 BATCH에 보장하는 최소 배분 비율
+    @Value("${ai.fastapi.dispatch.batch-min-share:0.2}")
+    private double batchMinShare;
+
+    @Value("${ai.fastapi.dispatch.max-queue:200}")
+    private int maxQueue;
+
+    @Value("${ai.fastapi.dispatch.queue-timeout-seconds:30}")
+    private long queueTimeoutSeconds;
+
+    private final Map<AiCallPriority, Deque<Ticket<?>>> queues = new EnumMap<>(AiCallPriority.class);
+    private final Map<AiCallPriority, Integer> running = new EnumMap<>(AiCallPriority.class);
+    private final Map<AiCallPriority, Timer> queueWaitTimers = new EnumMap<>(AiCallPriority.class);
+    private final Map<AiCallPriority, Counter> rejectedCounters = new EnumMap<>(AiCallPriority.class);
+    private double batchCredit;
+
+    @PostConstruct
+    public void init() {
+        for (AiCallPriority priority : AiCallPriority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+            running.put(priority, 0);
+
+            queueWaitTimers.put(priority, Timer.builder("ai.client.queue.wait")
+                .description("FastAPI 호출이 배분 큐에서 슬롯을 기다린 시간")
+                .tag("class", priority.getTag())
+                .register(meterRegistry));
+            rejectedCounters.put(priority, Counter.builder("ai.client.queue.rejected")
+                .description("배분 큐 포화/대기 시간 초과로 거절된 FastAPI 호출 수")
+                .tag("class", priority.getTag())
+                .register(meterRegistry));
+            Gauge.builder("ai.client.queue.size", this, queue -> queue.queuedCount(priority))
+                .description("배분 큐에서 대기 중인 FastAPI 호출 수")
+                .tag("class", priority.getTag())
+                .register(meterRegistry);
+            Gauge.builder("ai.client.dispatch.running", this, queue -> queue.runningCount(priority))
+                .description("배분 큐에서 슬롯을 받아 진행 중인 FastAPI 호출 수")
+                .tag("class", priority.getTag())
+                .register(meterRegistry);
+        }
+        log.info("[AiDispatchQueue] 초기화 완료 - maxConcurrency: {}, interactiveReserved: {}, batchMinShare: {}",
+            maxConcurrency, interactiveReserved, batchMinShare);
+    }
+
+    /**
+     * 슬롯을 받은 뒤 호출 시작 (구독 시점에 대기열에 들어가고, 취소되면 대기열에서 빠지거나 진행 중 호출을 취소)
+     */
+    public <T> Mono<T> submit(AiCallPriority priority, Supplier<Mono<T>> call) {
+        return Mono.<T>create(sink -> {
+            Ticket<T> ticket = new Ticket<>(priority, call, sink);
+            sink.onCancel(() -> cancel(ticket));
+            enqueue(ticket);
+        });
+    }
+
+    private void enqueue(Ticket<?> ticket) {
+        synchronized (this) {
+            Deque<Ticket<?>> queue = queues.get(ticket.priority);
+            if (queue.size() >= maxQueue) {
+                rejectedCounters.get(ticket.priority).increment();
+                log.warn("[AiDispatchQueue] 대기열 포화로 거절 - class={}, queued={}",
+                    ticket.priority.getTag(), queue.size());
+                ticket.sink.error(new ServiceUnavailableException(ErrorMessage.AI_SERVICE_BUSY, 1));
+                return;
+            }
+            queue.addLast(ticket);
+            // 슬롯이 비지 않아도 대기 시간 초과를 판정하도록 호출마다 타이머 설정
+            ticket.expiry = Mono.delay(Duration.ofSeconds(queueTimeoutSeconds))
+                .subscribe(tick -> expire(ticket));
+        }
+        drain();
+    }
+
+    /**
+     * 대기 시간 초과 거절 (이미 슬롯을 받았거나 취소된 호출은 대기열에 없으므로 무시)
+     */
+    private void expire(Ticket<?> ticket) {
+        synchronized (this) {
+            if (!queues.get(ticket.priority).remove(ticket)) {
+                return;
+            }
+        }
+        rejectedCounters.get(ticket.priority).increment();
+        log.warn("[AiDispatchQueue] 대기 시간 초과로 거절 - class={}", ticket.priority.getTag());
+        ticket.sink.error(new ServiceUnavailableException(ErrorMessage.AI_SERVICE_BUSY, 1));
+    }
+
+    private void cancel(Ticket<?> ticket) {
+        Disposable subscription;
+        synchronized (this) {
+            if (queues.get(ticket.priority).remove(ticket)) {
+                ticket.expiry.dispose();
+                return;
+            }
+            subscription = ticket.subscription;
+        }
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private void release(AiCallPriority priority) {
+        synchronized (this) {
+            running.merge(priority, -1, Integer::sum);
+        }
+        drain();
+    }
+
+    /**
+     * 빈 슬롯만큼 대기열에서 꺼내 호출 시작 (시작은 락 밖에서)
+     */
+    private void drain() {
+        List<Ticket<?>> ready = new ArrayList<>();
+        synchronized (this) {
+            while (totalRunning() < maxConcurrency) {
+                Ticket<?> next = pollNext();
+                if (next == null) {
+                    break;
+                }
+                running.merge(next.priority, 1, Integer::sum);
+                ready.add(next);
+            }
+        }
+        ready.forEach(this::start);
+    }
+
+    /**
+     * 다음에 내보낼 호출 선택 (락 안에서 호출)
+     */
+    private Ticket<?> pollNext() {
+        Deque<Ticket<?>> interactive = queues.get(AiCallPriority.INTERACTIVE);
+        Deque<Ticket<?>> batch = queues.get(AiCallPriority.BATCH);
+        boolean batchAllowed = !batch.isEmpty()
+            && running.get(AiCallPriority.BATCH) < maxConcurrency - interactiveReserved;
+
+        if (interactive.isEmpty()) {
+            return batchAllowed ? batch.pollFirst() : null;
+        }
+        if (batchAllowed) {
+            if (batchCredit >= 1) {
+                batchCredit -= 1;
+                return batch.pollFirst();
+            }
+            batchCredit += batchMinShare;
+        }
+        return interactive.pollFirst();
+    }
+
+    private <T> void start(Ticket<T> ticket) {
+        ticket.expiry.dispose();
+        queueWaitTimers.get(ticket.priority)
+            .record(System.nanoTime() - ticket.enqueuedAt, TimeUnit.NANOSECONDS);
+
+        Disposable subscription = Mono.defer(ticket.call)
+            .doFinally(signal -> release(ticket.priority))
+            .subscribe(ticket.sink::success, ticket.sink::error, ticket.sink::success);
+        synchronized (this) {
+            ticket.subscription = subscription;
+        }
+    }
+
+    private synchronized int totalRunning() {
+        return running.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private synchronized int queuedCount(AiCallPriority priority) {
+        return queues.get(priority).size();
+    }
+
+    private synchronized int runningCount(AiCallPriority priority) {
+        return running.get(priority);
+    }
+
+    private static final class Ticket<T> {
+
+        private final AiCallPriority priority;
+        private final Supplier<Mono<T>> call;
+        private final MonoSink<T> sink;
+        private final long enqueuedAt = System.nanoTime();
+        private Disposable subscription;
+        private Disposable expiry;
+
+        private Ticket(AiCallPriority priority, Supplier<Mono<T>> call, MonoSink<T> sink) {
+            this.priority = priority;
+            this.call = call;
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+import com.ssafy.s13p21b204.global.exception.ApiException;
+import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import com.ssafy.s13p21b204.global.exception.ServiceUnavailableException;
+import com.ssafy.s13p21b204.global.fastapi.AiCircuitBreaker.Admission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * FastAPI 엔드포인트별 호출 보호 (적응형 동시성 제한 + 서킷 브레이커)
+ *
+ * 한도 초과·OPEN 상태에서는 대기열에 쌓지 않고 즉시 503(Retry-After)으로 거절한다.
+ * 재시도도 매번 다시 허가를 받으므로 FastAPI가 포화된 동안 재시도가 부하를 키우지 않는다.
+ * 메트릭(tag endpoint={path}): ai.client.limit, ai.client.inflight, ai.client.circuit.state(0 CLOSED, 1 HALF_OPEN, 2 OPEN),
+ * ai.client.rejected(reason=limit|circuit), ai.client.circuit.trips
+ */
+@Slf4j
+class AiEndpointGuard {
+
+    private final String endpoint;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final AiCircuitBreaker circuitBreaker;
+    private final Counter limitRejected;
+    private final Counter circuitRejected;
+    private final Counter trips;
+
+    AiEndpointGuard(String endpoint, AdaptiveConcurrencyLimiter limiter,
+        AiCircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        this.endpoint = endpoint;
+        this.limiter = limiter;
+        this.circuitBreaker = circuitBreaker;
+
+        Tags tags = Tags.of("endpoint", endpoint);
+        Gauge.builder("ai.client.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+            .description("FastAPI 엔드포인트별 현재 동시 호출 한도")
+            .tags(tags)
+            .register(meterRegistry);
+        Gauge.builder("ai.client.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+            .description("FastAPI 엔드포인트별 진행 중 호출 수")
+            .tags(tags)
+            .register(meterRegistry);
+        Gauge.builder("ai.client.circuit.state", circuitBreaker,
+                breaker -> breaker.getState().ordinal())
+            .description("서킷 브레이커 상태 (0 CLOSED, 1 HALF_OPEN, 2 OPEN)")
+            .tags(tags)
+            .register(meterRegistry);
+        this.limitRejected = Counter.builder("ai.client.rejected")
+            .description("동시성 한도 초과/서킷 OPEN으로 즉시 거절된 호출 수")
+            .tags(tags.and("reason", "limit"))
+            .register(meterRegistry);
+        this.circuitRejected = Counter.builder("ai.client.rejected")
+            .description("동시성 한도 초과/서킷 OPEN으로 즉시 거절된 호출 수")
+            .tags(tags.and("reason", "circuit"))
+            .register(meterRegistry);
+        this.trips = Counter.builder("ai.client.circuit.trips")
+            .description("서킷 브레이커 OPEN 전환 횟수")
+            .tags(tags)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허가 (거절 시 RejectedException)
+     */
+    Permit acquire() {
+        Admission admission = circuitBreaker.tryAcquire();
+        if (admission == Admission.REJECTED) {
+            circuitRejected.increment();
+            throw new RejectedException(ErrorMessage.AI_SERVICE_UNAVAILABLE,
+                circuitBreaker.retryAfterSeconds());
+        }
+        if (!limiter.tryAcquire()) {
+            circuitBreaker.release(admission);
+            limitRejected.increment();
+            log.warn("[AiClient] {} 동시 호출 한도 초과로 거절 - limit={}", endpoint, limiter.getLimit());
+            throw new RejectedException(ErrorMessage.AI_SERVICE_BUSY, 1);
+        }
+        return new Permit(admission, System.nanoTime());
+    }
+
+    /**
+     * 허가 1건 (성공/실패/취소 중 처음 한 번만 반영)
+     */
+    class Permit {
+
+        private final Admission admission;
+        private final long startedAt;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Permit(Admission admission, long startedAt) {
+            this.admission = admission;
+            this.startedAt = startedAt;
+        }
+
+        void onSuccess() {
+            if (completed.compareAndSet(false, true)) {
+                limiter.onSuccess(System.nanoTime() - startedAt);
+                circuitBreaker.onResult(admission, false);
+            }
+        }
+
+        /**
+         * 4xx(ApiException)는 FastAPI가 정상 응답한 것으로 보고, 5xx·타임아웃·연결 실패만 실패로 기록
+         */
+        void onError(Throwable throwable) {
+            if (!isUpstreamFailure(throwable)) {
+                onSuccess();
+                return;
+            }
+            if (completed.compareAndSet(false, true)) {
+                limiter.onDropped();
+                if (circuitBreaker.onResult(admission, true)) {
+                    trips.increment();
+                    log.warn("[AiClient] {} 서킷 OPEN - {}초 동안 호출 차단", endpoint,
+                        circuitBreaker.retryAfterSeconds());
+                }
+            }
+        }
+
+        void onCancel() {
+            if (completed.compareAndSet(false, true)) {
+                limiter.onIgnored();
+                circuitBreaker.release(admission);
+            }
+        }
+
+        private boolean isUpstreamFailure(Throwable throwable) {
+            if (throwable instanceof WebClientResponseException wcre) {
+                return wcre.getStatusCode().is5xxServerError();
+            }
+            return !(throwable instanceof ApiException);
+        }
+    }
+
+    /**
+     * 동시성 한도 초과/서킷 OPEN 거절 (배분 큐 거절과 구분하여 BATCH 호출은 허가를 기다렸다가 다시 시도)
+     */
+    static class RejectedException extends ServiceUnavailableException {
+
+        RejectedException(String message, long retryAfterSeconds) {
+            super(message, retryAfterSeconds);
+        }
+    }
+}
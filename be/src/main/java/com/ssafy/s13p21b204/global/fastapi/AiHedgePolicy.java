@@ -0,0 +1,84 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+import java.util.Arrays;
+
+/**
+ * 헤지 요청 정책 (응답 지연 백분위 + 추가 부하 예산)
+ *
+ * - 최근 windowSize건의 응답 시간으로 percentile 지점(p90 등)을 구하고, 그 시간까지 응답이 없으면 중복 요청을 한 건 더 보낸다.
+ * - 원 요청마다 budgetRatio만큼 토큰을 적립하고 헤지 한 건에 1을 쓰므로, 추가 부하는 원 요청의 budgetRatio 이하로 제한된다.
+ * - 표본이 minSamples건 미만이면 지연 분포를 알 수 없으므로 헤지하지 않는다.
+ */
+class AiHedgePolicy {
+
+    // 백분위를 다시 계산하는 표본 간격
+    private static final int RECOMPUTE_INTERVAL = 20;
+    // 헤지 토큰 최대 적립량 (순간적으로 몰리는 헤지 상한)
+    private static final double MAX_TOKENS = 10;
+
+    private final double percentile;
+    private final int minSamples;
+    private final long minDelayNanos;
+    private final double budgetRatio;
+
+    private final long[] samples;
+    private int sampleIndex;
+    private int sampleCount;
+    private int samplesSinceRecompute;
+    private long delayNanos = -1;
+
+    private double tokens;
+
+    AiHedgePolicy(int windowSize, double percentile, int minSamples, long minDelayNanos,
+        double budgetRatio) {
+        this.samples = new long[windowSize];
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.minDelayNanos = minDelayNanos;
+        this.budgetRatio = budgetRatio;
+    }
+
+    /**
+     * 원 요청 1건 시작 - 예산 적립 후 헤지 대기 시간 반환 (헤지하지 않으면 -1)
+     */
+    synchronized long onRequest() {
+        tokens = Math.min(MAX_TOKENS, tokens + budgetRatio);
+        return delayNanos;
+    }
+
+    /**
+     * 헤지 요청 발사 허가 (예산이 남아 있으면 1 차감 후 true)
+     */
+    synchronized boolean tryHedge() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * 성공한 시도(원 요청/헤지 요청)의 응답 시간 기록
+     */
+    synchronized void record(long latencyNanos) {
+        samples[sampleIndex] = latencyNanos;
+        sampleIndex = (sampleIndex + 1) % samples.length;
+        if (sampleCount < samples.length) {
+            sampleCount++;
+        }
+        if (sampleCount < minSamples) {
+            return;
+        }
+        if (delayNanos < 0 || ++samplesSinceRecompute >= RECOMPUTE_INTERVAL) {
+            samplesSinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile * sampleCount) - 1;
+            delayNanos = Math.max(minDelayNanos, sorted[Math.max(0, rank)]);
+        }
+    }
+
+    synchronized long getDelayNanos() {
+        return delayNanos;
+    }
+}
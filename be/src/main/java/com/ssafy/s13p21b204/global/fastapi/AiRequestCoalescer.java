@@ -0,0 +1,143 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 동일 요청 병합 (single-flight) + 멱등 엔드포인트 단기 결과 캐시
+ *
+ * - 요청 바디를 키 순서가 고정된 JSON으로 직렬화하고 Presigned URL의 서명 쿼리를 제거한 뒤 SHA-256으로 키를 만든다.
+ *   (같은 S3 객체라도 발급 시점마다 서명이 달라지므로 서명을 제외해야 같은 요청으로 판별된다)
+ * - 같은 키의 호출이 진행 중이면 새로 보내지 않고 진행 중인 Mono의 결과를 함께 받는다.
+ *   공유 호출은 한 구독자가 취소해도 중단되지 않는다(다른 구독자가 결과를 기다릴 수 있으므로).
+ * - cacheTtl이 있으면 성공 결과를 그 시간 동안 재사용한다. 실패는 캐시하지 않는다.
+ * 메트릭(tag endpoint): ai.client.coalesce{result=leader|joined|cache_hit}
+ */
+@Slf4j
+class AiRequestCoalescer {
+
+    // Presigned URL 서명 쿼리 (X-Amz-Algorithm=...&X-Amz-Signature=...)
+    private static final Pattern PRESIGNED_QUERY = Pattern.compile("\\?[^\"]*X-Amz-Signature[^\"]*");
+
+    private final ObjectMapper canonicalMapper;
+    private final MeterRegistry meterRegistry;
+    private final int maxCacheEntries;
+
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, CachedResult> results = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("deprecation")
+    AiRequestCoalescer(ObjectMapper objectMapper, MeterRegistry meterRegistry, int maxCacheEntries) {
+        this.canonicalMapper = objectMapper.copy()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        this.meterRegistry = meterRegistry;
+        this.maxCacheEntries = maxCacheEntries;
+    }
+
+    /**
+     * 같은 요청이 진행 중이면 합류하고, 캐시된 결과가 있으면 바로 반환
+     *
+     * @param cacheTtl 성공 결과 재사용 시간 (Duration.ZERO면 병합만 수행)
+     */
+    @SuppressWarnings("unchecked")
+    <T> Mono<T> execute(String path, Object body, Duration cacheTtl, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            String key = requestKey(path, body);
+            if (key == null) {
+                return call.get();
+            }
+
+            CachedResult cached = results.get(key);
+            if (cached != null) {
+                if (!cached.isExpired()) {
+                    count(path, "cache_hit");
+                    return Mono.just((T) cached.value());
+                }
+                results.remove(key, cached);
+            }
+
+            boolean[] leader = {false};
+            Mono<T> shared = (Mono<T>) inFlight.computeIfAbsent(key, k -> {
+                leader[0] = true;
+                return share(k, cacheTtl, call);
+            });
+            count(path, leader[0] ? "leader" : "joined");
+            if (!leader[0]) {
+                log.info("[AiClient] {} 동일 요청 진행 중 - 결과 공유", path);
+            }
+            return shared;
+        });
+    }
+
+    private <T> Mono<T> share(String key, Duration cacheTtl, Supplier<Mono<T>> call) {
+        Object[] self = new Object[1];
+        Mono<T> shared = Mono.defer(call)
+            .doOnNext(value -> {
+                if (!cacheTtl.isZero()) {
+                    put(key, value, cacheTtl);
+                }
+            })
+            .doFinally(signal -> inFlight.remove(key, self[0]))
+            .share();
+        self[0] = shared;
+        return shared;
+    }
+
+    private void put(String key, Object value, Duration ttl) {
+        if (results.size() >= maxCacheEntries) {
+            results.values().removeIf(CachedResult::isExpired);
+            if (results.size() >= maxCacheEntries) {
+                results.clear();
+            }
+        }
+        results.put(key, new CachedResult(value, System.nanoTime() + ttl.toNanos()));
+    }
+
+    /**
+     * 정규화한 요청 바디의 SHA-256 (직렬화 실패 시 null - 병합하지 않음)
+     */
+    private String requestKey(String path, Object body) {
+        try {
+            String json = canonicalMapper.writeValueAsString(body);
+            String canonical = PRESIGNED_QUERY.matcher(json).replaceAll("");
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return path + ":" + HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            log.warn("[AiClient] {} 요청 키 생성 실패 - 병합 생략: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private void count(String path, String result) {
+        Counter.builder("ai.client.coalesce")
+            .description("동일 FastAPI 요청 병합/결과 캐시 (leader 실제 호출, joined 진행 중 호출 합류, cache_hit 캐시 재사용)")
+            .tag("endpoint", path)
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private record CachedResult(Object value, long expiresAt) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
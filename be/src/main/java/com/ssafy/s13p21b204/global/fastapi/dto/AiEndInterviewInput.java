@@ -1,5 +1,6 @@
 package com.ssafy.s13p21b204.global.fastapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +17,12 @@ public class AiEndInterviewInput {
 
     @JsonProperty("jd_presigned_url")
     private String jd;
+
+    // 공고 등록 시 OCR한 우대사항 텍스트 (있으면 FastAPI가 jd_presigned_url을 다시 OCR하지 않음, 없으면 생략)
+    @JsonProperty("jd_text")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String jdText;
+
     private List<AiResumeQAItem> resume;
 
     @JsonProperty("qna_history")
@@ -23,6 +30,11 @@ public class AiEndInterviewInput {
 
     @JsonProperty("preflight_urls")
     private List<String> preflightUrls;
+
+    // 백엔드에서 구간 분할 전사한 preflight 녹음 텍스트 (없으면 생략되어 FastAPI가 preflight_urls를 직접 전사)
+    @JsonProperty("preflight_transcript")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String preflightTranscript;
 }
 
 
@@ -1,5 +1,6 @@
 package com.ssafy.s13p21b204.global.fastapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +12,10 @@ import java.util.Map;
 public record AiInterviewInput(
     @JsonProperty("jd_presigned_url")
     String jd,
+    // 공고 등록 시 OCR한 우대사항 텍스트 (있으면 FastAPI가 jd_presigned_url을 다시 OCR하지 않음, 없으면 생략)
+    @JsonProperty("jd_text")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String jdText,
     @JsonProperty("resume")
     List<AiResumeQAItem> resume,
 
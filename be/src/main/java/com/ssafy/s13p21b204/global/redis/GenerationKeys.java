@@ -0,0 +1,19 @@
+package com.ssafy.s13p21b204.global.redis;
+
+/**
+ * 조건부 조회(ETag) 세대 카운터 키를 정의하는 클래스
+ *
+ * 값이 바뀌는 쪽에서 세대를 올리고, 조회하는 쪽에서는 세대만 읽어 ETag를 만든다.
+ */
+public class GenerationKeys {
+
+  // 진행 중인 채용 공고 목록 (공고 등록, 기업 삭제 시 증가)
+  public static final String JOB_POSTING_CATALOG = "etag:job-posting:catalog";
+
+  // 같은 채용 공고 지원자 리포트 집합 (평균 점수에 영향을 주는 리포트 변경 시 증가)
+  private static final String REPORT_COHORT_PREFIX = "etag:report:cohort:";
+
+  public static String reportCohort(Long jobPostingId) {
+    return REPORT_COHORT_PREFIX + jobPostingId;
+  }
+}
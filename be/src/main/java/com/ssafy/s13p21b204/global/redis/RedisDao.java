@@ -1,8 +1,15 @@
 package com.ssafy.s13p21b204.global.redis;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
@@ -11,7 +18,43 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RedisDao {
 
+  // 해시 필드 기준으로 원자적 갱신: 기존 키 삭제 후 필드 일괄 저장, TTL 설정 (ARGV[1]=TTL, 이후 field/value 쌍)
+  private static final RedisScript<Long> PUT_HASH_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('DEL', KEYS[1]) "
+          + "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+          + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+          + "return 1", Long.class);
+
+  // 기준 필드(ARGV[1])가 있을 때만 필드 추가 (만료/삭제된 키가 일부 필드만으로 되살아나지 않도록)
+  private static final RedisScript<Long> PUT_HASH_FIELD_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then "
+          + "redis.call('HSET', KEYS[1], ARGV[2], ARGV[3]) return 1 end "
+          + "return 0", Long.class);
+
+  // TTS 저장소 조회: 대표 객체가 있으면 마지막 사용 시각(ARGV[2])을 함께 갱신 (GC 제거와 원자적으로 경합)
+  private static final RedisScript<String> GET_TTS_OBJECT_SCRIPT = new DefaultRedisScript<>(
+      "local key = redis.call('HGET', KEYS[1], ARGV[1]) "
+          + "if key then redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1]) end "
+          + "return key", String.class);
+
+  // TTS 저장소 등록: 대표 객체가 없을 때만 등록하고 마지막 사용 시각 갱신, 대표 객체 key 반환
+  private static final RedisScript<String> REGISTER_TTS_OBJECT_SCRIPT = new DefaultRedisScript<>(
+      "local key = redis.call('HGET', KEYS[1], ARGV[1]) "
+          + "if not key then key = ARGV[2] redis.call('HSET', KEYS[1], ARGV[1], key) end "
+          + "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1]) "
+          + "return key", String.class);
+
+  // TTS 저장소 제거: 마지막 사용 시각이 기준(ARGV[2]) 이하일 때만 제거 (그 사이 재사용된 객체는 유지)
+  private static final RedisScript<Long> REMOVE_STALE_TTS_OBJECT_SCRIPT = new DefaultRedisScript<>(
+      "local score = redis.call('ZSCORE', KEYS[2], ARGV[1]) "
+          + "if score and tonumber(score) > tonumber(ARGV[2]) then return 0 end "
+          + "redis.call('HDEL', KEYS[1], ARGV[1]) "
+          + "redis.call('ZREM', KEYS[2], ARGV[1]) "
+          + "return 1", Long.class);
+
   private final RedisTemplate<String, String> redisTemplate;
+  // 값 직렬화기를 바꾸는 redisTemplate과 공유하지 않는 문자열 전용 템플릿 (해시 저장용)
+  private final StringRedisTemplate stringRedisTemplate;
 
   // ============================================
   // 1. Refresh Token 관리
@@ -152,8 +195,7 @@ public class RedisDao {
    */
   public String getFcmToken(String key) {
     // FCM 토큰은 항상 plain string으로 조회
-    redisTemplate.setValueSerializer(StringRedisSerializer.UTF_8);
-    String raw = redisTemplate.opsForValue().get(key);
+    String raw = stringRedisTemplate.opsForValue().get(key);
     if (raw == null) {
       return null;
     }
@@ -201,5 +243,269 @@ public class RedisDao {
     Boolean ok = redisTemplate.opsForValue().setIfAbsent(key, "1", ttlSeconds, TimeUnit.SECONDS);
     return Boolean.TRUE.equals(ok);
   }
-}
 
+  // ============================================
+  // 7. 조건부 조회(ETag)용 세대(Generation) 카운터 관리
+  // ============================================
+
+  /**
+   * 세대 카운터 증가 (데이터 변경 시 호출)
+   * @param key 키 (예: etag:job-posting:catalog)
+   * @return 증가된 세대 값
+   */
+  public long increaseGeneration(String key) {
+    // 공유 redisTemplate의 직렬화기를 바꾸지 않도록 문자열 전용 템플릿 사용 (INCR 결과를 그대로 읽음)
+    Long generation = stringRedisTemplate.opsForValue().increment(key);
+    return generation != null ? generation : 0L;
+  }
+
+  /**
+   * 세대 카운터 조회
+   * @param key 키 (예: etag:job-posting:catalog)
+   * @return 현재 세대 값 (없으면 0)
+   */
+  public long getGeneration(String key) {
+    String raw = stringRedisTemplate.opsForValue().get(key);
+    if (raw == null) {
+      return 0L;
+    }
+    try {
+      return Long.parseLong(raw);
+    } catch (NumberFormatException e) {
+      return 0L;
+    }
+  }
+
+  // ============================================
+  // 8. 면접 컨텍스트 스냅샷 (Hash)
+  // ============================================
+
+  /**
+   * 면접 컨텍스트 스냅샷 전체 조회 (한 번의 HGETALL)
+   * @param key 키 (예: interview:context:{interviewId})
+   * @return 필드-값 맵 (없으면 빈 맵)
+   */
+  public Map<String, String> getInterviewContext(String key) {
+    return stringRedisTemplate.<String, String>opsForHash().entries(key);
+  }
+
+  /**
+   * 면접 컨텍스트 스냅샷 저장 (기존 값 교체)
+   * @param key 키 (예: interview:context:{interviewId})
+   * @param fields 필드-값 맵
+   * @param ttlSeconds TTL (초 단위)
+   */
+  public void setInterviewContext(String key, Map<String, String> fields, long ttlSeconds) {
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(ttlSeconds));
+    fields.forEach((field, value) -> {
+      args.add(field);
+      args.add(value);
+    });
+    stringRedisTemplate.execute(PUT_HASH_SCRIPT, List.of(key), args.toArray());
+  }
+
+  /**
+   * 면접 컨텍스트 스냅샷에 필드 추가 (기준 필드가 있는 경우에만)
+   * @param key 키 (예: interview:context:{interviewId})
+   * @param requiredField 존재해야 하는 기준 필드
+   * @param field 추가할 필드
+   * @param value 값
+   * @return 추가 여부
+   */
+  public boolean putInterviewContextField(String key, String requiredField, String field,
+      String value) {
+    Long result = stringRedisTemplate.execute(PUT_HASH_FIELD_IF_PRESENT_SCRIPT, List.of(key),
+        requiredField, field, value);
+    return result != null && result == 1L;
+  }
+
+  /**
+   * 면접 컨텍스트 스냅샷 삭제
+   * @param key 키 (예: interview:context:{interviewId})
+   */
+  public void deleteInterviewContext(String key) {
+    stringRedisTemplate.delete(key);
+  }
+
+  // ============================================
+  // 9. 선행 STT 결과 캐시
+  // ============================================
+
+  /**
+   * 선행 STT 진행 표시 저장 (이미 있으면 저장하지 않음)
+   * @param key 키 (예: stt:pending:{s3Key})
+   * @param ttlSeconds TTL (초 단위)
+   * @return 저장 여부 (false면 이미 다른 요청이 진행 중)
+   */
+  public boolean setSttPendingIfAbsent(String key, long ttlSeconds) {
+    Boolean ok = stringRedisTemplate.opsForValue()
+        .setIfAbsent(key, "1", ttlSeconds, TimeUnit.SECONDS);
+    return Boolean.TRUE.equals(ok);
+  }
+
+  /**
+   * 선행 STT 진행 표시 삭제
+   * @param key 키 (예: stt:pending:{s3Key})
+   */
+  public void deleteSttPending(String key) {
+    stringRedisTemplate.delete(key);
+  }
+
+  /**
+   * 선행 STT 결과 저장
+   * @param key 키 (예: stt:transcript:{s3Key})
+   * @param transcript 변환된 텍스트
+   * @param ttlSeconds TTL (초 단위)
+   */
+  public void setSttTranscript(String key, String transcript, long ttlSeconds) {
+    stringRedisTemplate.opsForValue().set(key, transcript, ttlSeconds, TimeUnit.SECONDS);
+  }
+
+  /**
+   * 선행 STT 결과 조회
+   * @param key 키 (예: stt:transcript:{s3Key})
+   * @return 변환된 텍스트 (없으면 null)
+   */
+  public String getSttTranscript(String key) {
+    return stringRedisTemplate.opsForValue().get(key);
+  }
+
+  // ============================================
+  // 10. 시연용 면접 풀 (List)
+  // ============================================
+
+  /**
+   * 시연용 면접 1건 선점 (LPOP이므로 여러 인스턴스에서 동시에 호출해도 같은 항목을 두 번 반환하지 않음)
+   * @param key 키 (예: demo:pool:{jobPostingId})
+   * @return 항목 (비어 있으면 null)
+   */
+  public String popDemoInterview(String key) {
+    return stringRedisTemplate.opsForList().leftPop(key);
+  }
+
+  /**
+   * 시연용 면접 항목 추가
+   * @param key 키 (예: demo:pool:{jobPostingId})
+   * @param values 항목 목록
+   */
+  public void pushDemoInterviews(String key, List<String> values) {
+    if (!values.isEmpty()) {
+      stringRedisTemplate.opsForList().rightPushAll(key, values);
+    }
+  }
+
+  /**
+   * 시연용 면접 풀 크기
+   * @param key 키 (예: demo:pool:{jobPostingId})
+   */
+  public long getDemoInterviewPoolSize(String key) {
+    Long size = stringRedisTemplate.opsForList().size(key);
+    return size != null ? size : 0L;
+  }
+
+  /**
+   * 풀을 가진 채용 공고 ID 등록/조회/해제 (비활성화된 공고의 풀 정리용)
+   * @param key 키 (예: demo:pool:postings)
+   */
+  public void addDemoPoolPosting(String key, String jobPostingId) {
+    stringRedisTemplate.opsForSet().add(key, jobPostingId);
+  }
+
+  public Set<String> getDemoPoolPostings(String key) {
+    Set<String> members = stringRedisTemplate.opsForSet().members(key);
+    return members != null ? members : Set.of();
+  }
+
+  public void removeDemoPoolPosting(String key, String jobPostingId) {
+    stringRedisTemplate.opsForSet().remove(key, jobPostingId);
+  }
+
+  /**
+   * 풀 보충 잠금 (여러 인스턴스가 같은 공고의 풀을 동시에 보충하지 않도록)
+   * @param key 키 (예: demo:pool:refill-lock:{jobPostingId})
+   * @param ttlSeconds 잠금 유지 시간 (보충 중 인스턴스가 종료되어도 풀리도록)
+   * @return 잠금 획득 여부
+   */
+  public boolean acquireDemoPoolRefillLock(String key, long ttlSeconds) {
+    Boolean ok = stringRedisTemplate.opsForValue()
+        .setIfAbsent(key, "1", ttlSeconds, TimeUnit.SECONDS);
+    return Boolean.TRUE.equals(ok);
+  }
+
+  public void releaseDemoPoolRefillLock(String key) {
+    stringRedisTemplate.delete(key);
+  }
+
+  // ============================================
+  // 11. TTS 오디오 저장소 (Hash + Sorted Set)
+  // ============================================
+
+  /**
+   * 내용 해시의 대표 TTS 객체 조회 (있으면 마지막 사용 시각 갱신)
+   * @param indexKey 대표 객체 인덱스 키 (예: tts:store)
+   * @param lastUsedKey 마지막 사용 시각 키 (예: tts:store:last-used)
+   * @param contentHash 내용 해시
+   * @param nowMillis 현재 시각 (epoch ms)
+   * @return 대표 객체 S3 key (없으면 null)
+   */
+  public String getTtsObject(String indexKey, String lastUsedKey, String contentHash,
+      long nowMillis) {
+    return stringRedisTemplate.execute(GET_TTS_OBJECT_SCRIPT, List.of(indexKey, lastUsedKey),
+        contentHash, String.valueOf(nowMillis));
+  }
+
+  /**
+   * 대표 TTS 객체 등록 (이미 있으면 기존 대표 객체 유지)
+   * @return 등록 후 대표 객체 S3 key
+   */
+  public String registerTtsObject(String indexKey, String lastUsedKey, String contentHash,
+      String s3Key, long nowMillis) {
+    return stringRedisTemplate.execute(REGISTER_TTS_OBJECT_SCRIPT,
+        List.of(indexKey, lastUsedKey), contentHash, s3Key, String.valueOf(nowMillis));
+  }
+
+  /**
+   * 마지막 사용 시각이 기준 이하인 대표 TTS 객체 제거
+   * @param cutoffMillis 기준 시각 (epoch ms)
+   * @return 제거 여부
+   */
+  public boolean removeStaleTtsObject(String indexKey, String lastUsedKey, String contentHash,
+      long cutoffMillis) {
+    Long result = stringRedisTemplate.execute(REMOVE_STALE_TTS_OBJECT_SCRIPT,
+        List.of(indexKey, lastUsedKey), contentHash, String.valueOf(cutoffMillis));
+    return result != null && result == 1L;
+  }
+
+  /**
+   * 대표 객체 S3 key 조회 (GC용, 마지막 사용 시각을 갱신하지 않음)
+   */
+  public String peekTtsObject(String indexKey, String contentHash) {
+    return stringRedisTemplate.<String, String>opsForHash().get(indexKey, contentHash);
+  }
+
+  /**
+   * 시각 기준 항목 기록/조회/제거 (마지막 사용 시각, 중복 업로드 정리 대상)
+   * @param key 키 (예: tts:store:last-used, tts:store:duplicates)
+   * @param member 항목 (내용 해시 또는 S3 key)
+   * @param epochMillis 시각 (epoch ms)
+   */
+  public void touchTtsEntry(String key, String member, long epochMillis) {
+    stringRedisTemplate.opsForZSet().add(key, member, epochMillis);
+  }
+
+  /**
+   * 기준 시각 이전 항목 조회 (오래된 순)
+   * @param cutoffMillis 기준 시각 (epoch ms)
+   * @param limit 최대 개수
+   */
+  public Set<String> findTtsEntriesBefore(String key, long cutoffMillis, int limit) {
+    Set<String> members = stringRedisTemplate.opsForZSet()
+        .rangeByScore(key, 0, cutoffMillis, 0, limit);
+    return members != null ? members : Set.of();
+  }
+
+  public void removeTtsEntry(String key, String member) {
+    stringRedisTemplate.opsForZSet().remove(key, member);
+  }
+}
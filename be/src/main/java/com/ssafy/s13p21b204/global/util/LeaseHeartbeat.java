@@ -0,0 +1,118 @@
+package com.ssafy.s13p21b204.global.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 선점(lockedUntil) 주기 연장
+ *
+ * 아웃박스/워크플로우처럼 선점 만료 시각을 선점 토큰으로 쓰는 작업이 AI 호출 등으로 오래 걸릴 때,
+ * 진행 중에는 선점을 연장하여 주기 실행이 같은 건을 다시 선점하지 않도록 한다.
+ * 연장/완료 처리는 모두 현재 토큰 조건부 UPDATE이므로, 연장에 실패하면(다른 노드가 선점) 이후 완료 처리도 반영되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LeaseHeartbeat {
+
+  private final TaskScheduler taskScheduler;
+
+  /**
+   * 선점 연장 시작
+   *
+   * @param name 로그용 이름 (예: outbox:1)
+   * @param lease 선점 시 기록한 만료 시각 (선점 토큰)
+   * @param interval 연장 주기 (선점 유지 시간보다 충분히 짧게)
+   * @param renew 현재 토큰으로 연장하고 새 토큰을 반환 (선점을 잃었으면 empty)
+   */
+  public Lease start(String name, LocalDateTime lease, Duration interval,
+      Function<LocalDateTime, Optional<LocalDateTime>> renew) {
+    Lease handle = new Lease(name, lease, renew);
+    handle.future = taskScheduler.scheduleAtFixedRate(handle::renew,
+        Instant.now().plus(interval), interval);
+    return handle;
+  }
+
+  /**
+   * 진행 중인 선점 (close 이후에는 연장이 실행되지 않으므로 current()로 완료 처리)
+   */
+  public static final class Lease implements AutoCloseable {
+
+    private final String name;
+    private final Function<LocalDateTime, Optional<LocalDateTime>> renewer;
+    private LocalDateTime current;
+    private boolean lost;
+    private boolean closed;
+    private ScheduledFuture<?> future;
+
+    private Lease(String name, LocalDateTime current,
+        Function<LocalDateTime, Optional<LocalDateTime>> renewer) {
+      this.name = name;
+      this.current = current;
+      this.renewer = renewer;
+    }
+
+    public synchronized LocalDateTime current() {
+      return current;
+    }
+
+    public synchronized boolean isLost() {
+      return lost;
+    }
+
+    /**
+     * 진행 중인 단계 직전에 바로 연장 (주기 연장과 같은 잠금으로 직렬화)
+     * @return 선점 유지 여부
+     */
+    public synchronized boolean renew() {
+      if (closed) {
+        return !lost;
+      }
+      try {
+        return apply(renewer);
+      } catch (Exception e) {
+        // 일시적인 DB 오류는 다음 주기에 다시 연장 (만료 전까지는 선점 유지)
+        log.warn("[LeaseHeartbeat] 선점 연장 실패 - {}: {}", name, e.getMessage());
+        return !lost;
+      }
+    }
+
+    /**
+     * 현재 토큰 조건부 기록 (체크포인트 등, 주기 연장과 같은 잠금으로 직렬화하여 토큰 경합 방지)
+     * @param write 현재 토큰으로 기록하고 새 토큰을 반환 (선점을 잃었으면 empty)
+     * @return 선점 유지 여부
+     */
+    public synchronized boolean apply(Function<LocalDateTime, Optional<LocalDateTime>> write) {
+      if (lost) {
+        return false;
+      }
+      Optional<LocalDateTime> renewed = write.apply(current);
+      if (renewed.isPresent()) {
+        current = renewed.get();
+      } else {
+        lost = true;
+        log.warn("[LeaseHeartbeat] 선점 상실 - {}", name);
+      }
+      return !lost;
+    }
+
+    /**
+     * 연장 중지 (진행 중인 연장이 끝날 때까지 대기하므로 이후 current()는 바뀌지 않음)
+     */
+    @Override
+    public synchronized void close() {
+      closed = true;
+      if (future != null) {
+        future.cancel(false);
+      }
+    }
+  }
+}
@@ -10,7 +10,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
@@ -194,6 +196,83 @@ public class S3Util {
     }
   }
 
+  /**
+   * S3 객체 크기 조회 (HeadObject 사용)
+   *
+   * @param s3Key 조회할 S3 Key
+   * @return 객체 크기 (바이트)
+   */
+  public long getObjectSize(String s3Key) {
+    return s3Client.headObject(HeadObjectRequest.builder()
+        .bucket(bucketName)
+        .key(s3Key)
+        .build()).contentLength();
+  }
+
+  /**
+   * S3 객체 ETag 조회 (HeadObject 사용, 따옴표 제거)
+   * 단일 업로드(Presigned PUT) 객체는 내용의 MD5이므로 같은 파일 판별에 사용
+   *
+   * @param s3Key 조회할 S3 Key
+   * @return ETag
+   */
+  public String getObjectETag(String s3Key) {
+    String eTag = s3Client.headObject(HeadObjectRequest.builder()
+        .bucket(bucketName)
+        .key(s3Key)
+        .build()).eTag();
+    return eTag != null ? eTag.replace("\"", "") : null;
+  }
+
+  /**
+   * S3 객체 일부 조회 (Range GET)
+   *
+   * @param s3Key 조회할 S3 Key
+   * @param start 시작 오프셋 (포함)
+   * @param endInclusive 끝 오프셋 (포함)
+   * @return 해당 구간의 바이트
+   */
+  public byte[] readRange(String s3Key, long start, long endInclusive) {
+    return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+        .bucket(bucketName)
+        .key(s3Key)
+        .range("bytes=" + start + "-" + endInclusive)
+        .build()).asByteArray();
+  }
+
+  /**
+   * 서버에서 생성한 파일 업로드 (티켓 불필요)
+   *
+   * @param s3Key 저장할 S3 Key
+   * @param content 파일 내용
+   * @param contentType Content-Type (예: "audio/wav")
+   */
+  public void putObject(String s3Key, byte[] content, String contentType) {
+    s3Client.putObject(PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(s3Key)
+            .contentType(contentType)
+            .build(),
+        RequestBody.fromBytes(content));
+    log.debug("[S3Util] 파일 업로드 완료 - s3Key: {}, size: {}", s3Key, content.length);
+  }
+
+  /**
+   * S3 파일 삭제 (실패해도 예외를 던지지 않음)
+   *
+   * @param s3Key 삭제할 S3 Key
+   */
+  public void deleteObject(String s3Key) {
+    try {
+      s3Client.deleteObject(DeleteObjectRequest.builder()
+          .bucket(bucketName)
+          .key(s3Key)
+          .build());
+    } catch (Exception e) {
+      log.warn("[S3Util] S3 파일 삭제 실패 - s3Key: {}, error: {}", s3Key, e.getMessage());
+    }
+  }
+
   /**
    * S3 업로드 정보를 담는 레코드
    *
@@ -0,0 +1,166 @@
+package com.ssafy.s13p21b204.global.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * WAV(RIFF) 헤더 정보
+ *
+ * 긴 녹음 파일을 구간별로 나누어 전사하기 위해 fmt/data 청크만 해석한다.
+ * 오프셋·길이는 모두 바이트 단위이며, 구간 경계는 blockAlign(샘플 프레임) 단위로 맞춘다.
+ *
+ * @param audioFormat 1이면 PCM
+ * @param channels 채널 수
+ * @param sampleRate 샘플링 레이트 (Hz)
+ * @param bitsPerSample 샘플당 비트 수
+ * @param blockAlign 샘플 프레임 크기 (channels * bitsPerSample / 8)
+ * @param dataOffset 파일 내 PCM 데이터 시작 위치
+ * @param dataSize PCM 데이터 길이
+ */
+public record WavHeader(
+    int audioFormat,
+    int channels,
+    int sampleRate,
+    int bitsPerSample,
+    int blockAlign,
+    long dataOffset,
+    long dataSize
+) {
+
+  private static final int PCM = 1;
+  private static final int CANONICAL_HEADER_SIZE = 44;
+
+  // 무음 탐색 프레임 길이 (20ms)
+  private static final int SILENCE_FRAME_MILLIS = 20;
+
+  /**
+   * 파일 앞부분에서 WAV 헤더 해석
+   *
+   * @param head 파일 앞부분 (data 청크 헤더까지 포함해야 함)
+   * @param objectSize 전체 파일 크기 (스트리밍 녹음으로 data 크기가 비어 있는 경우 보정용)
+   * @return 헤더 정보 (WAV가 아니거나 data 청크를 찾지 못하면 empty)
+   */
+  public static Optional<WavHeader> parse(byte[] head, long objectSize) {
+    if (head.length < 12 || !chunkId(head, 0).equals("RIFF") || !chunkId(head, 8).equals("WAVE")) {
+      return Optional.empty();
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(head).order(ByteOrder.LITTLE_ENDIAN);
+    int audioFormat = -1;
+    int channels = 0;
+    int sampleRate = 0;
+    int bitsPerSample = 0;
+    int blockAlign = 0;
+
+    int position = 12;
+    while (position + 8 <= head.length) {
+      String id = chunkId(head, position);
+      long size = Integer.toUnsignedLong(buffer.getInt(position + 4));
+      int body = position + 8;
+
+      if (id.equals("fmt ") && body + 16 <= head.length) {
+        audioFormat = Short.toUnsignedInt(buffer.getShort(body));
+        channels = Short.toUnsignedInt(buffer.getShort(body + 2));
+        sampleRate = buffer.getInt(body + 4);
+        blockAlign = Short.toUnsignedInt(buffer.getShort(body + 12));
+        bitsPerSample = Short.toUnsignedInt(buffer.getShort(body + 14));
+      } else if (id.equals("data")) {
+        if (audioFormat < 0 || blockAlign == 0 || sampleRate <= 0) {
+          return Optional.empty();
+        }
+        // 녹음 중단 등으로 data 크기가 0 또는 최대값으로 남은 경우 실제 파일 크기 기준으로 보정
+        long available = objectSize - body;
+        long dataSize = size == 0 || size > available ? available : size;
+        dataSize -= dataSize % blockAlign;
+        return Optional.of(new WavHeader(audioFormat, channels, sampleRate, bitsPerSample,
+            blockAlign, body, dataSize));
+      }
+
+      // 청크는 2바이트 단위로 패딩됨
+      position = (int) Math.min(Integer.MAX_VALUE, body + size + (size & 1));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * 재생 시간 (초)
+   */
+  public double durationSeconds() {
+    return (double) dataSize / ((long) sampleRate * blockAlign);
+  }
+
+  /**
+   * 주어진 시간에 해당하는 PCM 바이트 수 (샘플 프레임 단위로 내림)
+   */
+  public long bytesFor(long millis) {
+    return alignDown((long) sampleRate * blockAlign * millis / 1000);
+  }
+
+  /**
+   * 샘플 프레임 경계로 내림
+   */
+  public long alignDown(long bytes) {
+    return bytes - bytes % blockAlign;
+  }
+
+  /**
+   * 무음 구간 탐색이 가능한 형식인지 (16비트 PCM)
+   */
+  public boolean isPcm16() {
+    return audioFormat == PCM && bitsPerSample == 16;
+  }
+
+  /**
+   * PCM 구간에서 가장 조용한 20ms 프레임의 시작 위치
+   *
+   * @param pcm 16비트 PCM 구간 (샘플 프레임 경계에서 시작)
+   * @return 구간 내 상대 오프셋 (샘플 프레임 경계)
+   */
+  public int quietestFrameOffset(byte[] pcm) {
+    int frameBytes = (int) Math.max(blockAlign, bytesFor(SILENCE_FRAME_MILLIS));
+    ByteBuffer buffer = ByteBuffer.wrap(pcm).order(ByteOrder.LITTLE_ENDIAN);
+
+    int quietestOffset = 0;
+    long minEnergy = Long.MAX_VALUE;
+    for (int frame = 0; frame + frameBytes <= pcm.length; frame += frameBytes) {
+      long energy = 0;
+      for (int i = frame; i + 1 < frame + frameBytes; i += 2) {
+        energy += Math.abs(buffer.getShort(i));
+      }
+      if (energy < minEnergy) {
+        minEnergy = energy;
+        quietestOffset = frame;
+      }
+    }
+    return quietestOffset;
+  }
+
+  /**
+   * 같은 형식의 독립 WAV 파일 헤더 (44바이트)
+   *
+   * @param pcmLength 뒤에 붙일 PCM 데이터 길이
+   */
+  public byte[] segmentHeader(int pcmLength) {
+    ByteBuffer buffer = ByteBuffer.allocate(CANONICAL_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+    buffer.putInt(CANONICAL_HEADER_SIZE - 8 + pcmLength);
+    buffer.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+    buffer.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+    buffer.putInt(16);
+    buffer.putShort((short) audioFormat);
+    buffer.putShort((short) channels);
+    buffer.putInt(sampleRate);
+    buffer.putInt(sampleRate * blockAlign);
+    buffer.putShort((short) blockAlign);
+    buffer.putShort((short) bitsPerSample);
+    buffer.put("data".getBytes(StandardCharsets.US_ASCII));
+    buffer.putInt(pcmLength);
+    return buffer.array();
+  }
+
+  private static String chunkId(byte[] bytes, int offset) {
+    return new String(bytes, offset, 4, StandardCharsets.US_ASCII);
+  }
+}
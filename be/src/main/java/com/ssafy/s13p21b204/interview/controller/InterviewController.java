@@ -14,8 +14,11 @@ import com.ssafy.s13p21b204.interview.dto.InterviewQuestionResponseDto;
 import com.ssafy.s13p21b204.interview.dto.InterviewReplyRequestDto;
 import com.ssafy.s13p21b204.interview.dto.InterviewRequestDto;
 import com.ssafy.s13p21b204.interview.dto.InterviewResponseDto;
+import com.ssafy.s13p21b204.interview.dto.RelatedQuestionJobResponseDto;
 import com.ssafy.s13p21b204.interview.dto.RelatedQuestionResponseDto;
 import com.ssafy.s13p21b204.interview.service.InterviewService;
+import com.ssafy.s13p21b204.interview.service.ReactiveInterviewService;
+import com.ssafy.s13p21b204.interview.service.RelatedQuestionSubscriptionService;
 import com.ssafy.s13p21b204.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,10 +28,14 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -39,6 +46,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Mono;
 
 @Tag(name = "인터뷰", description = "인터뷰 진행 API")
 @RestController
@@ -48,6 +57,12 @@ public class InterviewController {
 
   private final InterviewService interviewService;
   private final AiClient aiClient;
+  private final RelatedQuestionSubscriptionService relatedQuestionSubscriptionService;
+  private final ReactiveInterviewService reactiveInterviewService;
+
+  // true: /related, /reply, /end를 리액티브 흐름으로 처리 (false: 기존 블로킹 흐름, 비교용)
+  @Value("${interview.reactive.enabled:false}")
+  private boolean reactiveEnabled;
 
 
   @Operation(
@@ -105,7 +120,7 @@ public class InterviewController {
 
   @Operation(
       summary = "인터뷰 답변 등록(꼬리 질문 on)",
-      description = "질문에 대한 유저의 답변(음성파일)을 등록하고, 꼬리질문을 반환합니다. Redis 티켓 검증 후 STT 변환을 수행하고, AI가 꼬리질문을 생성합니다."
+      description = "질문에 대한 유저의 답변(음성파일)을 등록하고, 꼬리질문을 반환합니다. Redis 티켓 검증 후 STT 변환을 수행하고, AI가 꼬리질문을 생성합니다. AI 응답까지 요청이 대기하므로 동시 세션이 많을 때는 /related/async 사용을 권장합니다."
   )
   @ApiResponses({
       @ApiResponse(
@@ -171,15 +186,164 @@ public class InterviewController {
       )
   })
   @PostMapping("/related")
-  public ResponseEntity<ApiResult<RelatedQuestionResponseDto>> replyQuestion(
+  public Mono<ResponseEntity<ApiResult<RelatedQuestionResponseDto>>> replyQuestion(
       @AuthenticationPrincipal UserPrincipal userPrincipal,
       @Valid @RequestBody InterviewReplyRequestDto interviewReplyRequestDto
   ) {
-    return ResponseEntity.ok(ApiResult.success(
-        interviewService.registerReplyWithRelatedQuestion(userPrincipal.getUserId(),
+    if (!reactiveEnabled) {
+      return Mono.just(ResponseEntity.ok(ApiResult.success(
+          interviewService.registerReplyWithRelatedQuestion(userPrincipal.getUserId(),
+              interviewReplyRequestDto))));
+    }
+    return reactiveInterviewService
+        .registerReplyWithRelatedQuestion(userPrincipal.getUserId(), interviewReplyRequestDto)
+        .map(response -> ResponseEntity.ok(ApiResult.success(response)));
+  }
+
+  @Operation(
+      summary = "인터뷰 답변 접수(꼬리 질문 on, 비동기)",
+      description = "질문에 대한 유저의 답변(음성파일)을 접수하고 꼬리질문 생성 작업 ID를 즉시 반환합니다(202). "
+          + "STT 변환과 꼬리질문 생성은 백그라운드에서 수행되며, 결과는 "
+          + "/related/jobs/{jobId}/subscribe (SSE) 또는 /related/jobs/{jobId} 조회로 전달됩니다."
+  )
+  @ApiResponses({
+      @ApiResponse(
+          responseCode = "202",
+          description = "답변 접수 성공 (꼬리질문 생성 대기)",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": true, \"data\": {\"jobId\": \"3f2b8c1e-6a7d-4e59-9c1a-2b7f0d4e8a61\", \"interviewId\": 1, \"status\": \"PENDING\"}}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = """
+              • 질문 ID는 필수입니다.
+              • 질문 ID는 양수여야 합니다.
+              • S3 키는 필수입니다.
+              """,
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"S3 키는 필수입니다.\"}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "403",
+          description = "접근 권한이 없습니다.",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"접근 권한이 없습니다.\"}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "404",
+          description = """
+              • 면접 질문이 없습니다.
+              • 면접이 없습니다.
+              """,
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"면접 질문이 없습니다.\"}"
+              )
+          )
+      )
+  })
+  @PostMapping("/related/async")
+  public ResponseEntity<ApiResult<RelatedQuestionJobResponseDto>> acceptReplyQuestion(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Valid @RequestBody InterviewReplyRequestDto interviewReplyRequestDto
+  ) {
+    return ResponseEntity.accepted().body(ApiResult.success(
+        interviewService.acceptReplyWithRelatedQuestion(userPrincipal.getUserId(),
             interviewReplyRequestDto)));
   }
 
+  @Operation(
+      summary = "꼬리질문 생성 결과 구독 (SSE)",
+      description = "꼬리질문 생성 작업이 끝나면 related-question 이벤트로 결과(꼬리질문 Presigned URL 포함)를 한 번 전송하고 연결을 종료합니다. "
+          + "이미 끝난 작업이면 즉시 전송합니다."
+  )
+  @ApiResponses({
+      @ApiResponse(
+          responseCode = "200",
+          description = "구독 성공 (text/event-stream)",
+          content = @Content(
+              mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+              examples = @ExampleObject(
+                  value = """
+                      event:related-question
+                      data:{"jobId":"3f2b8c1e-6a7d-4e59-9c1a-2b7f0d4e8a61","interviewId":1,"status":"DONE","relatedQuestion":{"questionId":6,"preSignedUrl":"https://...","content":"그 경험을 통해 무엇을 배우셨나요?","difficult":"STRICT"}}
+                      """
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "403",
+          description = "접근 권한이 없습니다.",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"접근 권한이 없습니다.\"}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "404",
+          description = "꼬리질문 생성 작업을 찾을 수 없습니다.",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"꼬리질문 생성 작업을 찾을 수 없습니다.\"}"
+              )
+          )
+      )
+  })
+  @GetMapping(value = "/related/jobs/{jobId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeRelatedQuestion(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Parameter(description = "꼬리질문 생성 작업 ID", required = true)
+      @PathVariable String jobId,
+      HttpServletResponse response) {
+    // 프록시(Nginx) 버퍼링으로 이벤트가 지연되지 않도록 설정
+    response.setHeader("X-Accel-Buffering", "no");
+    return relatedQuestionSubscriptionService.subscribe(userPrincipal.getUserId(), jobId);
+  }
+
+  @Operation(
+      summary = "꼬리질문 생성 작업 조회",
+      description = "SSE를 사용할 수 없는 환경을 위한 조회 API입니다. DONE 상태이면 꼬리질문 정보가 함께 반환됩니다."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "조회 성공"),
+      @ApiResponse(
+          responseCode = "403",
+          description = "접근 권한이 없습니다.",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"접근 권한이 없습니다.\"}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "404",
+          description = "꼬리질문 생성 작업을 찾을 수 없습니다.",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"꼬리질문 생성 작업을 찾을 수 없습니다.\"}"
+              )
+          )
+      )
+  })
+  @GetMapping("/related/jobs/{jobId}")
+  public ResponseEntity<ApiResult<RelatedQuestionJobResponseDto>> getRelatedQuestionJob(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Parameter(description = "꼬리질문 생성 작업 ID", required = true)
+      @PathVariable String jobId) {
+    return ResponseEntity.ok(ApiResult.success(
+        relatedQuestionSubscriptionService.getJob(userPrincipal.getUserId(), jobId)));
+  }
+
   @Operation(
       summary = "인터뷰 답변 등록(꼬리 질문 off)",
       description = "질문에 대한 유저의 답변(음성파일)을 등록합니다. Redis 티켓 검증 후 STT 변환을 수행하여 답변을 저장합니다. 꼬리질문은 생성되지 않습니다."
@@ -248,11 +412,16 @@ public class InterviewController {
       )
   })
   @PostMapping("/reply")
-  public ResponseEntity<ApiResult<Void>> replyRegister(
+  public Mono<ResponseEntity<ApiResult<Void>>> replyRegister(
       @AuthenticationPrincipal UserPrincipal userPrincipal,
       @Valid @RequestBody InterviewReplyRequestDto interviewReplyRequestDto) {
-    interviewService.registerReply(userPrincipal.getUserId(), interviewReplyRequestDto);
-    return ResponseEntity.ok(ApiResult.success(null));
+    if (!reactiveEnabled) {
+      interviewService.registerReply(userPrincipal.getUserId(), interviewReplyRequestDto);
+      return Mono.just(ResponseEntity.ok(ApiResult.success(null)));
+    }
+    return reactiveInterviewService
+        .registerReply(userPrincipal.getUserId(), interviewReplyRequestDto)
+        .then(Mono.fromSupplier(() -> ResponseEntity.ok(ApiResult.<Void>success(null))));
   }
 
   @Operation(
@@ -299,9 +468,80 @@ public class InterviewController {
     S3UploadInfo uploadInfo = interviewService.generateInterviewAudioUploadUrl(fileName);
     return ResponseEntity.ok(ApiResult.success(uploadInfo));
   }
+
+  @Operation(
+      summary = "인터뷰 오디오 파일 업로드 완료 알림",
+      description = "Presigned URL로 답변 오디오 업로드를 마친 직후 호출합니다. "
+          + "답변 등록(/reply) 요청을 기다리지 않고 STT 변환을 미리 시작하며(202), "
+          + "이후 /reply 요청은 미리 변환된 결과를 사용합니다. 호출하지 않아도 /reply는 기존과 같이 동작합니다. "
+          + "본인의 진행 중인(IN_PROGRESS) 면접 질문에 대한 답변만 접수합니다."
+  )
+  @ApiResponses({
+      @ApiResponse(
+          responseCode = "202",
+          description = "STT 선행 변환 접수"
+      ),
+      @ApiResponse(
+          responseCode = "401",
+          description = """
+              • 유효하지 않거나 만료된 파일 업로드 티켓입니다.
+              """,
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"유효하지 않거나 만료된 파일 업로드 티켓입니다.\"}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "403",
+          description = "접근 권한이 없습니다.",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"접근 권한이 없습니다.\"}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "404",
+          description = """
+              • 해당 질문을 찾을 수 없습니다.
+              • 면접이 없습니다.
+              """,
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"해당 질문을 찾을 수 없습니다.\"}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "409",
+          description = "면접이 진행 중인 상태가 아닙니다.",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"면접이 진행 중인 상태가 아닙니다.\"}"
+              )
+          )
+      )
+  })
+  @PostMapping("/presigned-url/uploaded")
+  public ResponseEntity<ApiResult<Void>> notifyAudioUploaded(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Parameter(description = "답변 대상 질문 ID", example = "1")
+      @RequestParam
+      @Positive(message = "질문 ID는 양수여야 합니다.")
+      Long questionId,
+      @Parameter(description = "업로드 완료된 파일의 S3 키", example = "interviews/audio/uuid_interview-audio.wav")
+      @RequestParam
+      @NotBlank(message = "S3 키는 필수입니다.")
+      String s3Key) {
+
+    interviewService.notifyReplyUploaded(userPrincipal.getUserId(),
+        new InterviewReplyRequestDto(questionId, s3Key));
+    return ResponseEntity.accepted().body(ApiResult.success(null));
+  }
   @Operation(
       summary = "면접 종료 및 리포트 생성",
-      description = "면접을 종료하고 AI 서버에서 리포트를 생성합니다. interviewId를 기반으로 JD, 자소서, QNA 히스토리를 조회하고, FastAPI에 요청하여 리포트를 생성합니다. 면접 상태가 IN_PROGRESS일 때만 종료 가능합니다. S3 키 리스트를 받아서 Redis 티켓 검증 후 presigned URL로 변환하여 FastAPI에 전달합니다."
+      description = "면접을 종료하고 리포트 생성을 요청합니다. interviewId를 기반으로 JD, 자소서, QNA 히스토리를 조회하여 면접 종료와 함께 저장하며, FastAPI 리포트 생성 요청은 응답 이후 백그라운드에서 수행됩니다(실패 시 재시도). 면접 상태가 IN_PROGRESS일 때만 종료 가능합니다. 리포트 생성 결과는 /api/report/interview/{interviewId}/subscribe (SSE)로 받을 수 있습니다."
   )
   @ApiResponses({
       @ApiResponse(
@@ -360,27 +600,20 @@ public class InterviewController {
                   value = "{\"success\": false, \"message\": \"면접이 없습니다.\"}"
               )
           )
-      ),
-      @ApiResponse(
-          responseCode = "502",
-          description = """
-              • AI 서비스 호출에 실패했습니다.
-              • AI 서비스 응답 시간이 초과되었습니다.
-              """,
-          content = @Content(
-              examples = @ExampleObject(
-                  value = "{\"success\": false, \"message\": \"AI 서비스 호출에 실패했습니다.\"}"
-              )
-          )
       )
   })
   @PostMapping("/end")
-  public ResponseEntity<ApiResult<Void>> endInterview(
+  public Mono<ResponseEntity<ApiResult<Void>>> endInterview(
       @AuthenticationPrincipal UserPrincipal userPrincipal,
       @Valid @RequestBody InterviewEndRequestDto interviewEndRequestDto
   ) {
-    interviewService.endInterview(userPrincipal.getUserId(), interviewEndRequestDto);
-    return ResponseEntity.ok(ApiResult.success(null));
+    if (!reactiveEnabled) {
+      interviewService.endInterview(userPrincipal.getUserId(), interviewEndRequestDto);
+      return Mono.just(ResponseEntity.ok(ApiResult.success(null)));
+    }
+    return reactiveInterviewService
+        .endInterview(userPrincipal.getUserId(), interviewEndRequestDto)
+        .then(Mono.fromSupplier(() -> ResponseEntity.ok(ApiResult.<Void>success(null))));
   }
 
   @Operation(
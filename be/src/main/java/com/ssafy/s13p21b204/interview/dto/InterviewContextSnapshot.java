@@ -0,0 +1,51 @@
+package com.ssafy.s13p21b204.interview.dto;
+
+import com.ssafy.s13p21b204.global.fastapi.dto.AiResumeQAItem;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 면접 컨텍스트 스냅샷 (자소서 Q&A + JD + 대질문별 답변)
+ * 꼬리질문 생성, 면접 종료 시 FastAPI 입력 구성에 사용
+ *
+ * @param userId 면접 소유자 ID (시연용 면접은 null)
+ * @param resume 자소서 Q&A
+ * @param jdS3Key JD(우대사항) 파일 S3 키 (없으면 null)
+ * @param qna 대질문 순서대로의 질문-답변 (답변 전이면 빈 문자열)
+ */
+public record InterviewContextSnapshot(
+    Long userId,
+    List<AiResumeQAItem> resume,
+    String jdS3Key,
+    List<QnaItem> qna
+) {
+
+  public record QnaItem(
+      Long questionId,
+      String question,
+      String answer
+  ) {
+
+  }
+
+  /**
+   * FastAPI qna_history 형식으로 변환
+   *
+   * @param excludeQuestionId 제외할 질문 ID (현재 답변 중인 질문, 없으면 null)
+   */
+  public List<Map<String, String>> qnaHistory(Long excludeQuestionId) {
+    List<Map<String, String>> qnaHistory = new ArrayList<>();
+    for (QnaItem item : qna) {
+      if (item.questionId().equals(excludeQuestionId)) {
+        continue;
+      }
+      Map<String, String> qaPair = new HashMap<>();
+      qaPair.put("question", item.question());
+      qaPair.put("answer", item.answer());
+      qnaHistory.add(qaPair);
+    }
+    return qnaHistory;
+  }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.s13p21b204.interview.dto;
+
+import com.ssafy.s13p21b204.global.fastapi.dto.AiResumeQAItem;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 면접 종료 아웃박스에 JSON으로 저장하는 FastAPI end 입력 (Presigned URL 제외)
+ */
+public record InterviewEndOutboxPayload(
+    List<AiResumeQAItem> resume,
+    List<Map<String, String>> qnaHistory
+) {
+
+}
@@ -0,0 +1,25 @@
+package com.ssafy.s13p21b204.interview.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 면접 질문 + 부모 질문 ID + 답변을 한 번에 조회한 결과 (한 행 = 질문 하나)
+ *
+ * @param questionId 질문 ID
+ * @param parentQuestionId 부모 질문 ID (대질문이면 null)
+ * @param question 질문 내용
+ * @param answer 답변 내용 (답변 전이면 null)
+ * @param createdAt 질문 생성 시각
+ */
+public record InterviewQnaRow(
+    Long questionId,
+    Long parentQuestionId,
+    String question,
+    String answer,
+    LocalDateTime createdAt
+) {
+
+  public boolean isParentQuestion() {
+    return parentQuestionId == null;
+  }
+}
@@ -0,0 +1,21 @@
+package com.ssafy.s13p21b204.interview.dto;
+
+import com.ssafy.s13p21b204.jobPosting.entity.JobPosting.Part;
+import java.time.LocalDateTime;
+
+/**
+ * 리포트 목록용 면접 요약 (일반 면접 + 시연용 면접, 한 행 = 면접 하나)
+ *
+ * @param interviewId 면접 ID
+ * @param companyName 회사명 (일반 면접은 채용공고의 회사, 시연용 면접은 companyId의 회사, 찾지 못하면 null)
+ * @param part 직무 (시연용 면접이면 null)
+ * @param createdAt 면접 생성 시각
+ */
+public record InterviewReportRow(
+    Long interviewId,
+    String companyName,
+    Part part,
+    LocalDateTime createdAt
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.ssafy.s13p21b204.interview.dto;
+
+import com.ssafy.s13p21b204.global.fastapi.dto.AiInterviewInput;
+
+/**
+ * 꼬리질문 생성 요청 준비 결과 (트랜잭션 밖에서 FastAPI answer 호출 시 사용)
+ */
+public record RelatedQuestionAiRequest(
+    Long parentQuestionId,
+    AiInterviewInput aiInput,
+    String ttsS3Key
+) {
+
+}
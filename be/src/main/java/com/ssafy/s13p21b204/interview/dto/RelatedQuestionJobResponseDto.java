@@ -0,0 +1,33 @@
+package com.ssafy.s13p21b204.interview.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ssafy.s13p21b204.interview.entity.RelatedQuestionJob;
+import com.ssafy.s13p21b204.interview.entity.RelatedQuestionJob.JobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "꼬리질문 생성 작업 응답 DTO")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RelatedQuestionJobResponseDto(
+    @Schema(description = "꼬리질문 생성 작업 ID", example = "3f2b8c1e-6a7d-4e59-9c1a-2b7f0d4e8a61")
+    String jobId,
+
+    @Schema(description = "면접 ID", example = "1")
+    Long interviewId,
+
+    @Schema(description = "작업 상태 (PENDING, DONE, FAILED)", example = "DONE")
+    JobStatus status,
+
+    @Schema(description = "생성된 꼬리질문 (DONE 상태일 때만 포함)")
+    RelatedQuestionResponseDto relatedQuestion
+) {
+
+  public static RelatedQuestionJobResponseDto of(RelatedQuestionJob job,
+      RelatedQuestionResponseDto relatedQuestion) {
+    return new RelatedQuestionJobResponseDto(
+        job.getJobId(),
+        job.getInterviewId(),
+        job.getStatus(),
+        relatedQuestion
+    );
+  }
+}
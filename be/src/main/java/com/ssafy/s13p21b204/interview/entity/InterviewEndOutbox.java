@@ -0,0 +1,98 @@
+package com.ssafy.s13p21b204.interview.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 면접 종료 아웃박스
+ * interview.complete()와 같은 트랜잭션에서 저장되고, 릴레이가 커밋 이후 FastAPI end 호출을 수행한다.
+ * Presigned URL은 만료되므로 S3 key만 보관하고 전송 시점에 URL을 발급한다.
+ */
+@Entity
+@Table(name = "interview_end_outbox",
+    indexes = @Index(name = "idx_interview_end_outbox_dispatch", columnList = "status, nextAttemptAt"))
+@Getter
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class InterviewEndOutbox {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long outboxId;
+
+  @Column(nullable = false)
+  private Long interviewId;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  // JD 파일 S3 key (없으면 null)
+  private String jdS3Key;
+
+  // 면접 전체 녹음 S3 key
+  @Column(nullable = false)
+  private String preflightS3Key;
+
+  // 자소서 Q&A, qna_history (JSON)
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  @Builder.Default
+  private OutboxStatus status = OutboxStatus.PENDING;
+
+  @Builder.Default
+  private int attempts = 0;
+
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  // 릴레이 선점 만료 시각 (노드가 죽어도 만료 후 다른 노드가 이어받음)
+  private LocalDateTime lockedUntil;
+
+  @Column(length = 500)
+  private String lastError;
+
+  @CreatedDate
+  private LocalDateTime createdAt;
+
+  @LastModifiedDate
+  private LocalDateTime updatedAt;
+
+  /**
+   * 오류 메시지를 컬럼 길이에 맞게 자름
+   */
+  public static String truncateError(String error) {
+    if (error == null) {
+      return null;
+    }
+    return error.length() > 500 ? error.substring(0, 500) : error;
+  }
+
+  public enum OutboxStatus {
+    PENDING, // 전송 대기 (재시도 대기 포함)
+    DISPATCHED, // FastAPI end 호출 성공
+    FAILED // 최대 재시도 초과
+  }
+
+}
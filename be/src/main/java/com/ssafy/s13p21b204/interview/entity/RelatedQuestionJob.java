@@ -0,0 +1,86 @@
+package com.ssafy.s13p21b204.interview.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 꼬리질문 생성 작업
+ * 답변 접수 시점에 PENDING으로 저장되고, AI 호출이 끝나면 DONE(꼬리질문 ID 기록) 또는 FAILED로 바뀐다.
+ */
+@Entity
+@Table(name = "related_question_jobs")
+@Getter
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class RelatedQuestionJob {
+
+  @Id
+  @Column(length = 36)
+  private String jobId;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  @Column(nullable = false)
+  private Long interviewId;
+
+  @Column(nullable = false)
+  private Long parentQuestionId;
+
+  // 사용자가 업로드한 답변 오디오
+  @Column(nullable = false)
+  private String s3Key;
+
+  // AI가 생성할 꼬리질문 TTS 파일 위치
+  @Column(nullable = false)
+  private String ttsS3Key;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  @Builder.Default
+  private JobStatus status = JobStatus.PENDING;
+
+  private Long childQuestionId;
+
+  @CreatedDate
+  private LocalDateTime createdAt;
+
+  @LastModifiedDate
+  private LocalDateTime updatedAt;
+
+  public void complete(Long childQuestionId) {
+    this.status = JobStatus.DONE;
+    this.childQuestionId = childQuestionId;
+  }
+
+  public void fail() {
+    this.status = JobStatus.FAILED;
+  }
+
+  public boolean isPending() {
+    return status == JobStatus.PENDING;
+  }
+
+  public enum JobStatus {
+    PENDING, // AI 꼬리질문 생성 대기 중
+    DONE, // 꼬리질문 생성 완료
+    FAILED // 꼬리질문 생성 실패
+  }
+
+}
@@ -0,0 +1,12 @@
+package com.ssafy.s13p21b204.interview.event;
+
+/**
+ * 면접 종료(COMPLETED) 저장 이벤트
+ * 커밋 후 리포트(CREATING) 생성, 워치 종료 푸시, 면접 컨텍스트 스냅샷 삭제
+ */
+public record InterviewCompletedEvent(
+    Long interviewId,
+    Long userId
+) {
+
+}
@@ -0,0 +1,45 @@
+package com.ssafy.s13p21b204.interview.event;
+
+import com.ssafy.s13p21b204.notification.service.FirebasePushService;
+import com.ssafy.s13p21b204.report.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewCompletedEventListener {
+
+    private final ReportService reportService;
+    private final FirebasePushService firebasePushService;
+
+    /**
+     * 면접 종료 커밋 후 리포트(CREATING) 생성 및 워치 종료 푸시
+     * 종료 트랜잭션이 롤백되면 리포트나 푸시가 남지 않도록 커밋 이후에 수행하며,
+     * 응답 전에 리포트가 생성되도록 요청 스레드에서 처리
+     * (리포트 생성이 실패해도 아웃박스 릴레이가 FastAPI 호출 전에 다시 생성)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleInterviewCompleted(InterviewCompletedEvent event) {
+        try {
+            reportService.createReport(event.interviewId());
+            log.info("[InterviewCompletedEventListener] 리포트 생성 완료 (CREATING 상태) - interviewId={}",
+                event.interviewId());
+        } catch (Exception e) {
+            log.warn("[InterviewCompletedEventListener] 리포트 생성 실패 - 릴레이가 이어서 생성 (interviewId={}, error={})",
+                event.interviewId(), e.getMessage());
+        }
+
+        try {
+            firebasePushService.sendStopRequest(event.userId(), event.interviewId());
+            log.info("[InterviewCompletedEventListener] 건강데이터 종료 푸시 전송 완료 - interviewId={}, userId={}",
+                event.interviewId(), event.userId());
+        } catch (Exception e) {
+            log.warn("[InterviewCompletedEventListener] 건강데이터 종료 푸시 전송 실패 - interviewId={}, userId={}, err={}",
+                event.interviewId(), event.userId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ssafy.s13p21b204.interview.event;
+
+import com.ssafy.s13p21b204.interview.service.InterviewContextService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class InterviewContextEventListener {
+
+    private final InterviewContextService interviewContextService;
+
+    /**
+     * 답변 저장 커밋 후 면접 컨텍스트 스냅샷에 질문-답변 추가
+     * (커밋 전에 추가하면 롤백된 답변이 스냅샷에 남을 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReplySaved(InterviewReplySavedEvent event) {
+        interviewContextService.appendAnswer(event.interviewId(), event.questionId(), event.answer());
+    }
+
+    /**
+     * 면접 종료 커밋 후 컨텍스트 스냅샷 삭제 (이후 FastAPI 입력은 아웃박스 페이로드 사용)
+     * (커밋 전에 삭제하면 종료가 롤백되어도 스냅샷이 사라짐)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleInterviewCompleted(InterviewCompletedEvent event) {
+        interviewContextService.evict(event.interviewId());
+    }
+}
@@ -0,0 +1,155 @@
+package com.ssafy.s13p21b204.interview.event;
+
+import com.ssafy.s13p21b204.global.fastapi.AiClient;
+import com.ssafy.s13p21b204.global.fastapi.dto.AiEndInterviewInput;
+import com.ssafy.s13p21b204.global.fastapi.dto.AiEndInterviewResponse;
+import com.ssafy.s13p21b204.global.util.LeaseHeartbeat;
+import com.ssafy.s13p21b204.interview.service.ChunkedTranscriptionService;
+import com.ssafy.s13p21b204.interview.service.InterviewEndOutboxService;
+import com.ssafy.s13p21b204.interview.service.InterviewEndOutboxService.InterviewEndRequest;
+import com.ssafy.s13p21b204.report.service.ReportService;
+import com.ssafy.s13p21b204.report.service.ReportSubscriptionService;
+import com.ssafy.s13p21b204.resume.event.InterviewStatusService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 면접 종료 아웃박스 릴레이
+ * 커밋 직후 이벤트로 즉시 전송을 시도하고, 누락되거나 재시도가 예약된 건은 주기적으로 다시 전송한다.
+ * 선점(claim)은 조건부 UPDATE로 수행하므로 여러 노드에서 동시에 실행해도 같은 건을 중복 전송하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewEndOutboxRelay {
+
+    private final InterviewEndOutboxService interviewEndOutboxService;
+    private final AiClient aiClient;
+    private final ChunkedTranscriptionService chunkedTranscriptionService;
+    private final InterviewStatusService interviewStatusService;
+    private final ReportService reportService;
+    private final ReportSubscriptionService reportSubscriptionService;
+    private final Executor reportUpdateExecutor;
+    private final LeaseHeartbeat leaseHeartbeat;
+
+    @Value("${interview.outbox.batch-size:20}")
+    private int batchSize;
+
+    /**
+     * 아웃박스 저장 트랜잭션 커밋 후 즉시 전송 (실행기 포화로 거절되면 주기 전송이 이어받음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async("reportUpdateExecutor")
+    public void handleOutboxSaved(InterviewEndOutboxSavedEvent event) {
+        dispatch(event.outboxId());
+    }
+
+    /**
+     * 미전송/재시도 대상 아웃박스 주기 전송 (재기동 이전에 저장된 건 포함)
+     */
+    @Scheduled(fixedDelayString = "${interview.outbox.poll-interval-ms:5000}",
+        initialDelayString = "${interview.outbox.initial-delay-ms:10000}")
+    public void relayPending() {
+        List<Long> outboxIds = interviewEndOutboxService.findDispatchableIds(batchSize);
+        if (outboxIds.isEmpty()) {
+            return;
+        }
+        log.info("[InterviewEndOutboxRelay] 미전송 아웃박스 처리 시작 - {}건", outboxIds.size());
+        // 스케줄러 스레드를 점유하지 않도록 리포트 업데이트 실행기에서 전송
+        for (Long outboxId : outboxIds) {
+            try {
+                reportUpdateExecutor.execute(() -> dispatch(outboxId));
+            } catch (TaskRejectedException e) {
+                log.warn("[InterviewEndOutboxRelay] 실행기 포화 - 남은 아웃박스는 다음 주기에 전송");
+                return;
+            }
+        }
+    }
+
+    private void dispatch(Long outboxId) {
+        Optional<LocalDateTime> claimed = interviewEndOutboxService.claim(outboxId);
+        if (claimed.isEmpty()) {
+            log.info("[InterviewEndOutboxRelay] 이미 선점/처리된 아웃박스 - outboxId={}", outboxId);
+            return;
+        }
+
+        // 구간 전사 + FastAPI end(재시도 포함)가 선점 유지 시간을 넘겨도 다시 선점되지 않도록 진행 중 연장
+        LeaseHeartbeat.Lease lease = leaseHeartbeat.start("outbox:" + outboxId, claimed.get(),
+            interviewEndOutboxService.leaseRenewInterval(),
+            current -> interviewEndOutboxService.renewLease(outboxId, current));
+        try {
+            Optional<InterviewEndRequest> request = interviewEndOutboxService.loadRequest(outboxId);
+            if (request.isEmpty()) {
+                log.warn("[InterviewEndOutboxRelay] 아웃박스 없음 - outboxId={}", outboxId);
+                return;
+            }
+
+            // 종료 커밋 후 리포트 생성이 실패했거나 아직 끝나지 않았어도 결과를 반영할 리포트가 있도록 보장 (이미 있으면 생략)
+            reportService.createReport(request.get().interviewId());
+
+            // 긴 녹음은 구간별로 병렬 전사하여 함께 전달 (실패 시 FastAPI가 원본을 직접 전사)
+            AiEndInterviewInput input = request.get().input();
+            chunkedTranscriptionService.transcribe(request.get().preflightS3Key())
+                .ifPresent(input::setPreflightTranscript);
+
+            // 트랜잭션 밖에서 FastAPI end 호출
+            AiEndInterviewResponse response = aiClient.endInterview(input);
+            log.info("[InterviewEndOutboxRelay] FastAPI end 응답 수신 - interviewId={}, status={}",
+                request.get().interviewId(), response.getStatus());
+
+            lease.close();
+            interviewEndOutboxService.markDispatched(outboxId, lease.current(), response);
+        } catch (Exception e) {
+            log.error("[InterviewEndOutboxRelay] FastAPI end 전송 실패 - outboxId={}, error={}",
+                outboxId, e.getMessage(), e);
+            lease.close();
+            handleFailure(outboxId, lease.current(), e);
+        } finally {
+            lease.close();
+        }
+    }
+
+    private void handleFailure(Long outboxId, LocalDateTime lease, Exception cause) {
+        Optional<Long> exhausted;
+        try {
+            exhausted = interviewEndOutboxService.markAttemptFailed(outboxId, lease,
+                cause.getMessage());
+        } catch (Exception e) {
+            // 기록 실패 시 선점이 만료된 뒤 주기 릴레이가 다시 시도
+            log.error("[InterviewEndOutboxRelay] 실패 기록 실패 - outboxId={}, error={}",
+                outboxId, e.getMessage(), e);
+            return;
+        }
+        if (exhausted.isEmpty()) {
+            return;
+        }
+        Long interviewId = exhausted.get();
+
+        // 최대 재시도 초과: 인터뷰와 리포트를 FAILED로 변경하고 구독자에게 알림
+        try {
+            interviewStatusService.markFailed(interviewId);
+            reportService.markReportAsFailed(interviewId);
+            log.info("[InterviewEndOutboxRelay] 인터뷰 및 리포트 실패 처리 완료 - interviewId={}", interviewId);
+        } catch (Exception e) {
+            log.error("[InterviewEndOutboxRelay] 상태 변경 실패 처리 중 오류 발생 - interviewId={}, error={}",
+                interviewId, e.getMessage(), e);
+        }
+        try {
+            reportSubscriptionService.notifyReportStatus(interviewId);
+        } catch (Exception e) {
+            log.error("[InterviewEndOutboxRelay] 리포트 상태 알림 실패 - interviewId={}, error={}",
+                interviewId, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.ssafy.s13p21b204.interview.event;
+
+public record InterviewEndOutboxSavedEvent(
+    Long outboxId
+) {}
@@ -2,9 +2,9 @@ package com.ssafy.s13p21b204.interview.event;
 
 import com.ssafy.s13p21b204.interview.dto.InterviewEndResponseDto;
 import com.ssafy.s13p21b204.report.service.ReportService;
+import com.ssafy.s13p21b204.report.service.ReportSubscriptionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -15,13 +15,16 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class InterviewEndedEventListener {
 
     private final ReportService reportService;
+    private final ReportSubscriptionService reportSubscriptionService;
 
     /**
      * 면접 종료 이벤트 처리
-     * 트랜잭션 커밋 후 비동기로 리포트 업데이트
+     * 트랜잭션 커밋 후 리포트 업데이트
+     * 발행 주체가 아웃박스 릴레이(reportUpdateExecutor 스레드)이므로 별도 실행기를 거치지 않고 같은 스레드에서 처리
+     * (다른 실행기로 넘기면 거절 시 FastAPI 결과가 유실됨)
+     * 성공/실패와 관계없이 리포트 상태 구독자(SSE)에게 결과를 알림
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Async("interviewWorkflowExecutor")
     public void handleInterviewEnded(InterviewEndedEvent event) {
         log.info("[InterviewEndedEventListener] 면접 종료 이벤트 처리 시작 - interviewId={}", 
             event.interviewId());
@@ -33,6 +36,20 @@ public class InterviewEndedEventListener {
         } catch (Exception e) {
             log.error("[InterviewEndedEventListener] 리포트 업데이트 실패 - interviewId={}, error={}", 
                 event.interviewId(), e.getMessage(), e);
+            // CREATING 상태로 남으면 구독자가 끝없이 대기하므로 FAILED로 전환
+            try {
+                reportService.markReportAsFailed(event.interviewId());
+            } catch (Exception markFailedException) {
+                log.error("[InterviewEndedEventListener] 리포트 실패 처리 실패 - interviewId={}, error={}",
+                    event.interviewId(), markFailedException.getMessage(), markFailedException);
+            }
+        }
+
+        try {
+            reportSubscriptionService.notifyReportStatus(event.interviewId());
+        } catch (Exception e) {
+            log.error("[InterviewEndedEventListener] 리포트 상태 알림 실패 - interviewId={}, error={}",
+                event.interviewId(), e.getMessage(), e);
         }
     }
 }
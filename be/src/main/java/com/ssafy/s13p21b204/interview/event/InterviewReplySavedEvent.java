@@ -0,0 +1,12 @@
+package com.ssafy.s13p21b204.interview.event;
+
+/**
+ * 대질문 답변(Reply) 저장 이벤트 (커밋 후 면접 컨텍스트 스냅샷에 답변 추가)
+ */
+public record InterviewReplySavedEvent(
+    Long interviewId,
+    Long questionId,
+    String answer
+) {
+
+}
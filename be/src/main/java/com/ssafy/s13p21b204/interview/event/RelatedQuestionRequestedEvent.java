@@ -0,0 +1,8 @@
+package com.ssafy.s13p21b204.interview.event;
+
+import com.ssafy.s13p21b204.global.fastapi.dto.AiInterviewInput;
+
+public record RelatedQuestionRequestedEvent(
+    String jobId,
+    AiInterviewInput aiInterviewInput
+) {}
@@ -0,0 +1,107 @@
+package com.ssafy.s13p21b204.interview.event;
+
+import com.ssafy.s13p21b204.global.fastapi.AiClient;
+import com.ssafy.s13p21b204.global.fastapi.dto.AiInterviewResponse;
+import com.ssafy.s13p21b204.interview.service.InterviewService;
+import com.ssafy.s13p21b204.interview.service.RelatedQuestionSubscriptionService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RelatedQuestionRequestedEventListener {
+
+    private final AiClient aiClient;
+    private final InterviewService interviewService;
+    private final RelatedQuestionSubscriptionService relatedQuestionSubscriptionService;
+    private final Executor relatedQuestionExecutor;
+
+    // AiClient 재시도(최대 4회 x 120초)가 끝나고도 남은 PENDING 작업만 정리하도록 충분히 길게
+    @Value("${interview.related-question.stale-seconds:900}")
+    private long staleSeconds;
+
+    @Value("${interview.related-question.stale-batch-size:100}")
+    private int staleBatchSize;
+
+    /**
+     * 꼬리질문 생성 요청 이벤트 처리
+     * 답변 접수 트랜잭션 커밋 후 relatedQuestionExecutor에서 비동기로 처리
+     * 실행기 포화로 거절되면 작업을 즉시 FAILED로 전환하여 구독자가 무한히 대기하지 않도록 함
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRelatedQuestionRequested(RelatedQuestionRequestedEvent event) {
+        try {
+            relatedQuestionExecutor.execute(() -> generateRelatedQuestion(event));
+        } catch (TaskRejectedException e) {
+            log.warn("[RelatedQuestionRequestedEventListener] 실행기 포화로 작업 거절 - jobId={}", event.jobId());
+            failAndNotify(event.jobId());
+        }
+    }
+
+    /**
+     * 처리되지 않은 채 남은 꼬리질문 작업 정리
+     * 실행 노드 종료, 재기동 등으로 결과가 기록되지 않은 PENDING 작업을 FAILED로 바꾸고 구독자에게 알림
+     * (작업 조회 API로 확인하는 클라이언트도 무한히 대기하지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${interview.related-question.stale-sweep-interval-ms:60000}",
+        initialDelayString = "${interview.related-question.stale-sweep-initial-delay-ms:60000}")
+    public void failStaleJobs() {
+        List<String> jobIds = interviewService.failStaleRelatedQuestionJobs(
+            LocalDateTime.now().minusSeconds(staleSeconds), staleBatchSize);
+        for (String jobId : jobIds) {
+            notifySubscribers(jobId);
+        }
+    }
+
+    /**
+     * FastAPI answer(STT + 질문 생성 + TTS) 호출
+     * AI 호출 동안에는 트랜잭션을 열지 않고, 결과 저장만 짧은 트랜잭션으로 수행
+     * 성공/실패와 관계없이 작업 구독자(SSE)에게 결과를 알림
+     */
+    private void generateRelatedQuestion(RelatedQuestionRequestedEvent event) {
+        log.info("[RelatedQuestionRequestedEventListener] 꼬리질문 생성 시작 - jobId={}", event.jobId());
+
+        try {
+            AiInterviewResponse response = aiClient.answerInterview(event.aiInterviewInput());
+            interviewService.completeRelatedQuestionJob(event.jobId(), response);
+            log.info("[RelatedQuestionRequestedEventListener] 꼬리질문 생성 완료 - jobId={}", event.jobId());
+        } catch (Exception e) {
+            log.error("[RelatedQuestionRequestedEventListener] 꼬리질문 생성 실패 - jobId={}, error={}",
+                event.jobId(), e.getMessage(), e);
+            // PENDING 상태로 남으면 구독자가 끝없이 대기하므로 FAILED로 전환
+            failAndNotify(event.jobId());
+            return;
+        }
+
+        notifySubscribers(event.jobId());
+    }
+
+    private void failAndNotify(String jobId) {
+        try {
+            interviewService.failRelatedQuestionJob(jobId);
+        } catch (Exception markFailedException) {
+            log.error("[RelatedQuestionRequestedEventListener] 작업 실패 처리 실패 - jobId={}, error={}",
+                jobId, markFailedException.getMessage(), markFailedException);
+        }
+        notifySubscribers(jobId);
+    }
+
+    private void notifySubscribers(String jobId) {
+        try {
+            relatedQuestionSubscriptionService.notifyJobStatus(jobId);
+        } catch (Exception e) {
+            log.error("[RelatedQuestionRequestedEventListener] 꼬리질문 알림 실패 - jobId={}, error={}",
+                jobId, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy.s13p21b204.interview.event;
+
+import com.ssafy.s13p21b204.interview.service.TtsAudioStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RelatedQuestionTtsEventListener {
+
+    private final TtsAudioStore ttsAudioStore;
+    private final ThreadPoolTaskExecutor ttsStoreRegisterExecutor;
+
+    /**
+     * 꼬리질문 저장 커밋 후 TTS 업로드 확인(S3 HEAD) 및 대표 객체 등록
+     * 답변 저장 트랜잭션과 응답 스레드를 S3 호출로 붙잡지 않도록 별도 실행기에서 수행하고,
+     * 실행기가 포화되면 등록을 생략 (중복 제거만 놓치고 질문 재생에는 영향 없음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRelatedQuestionTtsSaved(RelatedQuestionTtsSavedEvent event) {
+        try {
+            ttsStoreRegisterExecutor.execute(() -> ttsAudioStore.registerIfUploaded(
+                event.content(), event.difficult(), event.s3Key()));
+        } catch (TaskRejectedException e) {
+            log.debug("[RelatedQuestionTtsEventListener] 실행기 포화로 TTS 등록 생략 - s3Key={}",
+                event.s3Key());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ssafy.s13p21b204.interview.event;
+
+import com.ssafy.s13p21b204.interview.entity.InterviewQuestion;
+
+/**
+ * 꼬리질문 저장 이벤트 (커밋 후 새로 업로드된 TTS를 저장 중복 제거 인덱스에 등록)
+ */
+public record RelatedQuestionTtsSavedEvent(
+    String content,
+    InterviewQuestion.Difficult difficult,
+    String s3Key
+) {
+
+}
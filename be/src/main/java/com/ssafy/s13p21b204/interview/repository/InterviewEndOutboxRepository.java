@@ -0,0 +1,77 @@
+package com.ssafy.s13p21b204.interview.repository;
+
+import com.ssafy.s13p21b204.interview.entity.InterviewEndOutbox;
+import com.ssafy.s13p21b204.interview.entity.InterviewEndOutbox.OutboxStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface InterviewEndOutboxRepository extends JpaRepository<InterviewEndOutbox, Long> {
+
+  /**
+   * 전송 가능한 아웃박스 ID 조회 (재시도 시각 도래 + 선점되지 않았거나 선점 만료)
+   */
+  @Query("""
+      select o.outboxId from InterviewEndOutbox o
+      where o.status = :status
+        and o.nextAttemptAt <= :now
+        and (o.lockedUntil is null or o.lockedUntil < :now)
+      order by o.outboxId
+      """)
+  List<Long> findDispatchableIds(@Param("status") OutboxStatus status,
+      @Param("now") LocalDateTime now, Pageable pageable);
+
+  /**
+   * 아웃박스 선점 (조건부 UPDATE로 여러 노드 중 한 곳만 성공)
+   * @return 선점 성공 시 1, 이미 다른 노드가 선점했거나 처리된 경우 0
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      update InterviewEndOutbox o
+      set o.lockedUntil = :lockedUntil, o.attempts = o.attempts + 1
+      where o.outboxId = :outboxId
+        and o.status = :status
+        and (o.lockedUntil is null or o.lockedUntil < :now)
+      """)
+  int claim(@Param("outboxId") Long outboxId, @Param("status") OutboxStatus status,
+      @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+  /**
+   * 선점 연장 (선점 토큰이 그대로인 경우에만)
+   * @return 연장 성공 시 1, 선점이 만료되어 다른 노드가 선점했거나 처리된 경우 0
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      update InterviewEndOutbox o
+      set o.lockedUntil = :renewed
+      where o.outboxId = :outboxId
+        and o.status = :pending
+        and o.lockedUntil = :lease
+      """)
+  int renewLease(@Param("outboxId") Long outboxId, @Param("pending") OutboxStatus pending,
+      @Param("lease") LocalDateTime lease, @Param("renewed") LocalDateTime renewed);
+
+  /**
+   * 전송 결과 기록 (DISPATCHED, 재시도 예약, FAILED) 및 선점 해제 - 선점 토큰이 그대로인 경우에만
+   * 선점이 만료되어 다른 노드가 이어받은 뒤 늦게 끝난 전송 결과가 상태를 덮어쓰지 않도록 한다.
+   * @return 반영 시 1, 선점을 잃은 경우 0
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      update InterviewEndOutbox o
+      set o.status = :status, o.nextAttemptAt = :nextAttemptAt, o.lockedUntil = null,
+        o.lastError = :error, o.updatedAt = :now
+      where o.outboxId = :outboxId
+        and o.status = :pending
+        and o.lockedUntil = :lease
+      """)
+  int release(@Param("outboxId") Long outboxId, @Param("pending") OutboxStatus pending,
+      @Param("lease") LocalDateTime lease, @Param("status") OutboxStatus status,
+      @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error,
+      @Param("now") LocalDateTime now);
+
+}
@@ -1,8 +1,11 @@
 package com.ssafy.s13p21b204.interview.repository;
 
+import com.ssafy.s13p21b204.interview.dto.InterviewQnaRow;
 import com.ssafy.s13p21b204.interview.entity.InterviewQuestion;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -10,4 +13,24 @@ public interface InterviewQuestionRepository extends JpaRepository<InterviewQues
 
   List<InterviewQuestion> findByInterviewId(Long interviewId);
 
+  /**
+   * 질문 TTS 객체 참조 여부 (TTS 저장소 정리 시 여러 질문이 공유하는 객체를 지우지 않도록 확인)
+   */
+  boolean existsByS3Key(String s3Key);
+
+  /**
+   * 면접의 모든 질문을 부모 질문 ID, 답변과 함께 한 번의 쿼리로 조회 (질문 ID 순)
+   * Reply가 질문을 참조하는 단방향 연관이므로 엔티티 fetch join 대신 조인 결과를 DTO로 조회
+   */
+  @Query("""
+      select new com.ssafy.s13p21b204.interview.dto.InterviewQnaRow(
+        q.interviewQuestionId, p.interviewQuestionId, q.content, r.content, q.createdAt)
+      from InterviewQuestion q
+      left join q.parentQuestionId p
+      left join Reply r on r.interviewQuestion = q
+      where q.interviewId = :interviewId
+      order by q.interviewQuestionId
+      """)
+  List<InterviewQnaRow> findQnaRowsByInterviewId(@Param("interviewId") Long interviewId);
+
 }
@@ -1,5 +1,6 @@
 package com.ssafy.s13p21b204.interview.repository;
 
+import com.ssafy.s13p21b204.interview.dto.InterviewReportRow;
 import com.ssafy.s13p21b204.interview.entity.Interview;
 import java.util.List;
 import java.util.Optional;
@@ -21,4 +22,22 @@ public interface InterviewRepository extends JpaRepository<Interview, Long> {
 
   @Query("SELECT i FROM Interview i JOIN FETCH i.resume r JOIN FETCH r.jobPosting jp JOIN FETCH jp.company WHERE r.userId = :userId")
   List<Interview> findByUserId(@Param("userId") Long userId);
+
+  /**
+   * 리포트 목록용 면접 요약을 한 번에 조회 (사용자의 일반 면접 + 시연용 면접)
+   * 일반 면접은 Resume -> JobPosting -> Company, 시연용 면접(Resume 없음)은 companyId로 회사를 조인한다.
+   * @param userId 사용자 ID
+   * @return 면접별 회사명/직무/생성 시각
+   */
+  @Query("""
+      select new com.ssafy.s13p21b204.interview.dto.InterviewReportRow(
+        i.interviewId, coalesce(jc.name, dc.name), jp.part, i.createdAt)
+      from Interview i
+      left join Resume r on r.resumeId = i.resume.resumeId
+      left join r.jobPosting jp
+      left join jp.company jc
+      left join Company dc on i.resume.resumeId is null and dc.companyId = i.companyId
+      where i.resume.resumeId is null or r.userId = :userId
+      """)
+  List<InterviewReportRow> findReportRowsByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.ssafy.s13p21b204.interview.repository;
+
+import com.ssafy.s13p21b204.interview.entity.RelatedQuestionJob;
+import com.ssafy.s13p21b204.interview.entity.RelatedQuestionJob.JobStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RelatedQuestionJobRepository extends JpaRepository<RelatedQuestionJob, String> {
+
+  /**
+   * 기준 시각 이전에 접수되어 아직 처리되지 않은 작업 ID 조회
+   */
+  @Query("""
+      select j.jobId from RelatedQuestionJob j
+      where j.status = :status
+        and j.createdAt < :cutoff
+      order by j.createdAt
+      """)
+  List<String> findStaleIds(@Param("status") JobStatus status,
+      @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+  /**
+   * 작업 상태 변경 (현재 상태가 expected인 경우에만)
+   * @return 변경 시 1, 그 사이 다른 스레드가 처리한 경우 0
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      update RelatedQuestionJob j
+      set j.status = :status, j.updatedAt = :now
+      where j.jobId = :jobId
+        and j.status = :expected
+      """)
+  int updateStatus(@Param("jobId") String jobId, @Param("expected") JobStatus expected,
+      @Param("status") JobStatus status, @Param("now") LocalDateTime now);
+
+}
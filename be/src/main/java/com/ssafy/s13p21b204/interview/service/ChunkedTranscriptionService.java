@@ -0,0 +1,235 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import com.ssafy.s13p21b204.global.fastapi.AiCallPriority;
+import com.ssafy.s13p21b204.global.fastapi.AiClient;
+import com.ssafy.s13p21b204.global.util.S3Util;
+import com.ssafy.s13p21b204.global.util.WavHeader;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 면접 전체 녹음(preflight) 구간 분할 전사
+ *
+ * 긴 WAV를 FastAPI가 한 번에 순차 전사하면 리포트 생성 시간 대부분을 차지하므로,
+ * RIFF 헤더를 해석해 PCM 데이터를 무음 지점(또는 고정 길이)에서 나누고 구간별로 /api/v1/stt를 병렬 호출한다.
+ * - 원본은 Range GET으로 구간만 읽고, 구간마다 독립 WAV를 만들어 임시 키에 올린 뒤 Presigned URL로 전달
+ * - 구간은 앞 구간과 조금 겹치게 잘라 경계의 단어 누락을 막고, 이어 붙일 때 겹친 단어를 제거
+ * - 하나라도 실패하면 empty를 반환하여 기존처럼 FastAPI가 원본 전체를 처리
+ * FastAPI end가 아직 preflight_transcript를 읽지 않으므로 기본 비활성 (서버 지원 후 enabled=true)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChunkedTranscriptionService {
+
+  private static final String SEGMENT_DIRECTORY = "interviews/audio/segments/";
+  private static final int HEADER_PROBE_BYTES = 64 * 1024;
+
+  // 이어 붙일 때 비교하는 최대 겹침 단어 수
+  private static final int MAX_OVERLAP_WORDS = 12;
+
+  private final S3Util s3Util;
+  private final AiClient aiClient;
+  private final ThreadPoolTaskExecutor chunkedSttExecutor;
+
+  private Scheduler segmentScheduler;
+
+  // FastAPI end(s3)가 preflight_transcript를 사용하기 전까지는 STT 호출만 늘어나므로 기본 false
+  @Value("${interview.chunked-stt.enabled:false}")
+  private boolean enabled;
+
+  // 이보다 짧은 녹음은 분할하지 않음
+  @Value("${interview.chunked-stt.min-duration-seconds:120}")
+  private long minDurationSeconds;
+
+  @Value("${interview.chunked-stt.segment-seconds:60}")
+  private long segmentSeconds;
+
+  // 구간 경계 앞쪽에서 무음 지점을 찾는 범위
+  @Value("${interview.chunked-stt.silence-search-ms:5000}")
+  private long silenceSearchMillis;
+
+  @Value("${interview.chunked-stt.overlap-ms:1000}")
+  private long overlapMillis;
+
+  // 면접 1건당 동시에 전사하는 구간 수 (전체 상한은 chunkedSttExecutor)
+  @Value("${interview.chunked-stt.concurrency:4}")
+  private int concurrency;
+
+  @Value("${interview.chunked-stt.timeout-seconds:600}")
+  private long timeoutSeconds;
+
+  @PostConstruct
+  public void init() {
+    segmentScheduler = Schedulers.fromExecutor(chunkedSttExecutor);
+  }
+
+  /**
+   * 녹음 파일을 구간별로 전사하여 순서대로 이어 붙인 텍스트 반환
+   *
+   * @param s3Key 면접 전체 녹음 S3 Key
+   * @return 전사 텍스트 (분할 대상이 아니거나 실패하면 empty)
+   */
+  public Optional<String> transcribe(String s3Key) {
+    if (!enabled || s3Key == null) {
+      return Optional.empty();
+    }
+
+    List<String> segmentKeys = new ArrayList<>();
+    try {
+      long objectSize = s3Util.getObjectSize(s3Key);
+      byte[] head = s3Util.readRange(s3Key, 0, Math.min(objectSize, HEADER_PROBE_BYTES) - 1);
+      Optional<WavHeader> parsed = WavHeader.parse(head, objectSize);
+      if (parsed.isEmpty()) {
+        log.info("[ChunkedTranscriptionService] WAV 헤더 해석 불가 - 분할 생략 (s3Key={})", s3Key);
+        return Optional.empty();
+      }
+      WavHeader header = parsed.get();
+      if (header.durationSeconds() < minDurationSeconds) {
+        log.info("[ChunkedTranscriptionService] 짧은 녹음 - 분할 생략 (s3Key={}, {}초)", s3Key,
+            (long) header.durationSeconds());
+        return Optional.empty();
+      }
+
+      List<Segment> segments = plan(s3Key, header);
+      String segmentPrefix = SEGMENT_DIRECTORY + UUID.randomUUID() + "/";
+      segments.forEach(segment -> segmentKeys.add(segmentPrefix + segment.index() + ".wav"));
+      log.info("[ChunkedTranscriptionService] 구간 분할 전사 시작 - s3Key={}, {}초, 구간 수={}",
+          s3Key, (long) header.durationSeconds(), segments.size());
+
+      long startedAt = System.currentTimeMillis();
+      List<String> transcripts = Flux.fromIterable(segments)
+          .flatMapSequential(segment -> transcribeSegment(s3Key, header, segment,
+              segmentKeys.get(segment.index())), concurrency)
+          .collectList()
+          .block(Duration.ofSeconds(timeoutSeconds));
+
+      String stitched = stitch(transcripts);
+      log.info("[ChunkedTranscriptionService] 구간 분할 전사 완료 - s3Key={}, 소요={}ms, 텍스트 길이={}",
+          s3Key, System.currentTimeMillis() - startedAt, stitched.length());
+      return Optional.of(stitched);
+    } catch (Exception e) {
+      log.warn("[ChunkedTranscriptionService] 구간 분할 전사 실패 - 원본 전사로 대체 (s3Key={}, error={})",
+          s3Key, e.getMessage());
+      return Optional.empty();
+    } finally {
+      segmentKeys.forEach(s3Util::deleteObject);
+    }
+  }
+
+  /**
+   * 구간 경계 결정: segment-seconds마다 앞쪽 silence-search-ms 범위에서 가장 조용한 지점으로 이동
+   * (16비트 PCM이 아니면 고정 길이로 자름)
+   */
+  private List<Segment> plan(String s3Key, WavHeader header) {
+    long segmentBytes = header.bytesFor(segmentSeconds * 1000);
+    long searchBytes = Math.min(header.bytesFor(silenceSearchMillis),
+        header.alignDown(segmentBytes / 2));
+    long overlapBytes = header.bytesFor(overlapMillis);
+
+    List<Long> cuts = new ArrayList<>();
+    cuts.add(0L);
+    long cursor = 0;
+    // 마지막 구간이 지나치게 짧아지지 않도록 남은 길이가 한 구간 반 이상일 때만 자름
+    while (header.dataSize() - cursor > segmentBytes + segmentBytes / 2) {
+      long nominal = cursor + segmentBytes;
+      long cut = nominal;
+      if (header.isPcm16() && searchBytes > 0) {
+        long windowStart = nominal - searchBytes;
+        byte[] window = s3Util.readRange(s3Key, header.dataOffset() + windowStart,
+            header.dataOffset() + nominal - 1);
+        cut = windowStart + header.quietestFrameOffset(window);
+      }
+      cuts.add(cut);
+      cursor = cut;
+    }
+    cuts.add(header.dataSize());
+
+    List<Segment> segments = new ArrayList<>();
+    for (int i = 0; i + 1 < cuts.size(); i++) {
+      long start = i == 0 ? 0 : Math.max(0, cuts.get(i) - overlapBytes);
+      segments.add(new Segment(i, start, cuts.get(i + 1)));
+    }
+    return segments;
+  }
+
+  /**
+   * 구간 하나 전사: Range GET → 독립 WAV 업로드 → Presigned URL로 STT (S3 작업만 실행기에서 수행)
+   */
+  private Mono<String> transcribeSegment(String s3Key, WavHeader header, Segment segment,
+      String segmentKey) {
+    return Mono.fromCallable(() -> {
+          byte[] pcm = s3Util.readRange(s3Key, header.dataOffset() + segment.start(),
+              header.dataOffset() + segment.end() - 1);
+          byte[] wav = new byte[44 + pcm.length];
+          System.arraycopy(header.segmentHeader(pcm.length), 0, wav, 0, 44);
+          System.arraycopy(pcm, 0, wav, 44, pcm.length);
+          s3Util.putObject(segmentKey, wav, "audio/wav");
+          return s3Util.generateDownloadPresignedUrl(segmentKey);
+        })
+        .subscribeOn(segmentScheduler)
+        .flatMap(url -> aiClient.transcribeAudioReactive(url, AiCallPriority.BATCH))
+        .doOnNext(text -> log.debug("[ChunkedTranscriptionService] 구간 전사 완료 - index={}, 길이={}",
+            segment.index(), text.length()));
+  }
+
+  /**
+   * 구간 전사 결과를 순서대로 이어 붙임 (겹친 구간에서 중복된 앞부분 단어 제거)
+   */
+  static String stitch(List<String> transcripts) {
+    List<String> words = new ArrayList<>();
+    for (String transcript : transcripts) {
+      if (transcript == null || transcript.isBlank()) {
+        continue;
+      }
+      List<String> next = Arrays.asList(transcript.trim().split("\\s+"));
+      int overlap = overlapWords(words, next);
+      words.addAll(next.subList(overlap, next.size()));
+    }
+    return String.join(" ", words);
+  }
+
+  /**
+   * 앞 결과의 끝과 다음 결과의 앞이 겹치는 단어 수 (구두점/대소문자 무시, 최대 MAX_OVERLAP_WORDS)
+   */
+  static int overlapWords(List<String> previous, List<String> next) {
+    int max = Math.min(MAX_OVERLAP_WORDS, Math.min(previous.size(), next.size()));
+    for (int length = max; length > 0; length--) {
+      boolean matched = true;
+      for (int i = 0; i < length; i++) {
+        if (!normalize(previous.get(previous.size() - length + i)).equals(normalize(next.get(i)))) {
+          matched = false;
+          break;
+        }
+      }
+      if (matched) {
+        return length;
+      }
+    }
+    return 0;
+  }
+
+  private static String normalize(String word) {
+    return word.replaceAll("[\\p{Punct}]", "").toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * PCM 데이터 기준 구간 (start 포함, end 제외)
+   */
+  private record Segment(int index, long start, long end) {}
+}
@@ -0,0 +1,92 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import com.ssafy.s13p21b204.global.entity.ProgressStatus;
+import com.ssafy.s13p21b204.interview.entity.Interview;
+import com.ssafy.s13p21b204.interview.entity.InterviewQuestion;
+import com.ssafy.s13p21b204.interview.repository.InterviewQuestionRepository;
+import com.ssafy.s13p21b204.interview.repository.InterviewRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 시연용 면접(Interview + 고정 질문 1개) 생성/삭제
+ * 요청 시 바로 생성하는 경로와 시연용 면접 풀 보충(DemoInterviewPoolService)이 함께 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DemoInterviewCreationService {
+
+  public static final String DEMO_QUESTION_CONTENT = "1분 자기소개 해주세요";
+  public static final String DEMO_QUESTION_S3_KEY = "interviews/demo/intro_question.wav";
+
+  private final InterviewRepository interviewRepository;
+  private final InterviewQuestionRepository interviewQuestionRepository;
+
+  /**
+   * 시연용 면접 생성
+   *
+   * @param companyId 채용 공고의 회사 ID
+   * @param count 생성 개수
+   */
+  @Transactional
+  public List<DemoInterview> createAll(Long companyId, int count) {
+    List<Interview> interviews = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      interviews.add(Interview.builder()
+          .resume(null)  // Resume 없이 생성
+          .companyId(companyId)  // JobPosting의 Company ID 저장
+          .progressStatus(ProgressStatus.NOT_STARTED)
+          .relatedQuestion(true)  // 꼬리질문 활성화
+          .build());
+    }
+    List<Interview> savedInterviews = interviewRepository.saveAll(interviews);
+
+    // 고정된 질문 1개만 DB 저장
+    List<InterviewQuestion> questions = new ArrayList<>();
+    for (Interview interview : savedInterviews) {
+      questions.add(InterviewQuestion.builder()
+          .interviewId(interview.getInterviewId())
+          .content(DEMO_QUESTION_CONTENT)
+          .s3Key(DEMO_QUESTION_S3_KEY)  // 고정된 S3 key
+          .difficult(InterviewQuestion.Difficult.LAX)
+          .build());
+    }
+    List<InterviewQuestion> savedQuestions = interviewQuestionRepository.saveAll(questions);
+
+    List<DemoInterview> created = new ArrayList<>();
+    for (int i = 0; i < savedInterviews.size(); i++) {
+      created.add(new DemoInterview(savedInterviews.get(i).getInterviewId(),
+          savedQuestions.get(i).getInterviewQuestionId()));
+    }
+    log.info("[DemoInterviewCreationService] 시연용 면접 생성 완료 - companyId={}, {}건", companyId,
+        created.size());
+    return created;
+  }
+
+  /**
+   * 사용되지 않은 시연용 면접 삭제 (비활성화된 공고의 풀 정리)
+   */
+  @Transactional
+  public void deleteAll(List<DemoInterview> demoInterviews) {
+    if (demoInterviews.isEmpty()) {
+      return;
+    }
+    interviewQuestionRepository.deleteAllByIdInBatch(
+        demoInterviews.stream().map(DemoInterview::questionId).toList());
+    interviewRepository.deleteAllByIdInBatch(
+        demoInterviews.stream().map(DemoInterview::interviewId).toList());
+    log.info("[DemoInterviewCreationService] 미사용 시연용 면접 삭제 - {}건", demoInterviews.size());
+  }
+
+  /**
+   * 시연용 면접 ID와 고정 질문 ID
+   */
+  public record DemoInterview(Long interviewId, Long questionId) {
+
+  }
+}
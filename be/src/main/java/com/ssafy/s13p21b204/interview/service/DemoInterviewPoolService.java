@@ -0,0 +1,284 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import com.ssafy.s13p21b204.global.entity.Status;
+import com.ssafy.s13p21b204.global.redis.RedisDao;
+import com.ssafy.s13p21b204.interview.service.DemoInterviewCreationService.DemoInterview;
+import com.ssafy.s13p21b204.jobPosting.entity.JobPosting;
+import com.ssafy.s13p21b204.jobPosting.repository.JobPostingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 시연용 면접 풀
+ *
+ * 활성 채용 공고마다 미리 만들어 둔 시연용 면접 ID를 Redis 리스트(demo:pool:{jobPostingId})에 보관하고,
+ * 시연용 면접 생성 요청은 LPOP 한 번으로 선점한다 (요청 경로에서 DB 쓰기 없음).
+ * 보충은 주기 실행과 선점 후 잔량이 low-watermark 이하일 때 demoPoolExecutor(단일 작업자)에서
+ * 작은 배치로 수행하여 실제 사용자 요청과 DB 커넥션/쓰기를 다투지 않도록 한다.
+ * 비활성화/만료된 공고의 풀은 보충 주기에 비우고 미사용 면접을 삭제한다.
+ * 메트릭: interview.demo.pool.size, interview.demo.pool.empty, interview.demo.pool.created,
+ * interview.demo.claim{result} (공고 수만큼 시계열이 늘지 않도록 공고별 태그 없이 합산)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DemoInterviewPoolService {
+
+  private static final String POOL_KEY_PREFIX = "demo:pool:";
+  private static final String POSTINGS_KEY = "demo:pool:postings";
+  private static final String REFILL_LOCK_KEY_PREFIX = "demo:pool:refill-lock:";
+
+  private final RedisDao redisDao;
+  private final JobPostingRepository jobPostingRepository;
+  private final DemoInterviewCreationService demoInterviewCreationService;
+  private final ThreadPoolTaskExecutor demoPoolExecutor;
+  private final MeterRegistry meterRegistry;
+
+  // 공고별 풀 크기 (보충/선점 시 Redis 값으로 갱신)
+  private final Map<Long, AtomicLong> poolSizes = new ConcurrentHashMap<>();
+  private final Set<Long> pendingRefills = ConcurrentHashMap.newKeySet();
+
+  private Counter createdCounter;
+
+  @Value("${interview.demo-pool.enabled:true}")
+  private boolean enabled;
+
+  // 공고별 목표 풀 크기
+  @Value("${interview.demo-pool.size:20}")
+  private int poolSize;
+
+  // 선점 후 잔량이 이 값 이하이면 주기를 기다리지 않고 보충
+  @Value("${interview.demo-pool.low-watermark:5}")
+  private int lowWatermark;
+
+  // 한 트랜잭션에서 생성하는 면접 수 (트랜잭션을 짧게 유지)
+  @Value("${interview.demo-pool.refill-batch-size:5}")
+  private int refillBatchSize;
+
+  @Value("${interview.demo-pool.refill-lock-seconds:60}")
+  private long refillLockSeconds;
+
+  @PostConstruct
+  void init() {
+    Gauge.builder("interview.demo.pool.size", poolSizes,
+            sizes -> sizes.values().stream().mapToLong(AtomicLong::get).sum())
+        .description("전체 공고에서 선점 가능한 시연용 면접 수")
+        .register(meterRegistry);
+    Gauge.builder("interview.demo.pool.empty", poolSizes,
+            sizes -> sizes.values().stream().filter(size -> size.get() == 0).count())
+        .description("풀이 비어 요청 시 바로 생성하게 되는 공고 수")
+        .register(meterRegistry);
+    createdCounter = Counter.builder("interview.demo.pool.created")
+        .description("풀 보충으로 미리 생성한 시연용 면접 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 시연용 면접 1건 선점 (풀이 비어 있거나 비활성화된 경우 fallback으로 바로 생성)
+   * 메트릭: interview.demo.claim{result=pooled|created} - 요청부터 면접 확보까지의 시간
+   */
+  public DemoInterview claimOrCreate(Long jobPostingId, Supplier<DemoInterview> fallback) {
+    long startedAt = System.nanoTime();
+    Optional<DemoInterview> claimed = claim(jobPostingId);
+    DemoInterview demoInterview = claimed.orElseGet(fallback);
+    Timer.builder("interview.demo.claim")
+        .description("시연용 면접 확보 시간 (pooled 풀에서 선점, created 요청 시 생성)")
+        .tag("result", claimed.isPresent() ? "pooled" : "created")
+        .register(meterRegistry)
+        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    return demoInterview;
+  }
+
+  private Optional<DemoInterview> claim(Long jobPostingId) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+
+    String key = POOL_KEY_PREFIX + jobPostingId;
+    Optional<DemoInterview> claimed;
+    long remaining;
+    try {
+      claimed = Optional.ofNullable(redisDao.popDemoInterview(key))
+          .flatMap(DemoInterviewPoolService::decode);
+      remaining = redisDao.getDemoInterviewPoolSize(key);
+    } catch (Exception e) {
+      log.warn("[DemoInterviewPool] 풀 조회 실패 - 바로 생성으로 대체 (jobPostingId={}): {}",
+          jobPostingId, e.getMessage());
+      return Optional.empty();
+    }
+
+    AtomicLong size = poolSizes.get(jobPostingId);
+    if (size != null) {
+      size.set(remaining);
+    }
+    if (remaining <= lowWatermark) {
+      requestRefill(jobPostingId);
+    }
+    return claimed;
+  }
+
+  /**
+   * 활성 공고의 풀 보충 요청 및 비활성 공고의 풀 정리 (스케줄러 스레드를 점유하지 않도록 실행기에 위임)
+   */
+  @Scheduled(fixedDelayString = "${interview.demo-pool.refill-interval-ms:30000}",
+      initialDelayString = "${interview.demo-pool.initial-delay-ms:20000}")
+  public void refillAll() {
+    if (!enabled) {
+      return;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    Set<Long> activeIds = jobPostingRepository.findByExpiredAtAfter(now).stream()
+        .filter(jobPosting -> jobPosting.getStatus() == Status.ACTIVE)
+        .map(JobPosting::getJobPostingId)
+        .collect(Collectors.toSet());
+
+    for (String pooled : redisDao.getDemoPoolPostings(POSTINGS_KEY)) {
+      Long jobPostingId = Long.valueOf(pooled);
+      if (!activeIds.contains(jobPostingId)) {
+        submit(() -> drain(jobPostingId));
+      }
+    }
+    for (Long jobPostingId : activeIds) {
+      requestRefill(jobPostingId);
+    }
+  }
+
+  private void requestRefill(Long jobPostingId) {
+    // 같은 공고의 보충 작업이 이미 대기/진행 중이면 생략 (선점마다 중복 제출되지 않도록)
+    if (!pendingRefills.add(jobPostingId)) {
+      return;
+    }
+    if (!submit(() -> {
+      try {
+        refill(jobPostingId);
+      } finally {
+        pendingRefills.remove(jobPostingId);
+      }
+    })) {
+      pendingRefills.remove(jobPostingId);
+    }
+  }
+
+  private boolean submit(Runnable task) {
+    try {
+      demoPoolExecutor.execute(task);
+      return true;
+    } catch (TaskRejectedException e) {
+      // 실행기 포화 시 다음 주기에 이어서 수행
+      log.debug("[DemoInterviewPool] 보충 실행기 포화 - 다음 주기에 수행");
+      return false;
+    }
+  }
+
+  /**
+   * 공고 풀을 목표 크기까지 보충 (잠금을 얻지 못하면 다른 인스턴스가 보충 중)
+   */
+  void refill(Long jobPostingId) {
+    String lockKey = REFILL_LOCK_KEY_PREFIX + jobPostingId;
+    if (!redisDao.acquireDemoPoolRefillLock(lockKey, refillLockSeconds)) {
+      return;
+    }
+    try {
+      String key = POOL_KEY_PREFIX + jobPostingId;
+      long size = redisDao.getDemoInterviewPoolSize(key);
+      if (size >= poolSize) {
+        updateSize(jobPostingId, size);
+        return;
+      }
+
+      Optional<JobPosting> jobPosting = jobPostingRepository.findById(jobPostingId)
+          .filter(posting -> posting.getStatus() == Status.ACTIVE
+              && posting.getExpiredAt().isAfter(LocalDateTime.now()));
+      if (jobPosting.isEmpty() || jobPosting.get().getCompany() == null) {
+        return;
+      }
+      Long companyId = jobPosting.get().getCompany().getCompanyId();
+      redisDao.addDemoPoolPosting(POSTINGS_KEY, String.valueOf(jobPostingId));
+
+      long missing = poolSize - size;
+      while (missing > 0) {
+        int batch = (int) Math.min(missing, refillBatchSize);
+        List<DemoInterview> created = demoInterviewCreationService.createAll(companyId, batch);
+        redisDao.pushDemoInterviews(key, created.stream().map(DemoInterviewPoolService::encode)
+            .toList());
+        createdCounter.increment(created.size());
+        missing -= created.size();
+      }
+      long refilled = redisDao.getDemoInterviewPoolSize(key);
+      updateSize(jobPostingId, refilled);
+      log.info("[DemoInterviewPool] 풀 보충 완료 - jobPostingId={}, {} → {}", jobPostingId, size,
+          refilled);
+    } catch (Exception e) {
+      log.warn("[DemoInterviewPool] 풀 보충 실패 - jobPostingId={}: {}", jobPostingId,
+          e.getMessage());
+    } finally {
+      redisDao.releaseDemoPoolRefillLock(lockKey);
+    }
+  }
+
+  /**
+   * 비활성 공고의 풀을 비우고 미사용 면접 삭제
+   */
+  void drain(Long jobPostingId) {
+    String key = POOL_KEY_PREFIX + jobPostingId;
+    List<DemoInterview> unused = new ArrayList<>();
+    String raw;
+    while ((raw = redisDao.popDemoInterview(key)) != null) {
+      decode(raw).ifPresent(unused::add);
+    }
+    try {
+      demoInterviewCreationService.deleteAll(unused);
+    } catch (Exception e) {
+      // 삭제하지 못한 면접은 선점되지 않은 NOT_STARTED 상태로 남으며 조회 대상이 아님
+      log.warn("[DemoInterviewPool] 미사용 면접 삭제 실패 - jobPostingId={}: {}", jobPostingId,
+          e.getMessage());
+    }
+    redisDao.removeDemoPoolPosting(POSTINGS_KEY, String.valueOf(jobPostingId));
+    poolSizes.remove(jobPostingId);
+    log.info("[DemoInterviewPool] 비활성 공고 풀 정리 - jobPostingId={}, 삭제 {}건", jobPostingId,
+        unused.size());
+  }
+
+  private void updateSize(Long jobPostingId, long size) {
+    poolSizes.computeIfAbsent(jobPostingId, id -> new AtomicLong()).set(size);
+  }
+
+  private static String encode(DemoInterview demoInterview) {
+    return demoInterview.interviewId() + ":" + demoInterview.questionId();
+  }
+
+  private static Optional<DemoInterview> decode(String raw) {
+    int separator = raw.indexOf(':');
+    if (separator < 0) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(new DemoInterview(Long.valueOf(raw.substring(0, separator)),
+          Long.valueOf(raw.substring(separator + 1))));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,261 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s13p21b204.answer.entity.Answer;
+import com.ssafy.s13p21b204.answer.repository.AnswerRepository;
+import com.ssafy.s13p21b204.global.exception.ApiException;
+import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import com.ssafy.s13p21b204.global.fastapi.dto.AiResumeQAItem;
+import com.ssafy.s13p21b204.global.redis.RedisDao;
+import com.ssafy.s13p21b204.interview.dto.InterviewContextSnapshot;
+import com.ssafy.s13p21b204.interview.dto.InterviewContextSnapshot.QnaItem;
+import com.ssafy.s13p21b204.interview.dto.InterviewQnaRow;
+import com.ssafy.s13p21b204.interview.entity.Interview;
+import com.ssafy.s13p21b204.interview.repository.InterviewQuestionRepository;
+import com.ssafy.s13p21b204.interview.repository.InterviewRepository;
+import com.ssafy.s13p21b204.jobPosting.entity.JobPosting;
+import com.ssafy.s13p21b204.jobPosting.repository.JobPostingRepository;
+import com.ssafy.s13p21b204.resume.entity.Resume;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 면접 컨텍스트 스냅샷 (자소서 Q&A + JD + 대질문별 답변) 캐시
+ *
+ * Redis Hash(interview:context:{interviewId})에 저장한다.
+ * - base: 소유자, 자소서 Q&A, JD 키, 대질문 목록 (짧은 필드명의 JSON)
+ * - a:{questionId}: 대질문 답변 (답변 저장 커밋 후 추가)
+ * 조회는 HGETALL 한 번이며, 캐시가 없으면 DB에서 구성해 저장한다. 면접 종료 시 삭제한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewContextService {
+
+  private static final String KEY_PREFIX = "interview:context:";
+  private static final String BASE_FIELD = "base";
+  private static final String ANSWER_FIELD_PREFIX = "a:";
+
+  private final InterviewRepository interviewRepository;
+  private final InterviewQuestionRepository interviewQuestionRepository;
+  private final AnswerRepository answerRepository;
+  private final JobPostingRepository jobPostingRepository;
+  private final RedisDao redisDao;
+  private final ObjectMapper objectMapper;
+
+  @Value("${interview.context.ttl-seconds:21600}")
+  private long ttlSeconds;
+
+  /**
+   * 면접 컨텍스트 스냅샷 조회 (캐시 미스 시 DB에서 구성)
+   */
+  @Transactional(readOnly = true)
+  public InterviewContextSnapshot getSnapshot(Long interviewId) {
+    InterviewContextSnapshot cached = readCache(interviewId);
+    if (cached != null) {
+      return cached;
+    }
+
+    Interview interview = interviewRepository.findById(interviewId).orElseThrow(() -> {
+      log.warn("[InterviewContextService] 면접 조회 실패 - interviewId={}", interviewId);
+      return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.INTERVIEW_NOT_FOUND);
+    });
+    return loadAndCache(interview);
+  }
+
+  /**
+   * 면접 컨텍스트 스냅샷 조회 (이미 조회한 면접 엔티티 사용)
+   */
+  @Transactional(readOnly = true)
+  public InterviewContextSnapshot getSnapshot(Interview interview) {
+    InterviewContextSnapshot cached = readCache(interview.getInterviewId());
+    if (cached != null) {
+      return cached;
+    }
+    return loadAndCache(interview);
+  }
+
+  /**
+   * 대질문 답변 추가 (스냅샷이 캐시되어 있는 경우에만, 없으면 다음 조회 시 DB에서 구성)
+   */
+  public void appendAnswer(Long interviewId, Long questionId, String answer) {
+    try {
+      boolean appended = redisDao.putInterviewContextField(key(interviewId), BASE_FIELD,
+          ANSWER_FIELD_PREFIX + questionId, answer != null ? answer : "");
+      log.debug("[InterviewContextService] 답변 추가 - interviewId={}, questionId={}, appended={}",
+          interviewId, questionId, appended);
+    } catch (Exception e) {
+      // 추가에 실패하면 오래된 스냅샷이 남지 않도록 삭제 (다음 조회 시 DB에서 재구성)
+      log.warn("[InterviewContextService] 답변 추가 실패 - interviewId={}, err={}",
+          interviewId, e.getMessage());
+      evict(interviewId);
+    }
+  }
+
+  /**
+   * 스냅샷 삭제 (면접 종료 시)
+   */
+  public void evict(Long interviewId) {
+    try {
+      redisDao.deleteInterviewContext(key(interviewId));
+      log.info("[InterviewContextService] 스냅샷 삭제 - interviewId={}", interviewId);
+    } catch (Exception e) {
+      log.warn("[InterviewContextService] 스냅샷 삭제 실패 - interviewId={}, err={}",
+          interviewId, e.getMessage());
+    }
+  }
+
+  /**
+   * 자소서 답변 목록을 FastAPI 자소서 Q&A 형식으로 변환 (answer와 content는 동일)
+   */
+  public static List<AiResumeQAItem> toResumeQA(List<Answer> answers) {
+    List<AiResumeQAItem> resumeQA = new ArrayList<>();
+    for (int i = 0; i < answers.size(); i++) {
+      Answer answer = answers.get(i);
+      String answerContent = answer.getContent() != null ? answer.getContent() : "";
+      resumeQA.add(new AiResumeQAItem(String.valueOf(i + 1), answer.getQuestion().getContent(),
+          answerContent, answerContent));
+    }
+    return resumeQA;
+  }
+
+  private InterviewContextSnapshot readCache(Long interviewId) {
+    try {
+      Map<String, String> fields = redisDao.getInterviewContext(key(interviewId));
+      String base = fields.get(BASE_FIELD);
+      if (base == null) {
+        return null;
+      }
+      return toSnapshot(objectMapper.readValue(base, ContextBase.class), fields);
+    } catch (Exception e) {
+      log.warn("[InterviewContextService] 스냅샷 조회 실패 - DB에서 구성 (interviewId={}, err={})",
+          interviewId, e.getMessage());
+      return null;
+    }
+  }
+
+  private InterviewContextSnapshot loadAndCache(Interview interview) {
+    Long interviewId = interview.getInterviewId();
+    Resume resume = interview.getResume();
+
+    List<ResumeItem> resumeItems = new ArrayList<>();
+    if (resume != null) {
+      for (AiResumeQAItem item : toResumeQA(answerRepository.findByResumeId(resume.getResumeId()))) {
+        resumeItems.add(new ResumeItem(item.question(), item.answer()));
+      }
+    }
+
+    // 질문, 부모 링크, 답변을 한 번의 쿼리로 조회 후 대질문만 포함 (꼬리질문은 qna_history 대상이 아님)
+    List<BaseQuestion> questions = new ArrayList<>();
+    Map<String, String> fields = new HashMap<>();
+    for (InterviewQnaRow row : interviewQuestionRepository.findQnaRowsByInterviewId(interviewId)) {
+      if (!row.isParentQuestion()) {
+        continue;
+      }
+      questions.add(new BaseQuestion(row.questionId(), row.question()));
+      if (row.answer() != null) {
+        fields.put(ANSWER_FIELD_PREFIX + row.questionId(), row.answer());
+      }
+    }
+
+    ContextBase base = new ContextBase(resume != null ? resume.getUserId() : null, resumeItems,
+        resolveJdS3Key(interview), questions);
+
+    try {
+      fields.put(BASE_FIELD, objectMapper.writeValueAsString(base));
+      redisDao.setInterviewContext(key(interviewId), fields, ttlSeconds);
+      log.info("[InterviewContextService] 스냅샷 저장 - interviewId={}, 대질문 수={}, 답변 수={}",
+          interviewId, questions.size(), fields.size() - 1);
+    } catch (JsonProcessingException e) {
+      log.warn("[InterviewContextService] 스냅샷 직렬화 실패 - interviewId={}, err={}",
+          interviewId, e.getMessage());
+    } catch (Exception e) {
+      log.warn("[InterviewContextService] 스냅샷 저장 실패 - interviewId={}, err={}",
+          interviewId, e.getMessage());
+    }
+
+    return toSnapshot(base, fields);
+  }
+
+  /**
+   * JD 파일 S3 키 조회
+   * 일반 면접은 자소서의 채용 공고, 시연용 면접은 회사의 최신 채용 공고(우대사항 파일이 있는 것)
+   */
+  private String resolveJdS3Key(Interview interview) {
+    Resume resume = interview.getResume();
+    if (resume != null) {
+      JobPosting jobPosting = resume.getJobPosting();
+      if (jobPosting != null && jobPosting.getS3PreferenceFileKey() != null
+          && !jobPosting.getS3PreferenceFileKey().isBlank()) {
+        return jobPosting.getS3PreferenceFileKey();
+      }
+      return null;
+    }
+
+    Long companyId = interview.getCompanyId();
+    if (companyId == null) {
+      return null;
+    }
+    return jobPostingRepository.findByCompanyCompanyId(companyId).stream()
+        .filter(jp -> jp.getS3PreferenceFileKey() != null && !jp.getS3PreferenceFileKey().isBlank())
+        .max(Comparator.comparing(JobPosting::getCreatedAt))
+        .map(JobPosting::getS3PreferenceFileKey)
+        .orElse(null);
+  }
+
+  private InterviewContextSnapshot toSnapshot(ContextBase base, Map<String, String> fields) {
+    List<AiResumeQAItem> resumeQA = new ArrayList<>();
+    for (int i = 0; i < base.resume().size(); i++) {
+      ResumeItem item = base.resume().get(i);
+      resumeQA.add(new AiResumeQAItem(String.valueOf(i + 1), item.question(), item.answer(),
+          item.answer()));
+    }
+
+    List<QnaItem> qna = base.questions().stream()
+        .map(question -> new QnaItem(question.id(), question.content(),
+            fields.getOrDefault(ANSWER_FIELD_PREFIX + question.id(), "")))
+        .collect(Collectors.toList());
+
+    return new InterviewContextSnapshot(base.userId(), resumeQA, base.jdS3Key(), qna);
+  }
+
+  private String key(Long interviewId) {
+    return KEY_PREFIX + interviewId;
+  }
+
+  // Redis 저장용 (필드명을 짧게 하여 직렬화 크기 축소)
+  record ContextBase(
+      @JsonProperty("u") Long userId,
+      @JsonProperty("r") List<ResumeItem> resume,
+      @JsonProperty("j") String jdS3Key,
+      @JsonProperty("q") List<BaseQuestion> questions
+  ) {
+
+  }
+
+  record ResumeItem(
+      @JsonProperty("q") String question,
+      @JsonProperty("a") String answer
+  ) {
+
+  }
+
+  record BaseQuestion(
+      @JsonProperty("i") Long id,
+      @JsonProperty("c") String content
+  ) {
+
+  }
+}
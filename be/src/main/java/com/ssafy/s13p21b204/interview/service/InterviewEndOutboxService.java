@@ -0,0 +1,238 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s13p21b204.global.exception.ApiException;
+import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import com.ssafy.s13p21b204.global.fastapi.dto.AiEndInterviewInput;
+import com.ssafy.s13p21b204.global.fastapi.dto.AiEndInterviewResponse;
+import com.ssafy.s13p21b204.global.util.S3Util;
+import com.ssafy.s13p21b204.interview.dto.InterviewEndOutboxPayload;
+import com.ssafy.s13p21b204.interview.entity.InterviewEndOutbox;
+import com.ssafy.s13p21b204.interview.entity.InterviewEndOutbox.OutboxStatus;
+import com.ssafy.s13p21b204.interview.event.InterviewEndOutboxSavedEvent;
+import com.ssafy.s13p21b204.interview.event.InterviewEndedEvent;
+import com.ssafy.s13p21b204.interview.repository.InterviewEndOutboxRepository;
+import com.ssafy.s13p21b204.jobPosting.service.JobPostingPreferenceService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 면접 종료 아웃박스 관리
+ *
+ * endInterview 트랜잭션에서는 아웃박스 저장까지만 수행하고, FastAPI end 호출은 릴레이가 커밋 이후에 처리한다.
+ * 각 메서드는 짧은 트랜잭션으로 끝나며 AI 호출 동안에는 DB 커넥션을 점유하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InterviewEndOutboxService {
+
+  private final InterviewEndOutboxRepository interviewEndOutboxRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ObjectMapper objectMapper;
+  private final S3Util s3Util;
+  private final JobPostingPreferenceService jobPostingPreferenceService;
+
+  @Value("${interview.outbox.max-attempts:5}")
+  private int maxAttempts;
+
+  // 선점 유지 시간 (전송 중에는 LeaseHeartbeat가 1/3 주기로 연장하므로 전송 시간 상한과 무관)
+  @Value("${interview.outbox.lease-seconds:600}")
+  private long leaseSeconds;
+
+  @Value("${interview.outbox.retry-base-seconds:30}")
+  private long retryBaseSeconds;
+
+  /**
+   * 아웃박스 저장 (호출 측 트랜잭션에 참여하여 면접 상태 변경과 원자적으로 저장)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public InterviewEndOutbox enqueue(Long interviewId, Long userId, String jdS3Key,
+      String preflightS3Key, InterviewEndOutboxPayload payload) {
+    InterviewEndOutbox outbox = interviewEndOutboxRepository.save(InterviewEndOutbox.builder()
+        .interviewId(interviewId)
+        .userId(userId)
+        .jdS3Key(jdS3Key)
+        .preflightS3Key(preflightS3Key)
+        .payload(writePayload(payload))
+        .nextAttemptAt(LocalDateTime.now())
+        .build());
+
+    // 커밋 직후 즉시 전송 시도 (실패하거나 노드가 내려가도 주기 릴레이가 이어받음)
+    eventPublisher.publishEvent(new InterviewEndOutboxSavedEvent(outbox.getOutboxId()));
+
+    log.info("[InterviewEndOutboxService] 면접 종료 아웃박스 저장 - outboxId={}, interviewId={}",
+        outbox.getOutboxId(), interviewId);
+    return outbox;
+  }
+
+  /**
+   * 전송 가능한 아웃박스 ID 목록
+   */
+  @Transactional(readOnly = true)
+  public List<Long> findDispatchableIds(int limit) {
+    return interviewEndOutboxRepository.findDispatchableIds(OutboxStatus.PENDING,
+        LocalDateTime.now(), PageRequest.of(0, limit));
+  }
+
+  /**
+   * 아웃박스 선점 (여러 노드가 동시에 같은 건을 전송하지 않도록 선점 시각 기록)
+   * 선점 만료 시각을 선점 토큰으로 사용하며, 이후 연장/결과 기록은 이 토큰이 그대로일 때만 반영된다.
+   * @return 선점 성공 시 선점 토큰, 이미 다른 노드가 선점했거나 처리된 경우 empty
+   */
+  @Transactional
+  public Optional<LocalDateTime> claim(Long outboxId) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime lease = leaseUntil(now);
+    if (interviewEndOutboxRepository.claim(outboxId, OutboxStatus.PENDING, now, lease) != 1) {
+      return Optional.empty();
+    }
+    return Optional.of(lease);
+  }
+
+  /**
+   * 선점 연장 (전송이 선점 유지 시간보다 오래 걸려도 다른 노드가 다시 선점하지 않도록)
+   * @return 연장된 선점 토큰, 선점을 잃은 경우 empty
+   */
+  @Transactional
+  public Optional<LocalDateTime> renewLease(Long outboxId, LocalDateTime lease) {
+    LocalDateTime renewed = leaseUntil(LocalDateTime.now());
+    if (interviewEndOutboxRepository.renewLease(outboxId, OutboxStatus.PENDING, lease, renewed)
+        != 1) {
+      return Optional.empty();
+    }
+    return Optional.of(renewed);
+  }
+
+  /**
+   * 선점 연장 주기 (선점 유지 시간의 1/3)
+   */
+  public Duration leaseRenewInterval() {
+    return Duration.ofSeconds(Math.max(1, leaseSeconds / 3));
+  }
+
+  /**
+   * 선점한 아웃박스로 FastAPI end 입력 구성 (Presigned URL은 전송 시점에 발급)
+   */
+  @Transactional(readOnly = true)
+  public Optional<InterviewEndRequest> loadRequest(Long outboxId) {
+    return interviewEndOutboxRepository.findById(outboxId).map(outbox -> {
+      InterviewEndOutboxPayload payload = readPayload(outbox.getPayload());
+      String jdPresignedUrl = outbox.getJdS3Key() != null
+          ? s3Util.generateDownloadPresignedUrl(outbox.getJdS3Key())
+          : "";
+      AiEndInterviewInput input = AiEndInterviewInput.builder()
+          .jd(jdPresignedUrl)
+          .jdText(jobPostingPreferenceService.findText(outbox.getJdS3Key()))
+          .resume(payload.resume() != null ? payload.resume() : List.of())
+          .qnaHistory(payload.qnaHistory() != null ? payload.qnaHistory() : List.of())
+          .preflightUrls(List.of(s3Util.generateDownloadPresignedUrl(outbox.getPreflightS3Key())))
+          .build();
+      return new InterviewEndRequest(outbox.getInterviewId(), outbox.getPreflightS3Key(), input);
+    });
+  }
+
+  /**
+   * 전송 성공 처리 (선점을 유지한 경우에만)
+   * 같은 트랜잭션에서 InterviewEndedEvent를 발행하여 커밋 후 리포트 업데이트가 이어지도록 함
+   * @return 반영 여부 (선점을 잃었으면 다른 노드의 전송 결과를 따르므로 이벤트를 발행하지 않음)
+   */
+  @Transactional
+  public boolean markDispatched(Long outboxId, LocalDateTime lease,
+      AiEndInterviewResponse response) {
+    InterviewEndOutbox outbox = findOutbox(outboxId);
+    LocalDateTime now = LocalDateTime.now();
+    if (interviewEndOutboxRepository.release(outboxId, OutboxStatus.PENDING, lease,
+        OutboxStatus.DISPATCHED, outbox.getNextAttemptAt(), null, now) != 1) {
+      log.warn("[InterviewEndOutboxService] 선점 상실 - 전송 결과 폐기 (outboxId={}, interviewId={})",
+          outboxId, outbox.getInterviewId());
+      return false;
+    }
+    eventPublisher.publishEvent(new InterviewEndedEvent(outbox.getInterviewId(), response));
+    log.info("[InterviewEndOutboxService] 면접 종료 전송 완료 - outboxId={}, interviewId={}, 시도={}",
+        outboxId, outbox.getInterviewId(), outbox.getAttempts());
+    return true;
+  }
+
+  /**
+   * 전송 실패 처리 (지수 백오프로 재시도 예약, 최대 횟수 초과 시 FAILED) - 선점을 유지한 경우에만
+   * @return 더 이상 재시도하지 않는 경우 해당 면접 ID, 재시도가 예약되었거나 선점을 잃은 경우 empty
+   */
+  @Transactional
+  public Optional<Long> markAttemptFailed(Long outboxId, LocalDateTime lease, String error) {
+    InterviewEndOutbox outbox = findOutbox(outboxId);
+    LocalDateTime now = LocalDateTime.now();
+    String lastError = InterviewEndOutbox.truncateError(error);
+    boolean exhausted = outbox.getAttempts() >= maxAttempts;
+    Duration backoff = Duration.ofSeconds(retryBaseSeconds << (outbox.getAttempts() - 1));
+
+    int updated = exhausted
+        ? interviewEndOutboxRepository.release(outboxId, OutboxStatus.PENDING, lease,
+            OutboxStatus.FAILED, outbox.getNextAttemptAt(), lastError, now)
+        : interviewEndOutboxRepository.release(outboxId, OutboxStatus.PENDING, lease,
+            OutboxStatus.PENDING, now.plus(backoff), lastError, now);
+    if (updated != 1) {
+      log.warn("[InterviewEndOutboxService] 선점 상실 - 실패 기록 생략 (outboxId={}, interviewId={})",
+          outboxId, outbox.getInterviewId());
+      return Optional.empty();
+    }
+
+    if (exhausted) {
+      log.error("[InterviewEndOutboxService] 최대 재시도 초과 - outboxId={}, interviewId={}, 시도={}",
+          outboxId, outbox.getInterviewId(), outbox.getAttempts());
+      return Optional.of(outbox.getInterviewId());
+    }
+    log.warn("[InterviewEndOutboxService] 재시도 예약 - outboxId={}, 시도={}/{}, 대기={}초",
+        outboxId, outbox.getAttempts(), maxAttempts, backoff.getSeconds());
+    return Optional.empty();
+  }
+
+  // DB 컬럼 정밀도와 무관하게 같은 값으로 비교되도록 초 단위로 자름
+  private LocalDateTime leaseUntil(LocalDateTime now) {
+    return now.plusSeconds(leaseSeconds).truncatedTo(ChronoUnit.SECONDS);
+  }
+
+  private InterviewEndOutbox findOutbox(Long outboxId) {
+    return interviewEndOutboxRepository.findById(outboxId).orElseThrow(() -> {
+      log.warn("[InterviewEndOutboxService] 아웃박스 없음 - outboxId={}", outboxId);
+      return ApiException.of(HttpStatus.INTERNAL_SERVER_ERROR, ErrorMessage.INTERNAL_SERVER_ERROR);
+    });
+  }
+
+  private String writePayload(InterviewEndOutboxPayload payload) {
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      log.error("[InterviewEndOutboxService] 아웃박스 직렬화 실패 - {}", e.getMessage());
+      throw ApiException.of(HttpStatus.INTERNAL_SERVER_ERROR, ErrorMessage.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  private InterviewEndOutboxPayload readPayload(String json) {
+    try {
+      return objectMapper.readValue(json, InterviewEndOutboxPayload.class);
+    } catch (JsonProcessingException e) {
+      log.error("[InterviewEndOutboxService] 아웃박스 역직렬화 실패 - {}", e.getMessage());
+      throw ApiException.of(HttpStatus.INTERNAL_SERVER_ERROR, ErrorMessage.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  public record InterviewEndRequest(
+      Long interviewId,
+      String preflightS3Key,
+      AiEndInterviewInput input
+  ) {}
+}
@@ -1,5 +1,6 @@
 package com.ssafy.s13p21b204.interview.service;
 
+import com.ssafy.s13p21b204.global.fastapi.dto.AiInterviewResponse;
 import com.ssafy.s13p21b204.global.util.S3Util.S3UploadInfo;
 import com.ssafy.s13p21b204.interview.dto.DemoInterviewResponseDto;
 import com.ssafy.s13p21b204.interview.dto.InterviewEndRequestDto;
@@ -8,8 +9,11 @@ import com.ssafy.s13p21b204.interview.dto.InterviewQuestionResponseDto;
 import com.ssafy.s13p21b204.interview.dto.InterviewReplyRequestDto;
 import com.ssafy.s13p21b204.interview.dto.InterviewRequestDto;
 import com.ssafy.s13p21b204.interview.dto.InterviewResponseDto;
+import com.ssafy.s13p21b204.interview.dto.RelatedQuestionAiRequest;
+import com.ssafy.s13p21b204.interview.dto.RelatedQuestionJobResponseDto;
 import com.ssafy.s13p21b204.interview.dto.RelatedQuestionResponseDto;
 import com.ssafy.s13p21b204.resume.entity.Resume;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface InterviewService {
@@ -34,6 +38,73 @@ public interface InterviewService {
      */
     RelatedQuestionResponseDto registerReplyWithRelatedQuestion(Long userId, InterviewReplyRequestDto interviewReplyRequestDto);
 
+    /**
+     * 답변 등록 준비 (리액티브 흐름 1단계)
+     * 업로드 티켓 검증과 권한 확인 후 STT에 전달할 Presigned URL을 반환합니다.
+     *
+     * @return 답변 오디오 다운로드용 Presigned URL
+     */
+    String prepareReply(Long userId, InterviewReplyRequestDto interviewReplyRequestDto);
+
+    /**
+     * 답변 오디오 업로드 완료 알림
+     * 본인의 진행 중인 면접 질문에 대한 답변일 때만 선행 STT를 시작합니다.
+     */
+    void notifyReplyUploaded(Long userId, InterviewReplyRequestDto interviewReplyRequestDto);
+
+    /**
+     * STT 결과로 Reply 저장 (리액티브 흐름 3단계)
+     */
+    void saveReply(Long questionId, String s3Key, String convertedText);
+
+    /**
+     * 꼬리질문 요청 준비 (리액티브 흐름 1단계)
+     * 권한 확인 후 FastAPI answer 입력을 구성합니다.
+     */
+    RelatedQuestionAiRequest prepareRelatedQuestion(Long userId, InterviewReplyRequestDto interviewReplyRequestDto);
+
+    /**
+     * AI 응답으로 Reply 저장 및 꼬리질문 생성 (리액티브 흐름 3단계)
+     */
+    RelatedQuestionResponseDto saveRelatedQuestion(RelatedQuestionAiRequest request, String s3Key,
+        AiInterviewResponse aiInterviewResponse);
+
+    /**
+     * 질문에 대한 유저의 답변을 접수하고 꼬리질문 생성 작업을 등록 (비동기)
+     * AI 호출은 트랜잭션 커밋 후 별도 스레드에서 수행되며, 결과는 SSE 또는 작업 조회로 전달됩니다.
+     *
+     * @param userId 사용자 ID
+     * @param interviewReplyRequestDto 답변 정보 (questionId, s3Key)
+     * @return PENDING 상태의 작업 정보 (jobId)
+     */
+    RelatedQuestionJobResponseDto acceptReplyWithRelatedQuestion(Long userId, InterviewReplyRequestDto interviewReplyRequestDto);
+
+    /**
+     * 꼬리질문 생성 작업 완료 처리
+     * AI 응답으로 Reply를 저장하고 자식 InterviewQuestion을 생성합니다.
+     *
+     * @param jobId 작업 ID
+     * @param aiInterviewResponse FastAPI answer 응답
+     */
+    void completeRelatedQuestionJob(String jobId, AiInterviewResponse aiInterviewResponse);
+
+    /**
+     * 꼬리질문 생성 작업 실패 처리
+     *
+     * @param jobId 작업 ID
+     */
+    void failRelatedQuestionJob(String jobId);
+
+    /**
+     * 처리되지 않은 채 남은 꼬리질문 생성 작업 실패 처리
+     * 실행 노드 종료 등으로 결과가 기록되지 않은 PENDING 작업을 FAILED로 전환합니다.
+     *
+     * @param cutoff 이 시각 이전에 접수된 작업만 대상
+     * @param limit 1회 처리 최대 건수
+     * @return FAILED로 전환한 작업 ID 목록
+     */
+    List<String> failStaleRelatedQuestionJobs(LocalDateTime cutoff, int limit);
+
     /**
      * 인터뷰 오디오 파일(.wav) 업로드용 Presigned URL 발급
      *
@@ -0,0 +1,98 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import com.ssafy.s13p21b204.global.exception.ApiException;
+import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import com.ssafy.s13p21b204.global.fastapi.AiClient;
+import com.ssafy.s13p21b204.interview.dto.InterviewEndRequestDto;
+import com.ssafy.s13p21b204.interview.dto.InterviewReplyRequestDto;
+import com.ssafy.s13p21b204.interview.dto.RelatedQuestionResponseDto;
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AI 호출이 포함된 면접 API의 리액티브 흐름 (interview.reactive.enabled=true 일 때 사용)
+ *
+ * 조회/권한 확인(JPA) → FastAPI 호출(논블로킹) → 저장(JPA) 순으로 Mono를 조합한다.
+ * JPA 단계만 interviewPersistenceExecutor에서 짧은 트랜잭션으로 실행하고,
+ * FastAPI 응답을 기다리는 동안에는 어떤 스레드도 점유하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveInterviewService {
+
+  private final InterviewService interviewService;
+  private final AiClient aiClient;
+  private final SpeculativeSttService speculativeSttService;
+  private final ThreadPoolTaskExecutor interviewPersistenceExecutor;
+
+  private Scheduler persistenceScheduler;
+
+  @PostConstruct
+  public void init() {
+    persistenceScheduler = Schedulers.fromExecutor(interviewPersistenceExecutor);
+  }
+
+  /**
+   * 답변 등록 (꼬리질문 없음): 티켓 검증 → STT(선행 결과 우선) → Reply 저장
+   */
+  public Mono<Void> registerReply(Long userId, InterviewReplyRequestDto interviewReplyRequestDto) {
+    return persist(() -> interviewService.prepareReply(userId, interviewReplyRequestDto))
+        .flatMap(preSignedUrl -> speculativeSttService
+            .findTranscript(interviewReplyRequestDto.s3Key())
+            .switchIfEmpty(Mono.defer(() -> aiClient.transcribeAudioReactive(preSignedUrl))))
+        .flatMap(convertedText -> persist(() -> {
+          interviewService.saveReply(interviewReplyRequestDto.questionId(),
+              interviewReplyRequestDto.s3Key(), convertedText);
+          return convertedText;
+        }))
+        .doOnSuccess(convertedText -> log.info(
+            "[ReactiveInterviewService] 답변 등록 완료 - questionId={}",
+            interviewReplyRequestDto.questionId()))
+        .then();
+  }
+
+  /**
+   * 답변 등록 및 꼬리질문 생성: 입력 구성 → FastAPI answer → Reply/꼬리질문 저장
+   */
+  public Mono<RelatedQuestionResponseDto> registerReplyWithRelatedQuestion(Long userId,
+      InterviewReplyRequestDto interviewReplyRequestDto) {
+    return persist(() -> interviewService.prepareRelatedQuestion(userId, interviewReplyRequestDto))
+        .flatMap(request -> aiClient.answerInterviewReactive(request.aiInput())
+            .switchIfEmpty(Mono.error(() -> ApiException.of(HttpStatus.BAD_GATEWAY,
+                ErrorMessage.AI_SERVICE_CALL_FAILED)))
+            .flatMap(response -> persist(() -> interviewService.saveRelatedQuestion(request,
+                interviewReplyRequestDto.s3Key(), response))));
+  }
+
+  /**
+   * 면접 종료 (FastAPI 호출은 아웃박스로 처리되므로 트랜잭션만 오프로딩)
+   */
+  public Mono<Void> endInterview(Long userId, InterviewEndRequestDto interviewEndRequestDto) {
+    return persist(() -> {
+      interviewService.endInterview(userId, interviewEndRequestDto);
+      return interviewEndRequestDto.interviewId();
+    }).then();
+  }
+
+  /**
+   * 블로킹 JPA 작업을 영속성 실행기에서 수행 (실행기 포화 시 503)
+   */
+  private <T> Mono<T> persist(Callable<T> work) {
+    return Mono.fromCallable(work)
+        .subscribeOn(persistenceScheduler)
+        .onErrorMap(RejectedExecutionException.class, e -> {
+          log.warn("[ReactiveInterviewService] 영속성 실행기 포화 - {}", e.getMessage());
+          return ApiException.of(HttpStatus.SERVICE_UNAVAILABLE, ErrorMessage.SERVER_BUSY);
+        });
+  }
+}
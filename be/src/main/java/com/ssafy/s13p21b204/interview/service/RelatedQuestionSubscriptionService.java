@@ -0,0 +1,169 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import com.ssafy.s13p21b204.global.exception.ApiException;
+import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import com.ssafy.s13p21b204.global.util.S3Util;
+import com.ssafy.s13p21b204.interview.dto.RelatedQuestionJobResponseDto;
+import com.ssafy.s13p21b204.interview.dto.RelatedQuestionResponseDto;
+import com.ssafy.s13p21b204.interview.entity.RelatedQuestionJob;
+import com.ssafy.s13p21b204.interview.entity.RelatedQuestionJob.JobStatus;
+import com.ssafy.s13p21b204.interview.repository.InterviewQuestionRepository;
+import com.ssafy.s13p21b204.interview.repository.RelatedQuestionJobRepository;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 꼬리질문 생성 작업 결과 전달 (SSE)
+ *
+ * 클라이언트는 답변 접수(202) 후 받은 jobId로 연결을 열어두고 대기한다.
+ * 작업이 DONE/FAILED 상태가 되면 related-question 이벤트를 한 번 보내고 연결을 종료한다.
+ * 구독 정보는 인스턴스 메모리에 보관하므로, 다중 인스턴스 배포 시에는 sticky 라우팅 또는 작업 조회 API를 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RelatedQuestionSubscriptionService {
+
+  private static final String EVENT_NAME = "related-question";
+
+  private final RelatedQuestionJobRepository relatedQuestionJobRepository;
+  private final InterviewQuestionRepository interviewQuestionRepository;
+  private final S3Util s3Util;
+
+  // jobId -> 해당 작업 결과를 기다리는 연결 목록
+  private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+  @Value("${interview.related-question.subscription.timeout-ms:120000}")
+  private long timeoutMs;
+
+  /**
+   * 꼬리질문 생성 작업 구독
+   * 이미 끝난 작업이라면 즉시 결과를 보내고 연결을 종료한다.
+   * @param userId 사용자 ID
+   * @param jobId 작업 ID
+   * @return SSE 연결
+   */
+  @Transactional(readOnly = true)
+  public SseEmitter subscribe(Long userId, String jobId) {
+    log.info("[RelatedQuestionSubscriptionService] 꼬리질문 작업 구독 시도 - jobId={}, userId={}",
+        jobId, userId);
+
+    findOwnedJob(userId, jobId);
+
+    SseEmitter emitter = new SseEmitter(timeoutMs);
+    List<SseEmitter> waiting = emitters.computeIfAbsent(jobId, k -> new CopyOnWriteArrayList<>());
+    waiting.add(emitter);
+    emitter.onCompletion(() -> remove(jobId, emitter));
+    emitter.onTimeout(() -> {
+      log.info("[RelatedQuestionSubscriptionService] 구독 시간 초과 - jobId={}", jobId);
+      emitter.complete();
+    });
+    emitter.onError(e -> remove(jobId, emitter));
+
+    // 등록 이후에 현재 상태를 확인해야 등록 직전에 완료된 알림을 놓치지 않음
+    RelatedQuestionJob current = relatedQuestionJobRepository.findById(jobId).orElseThrow();
+    if (!current.isPending()) {
+      log.info("[RelatedQuestionSubscriptionService] 이미 처리된 작업 - 즉시 전송 (jobId={}, 상태={})",
+          jobId, current.getStatus());
+      send(jobId, emitter, toResponse(current));
+    }
+    return emitter;
+  }
+
+  /**
+   * 꼬리질문 생성 작업 조회 (SSE를 사용할 수 없는 클라이언트용)
+   * @param userId 사용자 ID
+   * @param jobId 작업 ID
+   * @return 작업 상태 및 생성된 꼬리질문
+   */
+  @Transactional(readOnly = true)
+  public RelatedQuestionJobResponseDto getJob(Long userId, String jobId) {
+    return toResponse(findOwnedJob(userId, jobId));
+  }
+
+  /**
+   * 꼬리질문 작업 결과 알림 전송 (작업 완료 또는 실패 처리 후 호출)
+   * @param jobId 작업 ID
+   */
+  @Transactional(readOnly = true)
+  public void notifyJobStatus(String jobId) {
+    List<SseEmitter> waiting = emitters.get(jobId);
+    if (waiting == null || waiting.isEmpty()) {
+      log.info("[RelatedQuestionSubscriptionService] 구독자 없음 - 알림 생략 (jobId={})", jobId);
+      return;
+    }
+
+    RelatedQuestionJob job = relatedQuestionJobRepository.findById(jobId).orElse(null);
+    if (job == null || job.isPending()) {
+      log.warn("[RelatedQuestionSubscriptionService] 처리되지 않은 작업 - 알림 생략 (jobId={})", jobId);
+      return;
+    }
+
+    RelatedQuestionJobResponseDto response = toResponse(job);
+    log.info("[RelatedQuestionSubscriptionService] 꼬리질문 작업 알림 전송 - jobId={}, 상태={}, 구독자 수={}",
+        jobId, job.getStatus(), waiting.size());
+    for (SseEmitter emitter : waiting) {
+      send(jobId, emitter, response);
+    }
+  }
+
+  private RelatedQuestionJob findOwnedJob(Long userId, String jobId) {
+    RelatedQuestionJob job = relatedQuestionJobRepository.findById(jobId).orElseThrow(() -> {
+      log.warn("[RelatedQuestionSubscriptionService] 작업 없음 - jobId={}", jobId);
+      return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.RELATED_QUESTION_JOB_NOT_FOUND);
+    });
+
+    if (!job.getUserId().equals(userId)) {
+      log.warn("[RelatedQuestionSubscriptionService] 접근 권한 없음 - jobId={}, userId={}", jobId, userId);
+      throw ApiException.of(HttpStatus.FORBIDDEN, ErrorMessage.ACCESS_DENIED);
+    }
+    return job;
+  }
+
+  private RelatedQuestionJobResponseDto toResponse(RelatedQuestionJob job) {
+    if (job.getStatus() != JobStatus.DONE || job.getChildQuestionId() == null) {
+      return RelatedQuestionJobResponseDto.of(job, null);
+    }
+
+    RelatedQuestionResponseDto relatedQuestion = interviewQuestionRepository
+        .findById(job.getChildQuestionId())
+        .map(question -> new RelatedQuestionResponseDto(
+            question.getInterviewQuestionId(),
+            s3Util.generateDownloadPresignedUrl(question.getS3Key()),
+            question.getContent(),
+            question.getDifficult()))
+        .orElse(null);
+    return RelatedQuestionJobResponseDto.of(job, relatedQuestion);
+  }
+
+  private void send(String jobId, SseEmitter emitter, RelatedQuestionJobResponseDto response) {
+    try {
+      emitter.send(SseEmitter.event()
+          .name(EVENT_NAME)
+          .data(response, MediaType.APPLICATION_JSON));
+      emitter.complete();
+    } catch (IOException | IllegalStateException e) {
+      // 클라이언트가 이미 연결을 끊은 경우
+      log.info("[RelatedQuestionSubscriptionService] 알림 전송 실패 - 연결 종료됨 (jobId={})", jobId);
+      remove(jobId, emitter);
+    }
+  }
+
+  private void remove(String jobId, SseEmitter emitter) {
+    emitters.computeIfPresent(jobId, (k, list) -> {
+      list.remove(emitter);
+      return list.isEmpty() ? null : list;
+    });
+  }
+}
@@ -0,0 +1,189 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import com.ssafy.s13p21b204.global.fastapi.AiClient;
+import com.ssafy.s13p21b204.global.redis.RedisDao;
+import com.ssafy.s13p21b204.global.util.S3Util;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 답변 오디오 업로드 완료 시점의 선행 STT
+ *
+ * 클라이언트가 업로드 완료를 알리면(/presigned-url/uploaded) 답변 등록 요청을 기다리지 않고
+ * STT를 시작하여 결과를 Redis(stt:transcript:{s3Key})에 저장한다.
+ * 답변 등록 시 결과가 있으면 그대로 사용하고, 같은 인스턴스에서 진행 중이면 완료를 기다린다.
+ * 결과가 없거나 실패한 경우에는 기존처럼 답변 등록 시점에 STT를 호출한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpeculativeSttService {
+
+  private static final String TRANSCRIPT_KEY_PREFIX = "stt:transcript:";
+  private static final String PENDING_KEY_PREFIX = "stt:pending:";
+
+  // 업로드 티켓과 같은 유효 시간 (티켓 만료 후에는 답변 등록 자체가 불가)
+  private static final long TRANSCRIPT_TTL_SECONDS = 900;
+
+  private final AiClient aiClient;
+  private final S3Util s3Util;
+  private final RedisDao redisDao;
+  private final ThreadPoolTaskExecutor speculativeSttExecutor;
+  private final MeterRegistry meterRegistry;
+
+  // 이 인스턴스에서 진행 중인 선행 STT (답변 등록 요청이 완료를 기다릴 수 있도록)
+  private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+  // 진행 표시 유지 시간 (STT 타임아웃보다 길게)
+  @Value("${interview.speculative-stt.pending-ttl-seconds:120}")
+  private long pendingTtlSeconds;
+
+  // 답변 등록 시 진행 중인 선행 STT를 기다리는 최대 시간
+  @Value("${interview.speculative-stt.await-timeout-ms:30000}")
+  private long awaitTimeoutMs;
+
+  /**
+   * 업로드 완료 알림 처리: 티켓 검증 후 선행 STT 시작 (이미 시작했거나 결과가 있으면 무시)
+   *
+   * @param s3Key 업로드 완료된 답변 오디오 S3 Key
+   */
+  public void onUploaded(String s3Key) {
+    s3Util.validateS3Ticket(s3Key);
+
+    if (redisDao.getSttTranscript(TRANSCRIPT_KEY_PREFIX + s3Key) != null) {
+      log.info("[SpeculativeSttService] 이미 변환된 답변 - s3Key={}", s3Key);
+      return;
+    }
+    if (!redisDao.setSttPendingIfAbsent(PENDING_KEY_PREFIX + s3Key, pendingTtlSeconds)) {
+      log.info("[SpeculativeSttService] 선행 STT 진행 중 - s3Key={}", s3Key);
+      return;
+    }
+
+    CompletableFuture<String> future = new CompletableFuture<>();
+    inFlight.put(s3Key, future);
+    try {
+      speculativeSttExecutor.execute(() -> transcribe(s3Key, future));
+    } catch (TaskRejectedException e) {
+      // 선행 처리일 뿐이므로 버리고 답변 등록 시점의 STT에 맡김
+      log.warn("[SpeculativeSttService] 실행기 포화로 선행 STT 생략 - s3Key={}", s3Key);
+      release(s3Key, future);
+      future.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * 선행 STT 결과 조회 (진행 중이면 awaitTimeoutMs까지 대기)
+   *
+   * @param s3Key 답변 오디오 S3 Key
+   * @return 변환된 텍스트 (없거나 실패하면 empty)
+   */
+  public Optional<String> awaitTranscript(String s3Key) {
+    String cached = readTranscript(s3Key);
+    if (cached != null) {
+      return hit(s3Key, cached);
+    }
+
+    CompletableFuture<String> future = inFlight.get(s3Key);
+    if (future != null) {
+      try {
+        return hit(s3Key, future.get(awaitTimeoutMs, TimeUnit.MILLISECONDS));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Exception e) {
+        log.warn("[SpeculativeSttService] 선행 STT 결과 대기 실패 - s3Key={}, error={}",
+            s3Key, e.getMessage());
+      }
+    }
+    return miss();
+  }
+
+  /**
+   * 선행 STT 결과 조회 (리액티브 - 진행 중이면 스레드를 점유하지 않고 완료를 기다림)
+   *
+   * @param s3Key 답변 오디오 S3 Key
+   * @return 변환된 텍스트 (없거나 실패하면 empty)
+   */
+  public Mono<String> findTranscript(String s3Key) {
+    return Mono.defer(() -> {
+      String cached = readTranscript(s3Key);
+      if (cached != null) {
+        return Mono.justOrEmpty(hit(s3Key, cached));
+      }
+
+      CompletableFuture<String> future = inFlight.get(s3Key);
+      if (future == null) {
+        return Mono.justOrEmpty(miss());
+      }
+      return Mono.fromFuture(future)
+          .timeout(Duration.ofMillis(awaitTimeoutMs))
+          .flatMap(text -> Mono.justOrEmpty(hit(s3Key, text)))
+          .onErrorResume(e -> {
+            log.warn("[SpeculativeSttService] 선행 STT 결과 대기 실패 - s3Key={}, error={}",
+                s3Key, e.getMessage());
+            return Mono.justOrEmpty(miss());
+          });
+    });
+  }
+
+  private void transcribe(String s3Key, CompletableFuture<String> future) {
+    log.info("[SpeculativeSttService] 선행 STT 시작 - s3Key={}", s3Key);
+    try {
+      String preSignedUrl = s3Util.generateDownloadPresignedUrl(s3Key);
+      String convertedText = aiClient.transcribeAudio(preSignedUrl);
+      redisDao.setSttTranscript(TRANSCRIPT_KEY_PREFIX + s3Key, convertedText,
+          TRANSCRIPT_TTL_SECONDS);
+      future.complete(convertedText);
+      log.info("[SpeculativeSttService] 선행 STT 완료 - s3Key={}, 텍스트 길이={}", s3Key,
+          convertedText.length());
+    } catch (Exception e) {
+      log.warn("[SpeculativeSttService] 선행 STT 실패 - s3Key={}, error={}", s3Key,
+          e.getMessage());
+      future.completeExceptionally(e);
+    } finally {
+      release(s3Key, future);
+    }
+  }
+
+  private String readTranscript(String s3Key) {
+    try {
+      return redisDao.getSttTranscript(TRANSCRIPT_KEY_PREFIX + s3Key);
+    } catch (Exception e) {
+      log.warn("[SpeculativeSttService] 선행 STT 결과 조회 실패 - s3Key={}, error={}", s3Key,
+          e.getMessage());
+      return null;
+    }
+  }
+
+  private void release(String s3Key, CompletableFuture<String> future) {
+    inFlight.remove(s3Key, future);
+    try {
+      redisDao.deleteSttPending(PENDING_KEY_PREFIX + s3Key);
+    } catch (Exception e) {
+      log.warn("[SpeculativeSttService] 진행 표시 삭제 실패 - s3Key={}, error={}", s3Key,
+          e.getMessage());
+    }
+  }
+
+  private Optional<String> hit(String s3Key, String convertedText) {
+    meterRegistry.counter("interview.stt.speculative", "result", "hit").increment();
+    log.info("[SpeculativeSttService] 선행 STT 결과 사용 - s3Key={}", s3Key);
+    return Optional.of(convertedText);
+  }
+
+  private Optional<String> miss() {
+    meterRegistry.counter("interview.stt.speculative", "result", "miss").increment();
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,222 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import com.ssafy.s13p21b204.global.redis.RedisDao;
+import com.ssafy.s13p21b204.global.util.S3Util;
+import com.ssafy.s13p21b204.interview.entity.InterviewQuestion;
+import com.ssafy.s13p21b204.interview.repository.InterviewQuestionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 질문 TTS 저장 중복 제거 (내용 주소 기반, 기본 꺼짐)
+ *
+ * (정규화한 질문 텍스트, 면접관 음성) 해시마다 대표 S3 객체 하나를 Redis 인덱스(tts:store)에 기록하고,
+ * 같은 내용의 질문은 새로 업로드된 파일 대신 대표 객체를 참조한다. 대신 업로드된 파일은 중복 정리 대상으로 기록한다.
+ * FastAPI에 이미 있는 TTS를 알려 줄 방법이 없어 합성/업로드는 매번 일어나므로, 줄어드는 것은 S3 저장 용량뿐이다.
+ * 대표 객체는 업로드가 확인된 뒤에만 등록하여 업로드되지 않은 객체를 다른 질문이 참조하지 않도록 한다.
+ * 정리: 유예 시간이 지난 중복 파일과 어떤 질문도 참조하지 않는 대표 객체를 삭제한다.
+ * 메트릭: interview.tts.store{result=hit|miss|error}, interview.tts.store.gc.deleted{kind}
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TtsAudioStore {
+
+  private static final String INDEX_KEY = "tts:store";
+  private static final String LAST_USED_KEY = "tts:store:last-used";
+  private static final String DUPLICATES_KEY = "tts:store:duplicates";
+
+  private final RedisDao redisDao;
+  private final S3Util s3Util;
+  private final InterviewQuestionRepository interviewQuestionRepository;
+  private final ThreadPoolTaskExecutor ttsStoreGcExecutor;
+  private final MeterRegistry meterRegistry;
+
+  // 합성 비용은 줄지 않고 Redis 인덱스/정리 작업만 늘어나므로 저장 용량이 문제일 때만 켬
+  @Value("${interview.tts-store.enabled:false}")
+  private boolean enabled;
+
+  // 중복 파일/미참조 대표 객체를 삭제하기까지의 유예 시간 (FastAPI 업로드 지연, 진행 중인 트랜잭션 고려)
+  @Value("${interview.tts-store.gc-grace-seconds:86400}")
+  private long gcGraceSeconds;
+
+  // 정리 1회당 확인하는 최대 항목 수 (중복 파일, 대표 객체 각각)
+  @Value("${interview.tts-store.gc-batch-size:200}")
+  private int gcBatchSize;
+
+  /**
+   * 질문에 저장할 TTS S3 key 결정
+   *
+   * @param content 질문 텍스트
+   * @param difficult 면접관 타입 (음성 구분)
+   * @param uploadedKey FastAPI가 이번에 업로드한(또는 업로드할) S3 key
+   * @return 같은 내용의 대표 객체가 있으면 그 key, 없으면 uploadedKey
+   */
+  public String resolve(String content, InterviewQuestion.Difficult difficult,
+      String uploadedKey) {
+    if (!enabled) {
+      return uploadedKey;
+    }
+    try {
+      long now = System.currentTimeMillis();
+      String stored = redisDao.getTtsObject(INDEX_KEY, LAST_USED_KEY,
+          contentHash(content, difficult), now);
+      if (stored == null || stored.equals(uploadedKey)) {
+        count("miss");
+        return uploadedKey;
+      }
+      // 업로드가 아직 끝나지 않았을 수 있으므로 바로 지우지 않고 유예 후 정리
+      redisDao.touchTtsEntry(DUPLICATES_KEY, uploadedKey, now);
+      count("hit");
+      log.debug("[TtsAudioStore] TTS 재사용 - {} → {}", uploadedKey, stored);
+      return stored;
+    } catch (Exception e) {
+      count("error");
+      log.warn("[TtsAudioStore] TTS 저장소 조회 실패 - 업로드 파일 사용: {}", e.getMessage());
+      return uploadedKey;
+    }
+  }
+
+  /**
+   * 업로드가 확인된 질문 TTS를 대표 객체로 등록 (이미 대표 객체가 있으면 유지)
+   */
+  public void register(String content, InterviewQuestion.Difficult difficult, String s3Key) {
+    if (!enabled) {
+      return;
+    }
+    try {
+      long now = System.currentTimeMillis();
+      String stored = redisDao.registerTtsObject(INDEX_KEY, LAST_USED_KEY,
+          contentHash(content, difficult), s3Key, now);
+      if (stored != null && !stored.equals(s3Key)) {
+        // 동시에 같은 내용이 먼저 등록된 경우: 이 질문이 참조하는 동안은 정리 시 유지됨
+        redisDao.touchTtsEntry(DUPLICATES_KEY, s3Key, now);
+      }
+    } catch (Exception e) {
+      log.warn("[TtsAudioStore] TTS 저장소 등록 실패 - s3Key={}: {}", s3Key, e.getMessage());
+    }
+  }
+
+  /**
+   * S3 업로드 여부를 확인한 뒤 대표 객체로 등록 (업로드 검증 단계가 없는 꼬리질문용)
+   * S3 HEAD 호출이 있으므로 트랜잭션 밖(꼬리질문 저장 커밋 후 RelatedQuestionTtsEventListener)에서 호출
+   */
+  public void registerIfUploaded(String content, InterviewQuestion.Difficult difficult,
+      String s3Key) {
+    if (enabled && s3Util.doesObjectExist(s3Key)) {
+      register(content, difficult, s3Key);
+    }
+  }
+
+  /**
+   * 주기 정리 (스케줄러 스레드를 점유하지 않도록 실행기에 위임, 이전 정리가 진행 중이면 생략)
+   */
+  @Scheduled(fixedDelayString = "${interview.tts-store.gc-interval-ms:3600000}",
+      initialDelayString = "${interview.tts-store.gc-initial-delay-ms:60000}")
+  public void collectGarbage() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      ttsStoreGcExecutor.execute(this::sweep);
+    } catch (TaskRejectedException e) {
+      log.debug("[TtsAudioStore] 이전 정리 진행 중 - 이번 주기 생략");
+    }
+  }
+
+  void sweep() {
+    long now = System.currentTimeMillis();
+    long cutoff = now - gcGraceSeconds * 1000;
+    int duplicates = 0;
+    int unreferenced = 0;
+
+    // 1. 대표 객체로 대체된 중복 업로드 파일
+    for (String s3Key : redisDao.findTtsEntriesBefore(DUPLICATES_KEY, cutoff, gcBatchSize)) {
+      try {
+        if (interviewQuestionRepository.existsByS3Key(s3Key)) {
+          // 등록 경합으로 남은 파일은 참조하는 질문이 있는 동안 유지 (유예 후 다시 확인)
+          redisDao.touchTtsEntry(DUPLICATES_KEY, s3Key, now);
+          continue;
+        }
+        s3Util.deleteObject(s3Key);
+        redisDao.removeTtsEntry(DUPLICATES_KEY, s3Key);
+        duplicates++;
+      } catch (Exception e) {
+        log.warn("[TtsAudioStore] 중복 파일 정리 실패 - s3Key={}: {}", s3Key, e.getMessage());
+      }
+    }
+
+    // 2. 어떤 질문도 참조하지 않는 대표 객체 (질문 저장 트랜잭션 롤백 등)
+    for (String contentHash : redisDao.findTtsEntriesBefore(LAST_USED_KEY, cutoff, gcBatchSize)) {
+      try {
+        String s3Key = redisDao.peekTtsObject(INDEX_KEY, contentHash);
+        if (s3Key != null && interviewQuestionRepository.existsByS3Key(s3Key)) {
+          redisDao.touchTtsEntry(LAST_USED_KEY, contentHash, now);
+          continue;
+        }
+        // 확인 이후 재사용된 경우(마지막 사용 시각 갱신) 제거하지 않음
+        if (redisDao.removeStaleTtsObject(INDEX_KEY, LAST_USED_KEY, contentHash, cutoff)
+            && s3Key != null) {
+          s3Util.deleteObject(s3Key);
+          unreferenced++;
+        }
+      } catch (Exception e) {
+        log.warn("[TtsAudioStore] 대표 객체 정리 실패 - hash={}: {}", contentHash,
+            e.getMessage());
+      }
+    }
+
+    deleted("duplicate", duplicates);
+    deleted("unreferenced", unreferenced);
+    if (duplicates + unreferenced > 0) {
+      log.info("[TtsAudioStore] TTS 저장소 정리 완료 - 중복 {}건, 미참조 {}건 삭제", duplicates,
+          unreferenced);
+    }
+  }
+
+  /**
+   * (정규화한 텍스트, 면접관 음성)의 SHA-256
+   * 정규화: 유니코드 NFC, 앞뒤 공백 제거, 연속 공백을 공백 하나로
+   */
+  static String contentHash(String content, InterviewQuestion.Difficult difficult) {
+    String normalized = Normalizer.normalize(content != null ? content : "", Normalizer.Form.NFC)
+        .strip()
+        .replaceAll("\\s+", " ");
+    String voice = difficult != null ? difficult.name() : InterviewQuestion.Difficult.LAX.name();
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest((voice + "\n" + normalized).getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void count(String result) {
+    Counter.builder("interview.tts.store")
+        .description("질문 TTS 저장소 조회 결과 (hit: 기존 객체 재사용)")
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private void deleted(String kind, int amount) {
+    Counter.builder("interview.tts.store.gc.deleted")
+        .description("TTS 저장소 정리로 삭제한 S3 객체 수")
+        .tag("kind", kind)
+        .register(meterRegistry)
+        .increment(amount);
+  }
+}
@@ -1,11 +1,7 @@
 package com.ssafy.s13p21b204.interview.service.impl;
 
-import com.ssafy.s13p21b204.answer.entity.Answer;
-import com.ssafy.s13p21b204.answer.repository.AnswerRepository;
 import com.ssafy.s13p21b204.global.entity.ProgressStatus;
 import com.ssafy.s13p21b204.global.fastapi.AiClient;
-import com.ssafy.s13p21b204.global.fastapi.dto.AiEndInterviewInput;
-import com.ssafy.s13p21b204.global.fastapi.dto.AiEndInterviewResponse;
 import com.ssafy.s13p21b204.global.fastapi.dto.AiInterviewInput;
 import com.ssafy.s13p21b204.global.fastapi.dto.AiInterviewResponse;
 import com.ssafy.s13p21b204.global.fastapi.dto.AiResumeQAItem;
@@ -14,40 +10,58 @@ import com.ssafy.s13p21b204.global.exception.ErrorMessage;
 import com.ssafy.s13p21b204.global.util.S3Util;
 import com.ssafy.s13p21b204.global.util.S3Util.S3UploadInfo;
 import com.ssafy.s13p21b204.interview.dto.DemoInterviewResponseDto;
+import com.ssafy.s13p21b204.interview.dto.InterviewContextSnapshot;
+import com.ssafy.s13p21b204.interview.dto.InterviewEndOutboxPayload;
 import com.ssafy.s13p21b204.interview.dto.InterviewEndRequestDto;
 import com.ssafy.s13p21b204.interview.dto.InterviewQuestionResponseDto;
 import com.ssafy.s13p21b204.interview.dto.InterviewReplyRequestDto;
+import com.ssafy.s13p21b204.interview.dto.RelatedQuestionAiRequest;
+import com.ssafy.s13p21b204.interview.dto.RelatedQuestionJobResponseDto;
 import com.ssafy.s13p21b204.interview.dto.RelatedQuestionResponseDto;
 import com.ssafy.s13p21b204.company.entity.Company;
 import com.ssafy.s13p21b204.company.repository.CompanyRepository;
 import com.ssafy.s13p21b204.jobPosting.repository.JobPostingRepository;
-import java.util.Comparator;
 import com.ssafy.s13p21b204.interview.entity.Interview;
 import com.ssafy.s13p21b204.interview.entity.InterviewQuestion;
+import com.ssafy.s13p21b204.interview.entity.RelatedQuestionJob;
+import com.ssafy.s13p21b204.interview.entity.RelatedQuestionJob.JobStatus;
 import com.ssafy.s13p21b204.interview.entity.Reply;
-import com.ssafy.s13p21b204.interview.event.InterviewEndedEvent;
+import com.ssafy.s13p21b204.interview.event.InterviewCompletedEvent;
+import com.ssafy.s13p21b204.interview.event.InterviewReplySavedEvent;
+import com.ssafy.s13p21b204.interview.event.RelatedQuestionRequestedEvent;
+import com.ssafy.s13p21b204.interview.event.RelatedQuestionTtsSavedEvent;
 import com.ssafy.s13p21b204.interview.repository.InterviewQuestionRepository;
 import com.ssafy.s13p21b204.interview.repository.InterviewRepository;
+import com.ssafy.s13p21b204.interview.repository.RelatedQuestionJobRepository;
 import com.ssafy.s13p21b204.interview.repository.ReplyRepository;
+import com.ssafy.s13p21b204.interview.service.DemoInterviewCreationService;
+import com.ssafy.s13p21b204.interview.service.DemoInterviewCreationService.DemoInterview;
+import com.ssafy.s13p21b204.interview.service.DemoInterviewPoolService;
+import com.ssafy.s13p21b204.interview.service.InterviewContextService;
+import com.ssafy.s13p21b204.interview.service.InterviewEndOutboxService;
 import com.ssafy.s13p21b204.interview.service.InterviewService;
+import com.ssafy.s13p21b204.interview.service.SpeculativeSttService;
+import com.ssafy.s13p21b204.interview.service.TtsAudioStore;
 import com.ssafy.s13p21b204.jobPosting.entity.JobPosting;
-import com.ssafy.s13p21b204.report.service.ReportService;
 import com.ssafy.s13p21b204.resume.entity.Resume;
-import com.ssafy.s13p21b204.resume.event.InterviewStatusService;
 import com.ssafy.s13p21b204.resume.repository.ResumeRepository;
 import com.ssafy.s13p21b204.notification.service.FirebasePushService;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
@@ -58,15 +72,20 @@ public class InterviewServiceImpl implements InterviewService {
   private final ResumeRepository resumeRepository;
   private final InterviewQuestionRepository interviewQuestionRepository;
   private final ReplyRepository replyRepository;
-  private final AnswerRepository answerRepository;
   private final AiClient aiClient;
   private final S3Util s3Util;
   private final ApplicationEventPublisher eventPublisher;
-  private final ReportService reportService;
-  private final InterviewStatusService interviewStatusService;
   private final FirebasePushService firebasePushService;
   private final CompanyRepository companyRepository;
   private final JobPostingRepository jobPostingRepository;
+  private final RelatedQuestionJobRepository relatedQuestionJobRepository;
+  private final InterviewEndOutboxService interviewEndOutboxService;
+  private final InterviewContextService interviewContextService;
+  private final SpeculativeSttService speculativeSttService;
+  private final DemoInterviewPoolService demoInterviewPoolService;
+  private final DemoInterviewCreationService demoInterviewCreationService;
+  private final TtsAudioStore ttsAudioStore;
+  private final TransactionTemplate transactionTemplate;
 
 
   @Override
@@ -144,25 +163,72 @@ public class InterviewServiceImpl implements InterviewService {
     return responseDtoList;
   }
 
-  @Transactional
+  /**
+   * 선행 STT 대기와 STT 호출은 트랜잭션 밖에서 수행하고, 조회/저장 단계만 각각 짧은 트랜잭션으로 실행
+   * (STT 결과를 기다리는 동안 DB 커넥션을 점유하지 않음)
+   */
   @Override
   public void registerReply(Long userId, InterviewReplyRequestDto interviewReplyRequestDto) {
     log.info("[InterviewService] 꼬리질문 없는 답변 등록 시도 - questionId={}, s3Key={}",
         interviewReplyRequestDto.questionId(), interviewReplyRequestDto.s3Key());
 
+    // Step 1 ~ 4: 티켓 검증, 권한 확인, Presigned URL 발급
+    String preSignedUrl = transactionTemplate.execute(
+        status -> prepareReply(userId, interviewReplyRequestDto));
+
+    // Step 5: 선행 STT 결과가 있으면 사용, 없으면 FastAPI STT 엔드포인트 호출
+    String convertedText = speculativeSttService.awaitTranscript(interviewReplyRequestDto.s3Key())
+        .orElseGet(() -> aiClient.transcribeAudio(preSignedUrl));
+    log.info("[InterviewService] STT 변환 완료 - 변환된 텍스트 길이: {}", convertedText.length());
+
+    // Step 6: Reply 저장
+    transactionTemplate.executeWithoutResult(status -> saveReply(
+        interviewReplyRequestDto.questionId(), interviewReplyRequestDto.s3Key(), convertedText));
+  }
+
+  @Transactional
+  @Override
+  public String prepareReply(Long userId, InterviewReplyRequestDto interviewReplyRequestDto) {
     // Step 1: Redis 티켓 검증 (s3Key가 유효한 업로드 티켓인지 확인)
     s3Util.validateS3Ticket(interviewReplyRequestDto.s3Key());
     log.info("[InterviewService] S3 업로드 티켓 검증 완료 - s3Key: {}", interviewReplyRequestDto.s3Key());
 
-    // Step 2: InterviewQuestion 조회
-    InterviewQuestion parentQuestion = interviewQuestionRepository.findById(
-        interviewReplyRequestDto.questionId()).orElseThrow(() -> {
-      log.warn("[InterviewService] 꼬리질문 없는 답변 등록 실패 - 질문 없음 (questionId: {})",
-          interviewReplyRequestDto.questionId());
-      return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.QUESTION_NOT_FOUND);
-    });
+    // Step 2 ~ 3: InterviewQuestion, Interview 조회 및 권한 확인
+    findReplyInterview(userId, interviewReplyRequestDto.questionId());
+
+    // Step 4: S3 key로 presigned URL 발급 (FastAPI에 전달할 용도)
+    String preSignedUrl = s3Util.generateDownloadPresignedUrl(interviewReplyRequestDto.s3Key());
+    log.info("[InterviewService] Presigned URL 발급 완료 - s3Key: {}",
+        interviewReplyRequestDto.s3Key());
+
+    return preSignedUrl;
+  }
+
+  @Transactional(readOnly = true)
+  @Override
+  public void notifyReplyUploaded(Long userId, InterviewReplyRequestDto interviewReplyRequestDto) {
+    // 본인의 진행 중인 면접 질문에 대한 답변일 때만 선행 STT 시작 (답변 등록과 같은 권한 확인)
+    Interview interview = findReplyInterview(userId, interviewReplyRequestDto.questionId());
+    if (interview.getProgressStatus() != ProgressStatus.IN_PROGRESS) {
+      log.warn("[InterviewService] 업로드 완료 알림 거절 - 진행 중이 아닌 상태: {} (interviewId: {})",
+          interview.getProgressStatus(), interview.getInterviewId());
+      throw ApiException.of(HttpStatus.CONFLICT, ErrorMessage.INTERVIEW_NOT_IN_PROGRESS);
+    }
+
+    speculativeSttService.onUploaded(interviewReplyRequestDto.s3Key());
+  }
+
+  /**
+   * 답변 대상 질문의 면접 조회 및 권한 확인 (시연용 면접은 권한 검증 생략)
+   */
+  private Interview findReplyInterview(Long userId, Long questionId) {
+    InterviewQuestion parentQuestion = interviewQuestionRepository.findById(questionId)
+        .orElseThrow(() -> {
+          log.warn("[InterviewService] 꼬리질문 없는 답변 등록 실패 - 질문 없음 (questionId: {})",
+              questionId);
+          return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.QUESTION_NOT_FOUND);
+        });
 
-    // Step 3: Interview 조회 및 권한 확인
     Interview interview = interviewRepository.findById(parentQuestion.getInterviewId())
         .orElseThrow(() -> {
           log.warn("[InterviewService] 면접 조회 실패 - interviewId={}", parentQuestion.getInterviewId());
@@ -181,24 +247,27 @@ public class InterviewServiceImpl implements InterviewService {
       // 시연용 면접: Resume가 null일 때 - 권한 검증 생략
       log.info("[InterviewService] 시연용 면접 - 권한 검증 생략");
     }
+    return interview;
+  }
 
-    // Step 4: S3 key로 presigned URL 발급 (FastAPI에 전달할 용도)
-    String preSignedUrl = s3Util.generateDownloadPresignedUrl(interviewReplyRequestDto.s3Key());
-    log.info("[InterviewService] Presigned URL 발급 완료 - s3Key: {}",
-        interviewReplyRequestDto.s3Key());
-
-    // Step 5: FastAPI STT 엔드포인트 호출
-    String convertedText = aiClient.transcribeAudio(preSignedUrl);
-    log.info("[InterviewService] STT 변환 완료 - 변환된 텍스트 길이: {}", convertedText.length());
+  @Transactional
+  @Override
+  public void saveReply(Long questionId, String s3Key, String convertedText) {
+    InterviewQuestion parentQuestion = interviewQuestionRepository.findById(questionId)
+        .orElseThrow(() -> {
+          log.warn("[InterviewService] 답변 저장 실패 - 질문 없음 (questionId: {})", questionId);
+          return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.QUESTION_NOT_FOUND);
+        });
 
-    // Step 6: Reply 저장 (항상 새로 생성)
+    // Reply 저장 (항상 새로 생성)
     Reply reply = Reply.builder()
         .interviewQuestion(parentQuestion)
         .content(convertedText)
-        .s3Key(interviewReplyRequestDto.s3Key())
+        .s3Key(s3Key)
         .build();
 
     replyRepository.save(reply);
+    publishReplySaved(parentQuestion, convertedText);
     log.info("[InterviewService] 꼬리질문 없는 답변 등록 완료 - replyId={}, content 길이={}",
         reply.getReplyId(), convertedText.length());
   }
@@ -209,6 +278,152 @@ public class InterviewServiceImpl implements InterviewService {
       InterviewReplyRequestDto interviewReplyRequestDto) {
     log.info("[InterviewService] 꼬리질문 있는 답변 등록 시도 ");
 
+    // Step 1 ~ 6: 권한 확인 및 FastAPI 입력 구성
+    RelatedQuestionRequest request = prepareRelatedQuestionRequest(userId,
+        interviewReplyRequestDto);
+
+    // Step 7: FastAPI answer 엔드포인트 호출
+    AiInterviewResponse response = aiClient.answerInterview(request.aiInput());
+    log.info("[InterviewService] FastAPI 응답 수신 - STT: {}, 질문 수: {}",
+        response.convertedTextWithStt() != null ? "있음" : "없음",
+        response.textFromTts() != null ? response.textFromTts().size() : 0);
+
+    // Step 8 ~ 9: Reply 저장 및 꼬리질문 생성
+    InterviewQuestion childQuestion = saveReplyAndRelatedQuestion(request.parentQuestion(),
+        interviewReplyRequestDto.s3Key(), request.ttsS3Key(), response);
+
+    // Step 10: 응답 DTO 생성
+    return toRelatedQuestionResponse(childQuestion);
+  }
+
+  @Override
+  @Transactional
+  public RelatedQuestionAiRequest prepareRelatedQuestion(Long userId,
+      InterviewReplyRequestDto interviewReplyRequestDto) {
+    RelatedQuestionRequest request = prepareRelatedQuestionRequest(userId,
+        interviewReplyRequestDto);
+    return new RelatedQuestionAiRequest(request.parentQuestion().getInterviewQuestionId(),
+        request.aiInput(), request.ttsS3Key());
+  }
+
+  @Override
+  @Transactional
+  public RelatedQuestionResponseDto saveRelatedQuestion(RelatedQuestionAiRequest request,
+      String s3Key, AiInterviewResponse response) {
+    InterviewQuestion parentQuestion = interviewQuestionRepository
+        .findById(request.parentQuestionId())
+        .orElseThrow(() -> {
+          log.warn("[InterviewService] 꼬리질문 저장 실패 - 부모 질문 없음 (questionId: {})",
+              request.parentQuestionId());
+          return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.QUESTION_NOT_FOUND);
+        });
+
+    InterviewQuestion childQuestion = saveReplyAndRelatedQuestion(parentQuestion, s3Key,
+        request.ttsS3Key(), response);
+    return toRelatedQuestionResponse(childQuestion);
+  }
+
+  @Override
+  @Transactional
+  public RelatedQuestionJobResponseDto acceptReplyWithRelatedQuestion(Long userId,
+      InterviewReplyRequestDto interviewReplyRequestDto) {
+    log.info("[InterviewService] 꼬리질문 생성 작업 접수 시도 - questionId={}",
+        interviewReplyRequestDto.questionId());
+
+    // 권한 확인 및 FastAPI 입력 구성 (동기 방식과 동일)
+    RelatedQuestionRequest request = prepareRelatedQuestionRequest(userId,
+        interviewReplyRequestDto);
+
+    // 답변 의도(작업) 저장
+    RelatedQuestionJob job = relatedQuestionJobRepository.save(RelatedQuestionJob.builder()
+        .jobId(UUID.randomUUID().toString())
+        .userId(userId)
+        .interviewId(request.parentQuestion().getInterviewId())
+        .parentQuestionId(request.parentQuestion().getInterviewQuestionId())
+        .s3Key(interviewReplyRequestDto.s3Key())
+        .ttsS3Key(request.ttsS3Key())
+        .build());
+
+    // 커밋 후 리스너가 별도 스레드에서 AI 호출 (요청 스레드와 DB 커넥션을 점유하지 않음)
+    eventPublisher.publishEvent(
+        new RelatedQuestionRequestedEvent(job.getJobId(), request.aiInput()));
+
+    log.info("[InterviewService] 꼬리질문 생성 작업 접수 완료 - jobId={}, interviewId={}",
+        job.getJobId(), job.getInterviewId());
+
+    return RelatedQuestionJobResponseDto.of(job, null);
+  }
+
+  @Override
+  @Transactional
+  public void completeRelatedQuestionJob(String jobId, AiInterviewResponse response) {
+    RelatedQuestionJob job = relatedQuestionJobRepository.findById(jobId).orElseThrow(() -> {
+      log.warn("[InterviewService] 꼬리질문 작업 완료 처리 실패 - 작업 없음 (jobId: {})", jobId);
+      return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.RELATED_QUESTION_JOB_NOT_FOUND);
+    });
+
+    if (!job.isPending()) {
+      log.warn("[InterviewService] 이미 처리된 꼬리질문 작업 - jobId={}, 상태={}", jobId, job.getStatus());
+      return;
+    }
+
+    InterviewQuestion parentQuestion = interviewQuestionRepository
+        .findById(job.getParentQuestionId())
+        .orElseThrow(() -> {
+          log.warn("[InterviewService] 꼬리질문 작업 완료 처리 실패 - 부모 질문 없음 (jobId: {})", jobId);
+          return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.QUESTION_NOT_FOUND);
+        });
+
+    InterviewQuestion childQuestion = saveReplyAndRelatedQuestion(parentQuestion, job.getS3Key(),
+        job.getTtsS3Key(), response);
+
+    if (childQuestion == null) {
+      log.warn("[InterviewService] 꼬리질문이 생성되지 않음 - jobId={}", jobId);
+      throw ApiException.of(HttpStatus.INTERNAL_SERVER_ERROR,
+          ErrorMessage.RELATED_QUESTION_GENERATION_FAILED);
+    }
+
+    job.complete(childQuestion.getInterviewQuestionId());
+    log.info("[InterviewService] 꼬리질문 생성 작업 완료 - jobId={}, questionId={}",
+        jobId, childQuestion.getInterviewQuestionId());
+  }
+
+  @Override
+  @Transactional
+  public void failRelatedQuestionJob(String jobId) {
+    relatedQuestionJobRepository.findById(jobId)
+        .filter(RelatedQuestionJob::isPending)
+        .ifPresent(job -> {
+          job.fail();
+          log.info("[InterviewService] 꼬리질문 생성 작업 실패 처리 - jobId={}", jobId);
+        });
+  }
+
+  @Override
+  @Transactional
+  public List<String> failStaleRelatedQuestionJobs(LocalDateTime cutoff, int limit) {
+    LocalDateTime now = LocalDateTime.now();
+    List<String> failed = new ArrayList<>();
+    for (String jobId : relatedQuestionJobRepository.findStaleIds(JobStatus.PENDING, cutoff,
+        PageRequest.of(0, limit))) {
+      // 조회 이후 완료된 작업은 건너뜀
+      if (relatedQuestionJobRepository.updateStatus(jobId, JobStatus.PENDING, JobStatus.FAILED,
+          now) == 1) {
+        failed.add(jobId);
+      }
+    }
+    if (!failed.isEmpty()) {
+      log.warn("[InterviewService] 처리되지 않은 꼬리질문 작업 실패 처리 - {}건 (기준 시각: {})",
+          failed.size(), cutoff);
+    }
+    return failed;
+  }
+
+  /**
+   * 꼬리질문 요청 준비: 질문/면접 조회, 권한 확인, FastAPI answer 입력 구성
+   */
+  private RelatedQuestionRequest prepareRelatedQuestionRequest(Long userId,
+      InterviewReplyRequestDto interviewReplyRequestDto) {
     // Step 1: InterviewQuestion 조회 및 권한 확인
     InterviewQuestion parentQuestion = interviewQuestionRepository
         .findById(interviewReplyRequestDto.questionId())
@@ -217,73 +432,27 @@ public class InterviewServiceImpl implements InterviewService {
           return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.INTERVIEW_QUESTIONS_NOT_FOUND);
         });
 
-    // Step 2: Interview 조회 및 권한 확인
-    Interview interview = interviewRepository.findById(parentQuestion.getInterviewId())
-        .orElseThrow(() -> {
-          log.warn("[InterviewService] 면접 조회 실패 - interviewId={}", parentQuestion.getInterviewId());
-          return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.INTERVIEW_NOT_FOUND);
-        });
-
-    Resume resume = interview.getResume();
-    List<AiResumeQAItem> resumeQA = new ArrayList<>();
+    // Step 2: 면접 컨텍스트 스냅샷 조회 (캐시, 없으면 DB에서 구성) 및 권한 확인
+    InterviewContextSnapshot context = interviewContextService.getSnapshot(
+        parentQuestion.getInterviewId());
 
-    if (resume != null) {
+    if (context.userId() != null) {
       // 기존 로직: Resume가 있을 때 (일반 면접)
-      if (!resume.getUserId().equals(userId)) {
+      if (!context.userId().equals(userId)) {
         log.warn("[InterviewService] 답변 등록 실패 - 접근 권한 없음");
         throw ApiException.of(HttpStatus.FORBIDDEN, ErrorMessage.ACCESS_DENIED);
       }
-
-      // Step 3: Resume의 Answer 리스트 조회
-      List<Answer> answers = answerRepository.findByResumeId(resume.getResumeId());
-
-      // Step 4: Resume Q&A 배열 구성
-      for (int i = 0; i < answers.size(); i++) {
-        Answer answer = answers.get(i);
-        String num = String.valueOf(i + 1);
-        String question = answer.getQuestion().getContent();
-        String answerContent = answer.getContent() != null ? answer.getContent() : "";
-
-        resumeQA.add(new AiResumeQAItem(
-            num,
-            question,
-            answerContent,
-            answerContent
-        ));
-      }
     } else {
       // 시연용 면접: Resume가 null일 때 - 빈 배열 사용 (FastAPI에서 빈 배열 허용)
       log.info("[InterviewService] 시연용 면접 - 빈 자소서 배열 사용");
-      resumeQA = new ArrayList<>();
     }
 
-    // Step 5: qna_history 구성 (이전 질문-답변 쌍들)
-    List<InterviewQuestion> allQuestions = interviewQuestionRepository
-        .findByInterviewId(interview.getInterviewId());
-
-    // 질문-답변 매핑 생성 (질문 ID -> 답변)
-    Map<Long, String> questionAnswerMap = new HashMap<>();
-    for (InterviewQuestion question : allQuestions) {
-      Optional<Reply> replyOpt = replyRepository
-          .findByInterviewQuestionInterviewQuestionId(question.getInterviewQuestionId());
-      if (replyOpt.isPresent()) {
-        questionAnswerMap.put(question.getInterviewQuestionId(), replyOpt.get().getContent());
-      }
-    }
+    // Step 3 ~ 4: Resume Q&A 배열 (스냅샷)
+    List<AiResumeQAItem> resumeQA = context.resume();
 
-    // qna_history 구성 (이전 질문-답변 쌍들 + 현재 질문)
-    // 부모 질문들만 포함 (parentQuestionId가 null인 것들)
-    List<Map<String, String>> qnaHistory = new ArrayList<>();
-    for (InterviewQuestion question : allQuestions) {
-      // 부모 질문만 포함 (parentQuestionId가 null인 것들, 현재 질문 제외)
-      if (question.getParentQuestionId() == null
-          && !question.getInterviewQuestionId().equals(parentQuestion.getInterviewQuestionId())) {
-        Map<String, String> qaPair = new HashMap<>();
-        qaPair.put("question", question.getContent());
-        qaPair.put("answer", questionAnswerMap.getOrDefault(question.getInterviewQuestionId(), ""));
-        qnaHistory.add(qaPair);
-      }
-    }
+    // Step 5: qna_history 구성 (이전 대질문-답변 쌍들, 현재 질문 제외)
+    List<Map<String, String>> qnaHistory = context.qnaHistory(
+        parentQuestion.getInterviewQuestionId());
 
     // 현재 질문을 qna_history 마지막에 추가 (답변은 빈 문자열, STT 결과가 자동 병합됨)
     Map<String, String> currentQA = new HashMap<>();
@@ -301,13 +470,14 @@ public class InterviewServiceImpl implements InterviewService {
     S3Util.S3UploadInfo ttsUploadInfo = s3Util.generateUploadPresignedUrl(
         "interviews/questions",
         String.format("interview_%d_related_question_%d.wav",
-            interview.getInterviewId(), parentQuestion.getInterviewQuestionId())
+            parentQuestion.getInterviewId(), parentQuestion.getInterviewQuestionId())
     );
 
-    // Step 7: FastAPI answer 엔드포인트 호출
+    // FastAPI answer 입력 구성
     // null 값들을 빈 문자열/빈 배열로 변환하여 모든 필드 포함
     AiInterviewInput aiInput = new AiInterviewInput(
         "",  // jd_presigned_url은 빈 문자열 (answer 엔드포인트는 JD 사용 안 함)
+        null,  // jd_text 생략
         resumeQA != null ? resumeQA : new ArrayList<>(),  // resume 배열
         qnaHistory != null ? qnaHistory : new ArrayList<>(),  // qna_history 배열
         latestWavFileUrl != null ? latestWavFileUrl : "",  // latest_wav_file_url (빈 문자열)
@@ -319,11 +489,15 @@ public class InterviewServiceImpl implements InterviewService {
         "[InterviewService] FastAPI 요청 준비 완료 - resumeQA 개수: {}, qnaHistory 개수: {}, latestWavFileUrl: {}, savedTtsFileUrl 개수: 1",
         resumeQA.size(), qnaHistory.size(), latestWavFileUrl != null ? "있음" : "없음");
 
-    AiInterviewResponse response = aiClient.answerInterview(aiInput);
-    log.info("[InterviewService] FastAPI 응답 수신 - STT: {}, 질문 수: {}",
-        response.convertedTextWithStt() != null ? "있음" : "없음",
-        response.textFromTts() != null ? response.textFromTts().size() : 0);
+    return new RelatedQuestionRequest(parentQuestion, aiInput, ttsUploadInfo.s3Key());
+  }
 
+  /**
+   * AI 응답으로 Reply 저장(업데이트) 및 자식 InterviewQuestion(꼬리질문) 생성
+   * @return 생성된 꼬리질문, AI가 질문을 돌려주지 않은 경우 null
+   */
+  private InterviewQuestion saveReplyAndRelatedQuestion(InterviewQuestion parentQuestion,
+      String s3Key, String ttsS3Key, AiInterviewResponse response) {
     // Step 8: Reply 저장 또는 업데이트
     Optional<Reply> existingReplyOpt = replyRepository
         .findByInterviewQuestionInterviewQuestionId(parentQuestion.getInterviewQuestionId());
@@ -339,7 +513,7 @@ public class InterviewServiceImpl implements InterviewService {
           .replyId(existingReply.getReplyId())
           .interviewQuestion(parentQuestion)
           .content(replyContent)
-          .s3Key(interviewReplyRequestDto.s3Key())
+          .s3Key(s3Key)
           .createdAt(existingReply.getCreatedAt())  // 생성일시 유지
           .build();
     } else {
@@ -347,10 +521,11 @@ public class InterviewServiceImpl implements InterviewService {
       reply = Reply.builder()
           .interviewQuestion(parentQuestion)
           .content(replyContent)
-          .s3Key(interviewReplyRequestDto.s3Key())
+          .s3Key(s3Key)
           .build();
     }
     replyRepository.save(reply);
+    publishReplySaved(parentQuestion, replyContent);
     log.info("[InterviewService] Reply 저장 완료 - replyId={}, content 길이={}",
         reply.getReplyId(), replyContent.length());
 
@@ -368,11 +543,18 @@ public class InterviewServiceImpl implements InterviewService {
             : InterviewQuestion.Difficult.LAX;
       }
 
+      // 같은 내용/음성의 TTS가 이미 있으면 그 객체를 참조, 없으면 커밋 후 업로드 확인하여 대표 객체로 등록
+      String questionS3Key = ttsAudioStore.resolve(childQuestionText, difficult, ttsS3Key);
+      if (questionS3Key.equals(ttsS3Key)) {
+        eventPublisher.publishEvent(
+            new RelatedQuestionTtsSavedEvent(childQuestionText, difficult, ttsS3Key));
+      }
+
       childQuestion = InterviewQuestion.builder()
-          .interviewId(interview.getInterviewId())
+          .interviewId(parentQuestion.getInterviewId())
           .parentQuestionId(parentQuestion)  // 부모 질문 설정
           .content(childQuestionText)
-          .s3Key(ttsUploadInfo.s3Key())
+          .s3Key(questionS3Key)
           .difficult(difficult)
           .build();
 
@@ -381,10 +563,27 @@ public class InterviewServiceImpl implements InterviewService {
           childQuestion.getInterviewQuestionId(), difficult);
     }
 
-    // Step 10: 응답 DTO 생성
+    return childQuestion;
+  }
+
+  /**
+   * 대질문 답변이면 커밋 후 컨텍스트 스냅샷에 추가되도록 이벤트 발행 (꼬리질문 답변은 qna_history 대상 아님)
+   */
+  private void publishReplySaved(InterviewQuestion question, String content) {
+    if (question.getParentQuestionId() == null) {
+      eventPublisher.publishEvent(new InterviewReplySavedEvent(question.getInterviewId(),
+          question.getInterviewQuestionId(), content));
+    }
+  }
+
+  /**
+   * 생성된 꼬리질문을 응답 DTO로 변환 (오디오 다운로드 Presigned URL 포함)
+   */
+  private RelatedQuestionResponseDto toRelatedQuestionResponse(InterviewQuestion childQuestion) {
     if (childQuestion == null) {
       log.warn("[InterviewService] 꼬리질문이 생성되지 않음");
-      throw ApiException.of(HttpStatus.INTERNAL_SERVER_ERROR, "꼬리질문 생성에 실패했습니다.");
+      throw ApiException.of(HttpStatus.INTERNAL_SERVER_ERROR,
+          ErrorMessage.RELATED_QUESTION_GENERATION_FAILED);
     }
 
     String childQuestionPresignedUrl = s3Util.generateDownloadPresignedUrl(
@@ -401,6 +600,12 @@ public class InterviewServiceImpl implements InterviewService {
     );
   }
 
+  private record RelatedQuestionRequest(
+      InterviewQuestion parentQuestion,
+      AiInterviewInput aiInput,
+      String ttsS3Key
+  ) {}
+
   @Override
   public S3UploadInfo generateInterviewAudioUploadUrl(String fileName) {
     log.info("[InterviewService] 인터뷰 오디오 파일 업로드 URL 발급 시도");
@@ -429,62 +634,23 @@ public class InterviewServiceImpl implements InterviewService {
             return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.INTERVIEW_NOT_FOUND);
         });
     
-    // 권한 확인: 본인의 면접인지 검증
-    Resume resume = interview.getResume();
-    List<AiResumeQAItem> resumeQA = new ArrayList<>();
-    String jdPresignedUrl = "";
+    // 면접 컨텍스트 스냅샷 조회 (자소서 Q&A, JD S3 키, 대질문별 답변)
+    InterviewContextSnapshot context = interviewContextService.getSnapshot(interview);
 
-    if (resume != null) {
+    // 권한 확인: 본인의 면접인지 검증
+    if (context.userId() != null) {
       // 기존 로직: Resume가 있을 때 (일반 면접)
-      if (!resume.getUserId().equals(userId)) {
+      if (!context.userId().equals(userId)) {
         log.warn("[InterviewService] 인터뷰 종료 실패 - 접근 권한 없음");
         throw ApiException.of(HttpStatus.FORBIDDEN, ErrorMessage.ACCESS_DENIED);
       }
-      
-      // Resume의 Answer 리스트 조회
-      List<Answer> answers = answerRepository.findByResumeId(resume.getResumeId());
-      
-      // Resume Q&A 배열 구성
-      for (int i = 0; i < answers.size(); i++) {
-        Answer answer = answers.get(i);
-        String num = String.valueOf(i + 1);
-        String question = answer.getQuestion().getContent();
-        String answerContent = answer.getContent() != null ? answer.getContent() : "";
-        
-        resumeQA.add(new AiResumeQAItem(
-            num,
-            question,
-            answerContent,
-            answerContent
-        ));
-      }
-      
-      // JD presigned URL 발급
-      JobPosting jobPosting = resume.getJobPosting();
-      if (jobPosting != null && jobPosting.getS3PreferenceFileKey() != null 
-          && !jobPosting.getS3PreferenceFileKey().isBlank()) {
-        jdPresignedUrl = s3Util.generateDownloadPresignedUrl(jobPosting.getS3PreferenceFileKey());
-      }
     } else {
-      // 시연용 면접: Resume가 null일 때 - 빈 배열 사용 (FastAPI에서 빈 배열 허용)
+      // 시연용 면접: Resume가 null일 때 - 빈 배열 사용, JD는 회사의 최신 채용 공고 (FastAPI에서 빈 배열 허용)
       log.info("[InterviewService] 시연용 면접 - 빈 자소서 배열 사용");
-      resumeQA = new ArrayList<>();
-      
-      // JD 찾기: Interview 엔티티에 저장된 companyId로 JobPosting 조회
-      Long companyId = interview.getCompanyId();
-      if (companyId != null) {
-        List<JobPosting> jobPostings = jobPostingRepository.findByCompanyCompanyId(companyId);
-        Optional<JobPosting> latestJobPosting = jobPostings.stream()
-            .filter(jp -> jp.getS3PreferenceFileKey() != null && !jp.getS3PreferenceFileKey().isBlank())
-            .max(Comparator.comparing(JobPosting::getCreatedAt));
-        
-        if (latestJobPosting.isPresent()) {
-          jdPresignedUrl = s3Util.generateDownloadPresignedUrl(
-              latestJobPosting.get().getS3PreferenceFileKey());
-          log.info("[InterviewService] 시연용 면접 - JD 찾기 완료: companyId={}", companyId);
-        }
-      }
     }
+    List<AiResumeQAItem> resumeQA = context.resume();
+    // JD S3 key (Presigned URL은 아웃박스 전송 시점에 발급)
+    String jdS3Key = context.jdS3Key();
     
     // 상태 확인: IN_PROGRESS 상태일 때만 종료 가능
     if (interview.getProgressStatus() != ProgressStatus.IN_PROGRESS) {
@@ -493,168 +659,89 @@ public class InterviewServiceImpl implements InterviewService {
         throw ApiException.of(HttpStatus.CONFLICT, ErrorMessage.INTERVIEW_NOT_IN_PROGRESS);
     }
     
-    // qna_history 구성 (모든 질문-답변 쌍들)
-    List<InterviewQuestion> allQuestions = interviewQuestionRepository
-        .findByInterviewId(interview.getInterviewId());
-    
-    // 질문-답변 매핑 생성 (질문 ID -> 답변)
-    Map<Long, String> questionAnswerMap = new HashMap<>();
-    for (InterviewQuestion question : allQuestions) {
-        Optional<Reply> replyOpt = replyRepository
-            .findByInterviewQuestionInterviewQuestionId(question.getInterviewQuestionId());
-        if (replyOpt.isPresent()) {
-            questionAnswerMap.put(question.getInterviewQuestionId(), replyOpt.get().getContent());
-        }
-    }
-    
-    // qna_history 구성 (부모 질문들만 포함)
-    List<Map<String, String>> qnaHistory = new ArrayList<>();
-    for (InterviewQuestion question : allQuestions) {
-        // 부모 질문만 포함 (parentQuestionId가 null인 것들)
-        if (question.getParentQuestionId() == null) {
-            Map<String, String> qaPair = new HashMap<>();
-            qaPair.put("question", question.getContent());
-            qaPair.put("answer", questionAnswerMap.getOrDefault(question.getInterviewQuestionId(), ""));
-            qnaHistory.add(qaPair);
-        }
-    }
+    // qna_history 구성 (모든 대질문-답변 쌍들)
+    List<Map<String, String>> qnaHistory = context.qnaHistory(null);
     
-    // Step: S3 키 검증 및 presigned URL 생성
+    // Step: S3 키 검증
     String s3Key = interviewEndRequestDto.s3Key();
     
     // Redis 티켓 검증 (유효한 업로드 티켓인지 확인)
     s3Util.validateS3Ticket(s3Key);
     log.info("[InterviewService] S3 업로드 티켓 검증 완료 - s3Key: {}", s3Key);
     
-    // S3 key로 presigned URL 발급 (FastAPI에 전달할 용도)
-    String preflightUrl = s3Util.generateDownloadPresignedUrl(s3Key);
-    log.info("[InterviewService] Presigned URL 발급 완료 - s3Key: {}", s3Key);
-    
-    // FastAPI end 인터뷰 입력 데이터 구성
-    AiEndInterviewInput aiInput = AiEndInterviewInput.builder()
-        .jd(jdPresignedUrl)
-        .resume(resumeQA != null ? resumeQA : new ArrayList<>())
-        .qnaHistory(qnaHistory != null ? qnaHistory : new ArrayList<>())
-        .preflightUrls(List.of(preflightUrl))
-        .build();
-    
-    log.info("[InterviewService] FastAPI end 요청 준비 완료 - resumeQA 개수: {}, qnaHistory 개수: {}, preflightUrl: {}",
-        resumeQA.size(), qnaHistory.size(), s3Key);
-    
     // 면접 상태를 COMPLETED로 변경
     interview.complete();
     interviewRepository.save(interview);
     log.info("[InterviewService] 인터뷰 상태 변경 완료 - COMPLETED (interviewId: {})", 
         interview.getInterviewId());
     
-    // 워치에 종료 요청 푸시 전송
-    try {
-      firebasePushService.sendStopRequest(userId, interview.getInterviewId());
-      log.info("[InterviewService] 건강데이터 종료 푸시 전송 완료 - interviewId={}, userId={}",
-          interview.getInterviewId(), userId);
-    } catch (Exception e) {
-      log.warn("[InterviewService] 건강데이터 종료 푸시 전송 실패 - interviewId={}, userId={}, err={}",
-          interview.getInterviewId(), userId, e.getMessage());
-    }
+    // FastAPI end 호출은 아웃박스에 기록하고 커밋 후 릴레이가 수행
+    // (상태 변경과 원자적으로 저장되며, AI 응답을 기다리는 동안 트랜잭션/DB 커넥션을 점유하지 않음)
+    interviewEndOutboxService.enqueue(
+        interview.getInterviewId(),
+        userId,
+        jdS3Key,
+        s3Key,
+        new InterviewEndOutboxPayload(resumeQA, qnaHistory)
+    );
+    log.info("[InterviewService] FastAPI end 요청 아웃박스 저장 - resumeQA 개수: {}, qnaHistory 개수: {}, preflightUrl: {}",
+        resumeQA.size(), qnaHistory.size(), s3Key);
 
-    // 리포트를 CREATING 상태로 생성
-    reportService.createReport(interview.getInterviewId());
-    log.info("[InterviewService] 리포트 생성 완료 (CREATING 상태) - interviewId: {}", 
-        interview.getInterviewId());
-    
-    // FastAPI end 엔드포인트 호출 (에러 처리 포함)
-    try {
-      AiEndInterviewResponse response = aiClient.endInterview(aiInput);
-      log.info("[InterviewService] FastAPI end 응답 수신 - status: {}", response.getStatus());
-      
-      // 이벤트 발행 (트랜잭션 커밋 후 리스너가 비동기로 리포트 업데이트)
-      eventPublisher.publishEvent(
-          new InterviewEndedEvent(interview.getInterviewId(), response)
-      );
-      
-      log.info("[InterviewService] 인터뷰 종료 완료 및 리포트 업데이트 이벤트 발행 - interviewId={}", 
-          interview.getInterviewId());
-    } catch (Exception e) {
-      // FastAPI 호출 실패 시 인터뷰와 리포트를 FAILED 상태로 변경
-      // 별도 트랜잭션(REQUIRES_NEW)으로 실행하여 부모 트랜잭션 롤백과 무관하게 저장
-      log.error("[InterviewService] FastAPI end 호출 실패 - interviewId: {}, error: {}", 
-          interview.getInterviewId(), e.getMessage(), e);
-      
-      try {
-        // 인터뷰 상태를 FAILED로 변경 (별도 트랜잭션)
-        interviewStatusService.markFailed(interview.getInterviewId());
-        
-        // 리포트 상태를 FAILED로 변경 (별도 트랜잭션)
-        reportService.markReportAsFailed(interview.getInterviewId());
-        
-        log.info("[InterviewService] 인터뷰 및 리포트 실패 처리 완료 - interviewId: {}", 
-            interview.getInterviewId());
-      } catch (Exception statusChangeException) {
-        // 상태 변경 실패는 로그만 남기고 원본 예외를 던짐 (상태 변경 실패는 치명적이지 않음)
-        log.error("[InterviewService] 상태 변경 실패 처리 중 오류 발생 - interviewId: {}, error: {}", 
-            interview.getInterviewId(), statusChangeException.getMessage(), statusChangeException);
-      }
-      
-      // 원본 예외를 다시 던져서 컨트롤러에서 처리할 수 있도록 함
-      throw e;
-    }
+    // 리포트(CREATING) 생성, 워치 종료 푸시, 컨텍스트 스냅샷 삭제는 커밋 후 리스너가 수행
+    // (종료가 롤백되면 워치 종료나 고아 리포트가 남지 않고, Mongo/FCM 실패가 종료 커밋을 되돌리지 않음)
+    eventPublisher.publishEvent(new InterviewCompletedEvent(interview.getInterviewId(), userId));
   }
 
+  /**
+   * 시연용 면접 생성: 미리 만들어 둔 풀에서 선점하고, 풀이 비어 있으면 바로 생성
+   * 풀에서 선점하는 경우 DB를 거치지 않으므로 트랜잭션 없이 수행 (바로 생성 시 트랜잭션은 생성 서비스에서 시작)
+   */
   @Override
-  @Transactional
   public DemoInterviewResponseDto createDemoInterview(Long userId, Long jobPostingId) {
     log.info("[InterviewService] 시연용 면접 생성 시도 - userId={}, jobPostingId={}", userId, jobPostingId);
-    
+
+    DemoInterview demoInterview = demoInterviewPoolService.claimOrCreate(jobPostingId,
+        () -> createDemoInterviewNow(jobPostingId));
+
+    // Presigned URL 생성 (고정된 질문 음성, 서명만 수행)
+    String presignedUrl = s3Util.generateDownloadPresignedUrl(
+        DemoInterviewCreationService.DEMO_QUESTION_S3_KEY);
+
+    // 1분 자기소개용 더미데이터 생성 (프론트에서 보여주기용)
+    String exampleIntroduction = getExampleIntroduction();
+
+    log.info("[InterviewService] 시연용 면접 생성 완료 - interviewId={}, questionId={}",
+        demoInterview.interviewId(), demoInterview.questionId());
+
+    return new DemoInterviewResponseDto(
+        demoInterview.interviewId(),
+        demoInterview.questionId(),
+        presignedUrl,
+        exampleIntroduction
+    );
+  }
+
+  private DemoInterview createDemoInterviewNow(Long jobPostingId) {
     // 1. JobPosting 조회 (존재 여부 확인 및 Company 정보 포함)
     JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
         .orElseThrow(() -> {
           log.warn("[InterviewService] 시연용 면접 생성 실패 - 채용 공고 없음 (jobPostingId: {})", jobPostingId);
           return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.JOB_POSTING_NOT_FOUND);
         });
-    
+
     // 2. Company 정보 추출
     Company company = jobPosting.getCompany();
     if (company == null) {
       log.warn("[InterviewService] 시연용 면접 생성 실패 - 채용 공고에 회사 정보 없음 (jobPostingId: {})", jobPostingId);
       throw ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.COMPANY_NOT_FOUND);
     }
-    
-    // 3. Interview 생성 (Resume = null, companyId 저장)
-    Interview interview = Interview.builder()
-        .resume(null)  // Resume 없이 생성
-        .companyId(company.getCompanyId())  // JobPosting의 Company ID 저장
-        .progressStatus(ProgressStatus.NOT_STARTED)
-        .relatedQuestion(true)  // 꼬리질문 활성화
-        .build();
-    Interview savedInterview = interviewRepository.save(interview);
-    log.info("[InterviewService] 시연용 Interview 생성 완료 - interviewId={}, jobPostingId={}, companyId={}", 
-        savedInterview.getInterviewId(), jobPostingId, company.getCompanyId());
-    
-    // 4. 고정된 질문 1개만 DB 저장
-    InterviewQuestion demoQuestion = InterviewQuestion.builder()
-        .interviewId(savedInterview.getInterviewId())
-        .content("1분 자기소개 해주세요")
-        .s3Key("interviews/demo/intro_question.wav")  // 고정된 S3 key
-        .difficult(InterviewQuestion.Difficult.LAX)
-        .build();
-    InterviewQuestion savedQuestion = interviewQuestionRepository.save(demoQuestion);
-    log.info("[InterviewService] 시연용 질문 생성 완료 - questionId={}", savedQuestion.getInterviewQuestionId());
-    
-    // 5. Presigned URL 생성
-    String presignedUrl = s3Util.generateDownloadPresignedUrl(savedQuestion.getS3Key());
-    
-    // 6. 1분 자기소개용 더미데이터 생성 (프론트에서 보여주기용)
-    String exampleIntroduction = getExampleIntroduction();
-    
-    log.info("[InterviewService] 시연용 면접 생성 완료 - interviewId={}, questionId={}", 
-        savedInterview.getInterviewId(), savedQuestion.getInterviewQuestionId());
-    
-    return new DemoInterviewResponseDto(
-        savedInterview.getInterviewId(),
-        savedQuestion.getInterviewQuestionId(),
-        presignedUrl,
-        exampleIntroduction
-    );
+
+    // 3. Interview + 고정 질문 1개 생성 (Resume = null, companyId 저장)
+    DemoInterview demoInterview = demoInterviewCreationService.createAll(company.getCompanyId(), 1)
+        .get(0);
+    log.info("[InterviewService] 시연용 Interview 생성 완료 - interviewId={}, jobPostingId={}, companyId={}",
+        demoInterview.interviewId(), jobPostingId, company.getCompanyId());
+    return demoInterview;
   }
 
   /**
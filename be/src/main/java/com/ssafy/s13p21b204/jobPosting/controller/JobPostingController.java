@@ -9,10 +9,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "채용 공고",description = "채용 공고 관리 API")
 @RestController
@@ -24,17 +27,33 @@ public class JobPostingController {
 
   @Operation(
       summary = "채용 공고 목록 반환",
-      description = "현재 진행 중인 채용 공고들을 전부 반환합니다."
+      description = "현재 진행 중인 채용 공고들을 전부 반환합니다. 응답의 ETag를 If-None-Match 헤더로 보내면 목록 변경이 없을 때 본문 없이 304를 반환합니다."
   )
   @ApiResponses({
       @ApiResponse(
           responseCode = "200",
           description = "채용 공고 목록 조회 성공"
+      ),
+      @ApiResponse(
+          responseCode = "304",
+          description = "변경 없음 (If-None-Match가 현재 ETag와 일치)"
       )
   })
   @GetMapping("/list")
-  public ResponseEntity<ApiResult<List<JobPostingResponseDto>>> getAllJobPosting(){
-    return ResponseEntity.ok(ApiResult.success(jobPostingService.findAll()));
+  public ResponseEntity<ApiResult<List<JobPostingResponseDto>>> getAllJobPosting(
+      WebRequest webRequest) {
+    // 목록 조회(fetch join) 전에 공고 목록 세대로 ETag를 먼저 비교
+    String eTag = jobPostingService.getCatalogETag();
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag)
+          .cacheControl(CacheControl.noCache())
+          .build();
+    }
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .cacheControl(CacheControl.noCache())
+        .body(ApiResult.success(jobPostingService.findAll()));
   }
 
 }
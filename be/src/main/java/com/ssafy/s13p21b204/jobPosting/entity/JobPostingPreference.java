@@ -0,0 +1,47 @@
+package com.ssafy.s13p21b204.jobPosting.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 채용 공고 우대사항 파일 OCR 결과
+ * 공고 등록 시 한 번만 OCR하고, 면접 시작/종료 시 FastAPI에 텍스트로 전달한다.
+ * 공고 목록 조회에 본문이 실리지 않도록 JobPosting과 분리하여 S3 key로 조회한다.
+ */
+@Entity
+@Table(name = "job_posting_preferences",
+    indexes = @Index(name = "idx_job_posting_preferences_hash", columnList = "contentHash"))
+@Getter
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class JobPostingPreference {
+
+  @Id
+  @Column(length = 500)
+  private String s3PreferenceFileKey;
+
+  // 원본 파일 S3 ETag (같은 파일을 다시 올린 공고는 OCR 없이 재사용)
+  @Column(length = 100)
+  private String contentHash;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String text;
+
+  @CreatedDate
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+}
@@ -0,0 +1,34 @@
+package com.ssafy.s13p21b204.jobPosting.event;
+
+import com.ssafy.s13p21b204.jobPosting.service.JobPostingPreferenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 채용 공고 등록 커밋 이후 우대사항 파일 OCR
+ * 실패해도 공고 등록에는 영향이 없으며, 해당 공고의 면접은 기존처럼 Presigned URL로 FastAPI가 OCR한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobPostingPreferenceEventListener {
+
+  private final JobPostingPreferenceService jobPostingPreferenceService;
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  @Async("questionGenerationExecutor")
+  public void handlePreferenceRegistered(JobPostingPreferenceRegisteredEvent event) {
+    log.info("[JobPostingPreferenceEventListener] 우대사항 OCR 시작 - s3Key={}",
+        event.s3PreferenceFileKey());
+    try {
+      jobPostingPreferenceService.extract(event.s3PreferenceFileKey());
+    } catch (Exception e) {
+      log.warn("[JobPostingPreferenceEventListener] 우대사항 OCR 실패 - URL 전달로 대체 (s3Key={}, error={})",
+          event.s3PreferenceFileKey(), e.getMessage());
+    }
+  }
+}
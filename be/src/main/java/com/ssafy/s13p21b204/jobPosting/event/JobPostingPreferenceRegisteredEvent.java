@@ -0,0 +1,7 @@
+package com.ssafy.s13p21b204.jobPosting.event;
+
+public record JobPostingPreferenceRegisteredEvent(
+    String s3PreferenceFileKey
+) {
+
+}
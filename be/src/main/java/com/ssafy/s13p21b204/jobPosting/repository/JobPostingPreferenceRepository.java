@@ -0,0 +1,17 @@
+package com.ssafy.s13p21b204.jobPosting.repository;
+
+import com.ssafy.s13p21b204.jobPosting.entity.JobPostingPreference;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobPostingPreferenceRepository extends JpaRepository<JobPostingPreference, String> {
+
+  Optional<JobPostingPreference> findFirstByContentHash(String contentHash);
+
+  @Query("SELECT p.text FROM JobPostingPreference p WHERE p.s3PreferenceFileKey = :s3Key")
+  Optional<String> findTextByS3PreferenceFileKey(@Param("s3Key") String s3Key);
+}
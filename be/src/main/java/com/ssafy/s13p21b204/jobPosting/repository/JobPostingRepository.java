@@ -27,4 +27,8 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
          "LEFT JOIN FETCH jp.questions " +
          "WHERE jp.expiredAt > :currentTime")
   List<JobPosting> findActiveJobPostingsWithQuestions(@Param("currentTime") LocalDateTime currentTime);
+
+  // 진행 중인 공고 중 가장 먼저 마감되는 시각 (마감으로 목록이 바뀌는 시점 계산용)
+  @Query("SELECT MIN(jp.expiredAt) FROM JobPosting jp WHERE jp.expiredAt > :currentTime")
+  Optional<LocalDateTime> findNextExpiredAtAfter(@Param("currentTime") LocalDateTime currentTime);
 }
@@ -0,0 +1,82 @@
+package com.ssafy.s13p21b204.jobPosting.service;
+
+import com.ssafy.s13p21b204.global.fastapi.AiClient;
+import com.ssafy.s13p21b204.global.fastapi.dto.AiTextResponse;
+import com.ssafy.s13p21b204.global.util.S3Util;
+import com.ssafy.s13p21b204.jobPosting.entity.JobPostingPreference;
+import com.ssafy.s13p21b204.jobPosting.repository.JobPostingPreferenceRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채용 공고 우대사항 파일(JD) OCR 텍스트 관리
+ *
+ * FastAPI는 jd_presigned_url을 받을 때마다 PDF를 내려받아 OCR하므로, 공고 등록 시 한 번만 OCR하여 저장하고
+ * 면접 시작/종료 요청에는 jd_text로 함께 전달한다. 추출 전이거나 실패한 공고는 기존처럼 URL만 전달된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobPostingPreferenceService {
+
+  private final JobPostingPreferenceRepository jobPostingPreferenceRepository;
+  private final S3Util s3Util;
+  private final AiClient aiClient;
+
+  /**
+   * 우대사항 파일 OCR 후 저장 (같은 파일의 OCR 결과가 있으면 재사용)
+   * OCR 응답을 기다리는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 조회/저장을 각각 수행
+   */
+  public void extract(String s3PreferenceFileKey) {
+    if (jobPostingPreferenceRepository.existsById(s3PreferenceFileKey)) {
+      log.info("[JobPostingPreferenceService] 이미 추출된 우대사항 - 생략 (s3Key={})",
+          s3PreferenceFileKey);
+      return;
+    }
+
+    String contentHash = s3Util.getObjectETag(s3PreferenceFileKey);
+    Optional<JobPostingPreference> sameContent = contentHash != null
+        ? jobPostingPreferenceRepository.findFirstByContentHash(contentHash)
+        : Optional.empty();
+
+    String text;
+    if (sameContent.isPresent()) {
+      text = sameContent.get().getText();
+      log.info("[JobPostingPreferenceService] 같은 파일의 OCR 결과 재사용 - s3Key={}, source={}",
+          s3PreferenceFileKey, sameContent.get().getS3PreferenceFileKey());
+    } else {
+      long startedAt = System.currentTimeMillis();
+      AiTextResponse response = aiClient.performOcr(
+          s3Util.generateDownloadPresignedUrl(s3PreferenceFileKey));
+      if (response == null || response.getText() == null || response.getText().isBlank()) {
+        log.warn("[JobPostingPreferenceService] 우대사항 OCR 결과 없음 - URL 전달로 대체 (s3Key={}, status={})",
+            s3PreferenceFileKey, response != null ? response.getStatus() : null);
+        return;
+      }
+      text = response.getText();
+      log.info("[JobPostingPreferenceService] 우대사항 OCR 완료 - s3Key={}, 소요={}ms, 텍스트 길이={}",
+          s3PreferenceFileKey, System.currentTimeMillis() - startedAt, text.length());
+    }
+
+    jobPostingPreferenceRepository.save(JobPostingPreference.builder()
+        .s3PreferenceFileKey(s3PreferenceFileKey)
+        .contentHash(contentHash)
+        .text(text)
+        .build());
+  }
+
+  /**
+   * 우대사항 OCR 텍스트 조회 (키가 없거나 추출 전이면 null)
+   */
+  @Transactional(readOnly = true)
+  public String findText(String s3PreferenceFileKey) {
+    if (s3PreferenceFileKey == null || s3PreferenceFileKey.isBlank()) {
+      return null;
+    }
+    return jobPostingPreferenceRepository.findTextByS3PreferenceFileKey(s3PreferenceFileKey)
+        .orElse(null);
+  }
+}
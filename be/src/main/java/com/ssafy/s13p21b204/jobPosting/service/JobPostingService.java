@@ -25,5 +25,13 @@ public interface JobPostingService {
    */
   List<JobPostingResponseDto> findAll();
 
+  /**
+   * 진행 중인 채용공고 목록의 ETag 계산
+   * 공고 목록 세대와 다음 마감 시각으로 계산하므로 목록 조회 없이 변경 여부를 판단할 수 있다.
+   *
+   * @return 따옴표 없는 ETag 값
+   */
+  String getCatalogETag();
+
 }
 
@@ -3,19 +3,24 @@ package com.ssafy.s13p21b204.jobPosting.service.impl;
 import com.ssafy.s13p21b204.company.entity.Company;
 import com.ssafy.s13p21b204.company.repository.CompanyRepository;
 import com.ssafy.s13p21b204.global.entity.Status;
+import com.ssafy.s13p21b204.global.event.GenerationBumpEvent;
 import com.ssafy.s13p21b204.global.event.S3TicketConsumeEvent;
 import com.ssafy.s13p21b204.global.exception.ApiException;
 import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import com.ssafy.s13p21b204.global.redis.GenerationKeys;
+import com.ssafy.s13p21b204.global.redis.RedisDao;
 import com.ssafy.s13p21b204.global.util.S3Util;
 import com.ssafy.s13p21b204.jobPosting.dto.JobPostingRegisterDto;
 import com.ssafy.s13p21b204.jobPosting.dto.JobPostingResponseDto;
 import com.ssafy.s13p21b204.jobPosting.entity.JobPosting;
+import com.ssafy.s13p21b204.jobPosting.event.JobPostingPreferenceRegisteredEvent;
 import com.ssafy.s13p21b204.jobPosting.repository.JobPostingRepository;
 import com.ssafy.s13p21b204.jobPosting.service.JobPostingService;
 import com.ssafy.s13p21b204.question.dto.QuestionRequestDto;
 import com.ssafy.s13p21b204.question.entity.Question;
 import com.ssafy.s13p21b204.question.repository.QuestionRepository;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -36,6 +41,14 @@ public class JobPostingServiceImpl implements JobPostingService {
   private final QuestionRepository questionRepository;
   private final S3Util s3Util;
   private final ApplicationEventPublisher applicationEventPublisher;
+  private final RedisDao redisDao;
+
+  // 마지막으로 계산한 목록 ETag (세대가 같고 다음 마감 시각 전이면 DB 조회 없이 재사용)
+  private volatile CatalogVersion catalogVersion;
+
+  private record CatalogVersion(long generation, LocalDateTime nextExpiredAt, String eTag) {
+
+  }
 
   @Override
   @Transactional
@@ -100,12 +113,21 @@ public class JobPostingServiceImpl implements JobPostingService {
     questionRepository.saveAll(questions);
     log.info("[JobPostingService] 질문 등록 완료 - 총 {}개", questions.size());
 
+    // 공고 목록이 바뀌었으므로 커밋 이후 목록 세대 증가
+    applicationEventPublisher.publishEvent(
+        new GenerationBumpEvent(GenerationKeys.JOB_POSTING_CATALOG));
+
     if (jobPostingRegisterDto.s3PreferenceFileKey() != null
         && !jobPostingRegisterDto.s3PreferenceFileKey().isBlank()) {
       applicationEventPublisher.publishEvent(
           new S3TicketConsumeEvent(jobPostingRegisterDto.s3PreferenceFileKey())
       );
       log.info("[JobPostingService] S3 티켓 소비 이벤트 발행");
+
+      // 우대사항 파일은 커밋 이후 한 번만 OCR (면접마다 FastAPI가 다시 OCR하지 않도록)
+      applicationEventPublisher.publishEvent(
+          new JobPostingPreferenceRegisteredEvent(jobPostingRegisterDto.s3PreferenceFileKey())
+      );
     }
   }
 
@@ -139,4 +161,28 @@ public class JobPostingServiceImpl implements JobPostingService {
         })
         .toList();
   }
-}
\ No newline at end of file
+
+  @Override
+  @Transactional(readOnly = true)
+  public String getCatalogETag() {
+    long generation = redisDao.getGeneration(GenerationKeys.JOB_POSTING_CATALOG);
+    LocalDateTime now = LocalDateTime.now();
+
+    CatalogVersion cached = catalogVersion;
+    if (cached != null && cached.generation() == generation
+        && (cached.nextExpiredAt() == null || now.isBefore(cached.nextExpiredAt()))) {
+      return cached.eTag();
+    }
+
+    // 세대가 바뀌었거나 공고가 마감되어 목록이 달라질 수 있는 시점이면 다음 마감 시각만 다시 조회
+    LocalDateTime nextExpiredAt = jobPostingRepository.findNextExpiredAtAfter(now).orElse(null);
+    long nextExpiredEpoch = nextExpiredAt != null
+        ? nextExpiredAt.atZone(ZoneId.systemDefault()).toEpochSecond()
+        : 0L;
+    String eTag = "jp" + generation + "-" + nextExpiredEpoch;
+    catalogVersion = new CatalogVersion(generation, nextExpiredAt, eTag);
+    log.info("[JobPostingService] 채용 공고 목록 ETag 갱신 - generation={}, nextExpiredAt={}",
+        generation, nextExpiredAt);
+    return eTag;
+  }
+}
@@ -2,26 +2,40 @@ package com.ssafy.s13p21b204.report.controller;
 
 import com.ssafy.s13p21b204.global.util.ApiResult;
 import com.ssafy.s13p21b204.heartBeat.dto.HeartbeatQuestionAvgDto;
+import com.ssafy.s13p21b204.report.dto.ReportDetailField;
 import com.ssafy.s13p21b204.report.dto.ReportResponseDetailDto;
 import com.ssafy.s13p21b204.report.dto.ReportResponseSummaryDto;
+import com.ssafy.s13p21b204.report.dto.ScoreTrendPointDto;
 import com.ssafy.s13p21b204.report.service.ReportService;
+import com.ssafy.s13p21b204.report.service.ReportSubscriptionService;
+import com.ssafy.s13p21b204.report.service.ScoreTrendService;
 import com.ssafy.s13p21b204.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "레포트", description = "레포트 관련 API")
 @RestController
@@ -30,15 +44,31 @@ import org.springframework.web.bind.annotation.RestController;
 public class ReportController {
 
   private final ReportService reportService;
+  private final ReportSubscriptionService reportSubscriptionService;
+  private final ScoreTrendService scoreTrendService;
 
   @Operation(
       summary = "리포트 상세 내용 반환",
-      description = "유저 면접에 대한 상세 분석 내용을 반환합니다. 리포트가 REPORTED 상태일 때만 조회 가능하며, 같은 채용공고에 지원한 다른 지원자들의 평균 점수도 함께 제공됩니다."
+      description = "유저 면접에 대한 상세 분석 내용을 반환합니다. 리포트가 REPORTED 상태일 때만 조회 가능하며, 같은 채용공고에 지원한 다른 지원자들의 평균 점수도 함께 제공됩니다. fields 파라미터(comment, heartBeats, myScores, averageScores, qnaList)로 필요한 항목만 요청할 수 있으며, 생략 시 전체를 반환합니다. 응답의 ETag를 If-None-Match 헤더로 보내면 변경이 없을 때 본문 없이 304를 반환합니다."
   )
   @ApiResponses({
       @ApiResponse(
           responseCode = "200",
-          description = "리포트 조회 성공"
+          description = "리포트 조회 성공",
+          content = @Content(schema = @Schema(implementation = ReportResponseDetailDto.class))
+      ),
+      @ApiResponse(
+          responseCode = "400",
+          description = "지원하지 않는 리포트 필드입니다.",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"지원하지 않는 리포트 필드입니다. (comment, heartBeats, myScores, averageScores, qnaList)\"}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "304",
+          description = "변경 없음 (If-None-Match가 현재 ETag와 일치)"
       ),
       @ApiResponse(
           responseCode = "403",
@@ -72,12 +102,33 @@ public class ReportController {
       )
   })
   @GetMapping("/{reportId}")
-  public ResponseEntity<ApiResult<ReportResponseDetailDto>> getReport(
+  public ResponseEntity<MappingJacksonValue> getReport(
       @AuthenticationPrincipal UserPrincipal userPrincipal,
       @Parameter(description = "레포트 ID", example = "507f1f77bcf86cd799439011", required = true)
-      @PathVariable String reportId) {
-    return ResponseEntity.ok(
-        ApiResult.success(reportService.getReport(userPrincipal.getUserId(), reportId)));
+      @PathVariable String reportId,
+      @Parameter(description = "조회할 필드 (쉼표 구분, 생략 시 전체)", example = "comment,myScores")
+      @RequestParam(required = false) String fields,
+      WebRequest webRequest) {
+    Set<ReportDetailField> requestedFields = ReportDetailField.parse(fields);
+
+    // 본문 조립 전에 ETag만 먼저 비교하여 변경이 없으면 바로 304 반환 (요청 필드별로 ETag 구분)
+    String eTag = reportService.getReportETag(userPrincipal.getUserId(), reportId,
+        requestedFields);
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag)
+          .cacheControl(CacheControl.noCache().cachePrivate())
+          .build();
+    }
+
+    // 요청하지 않은 필드만 응답에서 제외 (fields 생략 시 기존 응답과 동일)
+    MappingJacksonValue body = new MappingJacksonValue(ApiResult.success(
+        reportService.getReport(userPrincipal.getUserId(), reportId, requestedFields)));
+    body.setFilters(ReportResponseDetailDto.fieldFilter(requestedFields));
+    return ResponseEntity.ok()
+        .eTag(eTag)
+        .cacheControl(CacheControl.noCache().cachePrivate())
+        .body(body);
   }
 
   @Operation(
@@ -128,6 +179,46 @@ public class ReportController {
     return ResponseEntity.ok(ApiResult.success(reportService.getReports(userPrincipal.getUserId())));
   }
 
+  @Operation(
+      summary = "면접 점수 추이 조회",
+      description = "본인의 모든 연습 면접 점수 추이를 생성일시 오름차순으로 반환합니다. 각 지점은 항목별 점수, 평균 심박수, 정상 범위를 벗어난 심박 측정 횟수를 포함합니다. jobPostingId를 지정하면 해당 채용공고의 면접만 반환합니다."
+  )
+  @ApiResponses({
+      @ApiResponse(
+          responseCode = "200",
+          description = "점수 추이 조회 성공",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = """
+                      {
+                        "success": true,
+                        "data": [
+                          {
+                            "reportId": "507f1f77bcf86cd799439011",
+                            "jobPostingId": 1,
+                            "companyName": "삼성전자",
+                            "part": "SOFTWARE",
+                            "createdAt": "2025-01-15T10:30:00",
+                            "scores": {"의사소통": 85, "진실성": 90, "적응성": 80, "대인관계": 88, "팀워크": 82},
+                            "averageBpm": 84.5,
+                            "anomalyCount": 3
+                          }
+                        ]
+                      }
+                      """
+              )
+          )
+      )
+  })
+  @GetMapping("/trend")
+  public ResponseEntity<ApiResult<List<ScoreTrendPointDto>>> getTrend(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Parameter(description = "채용공고 ID (생략 시 전체)", example = "1")
+      @RequestParam(required = false) Long jobPostingId) {
+    return ResponseEntity.ok(
+        ApiResult.success(scoreTrendService.getTrend(userPrincipal.getUserId(), jobPostingId)));
+  }
+
   @Operation(
       summary = "리포트 삭제",
       description = "본인이 작성한 면접 리포트를 삭제합니다. 소프트 딜리트 방식으로 실제 데이터는 유지되며, 삭제된 리포트는 조회되지 않습니다."
@@ -173,6 +264,58 @@ public class ReportController {
     return ResponseEntity.ok(ApiResult.success(null));
   }
 
+  @Operation(
+      summary = "리포트 생성 완료 알림 구독 (SSE)",
+      description = """
+          면접 종료 후 리포트 상태를 반복 조회하는 대신 SSE 연결 하나로 생성 완료를 기다립니다.
+          리포트가 COMPLETED/REPORTED/FAILED 상태가 되면 `report-status` 이벤트(reportId, interviewId, progressStatus)를 한 번 보내고 연결을 종료합니다.
+          이미 생성이 끝난 경우 즉시 이벤트를 보냅니다. 시간 초과로 연결이 끊기면 다시 구독하면 됩니다.
+          """
+  )
+  @ApiResponses({
+      @ApiResponse(
+          responseCode = "200",
+          description = "구독 성공 (text/event-stream)",
+          content = @Content(
+              mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+              examples = @ExampleObject(
+                  value = """
+                      event:report-status
+                      data:{"reportId":"507f1f77bcf86cd799439011","interviewId":1,"progressStatus":"COMPLETED"}
+                      """
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "403",
+          description = "접근 권한이 없습니다.",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"접근 권한이 없습니다.\"}"
+              )
+          )
+      ),
+      @ApiResponse(
+          responseCode = "404",
+          description = "면접이 없습니다.",
+          content = @Content(
+              examples = @ExampleObject(
+                  value = "{\"success\": false, \"message\": \"면접이 없습니다.\"}"
+              )
+          )
+      )
+  })
+  @GetMapping(value = "/interview/{interviewId}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeReportStatus(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Parameter(description = "면접 ID", example = "1", required = true)
+      @PathVariable Long interviewId,
+      HttpServletResponse response) {
+    // 프록시(Nginx) 버퍼링으로 이벤트가 지연되지 않도록 설정
+    response.setHeader("X-Accel-Buffering", "no");
+    return reportSubscriptionService.subscribe(userPrincipal.getUserId(), interviewId);
+  }
+
   @Operation(
       summary = "질문별 평균 심박 조회(Report 기반)",
       description = "reportId만으로 해당 인터뷰의 질문 구간별 평균 심박(BPM)을 반환합니다."
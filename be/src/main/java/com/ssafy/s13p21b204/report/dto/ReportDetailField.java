@@ -0,0 +1,61 @@
+package com.ssafy.s13p21b204.report.dto;
+
+import com.ssafy.s13p21b204.global.exception.ApiException;
+import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import java.util.EnumSet;
+import java.util.Set;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 리포트 상세 조회 시 선택 가능한 필드 (fields 파라미터)
+ * 요청하지 않은 필드는 조회/계산하지 않고 응답에서도 제외된다.
+ */
+public enum ReportDetailField {
+  COMMENT("comment"),
+  HEART_BEATS("heartBeats"),
+  MY_SCORES("myScores"),
+  AVERAGE_SCORES("averageScores"),
+  QNA_LIST("qnaList");
+
+  private final String fieldName;
+
+  ReportDetailField(String fieldName) {
+    this.fieldName = fieldName;
+  }
+
+  public String getFieldName() {
+    return fieldName;
+  }
+
+  /**
+   * fields 파라미터 파싱 (예: "comment,myScores")
+   * @param fields 쉼표로 구분된 필드 이름 (null 또는 공백이면 전체)
+   * @return 요청된 필드 집합
+   */
+  public static Set<ReportDetailField> parse(String fields) {
+    if (fields == null || fields.isBlank()) {
+      return EnumSet.allOf(ReportDetailField.class);
+    }
+    Set<ReportDetailField> result = EnumSet.noneOf(ReportDetailField.class);
+    for (String token : fields.split(",")) {
+      String name = token.trim();
+      if (name.isEmpty()) {
+        continue;
+      }
+      result.add(fromFieldName(name));
+    }
+    if (result.isEmpty()) {
+      return EnumSet.allOf(ReportDetailField.class);
+    }
+    return result;
+  }
+
+  private static ReportDetailField fromFieldName(String name) {
+    for (ReportDetailField field : values()) {
+      if (field.fieldName.equals(name)) {
+        return field;
+      }
+    }
+    throw ApiException.of(HttpStatus.BAD_REQUEST, ErrorMessage.INVALID_REPORT_FIELDS);
+  }
+}
@@ -1,12 +1,19 @@
 package com.ssafy.s13p21b204.report.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.ssafy.s13p21b204.heartBeat.dto.BpmWithMeasureAtDto;
 import com.ssafy.s13p21b204.report.entity.QnaItem;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-@Schema(description = "레포트 상세 응답 DTO")
+@Schema(description = "레포트 상세 응답 DTO (fields 파라미터로 일부 필드를 요청하면 요청하지 않은 필드는 응답에서 제외)")
+@JsonFilter(ReportResponseDetailDto.FIELD_FILTER)
 public record ReportResponseDetailDto(
     @Schema(description = "면접에 대한 총평", example = "전반적으로 좋은 면접이었습니다. 의사소통 능력이 뛰어나며...")
     String comment,
@@ -25,4 +32,20 @@ public record ReportResponseDetailDto(
     List<QnaItem> qnaList
 ) {
 
+  public static final String FIELD_FILTER = "reportDetailFields";
+
+  /**
+   * 직렬화 시 적용할 필드 필터
+   * 전체 필드를 요청하면 기존 응답과 동일하게 모든 필드(null 포함)를 내보내고,
+   * 일부만 요청하면 요청한 필드만 내보낸다.
+   * @param fields 요청 필드
+   */
+  public static FilterProvider fieldFilter(Set<ReportDetailField> fields) {
+    SimpleBeanPropertyFilter filter = fields.size() < ReportDetailField.values().length
+        ? SimpleBeanPropertyFilter.filterOutAllExcept(fields.stream()
+            .map(ReportDetailField::getFieldName)
+            .collect(Collectors.toSet()))
+        : SimpleBeanPropertyFilter.serializeAll();
+    return new SimpleFilterProvider().addFilter(FIELD_FILTER, filter);
+  }
 }
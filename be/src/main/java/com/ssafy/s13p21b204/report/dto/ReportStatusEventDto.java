@@ -0,0 +1,19 @@
+package com.ssafy.s13p21b204.report.dto;
+
+import com.ssafy.s13p21b204.global.entity.ProgressStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "레포트 상태 알림 DTO (SSE report-status 이벤트 데이터)")
+public record ReportStatusEventDto(
+    @Schema(description = "레포트 ID", example = "507f1f77bcf86cd799439011")
+    String reportId,
+
+    @Schema(description = "면접 ID", example = "1")
+    Long interviewId,
+
+    @Schema(description = "레포트 진행 상태", example = "COMPLETED",
+        allowableValues = {"CREATING", "COMPLETED", "REPORTED", "FAILED"})
+    ProgressStatus progressStatus
+) {
+
+}
@@ -0,0 +1,48 @@
+package com.ssafy.s13p21b204.report.dto;
+
+import com.ssafy.s13p21b204.jobPosting.entity.JobPosting.Part;
+import com.ssafy.s13p21b204.report.entity.ScoreTrendPoint;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Schema(description = "면접 점수 추이 지점 DTO")
+public record ScoreTrendPointDto(
+    @Schema(description = "레포트 ID", example = "507f1f77bcf86cd799439011")
+    String reportId,
+
+    @Schema(description = "채용공고 ID", example = "1")
+    Long jobPostingId,
+
+    @Schema(description = "회사명", example = "삼성전자")
+    String companyName,
+
+    @Schema(description = "직무", example = "SOFTWARE", allowableValues = {"MARKETING", "SOFTWARE", "QUALITY"})
+    Part part,
+
+    @Schema(description = "레포트 생성일시", example = "2025-01-15T10:30:00")
+    LocalDateTime createdAt,
+
+    @Schema(description = "5가지 평가 항목별 점수", example = "{\"의사소통\": 85, \"진실성\": 90, \"적응성\": 80, \"대인관계\": 88, \"팀워크\": 82}")
+    Map<String, Integer> scores,
+
+    @Schema(description = "면접 중 평균 심박수 (측정하지 않은 경우 null)", example = "84.5")
+    Double averageBpm,
+
+    @Schema(description = "정상 범위를 벗어난 심박 측정 횟수", example = "3")
+    int anomalyCount
+) {
+
+  public static ScoreTrendPointDto of(ScoreTrendPoint point) {
+    return new ScoreTrendPointDto(
+        point.getReportId(),
+        point.getJobPostingId(),
+        point.getCompanyName(),
+        point.getPart(),
+        point.getCreatedAt(),
+        point.getScores(),
+        point.getAverageBpm(),
+        point.getAnomalyCount()
+    );
+  }
+}
@@ -40,5 +40,12 @@ public class QnaItem {
    */
   @Builder.Default
   private List<Integer> labels = new ArrayList<>();
-}
 
+  /**
+   * 평가 라벨 지정 (리포트 업데이트 시 AI 응답 라벨을 답변별로 나누어 설정)
+   * @param labels 답변의 문장별 라벨 리스트
+   */
+  public void assignLabels(List<Integer> labels) {
+    this.labels = labels;
+  }
+}
@@ -53,6 +53,10 @@ public class Report {
 
   private LocalDateTime deletedAt;
 
+  // 리포트 내용이 바뀔 때마다 증가하는 수정 카운터 (ETag 계산용)
+  @Builder.Default
+  private Long revision = 0L;
+
   /**
    * 소프트 딜리트 - Report를 삭제 상태로 표시
    * status를 DELETED로 변경하고 deletedAt을 현재 시간으로 설정
@@ -61,6 +65,7 @@ public class Report {
   public void markDeleted() {
     this.status = Status.DELETED;
     this.deletedAt = LocalDateTime.now();
+    this.revision = nextRevision();
   }
 
   /**
@@ -81,6 +86,16 @@ public class Report {
   public void restore() {
     this.status = Status.ACTIVE;
     this.deletedAt = null;
+    this.revision = nextRevision();
+  }
+
+  /**
+   * 다음 수정 카운터 값
+   * revision 필드 도입 이전에 저장된 문서는 null이므로 0으로 간주
+   * @return 현재 값 + 1
+   */
+  public long nextRevision() {
+    return (this.revision != null ? this.revision : 0L) + 1;
   }
 
 }
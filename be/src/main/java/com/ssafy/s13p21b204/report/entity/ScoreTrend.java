@@ -0,0 +1,37 @@
+package com.ssafy.s13p21b204.report.entity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 사용자별 면접 점수 추이 시계열
+ * 리포트 생성 완료 시 한 건씩 추가되며, 추이 조회는 이 문서 하나만 읽는다.
+ * (Report의 qnaList, report 본문은 포함하지 않음)
+ */
+@Document(collection = "score_trends")
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor
+public class ScoreTrend {
+
+  @Id
+  private String scoreTrendId;
+
+  @Indexed(unique = true)
+  private Long userId;
+
+  @Builder.Default
+  private List<ScoreTrendPoint> points = new ArrayList<>();
+
+  private LocalDateTime updatedAt;
+}
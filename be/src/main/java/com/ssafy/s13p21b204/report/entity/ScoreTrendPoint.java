@@ -0,0 +1,49 @@
+package com.ssafy.s13p21b204.report.entity;
+
+import com.ssafy.s13p21b204.jobPosting.entity.JobPosting.Part;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 점수 추이 시계열의 한 지점 (리포트 1건)
+ * ScoreTrend 엔티티의 points에서 사용
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreTrendPoint {
+
+  private String reportId;
+
+  private Long interviewId;
+
+  private Long jobPostingId;
+
+  private String companyName;
+
+  private Part part;
+
+  private LocalDateTime createdAt;
+
+  /**
+   * 5가지 평가 항목별 점수
+   */
+  @Builder.Default
+  private Map<String, Integer> scores = new HashMap<>();
+
+  /**
+   * 면접 중 평균 심박수 (측정하지 않은 경우 null)
+   */
+  private Double averageBpm;
+
+  /**
+   * 정상 범위(NORMAL)를 벗어난 심박 측정 횟수 (LOW, HIGH)
+   */
+  private int anomalyCount;
+}
@@ -17,6 +17,16 @@ public interface ReportRepository extends MongoRepository<Report, String> {
   @Query("{ 'interviewId': ?0, 'status': { $ne: 'DELETED' }, 'deletedAt': null }")
   List<Report> findAllByInterviewId(Long interviewId);
 
+  /**
+   * 인터뷰 ID로 리포트 상태 정보만 조회 (삭제되지 않은 데이터만)
+   * 리포트 상태 알림(SSE)에서 사용하며 qnaList, report 본문 등 무거운 필드는 읽지 않는다.
+   * @param interviewId 인터뷰 ID
+   * @return reportId, interviewId, progressStatus, createdAt만 채워진 리포트 리스트
+   */
+  @Query(value = "{ 'interviewId': ?0, 'status': { $ne: 'DELETED' }, 'deletedAt': null }",
+      fields = "{ 'interviewId': 1, 'progressStatus': 1, 'createdAt': 1 }")
+  List<Report> findStatusesByInterviewId(Long interviewId);
+
   /**
    * 여러 인터뷰 ID에 해당하는 리포트를 한 번에 조회 (N+1 쿼리 문제 해결)
    * 삭제되지 않은 데이터만 조회
@@ -37,6 +47,26 @@ public interface ReportRepository extends MongoRepository<Report, String> {
   @Query("{ '_id': ?0, 'status': { $ne: 'DELETED' }, 'deletedAt': null }")
   Optional<Report> findById(String reportId);
 
+  /**
+   * qnaList를 제외하고 리포트 조회 (삭제되지 않은 데이터만)
+   * 리포트 상세 조회에서 qnaList를 요청하지 않은 경우 사용
+   * @param reportId 리포트 ID
+   * @return qnaList가 비어있는 리포트
+   */
+  @Query(value = "{ '_id': ?0, 'status': { $ne: 'DELETED' }, 'deletedAt': null }",
+      fields = "{ 'qnaList': 0 }")
+  Optional<Report> findByIdWithoutQnaList(String reportId);
+
+  /**
+   * ETag 계산용 리포트 버전 정보만 조회 (삭제되지 않은 데이터만)
+   * qnaList, report 본문 등 무거운 필드는 읽지 않는다.
+   * @param reportId 리포트 ID
+   * @return interviewId, progressStatus, revision만 채워진 리포트
+   */
+  @Query(value = "{ '_id': ?0, 'status': { $ne: 'DELETED' }, 'deletedAt': null }",
+      fields = "{ 'interviewId': 1, 'progressStatus': 1, 'revision': 1 }")
+  Optional<Report> findVersionById(String reportId);
+
   /**
    * 모든 리포트 조회 (삭제되지 않은 데이터만)
    * 기본 findAll을 오버라이드하여 삭제된 데이터는 조회되지 않도록 함
@@ -0,0 +1,15 @@
+package com.ssafy.s13p21b204.report.repository;
+
+import com.ssafy.s13p21b204.report.entity.ScoreTrend;
+import java.util.Optional;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ScoreTrendRepository extends MongoRepository<ScoreTrend, String> {
+
+  /**
+   * 사용자 ID로 점수 추이 시계열 조회
+   * @param userId 사용자 ID
+   * @return 점수 추이 (없으면 empty)
+   */
+  Optional<ScoreTrend> findByUserId(Long userId);
+}
@@ -2,9 +2,11 @@ package com.ssafy.s13p21b204.report.service;
 
 import com.ssafy.s13p21b204.global.fastapi.dto.AiEndInterviewResponse;
 import com.ssafy.s13p21b204.heartBeat.dto.HeartbeatQuestionAvgDto;
+import com.ssafy.s13p21b204.report.dto.ReportDetailField;
 import com.ssafy.s13p21b204.report.dto.ReportResponseDetailDto;
 import com.ssafy.s13p21b204.report.dto.ReportResponseSummaryDto;
 import java.util.List;
+import java.util.Set;
 
 public interface ReportService {
 
@@ -22,6 +24,28 @@ public interface ReportService {
 
   ReportResponseDetailDto getReport(Long userId,String reportId);
 
+  /**
+   * 리포트 상세 조회 (필드 선택)
+   * 요청하지 않은 필드는 조회/계산하지 않으며 null로 반환된다.
+   * (heartBeats 미요청 시 심박 조회 생략, averageScores 미요청 시 평균 점수 계산 생략)
+   * @param userId 사용자 ID
+   * @param reportId 리포트 ID
+   * @param fields 요청 필드
+   */
+  ReportResponseDetailDto getReport(Long userId, String reportId, Set<ReportDetailField> fields);
+
+  /**
+   * 리포트 상세 조회용 ETag 계산
+   * 수정 카운터, 진행 상태, 심박 데이터 개수, 같은 공고 리포트 세대만으로 계산하여
+   * 변경이 없으면 본문 조립 없이 304로 응답할 수 있게 한다.
+   * 일부 필드만 요청한 경우 요청 필드도 ETag에 포함하여 표현별로 구분한다.
+   * @param userId 사용자 ID
+   * @param reportId 리포트 ID
+   * @param fields 요청 필드
+   * @return 따옴표 없는 ETag 값
+   */
+  String getReportETag(Long userId, String reportId, Set<ReportDetailField> fields);
+
   List<ReportResponseSummaryDto> getReports(Long userId);
 
   /**
@@ -0,0 +1,155 @@
+package com.ssafy.s13p21b204.report.service;
+
+import com.ssafy.s13p21b204.global.entity.ProgressStatus;
+import com.ssafy.s13p21b204.global.exception.ApiException;
+import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import com.ssafy.s13p21b204.interview.entity.Interview;
+import com.ssafy.s13p21b204.interview.repository.InterviewRepository;
+import com.ssafy.s13p21b204.report.dto.ReportStatusEventDto;
+import com.ssafy.s13p21b204.report.entity.Report;
+import com.ssafy.s13p21b204.report.repository.ReportRepository;
+import com.ssafy.s13p21b204.resume.entity.Resume;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 리포트 생성 완료/실패 알림 구독 관리 (SSE)
+ *
+ * 클라이언트는 면접 종료 후 리포트 상태를 반복 조회하는 대신 연결 하나를 열어두고 대기한다.
+ * 리포트가 COMPLETED/REPORTED/FAILED 상태가 되면 report-status 이벤트를 한 번 보내고 연결을 종료한다.
+ * 구독 정보는 인스턴스 메모리에 보관하므로, 다중 인스턴스 배포 시에는 sticky 라우팅이 필요하다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportSubscriptionService {
+
+  private static final String EVENT_NAME = "report-status";
+
+  private final ReportRepository reportRepository;
+  private final InterviewRepository interviewRepository;
+
+  // interviewId -> 해당 면접 리포트를 기다리는 연결 목록
+  private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+  @Value("${report.subscription.timeout-ms:300000}")
+  private long timeoutMs;
+
+  /**
+   * 리포트 상태 구독
+   * 이미 생성이 끝난 리포트라면 즉시 상태를 보내고 연결을 종료한다.
+   * @param userId 사용자 ID
+   * @param interviewId 면접 ID
+   * @return SSE 연결
+   */
+  @Transactional(readOnly = true)
+  public SseEmitter subscribe(Long userId, Long interviewId) {
+    log.info("[ReportSubscriptionService] 리포트 상태 구독 시도 - interviewId={}, userId={}",
+        interviewId, userId);
+
+    Interview interview = interviewRepository.findById(interviewId).orElseThrow(() -> {
+      log.warn("[ReportSubscriptionService] 구독 실패 - 면접 없음 (interviewId: {})", interviewId);
+      return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.INTERVIEW_NOT_FOUND);
+    });
+
+    Resume resume = interview.getResume();
+    if (resume != null && !resume.getUserId().equals(userId)) {
+      // 시연용 면접(resume 없음)은 권한 검증 생략
+      log.warn("[ReportSubscriptionService] 구독 실패 - 접근 권한 없음 (interviewId: {})", interviewId);
+      throw ApiException.of(HttpStatus.FORBIDDEN, ErrorMessage.ACCESS_DENIED);
+    }
+
+    SseEmitter emitter = new SseEmitter(timeoutMs);
+    List<SseEmitter> waiting = emitters.computeIfAbsent(interviewId,
+        k -> new CopyOnWriteArrayList<>());
+    waiting.add(emitter);
+    emitter.onCompletion(() -> remove(interviewId, emitter));
+    emitter.onTimeout(() -> {
+      log.info("[ReportSubscriptionService] 구독 시간 초과 - interviewId={}", interviewId);
+      emitter.complete();
+    });
+    emitter.onError(e -> remove(interviewId, emitter));
+
+    // 등록 이후에 현재 상태를 확인해야 등록 직전에 완료된 알림을 놓치지 않음
+    Optional<ReportStatusEventDto> current = findReportStatus(interviewId);
+    if (current.isPresent() && isFinished(current.get().progressStatus())) {
+      log.info("[ReportSubscriptionService] 이미 생성 완료된 리포트 - 즉시 전송 (interviewId={}, 상태={})",
+          interviewId, current.get().progressStatus());
+      send(interviewId, emitter, current.get());
+    }
+    return emitter;
+  }
+
+  /**
+   * 리포트 상태 알림 전송 (리포트 업데이트 완료 또는 실패 처리 후 호출)
+   * @param interviewId 면접 ID
+   */
+  public void notifyReportStatus(Long interviewId) {
+    List<SseEmitter> waiting = emitters.get(interviewId);
+    if (waiting == null || waiting.isEmpty()) {
+      log.info("[ReportSubscriptionService] 구독자 없음 - 알림 생략 (interviewId={})", interviewId);
+      return;
+    }
+
+    Optional<ReportStatusEventDto> status = findReportStatus(interviewId);
+    if (status.isEmpty()) {
+      log.warn("[ReportSubscriptionService] 리포트 없음 - 알림 생략 (interviewId={})", interviewId);
+      return;
+    }
+
+    log.info("[ReportSubscriptionService] 리포트 상태 알림 전송 - interviewId={}, 상태={}, 구독자 수={}",
+        interviewId, status.get().progressStatus(), waiting.size());
+    for (SseEmitter emitter : waiting) {
+      send(interviewId, emitter, status.get());
+    }
+  }
+
+  private void send(Long interviewId, SseEmitter emitter, ReportStatusEventDto status) {
+    try {
+      emitter.send(SseEmitter.event()
+          .name(EVENT_NAME)
+          .data(status, MediaType.APPLICATION_JSON));
+      emitter.complete();
+    } catch (IOException | IllegalStateException e) {
+      // 클라이언트가 이미 연결을 끊은 경우
+      log.info("[ReportSubscriptionService] 알림 전송 실패 - 연결 종료됨 (interviewId={})", interviewId);
+      remove(interviewId, emitter);
+    }
+  }
+
+  private void remove(Long interviewId, SseEmitter emitter) {
+    emitters.computeIfPresent(interviewId, (k, list) -> {
+      list.remove(emitter);
+      return list.isEmpty() ? null : list;
+    });
+  }
+
+  private Optional<ReportStatusEventDto> findReportStatus(Long interviewId) {
+    // 여러 리포트가 있을 수 있으므로 가장 최신 리포트 기준 (상태 정보만 조회)
+    return reportRepository.findStatusesByInterviewId(interviewId).stream()
+        .max(Comparator.comparing(Report::getCreatedAt,
+            Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())))
+        .map(report -> new ReportStatusEventDto(
+            report.getReportId(), report.getInterviewId(), report.getProgressStatus()));
+  }
+
+  private boolean isFinished(ProgressStatus status) {
+    return status == ProgressStatus.COMPLETED
+        || status == ProgressStatus.REPORTED
+        || status == ProgressStatus.FAILED;
+  }
+}
@@ -0,0 +1,32 @@
+package com.ssafy.s13p21b204.report.service;
+
+import com.ssafy.s13p21b204.interview.entity.Interview;
+import com.ssafy.s13p21b204.report.dto.ScoreTrendPointDto;
+import com.ssafy.s13p21b204.report.entity.Report;
+import java.util.List;
+
+public interface ScoreTrendService {
+
+  /**
+   * 리포트 생성 완료 시 사용자 점수 추이에 한 지점 추가 (같은 리포트는 한 번만 추가)
+   * 시연용 면접(Resume 없음)은 사용자가 없으므로 추가하지 않는다.
+   * @param report COMPLETED 상태 리포트
+   * @param interview 리포트의 인터뷰
+   */
+  void appendPoint(Report report, Interview interview);
+
+  /**
+   * 리포트 삭제 시 점수 추이에서 해당 지점 제거
+   * @param userId 사용자 ID
+   * @param reportId 리포트 ID
+   */
+  void removePoint(Long userId, String reportId);
+
+  /**
+   * 사용자 점수 추이 조회 (생성일시 오름차순)
+   * @param userId 사용자 ID
+   * @param jobPostingId 채용공고 ID (null이면 전체)
+   * @return 점수 추이 지점 리스트
+   */
+  List<ScoreTrendPointDto> getTrend(Long userId, Long jobPostingId);
+}
@@ -1,57 +1,72 @@
 package com.ssafy.s13p21b204.report.service.impl;
 
 import com.ssafy.s13p21b204.global.entity.ProgressStatus;
+import com.ssafy.s13p21b204.global.event.GenerationBumpEvent;
 import com.ssafy.s13p21b204.global.exception.ApiException;
 import com.ssafy.s13p21b204.global.exception.ErrorMessage;
 import com.ssafy.s13p21b204.global.fastapi.dto.AiEndInterviewResponse;
+import com.ssafy.s13p21b204.global.redis.GenerationKeys;
+import com.ssafy.s13p21b204.global.redis.RedisDao;
 import com.ssafy.s13p21b204.heartBeat.dto.BpmWithMeasureAtDto;
 import com.ssafy.s13p21b204.heartBeat.dto.HeartbeatQuestionAvgDto;
 import com.ssafy.s13p21b204.heartBeat.entity.Heartbeat;
 import com.ssafy.s13p21b204.heartBeat.repository.HeartbeatRepository;
 import com.ssafy.s13p21b204.heartBeat.service.HeartbeatService;
+import com.ssafy.s13p21b204.interview.dto.InterviewReportRow;
 import com.ssafy.s13p21b204.interview.entity.Interview;
 import com.ssafy.s13p21b204.interview.entity.InterviewQuestion;
 import com.ssafy.s13p21b204.interview.entity.Reply;
 import com.ssafy.s13p21b204.interview.repository.InterviewQuestionRepository;
 import com.ssafy.s13p21b204.interview.repository.InterviewRepository;
 import com.ssafy.s13p21b204.interview.repository.ReplyRepository;
-import com.ssafy.s13p21b204.company.repository.CompanyRepository;
 import com.ssafy.s13p21b204.jobPosting.entity.JobPosting.Part;
+import com.ssafy.s13p21b204.report.dto.ReportDetailField;
 import com.ssafy.s13p21b204.report.dto.ReportResponseDetailDto;
 import com.ssafy.s13p21b204.report.dto.ReportResponseSummaryDto;
 import com.ssafy.s13p21b204.report.entity.QnaItem;
 import com.ssafy.s13p21b204.report.entity.Report;
 import com.ssafy.s13p21b204.report.repository.ReportRepository;
 import com.ssafy.s13p21b204.report.service.ReportService;
+import com.ssafy.s13p21b204.report.service.ScoreTrendService;
+import com.ssafy.s13p21b204.report.util.SentenceLabelAligner;
+import com.ssafy.s13p21b204.report.util.SentenceLabelAligner.AlignedLabels;
+import com.ssafy.s13p21b204.report.util.SentenceSplitter;
 import com.ssafy.s13p21b204.resume.entity.Resume;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReportServiceImpl implements ReportService {
 
+  // 리포트 목록 조회 시 한 번에 $in으로 보내는 인터뷰 ID 수
+  private static final int REPORT_LOOKUP_BATCH_SIZE = 500;
+
   private final ReportRepository reportRepository;
   private final InterviewRepository interviewRepository;
   private final HeartbeatRepository heartbeatRepository;
   private final HeartbeatService heartbeatService;
   private final InterviewQuestionRepository interviewQuestionRepository;
   private final ReplyRepository replyRepository;
-  private final CompanyRepository companyRepository;
+  private final RedisDao redisDao;
+  private final ScoreTrendService scoreTrendService;
+  private final ApplicationEventPublisher applicationEventPublisher;
 
   @Override
   @Transactional
@@ -59,11 +74,12 @@ public class ReportServiceImpl implements ReportService {
     log.info("[ReportService] 리포트 생성 시도 (CREATING 상태) - interviewId={}", interviewId);
 
     // 이미 리포트가 존재하는지 확인 (여러 개가 있을 수 있으므로 가장 최신 것 확인)
-    List<Report> existingReports = reportRepository.findAllByInterviewId(interviewId);
+    // 종료 커밋 후 리스너와 아웃박스 릴레이가 모두 호출하므로 상태 정보만 조회하고, 이미 있으면 그대로 둠
+    List<Report> existingReports = reportRepository.findStatusesByInterviewId(interviewId);
     Optional<Report> latestReportOpt = findLatestReport(existingReports);
     if (latestReportOpt.isPresent()) {
       Report latestReport = latestReportOpt.get();
-      log.warn("[ReportService] 리포트가 이미 존재함 - interviewId={}, reportId={}, 리포트 수={}",
+      log.info("[ReportService] 리포트가 이미 존재함 - interviewId={}, reportId={}, 리포트 수={}",
           interviewId, latestReport.getReportId(), existingReports.size());
       return;
     }
@@ -103,8 +119,12 @@ public class ReportServiceImpl implements ReportService {
     }
   }
 
+  /**
+   * 아웃박스 전송 완료 커밋 후(AFTER_COMMIT) 같은 스레드에서 호출되므로 새 트랜잭션으로 실행
+   * (REQUIRED로 참여하면 이미 커밋된 트랜잭션에 합류하여 인터뷰 상태 변경이 반영되지 않음)
+   */
   @Override
-  @Transactional
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void updateReport(Long interviewId, AiEndInterviewResponse aiEndInterviewResponse) {
     log.info("[ReportService] 리포트 업데이트 시도 - interviewId={}", interviewId);
 
@@ -137,90 +157,38 @@ public class ReportServiceImpl implements ReportService {
 
     // labels 추출
     List<Integer> labelsFromApi = aiEndInterviewResponse.getLabels();
-
     if (labelsFromApi == null || labelsFromApi.isEmpty()) {
       log.warn("[ReportService] FastAPI 응답 labels가 null이거나 비어있습니다. qnaList의 각 항목에 기본값(0)을 설정합니다.");
-      // qnaList의 각 항목에 기본값(0: 중립) 설정 (새로운 리스트로 재구성)
-      qnaList = qnaList.stream()
-          .map(item -> QnaItem.builder()
-              .question(item.getQuestion())
-              .relatedQuestion(item.getRelatedQuestion())
-              .answer(item.getAnswer())
-              .labels(List.of(0))
-              .build())
-          .collect(Collectors.toList());
     } else {
-      // 문장 분할 규칙을 AI와 동일하게 적용하여 각 답변의 문장 수를 계산한 뒤,
-      // 평면 labels 리스트를 답변별 문장 라벨 리스트로 슬라이싱하여 매핑한다.
-      int labelsCount = labelsFromApi.size();
-      log.info("[ReportService] FastAPI 응답 labels 개수(문장 단위): {}", labelsCount);
-
-      List<Integer> sentenceCounts = new ArrayList<>(qnaCount);
-      int totalNeeded = 0;
-      for (QnaItem item : qnaList) {
-        int cnt = countSentences(item.getAnswer());
-        sentenceCounts.add(cnt);
-        totalNeeded += cnt;
-      }
+      log.info("[ReportService] FastAPI 응답 labels 개수(문장 단위): {}", labelsFromApi.size());
+    }
 
+    // 문장 분할 규칙을 AI와 동일하게 적용하여 각 답변의 문장 수를 계산한 뒤,
+    // 평면 labels 리스트를 답변별 문장 라벨 리스트로 나누어 매핑한다.
+    int[] sentenceCounts = new int[qnaCount];
+    for (int i = 0; i < qnaCount; i++) {
+      sentenceCounts[i] = SentenceSplitter.countSentences(qnaList.get(i).getAnswer());
+    }
+    AlignedLabels alignedLabels = SentenceLabelAligner.align(labelsFromApi, sentenceCounts);
+
+    if (labelsFromApi != null && !labelsFromApi.isEmpty()) {
+      int totalNeeded = alignedLabels.totalNeeded();
+      int labelsCount = alignedLabels.labelCount();
       if (totalNeeded == 0) {
         log.warn("[ReportService] 모든 answer가 비어있거나 문장 분할 결과가 0개입니다. 각 항목에 기본값(0)을 설정합니다.");
-        qnaList = qnaList.stream()
-            .map(item -> QnaItem.builder()
-                .question(item.getQuestion())
-                .relatedQuestion(item.getRelatedQuestion())
-                .answer(item.getAnswer())
-                .labels(List.of(0))
-                .build())
-            .collect(Collectors.toList());
-      } else {
-        if (labelsCount < totalNeeded) {
-          log.warn("[ReportService] labels 개수({})가 필요 문장 수({})보다 작습니다. 부족분은 기본값(0)으로 패딩합니다.",
-              labelsCount, totalNeeded);
-        } else if (labelsCount > totalNeeded) {
-          log.warn("[ReportService] labels 개수({})가 필요 문장 수({})보다 큽니다. 초과 라벨은 무시됩니다.", labelsCount,
-              totalNeeded);
-        }
-
-        int pos = 0;
-        List<QnaItem> updatedQnaList = new ArrayList<>();
-        for (int i = 0; i < qnaCount; i++) {
-          QnaItem qnaItem = qnaList.get(i);
-          int need = Math.max(0, sentenceCounts.get(i));
-
-          List<Integer> labelSlice = new ArrayList<>();
-          if (need > 0) {
-            int end = Math.min(pos + need, labelsCount);
-            if (pos < end) {
-              labelSlice.addAll(labelsFromApi.subList(pos, end));
-            }
-            // 부족하면 0으로 패딩
-            while (labelSlice.size() < need) {
-              labelSlice.add(0);
-            }
-            pos = Math.min(pos + need, labelsCount);
-          } else {
-            // 문장 수가 0인 경우: 기본값 0 하나를 부여(기존 UI/로직과의 일관성 유지)
-            labelSlice = List.of(0);
-          }
-
-          QnaItem updatedItem = QnaItem.builder()
-              .question(qnaItem.getQuestion())
-              .relatedQuestion(qnaItem.getRelatedQuestion())
-              .answer(qnaItem.getAnswer())
-              .labels(labelSlice)
-              .build();
-          updatedQnaList.add(updatedItem);
-        }
-        qnaList = updatedQnaList;
-
-        if (pos < labelsCount) {
-          log.warn("[ReportService] labels가 {}개 남았습니다(사용되지 않음). pos={}, total={}",
-              (labelsCount - pos), pos, labelsCount);
-        }
+      } else if (labelsCount < totalNeeded) {
+        log.warn("[ReportService] labels 개수({})가 필요 문장 수({})보다 작습니다. 부족분은 기본값(0)으로 패딩합니다.",
+            labelsCount, totalNeeded);
+      } else if (labelsCount > totalNeeded) {
+        log.warn("[ReportService] labels 개수({})가 필요 문장 수({})보다 큽니다. 초과 라벨 {}개는 무시됩니다.",
+            labelsCount, totalNeeded, labelsCount - alignedLabels.consumed());
       }
     }
 
+    for (int i = 0; i < qnaCount; i++) {
+      qnaList.get(i).assignLabels(alignedLabels.labelsOf(i));
+    }
+
     log.info("[ReportService] qnaList에 label 매핑 완료 - 총 {}개 항목 (각 answer별 문장 라벨 리스트)",
         qnaList.size());
 
@@ -242,6 +210,7 @@ public class ReportServiceImpl implements ReportService {
         .status(report.getStatus())
         .createdAt(report.getCreatedAt())
         .deletedAt(report.getDeletedAt())
+        .revision(report.nextRevision())
         .build();
 
     reportRepository.save(updatedReport);
@@ -258,6 +227,17 @@ public class ReportServiceImpl implements ReportService {
     interview.markAsReported();
     interviewRepository.save(interview);
     log.info("[ReportService] 인터뷰 상태 변경 완료 (REPORTED) - interviewId={}", interviewId);
+
+    // 같은 채용공고 지원자들의 평균 점수가 바뀌므로 해당 공고의 리포트 세대 증가
+    publishCohortGenerationBump(interview);
+
+    // 사용자 점수 추이 시계열에 추가 (실패해도 리포트 업데이트는 유지)
+    try {
+      scoreTrendService.appendPoint(updatedReport, interview);
+    } catch (Exception e) {
+      log.error("[ReportService] 점수 추이 추가 실패 - interviewId={}, error={}", interviewId,
+          e.getMessage(), e);
+    }
   }
 
   @Override
@@ -292,6 +272,7 @@ public class ReportServiceImpl implements ReportService {
         .status(report.getStatus())
         .createdAt(report.getCreatedAt())
         .deletedAt(report.getDeletedAt())
+        .revision(report.nextRevision())
         .build();
 
     reportRepository.save(failedReport);
@@ -395,10 +376,22 @@ public class ReportServiceImpl implements ReportService {
   @Override
   @Transactional(readOnly = true)
   public ReportResponseDetailDto getReport(Long userId, String reportId) {
-    log.info("[ReportService] 보고서 조회 시도 - reportId={}, userId={}", reportId, userId);
+    return getReport(userId, reportId, EnumSet.allOf(ReportDetailField.class));
+  }
 
-    // Step 1: Report 조회
-    Report report = reportRepository.findById(reportId).orElseThrow(() -> {
+  @Override
+  @Transactional(readOnly = true)
+  public ReportResponseDetailDto getReport(Long userId, String reportId,
+      Set<ReportDetailField> fields) {
+    log.info("[ReportService] 보고서 조회 시도 - reportId={}, userId={}, fields={}", reportId, userId,
+        fields);
+
+    // Step 1: Report 조회 (qnaList를 요청하지 않으면 qnaList 제외하고 조회)
+    boolean includeQnaList = fields.contains(ReportDetailField.QNA_LIST);
+    Optional<Report> reportOpt = includeQnaList
+        ? reportRepository.findById(reportId)
+        : reportRepository.findByIdWithoutQnaList(reportId);
+    Report report = reportOpt.orElseThrow(() -> {
       log.warn("[ReportService] 보고서 조회 실패 - 보고서 없음 (reportId: {})", reportId);
       return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.REPORT_NOT_FOUND);
     });
@@ -429,36 +422,44 @@ public class ReportServiceImpl implements ReportService {
       throw ApiException.of(HttpStatus.CONFLICT, ErrorMessage.REPORT_NOT_READY);
     }
 
-    // Step 4: Heartbeat 데이터 변환 (Heartbeat 리스트에서 bpm 추출)
+    // Step 4: Heartbeat 데이터 변환 (Heartbeat 리스트에서 bpm 추출, 요청한 경우만)
     // 심박수 측정을 하지 않은 경우 빈 리스트로 반환 (정상 동작)
-    List<Heartbeat> heartbeatList = heartbeatRepository
-        .findByInterviewIdOrderByMeasuredAtAsc(report.getInterviewId());
-    List<BpmWithMeasureAtDto> heartbeats = heartbeatList.stream()
-        .filter(h -> h.getBpm() != null)
-        .map(h -> new BpmWithMeasureAtDto(h.getBpm(), h.getMeasuredAt()
-        ))
-        .collect(Collectors.toList());
+    List<BpmWithMeasureAtDto> heartbeats = null;
+    if (fields.contains(ReportDetailField.HEART_BEATS)) {
+      List<Heartbeat> heartbeatList = heartbeatRepository
+          .findByInterviewIdOrderByMeasuredAtAsc(report.getInterviewId());
+      heartbeats = heartbeatList.stream()
+          .filter(h -> h.getBpm() != null)
+          .map(h -> new BpmWithMeasureAtDto(h.getBpm(), h.getMeasuredAt()
+          ))
+          .collect(Collectors.toList());
 
-    if (heartbeats.isEmpty()) {
-      log.info("[ReportService] 심박수 데이터 없음 - 측정하지 않았거나 데이터가 없습니다. (interviewId: {})",
-          report.getInterviewId());
-    } else {
-      log.info("[ReportService] 심박수 데이터 조회 완료 - 개수: {}", heartbeats.size());
+      if (heartbeats.isEmpty()) {
+        log.info("[ReportService] 심박수 데이터 없음 - 측정하지 않았거나 데이터가 없습니다. (interviewId: {})",
+            report.getInterviewId());
+      } else {
+        log.info("[ReportService] 심박수 데이터 조회 완료 - 개수: {}", heartbeats.size());
+      }
     }
 
-    // Step 5: qnaList 조회 (각 QnaItem에 labels 리스트가 포함되어 있음)
+    // Step 5: qnaList 조회 (각 QnaItem에 labels 리스트가 포함되어 있음, 요청한 경우만)
     // 각 answer에 대응하는 labels 리스트가 QnaItem에 매핑되어 있음
-    List<QnaItem> qnaList = report.getQnaList() != null
-        ? new ArrayList<>(report.getQnaList())
-        : new ArrayList<>();
-
-    log.info(
-        "[ReportService] qnaList 개수: {} (각 QnaItem에 question 또는 relatedQuestion, answer, labels 리스트 포함)",
-        qnaList.size());
+    List<QnaItem> qnaList = null;
+    if (includeQnaList) {
+      qnaList = report.getQnaList() != null
+          ? new ArrayList<>(report.getQnaList())
+          : new ArrayList<>();
+
+      log.info(
+          "[ReportService] qnaList 개수: {} (각 QnaItem에 question 또는 relatedQuestion, answer, labels 리스트 포함)",
+          qnaList.size());
+    }
 
-    // Step 6: Average Scores 계산 (같은 jobPostingId를 가진 모든 인터뷰의 REPORTED 상태인 리포트들의 scores 평균)
-    HashMap<String, Integer> averageScores = new HashMap<>();
-    if (resume != null && resume.getJobPosting() != null) {
+    // Step 6: Average Scores 계산 (같은 jobPostingId를 가진 모든 인터뷰의 REPORTED 상태인 리포트들의 scores 평균, 요청한 경우만)
+    HashMap<String, Integer> averageScores = fields.contains(ReportDetailField.AVERAGE_SCORES)
+        ? new HashMap<>()
+        : null;
+    if (averageScores != null && resume != null && resume.getJobPosting() != null) {
       Long jobPostingId = resume.getJobPosting().getJobPostingId();
 
       // 같은 jobPostingId를 가진 모든 인터뷰 조회 (쿼리 최적화)
@@ -512,137 +513,131 @@ public class ReportServiceImpl implements ReportService {
 
     log.info("[ReportService] 보고서 조회 완료 - reportId={}", reportId);
     return new ReportResponseDetailDto(
-        report.getReport(),
+        fields.contains(ReportDetailField.COMMENT) ? report.getReport() : null,
         heartbeats,
-        report.getScores(),
+        fields.contains(ReportDetailField.MY_SCORES) ? report.getScores() : null,
         averageScores,
         qnaList
     );
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public String getReportETag(Long userId, String reportId, Set<ReportDetailField> fields) {
+    // 본문 조립 없이 버전 정보만으로 ETag 계산 (qnaList, 심박 목록, 평균 점수는 읽지 않음)
+    Report version = reportRepository.findVersionById(reportId).orElseThrow(() -> {
+      log.warn("[ReportService] 보고서 ETag 계산 실패 - 보고서 없음 (reportId: {})", reportId);
+      return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.REPORT_NOT_FOUND);
+    });
+
+    // 304 응답으로 리포트 존재 여부가 노출되지 않도록 권한 확인은 동일하게 수행
+    Interview interview = interviewRepository.findById(version.getInterviewId())
+        .orElseThrow(() -> {
+          log.warn("[ReportService] 인터뷰 조회 실패 - interviewId={}", version.getInterviewId());
+          return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.INTERVIEW_NOT_FOUND);
+        });
+
+    Resume resume = interview.getResume();
+    if (resume != null && !resume.getUserId().equals(userId)) {
+      log.warn("[ReportService] 보고서 ETag 계산 실패 - 접근 권한 없음");
+      throw ApiException.of(HttpStatus.FORBIDDEN, ErrorMessage.ACCESS_DENIED);
+    }
+
+    if (!version.getProgressStatus().equals(ProgressStatus.COMPLETED)
+        && !version.getProgressStatus().equals(ProgressStatus.REPORTED)) {
+      log.warn("[ReportService] 보고서 ETag 계산 실패 - 아직 생성 중 (상태: {})", version.getProgressStatus());
+      throw ApiException.of(HttpStatus.CONFLICT, ErrorMessage.REPORT_NOT_READY);
+    }
+
+    // 심박 데이터는 워치 동기화가 늦게 도착할 수 있으므로 개수를 함께 반영
+    long heartbeatCount = heartbeatRepository.countByInterviewId(version.getInterviewId());
+
+    // 평균 점수는 같은 채용공고의 다른 리포트에 따라 바뀌므로 공고별 세대를 반영 (시연용 면접은 평균 없음)
+    long cohortGeneration = 0L;
+    if (resume != null && resume.getJobPosting() != null) {
+      cohortGeneration = redisDao.getGeneration(
+          GenerationKeys.reportCohort(resume.getJobPosting().getJobPostingId()));
+    }
+
+    long revision = version.getRevision() != null ? version.getRevision() : 0L;
+    String eTag = "r" + revision + "-" + version.getProgressStatus().name() + "-" + heartbeatCount
+        + "-" + cohortGeneration;
+
+    // 일부 필드만 요청한 응답은 표현이 다르므로 정렬한 필드 이름을 덧붙여 전체 응답과 구분
+    if (fields.size() < ReportDetailField.values().length) {
+      eTag += "-" + fields.stream()
+          .map(ReportDetailField::getFieldName)
+          .sorted()
+          .collect(Collectors.joining("."));
+    }
+    return eTag;
+  }
+
   @Override
   @Transactional(readOnly = true)
   public List<ReportResponseSummaryDto> getReports(Long userId) {
     log.info("[ReportService] 보고서 목록 조회 시도 - userId={}", userId);
 
-    // Step 1: userId로 해당 사용자의 모든 Interview 조회 (일반 면접만, Resume이 있는 것만)
-    List<Interview> userInterviews = interviewRepository.findByUserId(userId);
-    log.info("[ReportService] 사용자 일반 인터뷰 조회 완료 - userId: {}, 인터뷰 수: {}", userId, userInterviews.size());
+    // Step 1: 사용자 일반 면접 + 시연용 면접을 회사명/직무와 함께 한 번에 조회
+    Map<Long, InterviewReportRow> interviewMap = new HashMap<>();
+    for (InterviewReportRow row : interviewRepository.findReportRowsByUserId(userId)) {
+      interviewMap.put(row.interviewId(), row);
+    }
+    log.info("[ReportService] 인터뷰 조회 완료 - userId: {}, 인터뷰 수: {}", userId, interviewMap.size());
+
+    if (interviewMap.isEmpty()) {
+      log.info("[ReportService] 보고서 목록 조회 완료 - 인터뷰가 없어 빈 리스트 반환");
+      return new ArrayList<>();
+    }
+
+    // Step 2: 해당 인터뷰들의 리포트 조회 후 COMPLETED 또는 REPORTED 상태만 필터링 ($in 목록 크기를 제한하기 위해 나누어 조회)
+    List<Long> interviewIds = new ArrayList<>(interviewMap.keySet());
+    List<Report> userReports = new ArrayList<>();
+    for (int from = 0; from < interviewIds.size(); from += REPORT_LOOKUP_BATCH_SIZE) {
+      List<Long> batch = interviewIds.subList(from,
+          Math.min(from + REPORT_LOOKUP_BATCH_SIZE, interviewIds.size()));
+      reportRepository.findByInterviewIdIn(batch).stream()
+          .filter(report -> report.getProgressStatus().equals(ProgressStatus.COMPLETED)
+              || report.getProgressStatus().equals(ProgressStatus.REPORTED))
+          .forEach(userReports::add);
+    }
+
+    log.info("[ReportService] 사용자 리포트 조회 완료 - 리포트 수: {}", userReports.size());
 
-    // Step 2: 모든 인터뷰 ID를 리스트로 추출 (일반 면접)
-    List<Long> userInterviewIds = userInterviews.stream()
-        .map(Interview::getInterviewId)
-        .collect(Collectors.toList());
-    
-    // Step 3: MongoDB에서 COMPLETED 또는 REPORTED 상태인 모든 리포트 조회
-    // (시연용 면접도 포함하기 위해 먼저 리포트를 조회)
-    List<Report> allReports = reportRepository.findAll().stream()
-        .filter(report -> report.getProgressStatus().equals(ProgressStatus.COMPLETED)
-            || report.getProgressStatus().equals(ProgressStatus.REPORTED))
-        .collect(Collectors.toList());
-    
-    log.info("[ReportService] 모든 리포트 조회 완료 - 리포트 수: {}", allReports.size());
-    
-    // Step 4: 리포트의 interviewId 목록 추출
-    List<Long> reportInterviewIds = allReports.stream()
-        .map(Report::getInterviewId)
-        .distinct()
-        .collect(Collectors.toList());
-    
-    // Step 5: 리포트의 interviewId로 인터뷰 일괄 조회 (N+1 쿼리 방지)
-    List<Interview> reportInterviews = interviewRepository.findAllById(reportInterviewIds);
-    
-    // Step 6: 시연용 면접(resume이 null)의 interviewId 목록 추출
-    List<Long> demoInterviewIds = reportInterviews.stream()
-        .filter(interview -> interview.getResume() == null)
-        .map(Interview::getInterviewId)
-        .collect(Collectors.toList());
-    
-    log.info("[ReportService] 시연용 면접 ID 목록 - demoInterviewIds: {}", demoInterviewIds);
-    
-    // Step 7: 사용자 소유 인터뷰의 리포트만 필터링 (일반 면접 + 시연용 면접)
-    List<Report> userReports = allReports.stream()
-        .filter(report -> {
-          Long interviewId = report.getInterviewId();
-          // 일반 면접인 경우 userId 확인
-          if (userInterviewIds.contains(interviewId)) {
-            return true;
-          }
-          // 시연용 면접인 경우도 포함
-          return demoInterviewIds.contains(interviewId);
-        })
-        .collect(Collectors.toList());
-    
-    log.info("[ReportService] 사용자 리포트 필터링 완료 - 리포트 수: {}", userReports.size());
-    
     if (userReports.isEmpty()) {
       log.info("[ReportService] 보고서 목록 조회 완료 - 리포트가 없어 빈 리스트 반환");
       return new ArrayList<>();
     }
 
-    // Step 8: 리포트의 interviewId로 Interview 조회 및 DTO 변환
-    // Step 5에서 이미 조회한 reportInterviews를 Map으로 변환하여 재사용
-    Map<Long, Interview> interviewMap = reportInterviews.stream()
-        .collect(Collectors.toMap(Interview::getInterviewId, interview -> interview));
-    
+    // Step 3: DTO 변환
     List<ReportResponseSummaryDto> reportSummaries = new ArrayList<>();
     for (Report report : userReports) {
       Long interviewId = report.getInterviewId();
-      
-      // Step 5에서 이미 조회한 인터뷰 사용
-      Interview interview = interviewMap.get(interviewId);
+
+      InterviewReportRow interview = interviewMap.get(interviewId);
       if (interview == null) {
         log.warn("[ReportService] 인터뷰 조회 실패 - interviewId: {}", interviewId);
         continue;
       }
-      Resume resume = interview.getResume();
-      
-      String companyName;
-      Part part;
-      LocalDateTime createdAt;
-      
-      if (resume != null && resume.getJobPosting() != null) {
-        // 일반 면접: Resume -> JobPosting -> Company
-        com.ssafy.s13p21b204.jobPosting.entity.JobPosting jobPosting = resume.getJobPosting();
-        if (jobPosting.getCompany() == null) {
-          log.warn("[ReportService] 보고서 목록 조회 실패 - Company가 null (interviewId: {})", interviewId);
-          continue;
-        }
-        companyName = jobPosting.getCompany().getName();
-        part = jobPosting.getPart();
-        createdAt = report.getCreatedAt() != null ? report.getCreatedAt() : interview.getCreatedAt();
-      } else {
-        // 시연용 면접: companyId로 Company 조회
-        Long companyId = interview.getCompanyId();
-        if (companyId == null) {
-          log.warn("[ReportService] 보고서 목록 조회 실패 - companyId가 null (interviewId: {})", interviewId);
-          continue;
-        }
-        com.ssafy.s13p21b204.company.entity.Company company = companyRepository.findById(companyId)
-            .orElse(null);
-        if (company == null) {
-          log.warn("[ReportService] 보고서 목록 조회 실패 - Company가 없음 (companyId: {}, interviewId: {})", 
-              companyId, interviewId);
-          continue;
-        }
-        companyName = company.getName();
-        // 시연용 면접은 part 정보가 없으므로 기본값 사용
-        part = Part.SOFTWARE;
-        createdAt = report.getCreatedAt() != null ? report.getCreatedAt() : interview.getCreatedAt();
+      if (interview.companyName() == null) {
+        log.warn("[ReportService] 보고서 목록 조회 실패 - Company가 없음 (interviewId: {})", interviewId);
+        continue;
       }
 
-      // ReportResponseSummaryDto 생성
-      ReportResponseSummaryDto summaryDto = new ReportResponseSummaryDto(
+      // 시연용 면접은 part 정보가 없으므로 기본값 사용
+      Part part = interview.part() != null ? interview.part() : Part.SOFTWARE;
+      LocalDateTime createdAt = report.getCreatedAt() != null
+          ? report.getCreatedAt() : interview.createdAt();
+
+      reportSummaries.add(new ReportResponseSummaryDto(
           report.getReportId(),
-          companyName,
+          interview.companyName(),
           part,
           createdAt
-      );
-
-      reportSummaries.add(summaryDto);
+      ));
     }
 
-    // Step 9: 최신순 정렬 (createdAt 기준 내림차순)
+    // Step 4: 최신순 정렬 (createdAt 기준 내림차순)
     reportSummaries.sort((a, b) -> {
       LocalDateTime aCreatedAt = a.createdAt();
       LocalDateTime bCreatedAt = b.createdAt();
@@ -705,6 +700,19 @@ public class ReportServiceImpl implements ReportService {
     report.markDeleted();
     reportRepository.save(report);
 
+    // 삭제된 리포트는 평균 점수 계산에서 빠지므로 해당 공고의 리포트 세대 증가
+    publishCohortGenerationBump(interview);
+
+    // 사용자 점수 추이에서도 제거 (시연용 면접은 추이 대상이 아님)
+    if (resume != null) {
+      try {
+        scoreTrendService.removePoint(resume.getUserId(), reportId);
+      } catch (Exception e) {
+        log.error("[ReportService] 점수 추이 제거 실패 - reportId={}, error={}", reportId,
+            e.getMessage(), e);
+      }
+    }
+
     log.info("[ReportService] 보고서 삭제 완료 - reportId={}, interviewId={}",
         reportId, report.getInterviewId());
   }
@@ -758,6 +766,20 @@ public class ReportServiceImpl implements ReportService {
     return result;
   }
 
+  /**
+   * 채용공고별 리포트 세대 증가 이벤트 발행 (커밋 이후 반영)
+   * 시연용 면접(Resume 없음)은 평균 점수 계산 대상이 아니므로 발행하지 않음
+   * @param interview 리포트가 속한 인터뷰
+   */
+  private void publishCohortGenerationBump(Interview interview) {
+    Resume resume = interview.getResume();
+    if (resume == null || resume.getJobPosting() == null) {
+      return;
+    }
+    applicationEventPublisher.publishEvent(new GenerationBumpEvent(
+        GenerationKeys.reportCohort(resume.getJobPosting().getJobPostingId())));
+  }
+
   /**
    * 여러 리포트 중 가장 최신 리포트를 선택 (createdAt 기준 내림차순)
    * @param reports 리포트 리스트
@@ -779,42 +801,4 @@ public class ReportServiceImpl implements ReportService {
         })
         .findFirst();
   }
-
-  /**
-   * AI의 문장 분할 규칙과 동일한 정규식을 사용하여 문장을 분할한다. Python:
-   * r'(?<=[\.!?])\s+|(?<=다\.)\s+|(?<=요\.)\s+|(?<=,)\s+'
-   */
-  private static final Pattern SENTENCE_SPLIT_PATTERN =
-      Pattern.compile("(?<=[\\.!?])\\s+|(?<=다\\.)\\s+|(?<=요\\.)\\s+|(?<=,)\\s+");
-
-  private static int countSentences(String paragraph) {
-    if (paragraph == null) {
-      return 0;
-    }
-    String trimmed = paragraph.trim();
-    if (trimmed.isEmpty()) {
-      return 0;
-    }
-
-    // 줄 단위로 나눈 뒤 각 라인에 대해 문장 분할
-    String[] rawLines = trimmed.split("\\R");
-    int count = 0;
-    for (String rawLine : rawLines) {
-      if (rawLine == null) {
-        continue;
-      }
-      String line = rawLine.trim();
-      if (line.isEmpty()) {
-        continue;
-      }
-
-      String[] pieces = SENTENCE_SPLIT_PATTERN.split(line);
-      for (String p : pieces) {
-        if (p != null && !p.trim().isEmpty()) {
-          count++;
-        }
-      }
-    }
-    return count;
-  }
 }
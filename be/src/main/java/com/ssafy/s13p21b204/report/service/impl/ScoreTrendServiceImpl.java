@@ -0,0 +1,214 @@
+package com.ssafy.s13p21b204.report.service.impl;
+
+import com.ssafy.s13p21b204.global.entity.ProgressStatus;
+import com.ssafy.s13p21b204.heartBeat.entity.Heartbeat;
+import com.ssafy.s13p21b204.heartBeat.repository.HeartbeatRepository;
+import com.ssafy.s13p21b204.interview.entity.Interview;
+import com.ssafy.s13p21b204.interview.repository.InterviewRepository;
+import com.ssafy.s13p21b204.jobPosting.entity.JobPosting;
+import com.ssafy.s13p21b204.report.dto.ScoreTrendPointDto;
+import com.ssafy.s13p21b204.report.entity.Report;
+import com.ssafy.s13p21b204.report.entity.ScoreTrend;
+import com.ssafy.s13p21b204.report.entity.ScoreTrendPoint;
+import com.ssafy.s13p21b204.report.repository.ReportRepository;
+import com.ssafy.s13p21b204.report.repository.ScoreTrendRepository;
+import com.ssafy.s13p21b204.report.service.ScoreTrendService;
+import com.ssafy.s13p21b204.resume.entity.Resume;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScoreTrendServiceImpl implements ScoreTrendService {
+
+  private static final String NORMAL_STATUS = "NORMAL";
+
+  private final ScoreTrendRepository scoreTrendRepository;
+  private final ReportRepository reportRepository;
+  private final InterviewRepository interviewRepository;
+  private final HeartbeatRepository heartbeatRepository;
+  private final MongoTemplate mongoTemplate;
+
+  /**
+   * 사용자당 시계열 문서 하나를 보장하는 userId 고유 인덱스 생성
+   * spring.data.mongodb.auto-index-creation 기본값(false)에서는 @Indexed만으로 생성되지 않으므로 기동 시 직접 생성
+   * (동시에 처음 생성하는 요청 중 하나는 DuplicateKeyException으로 물러나 기존 문서에 추가)
+   */
+  @PostConstruct
+  void ensureIndexes() {
+    try {
+      mongoTemplate.indexOps(ScoreTrend.class)
+          .createIndex(new Index().on("userId", Sort.Direction.ASC).unique().named("userId"));
+    } catch (Exception e) {
+      log.error("[ScoreTrendService] 점수 추이 userId 고유 인덱스 생성 실패 - error={}", e.getMessage(), e);
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void appendPoint(Report report, Interview interview) {
+    Resume resume = interview.getResume();
+    if (resume == null) {
+      log.info("[ScoreTrendService] 시연용 면접 - 점수 추이 추가 생략 (interviewId={})",
+          interview.getInterviewId());
+      return;
+    }
+    Long userId = resume.getUserId();
+
+    // 시계열이 아직 없는 사용자는 기존 리포트까지 포함하여 한 번에 생성 (방금 완료된 리포트 포함)
+    if (!mongoTemplate.exists(byUserId(userId), ScoreTrend.class)) {
+      if (rebuild(userId)) {
+        return;
+      }
+    }
+
+    ScoreTrendPoint point = toPoint(report, interview, heartbeatRepository
+        .findByInterviewIdOrderByMeasuredAtAsc(interview.getInterviewId()));
+
+    // 같은 리포트가 이미 있으면 조건이 맞지 않아 추가되지 않음 (재시도 시 중복 방지)
+    Query query = byUserId(userId)
+        .addCriteria(Criteria.where("points.reportId").ne(report.getReportId()));
+    Update update = new Update()
+        .push("points", point)
+        .set("updatedAt", LocalDateTime.now());
+    long modified = mongoTemplate.updateFirst(query, update, ScoreTrend.class).getModifiedCount();
+    if (modified > 0) {
+      log.info("[ScoreTrendService] 점수 추이 추가 완료 - userId={}, reportId={}",
+          userId, report.getReportId());
+    } else {
+      log.info("[ScoreTrendService] 이미 추가된 리포트 - userId={}, reportId={}",
+          userId, report.getReportId());
+    }
+  }
+
+  @Override
+  public void removePoint(Long userId, String reportId) {
+    Update update = new Update()
+        .pull("points", Query.query(Criteria.where("reportId").is(reportId)).getQueryObject())
+        .set("updatedAt", LocalDateTime.now());
+    mongoTemplate.updateFirst(byUserId(userId), update, ScoreTrend.class);
+    log.info("[ScoreTrendService] 점수 추이 제거 완료 - userId={}, reportId={}", userId, reportId);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<ScoreTrendPointDto> getTrend(Long userId, Long jobPostingId) {
+    log.info("[ScoreTrendService] 점수 추이 조회 시도 - userId={}, jobPostingId={}", userId, jobPostingId);
+
+    ScoreTrend trend = scoreTrendRepository.findByUserId(userId).orElse(null);
+    if (trend == null) {
+      // 기능 도입 이전 리포트만 있는 사용자: 최초 1회 생성
+      rebuild(userId);
+      trend = scoreTrendRepository.findByUserId(userId).orElse(null);
+    }
+    if (trend == null || trend.getPoints() == null) {
+      return new ArrayList<>();
+    }
+
+    List<ScoreTrendPointDto> result = trend.getPoints().stream()
+        .filter(point -> jobPostingId == null || jobPostingId.equals(point.getJobPostingId()))
+        .sorted(Comparator.comparing(ScoreTrendPoint::getCreatedAt,
+            Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder())))
+        .map(ScoreTrendPointDto::of)
+        .collect(Collectors.toList());
+
+    log.info("[ScoreTrendService] 점수 추이 조회 완료 - userId={}, 지점 수={}", userId, result.size());
+    return result;
+  }
+
+  /**
+   * 사용자의 기존 리포트로 점수 추이 시계열 생성
+   * @param userId 사용자 ID
+   * @return 생성 성공 여부 (다른 요청이 먼저 생성한 경우 false)
+   */
+  private boolean rebuild(Long userId) {
+    List<Interview> interviews = interviewRepository.findByUserId(userId);
+    Map<Long, Interview> interviewMap = interviews.stream()
+        .collect(Collectors.toMap(Interview::getInterviewId, Function.identity()));
+
+    List<ScoreTrendPoint> points = new ArrayList<>();
+    if (!interviewMap.isEmpty()) {
+      List<Report> reports = reportRepository.findByInterviewIdIn(
+          new ArrayList<>(interviewMap.keySet()));
+      for (Report report : reports) {
+        if (report.getProgressStatus() != ProgressStatus.COMPLETED
+            && report.getProgressStatus() != ProgressStatus.REPORTED) {
+          continue;
+        }
+        Interview interview = interviewMap.get(report.getInterviewId());
+        points.add(toPoint(report, interview, heartbeatRepository
+            .findByInterviewIdOrderByMeasuredAtAsc(report.getInterviewId())));
+      }
+    }
+
+    try {
+      scoreTrendRepository.save(ScoreTrend.builder()
+          .userId(userId)
+          .points(points)
+          .updatedAt(LocalDateTime.now())
+          .build());
+      log.info("[ScoreTrendService] 점수 추이 생성 완료 - userId={}, 지점 수={}", userId, points.size());
+      return true;
+    } catch (DuplicateKeyException e) {
+      log.info("[ScoreTrendService] 점수 추이가 이미 생성됨 - userId={}", userId);
+      return false;
+    }
+  }
+
+  private ScoreTrendPoint toPoint(Report report, Interview interview, List<Heartbeat> heartbeats) {
+    JobPosting jobPosting = interview.getResume() != null
+        ? interview.getResume().getJobPosting()
+        : null;
+
+    int bpmCount = 0;
+    long bpmSum = 0;
+    int anomalyCount = 0;
+    for (Heartbeat heartbeat : heartbeats) {
+      if (heartbeat.getBpm() == null) {
+        continue;
+      }
+      bpmCount++;
+      bpmSum += heartbeat.getBpm();
+      if (heartbeat.getStatus() != null && !NORMAL_STATUS.equals(heartbeat.getStatus())) {
+        anomalyCount++;
+      }
+    }
+
+    return ScoreTrendPoint.builder()
+        .reportId(report.getReportId())
+        .interviewId(report.getInterviewId())
+        .jobPostingId(jobPosting != null ? jobPosting.getJobPostingId() : null)
+        .companyName(jobPosting != null && jobPosting.getCompany() != null
+            ? jobPosting.getCompany().getName()
+            : null)
+        .part(jobPosting != null ? jobPosting.getPart() : null)
+        .createdAt(report.getCreatedAt() != null ? report.getCreatedAt() : interview.getCreatedAt())
+        .scores(report.getScores() != null ? new HashMap<>(report.getScores()) : new HashMap<>())
+        .averageBpm(bpmCount > 0 ? (double) bpmSum / bpmCount : null)
+        .anomalyCount(anomalyCount)
+        .build();
+  }
+
+  private Query byUserId(Long userId) {
+    return Query.query(Criteria.where("userId").is(userId));
+  }
+}
@@ -0,0 +1,119 @@
+package com.ssafy.s13p21b204.report.util;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * AI가 반환한 평면 문장 라벨 리스트를 답변별 라벨 리스트로 나누는 정렬기
+ *
+ * 답변별로 작은 리스트를 새로 만들지 않고, 하나의 int[]에 결과를 채운 뒤
+ * 답변별 구간을 읽기 전용 뷰로 제공한다.
+ * 규칙:
+ * - 라벨이 없거나 필요한 문장 수 합계가 0이면 모든 답변에 [0]
+ * - 문장 수가 0인 답변은 [0] (기존 UI와의 일관성 유지)
+ * - 라벨이 부족하면 0으로 패딩, 남는 라벨은 무시
+ */
+public final class SentenceLabelAligner {
+
+  private static final int NEUTRAL = 0;
+
+  private SentenceLabelAligner() {
+  }
+
+  /**
+   * 라벨 정렬
+   * @param labels AI 응답 라벨 (null 허용, null 원소는 0으로 간주)
+   * @param sentenceCounts 답변별 문장 수
+   * @return 답변별 라벨 구간
+   */
+  public static AlignedLabels align(List<Integer> labels, int[] sentenceCounts) {
+    int itemCount = sentenceCounts.length;
+    int labelCount = labels != null ? labels.size() : 0;
+
+    int totalNeeded = 0;
+    int totalSlots = 0;
+    for (int need : sentenceCounts) {
+      int n = Math.max(0, need);
+      totalNeeded += n;
+      totalSlots += Math.max(1, n);
+    }
+
+    int[] values = new int[totalSlots]; // 0(중립)으로 초기화됨
+    int[] offsets = new int[itemCount + 1];
+    boolean useLabels = labelCount > 0 && totalNeeded > 0;
+
+    int pos = 0;
+    int slot = 0;
+    for (int i = 0; i < itemCount; i++) {
+      offsets[i] = slot;
+      int need = Math.max(0, sentenceCounts[i]);
+      if (need == 0 || !useLabels) {
+        // 문장이 없거나 라벨이 없는 경우 중립 하나
+        values[slot++] = NEUTRAL;
+        continue;
+      }
+      int end = Math.min(pos + need, labelCount);
+      for (int j = pos; j < end; j++) {
+        Integer label = labels.get(j);
+        values[slot++] = label != null ? label : NEUTRAL;
+      }
+      // 부족분은 이미 0으로 채워져 있으므로 위치만 이동
+      slot = offsets[i] + need;
+      pos = end;
+    }
+    offsets[itemCount] = slot;
+
+    return new AlignedLabels(values, offsets, useLabels ? totalNeeded : 0, labelCount, pos);
+  }
+
+  /**
+   * 정렬 결과
+   * @param values 모든 답변의 라벨을 이어 붙인 배열
+   * @param offsets 답변 i의 라벨은 values[offsets[i], offsets[i + 1])
+   * @param totalNeeded 필요한 문장 수 합계 (라벨을 사용하지 않은 경우 0)
+   * @param labelCount AI 응답 라벨 수
+   * @param consumed 실제로 사용한 라벨 수
+   */
+  public record AlignedLabels(int[] values, int[] offsets, int totalNeeded, int labelCount,
+                              int consumed) {
+
+    public int size() {
+      return offsets.length - 1;
+    }
+
+    /**
+     * 답변 i의 라벨 리스트 (values를 공유하는 읽기 전용 뷰)
+     */
+    public List<Integer> labelsOf(int index) {
+      return new IntSlice(values, offsets[index], offsets[index + 1]);
+    }
+  }
+
+  private static final class IntSlice extends AbstractList<Integer> implements RandomAccess {
+
+    private final int[] values;
+    private final int from;
+    private final int to;
+
+    private IntSlice(int[] values, int from, int to) {
+      this.values = values;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public Integer get(int index) {
+      if (index < 0 || index >= to - from) {
+        throw new IndexOutOfBoundsException("index=" + index + ", size=" + (to - from));
+      }
+      // 라벨 값(0~2)은 Integer 캐시 범위이므로 박싱 시 객체가 생성되지 않음
+      return values[from + index];
+    }
+
+    @Override
+    public int size() {
+      return to - from;
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package com.ssafy.s13p21b204.report.util;
+
+/**
+ * AI 감정 분석 모델과 동일한 규칙으로 답변의 문장 수를 계산하는 스캐너
+ *
+ * Python 기준 규칙 (AI/models/emotion_model.py split_sentences):
+ * <pre>
+ * lines = [s.strip() for s in paragraph.strip().splitlines() if s.strip()]
+ * pieces = re.split(r'(?&lt;=[\.!?])\s+|(?&lt;=다\.)\s+|(?&lt;=요\.)\s+', line)
+ * </pre>
+ * '다.', '요.' 규칙은 '.' 규칙에 포함되므로, 한 줄의 문장 수는
+ * "1 + 문장부호(. ! ?) 바로 뒤에 오는 공백 구간 수"와 같다.
+ * 부분 문자열을 만들지 않고 한 번의 순회로 계산한다.
+ */
+public final class SentenceSplitter {
+
+  private SentenceSplitter() {
+  }
+
+  /**
+   * 문장 수 계산
+   * @param paragraph 답변 텍스트 (null 허용)
+   * @return 문장 수 (null이거나 공백뿐이면 0)
+   */
+  public static int countSentences(CharSequence paragraph) {
+    if (paragraph == null) {
+      return 0;
+    }
+
+    int count = 0;
+    boolean lineHasContent = false; // 현재 줄에서 공백이 아닌 문자를 만났는지
+    boolean afterTerminator = false; // 직전 문자가 문장부호인지
+    boolean pendingSplit = false;   // 문장부호 뒤 공백 구간을 지나는 중인지
+
+    int length = paragraph.length();
+    for (int i = 0; i < length; i++) {
+      char c = paragraph.charAt(i);
+
+      if (isLineBreak(c)) {
+        // 줄 끝의 공백 구간은 strip()으로 제거되므로 분할로 세지 않음
+        lineHasContent = false;
+        afterTerminator = false;
+        pendingSplit = false;
+        continue;
+      }
+
+      if (isWhitespace(c)) {
+        if (afterTerminator) {
+          pendingSplit = true;
+        }
+        afterTerminator = false;
+        continue;
+      }
+
+      if (!lineHasContent) {
+        // 줄의 첫 문장
+        count++;
+        lineHasContent = true;
+      } else if (pendingSplit) {
+        count++;
+      }
+      pendingSplit = false;
+      afterTerminator = c == '.' || c == '!' || c == '?';
+    }
+    return count;
+  }
+
+  /**
+   * Python str.splitlines()의 줄 경계 문자
+   */
+  static boolean isLineBreak(char c) {
+    switch (c) {
+      case '\n':
+      case '\u000B':
+      case '\u000C':
+      case '\r':
+      case '\u001C':
+      case '\u001D':
+      case '\u001E':
+      case '\u0085':
+      case '\u2028':
+      case '\u2029':
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Python str.isspace() / 정규식 \s 와 동일한 공백 문자 (줄 경계 문자 포함)
+   */
+  static boolean isWhitespace(char c) {
+    if (c == ' ' || (c >= '\t' && c <= '\r') || (c >= '\u001C' && c <= '\u001F')) {
+      return true;
+    }
+    if (c < '\u0085') {
+      return false;
+    }
+    return c == '\u0085'
+        || c == '\u00A0'
+        || c == '\u1680'
+        || (c >= '\u2000' && c <= '\u200A')
+        || c == '\u2028'
+        || c == '\u2029'
+        || c == '\u202F'
+        || c == '\u205F'
+        || c == '\u3000';
+  }
+}
@@ -0,0 +1,112 @@
+package com.ssafy.s13p21b204.resume.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 자소서 등록 이후 면접 준비 워크플로우 (단계별 체크포인트)
+ * 각 단계가 끝날 때마다 다음 단계로 기록되므로, 재기동이나 실패 후에도 마지막 성공 단계 다음부터 이어서 실행한다.
+ */
+@Entity
+@Table(name = "resume_workflows",
+    indexes = @Index(name = "idx_resume_workflows_dispatch", columnList = "status, nextAttemptAt"))
+@Getter
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class ResumeWorkflow {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long workflowId;
+
+  @Column(nullable = false, unique = true)
+  private Long resumeId;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  // 자소서 답변 요청 (JSON)
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String answers;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  @Builder.Default
+  private WorkflowStep step = WorkflowStep.REGISTER_ANSWERS;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  @Builder.Default
+  private WorkflowStatus status = WorkflowStatus.PENDING;
+
+  // CREATE_INTERVIEW 단계 이후 기록
+  private Long interviewId;
+
+  // 현재 단계 시도 횟수 (단계가 넘어가면 초기화)
+  @Builder.Default
+  private int attempts = 0;
+
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  // 실행 노드 선점 만료 시각
+  private LocalDateTime lockedUntil;
+
+  @Column(length = 500)
+  private String lastError;
+
+  @CreatedDate
+  private LocalDateTime createdAt;
+
+  @LastModifiedDate
+  private LocalDateTime updatedAt;
+
+  /**
+   * 오류 메시지를 컬럼 길이에 맞게 자름
+   */
+  public static String truncateError(String error) {
+    if (error == null) {
+      return null;
+    }
+    return error.length() > 500 ? error.substring(0, 500) : error;
+  }
+
+  public enum WorkflowStep {
+    REGISTER_ANSWERS, // 자소서 답변 저장
+    CREATE_INTERVIEW, // 면접 생성 (CREATING)
+    GENERATE_QUESTIONS, // FastAPI 질문 생성 및 저장
+    VALIDATE_QUESTIONS, // 질문 TTS 파일 S3 업로드 검증
+    MARK_READY; // 면접 NOT_STARTED 전환
+
+    public WorkflowStep next() {
+      WorkflowStep[] steps = values();
+      return ordinal() + 1 < steps.length ? steps[ordinal() + 1] : null;
+    }
+  }
+
+  public enum WorkflowStatus {
+    PENDING, // 실행 대기 (재시도 대기 포함)
+    COMPLETED, // 모든 단계 완료
+    FAILED // 최대 재시도 초과
+  }
+
+}
@@ -2,6 +2,7 @@
 package com.ssafy.s13p21b204.resume.event;
 
 import com.ssafy.s13p21b204.answer.dto.AnswerRequestDto;
+import com.ssafy.s13p21b204.answer.repository.AnswerRepository;
 import com.ssafy.s13p21b204.answer.service.AnswerService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +19,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class AnswerRegistrationService {
 
   private final AnswerService answerService;
+  private final AnswerRepository answerRepository;
 
   @Transactional
   public void registerAnswers(Long resumeId, List<AnswerRequestDto> answers) {
     log.info("[AnswerRegistrationService] 자소서 답변 일괄 등록 시작 ");
+    // 워크플로우 재실행 시 중복 저장 방지
+    if (answerRepository.existsByResumeId(resumeId)) {
+      log.info("[AnswerRegistrationService] 이미 등록된 답변 - 단계 생략 (resumeId={})", resumeId);
+      return;
+    }
     answerService.registerAll(resumeId, answers);
     log.info("[AnswerRegistrationService] 자소서 답변 일괄 등록 완료 ");
   }
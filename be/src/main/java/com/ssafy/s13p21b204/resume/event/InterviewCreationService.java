@@ -8,6 +8,7 @@ import com.ssafy.s13p21b204.interview.entity.Interview;
 import com.ssafy.s13p21b204.interview.repository.InterviewRepository;
 import com.ssafy.s13p21b204.resume.entity.Resume;
 import com.ssafy.s13p21b204.resume.repository.ResumeRepository;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -29,6 +30,14 @@ public class InterviewCreationService {
   public Long createInterview(Long resumeId) {
     log.info("[InterviewCreationService] 면접 생성 시작 ");
 
+    // 워크플로우 재실행 시 이미 생성된 면접 재사용
+    Optional<Interview> existing = interviewRepository.findByResumeResumeId(resumeId);
+    if (existing.isPresent()) {
+      log.info("[InterviewCreationService] 이미 생성된 면접 - 단계 생략 (interviewId={})",
+          existing.get().getInterviewId());
+      return existing.get().getInterviewId();
+    }
+
     Resume resume = resumeRepository.findById(resumeId)
         .orElseThrow(() -> {
           log.warn("[InterviewCreationService] 면접 생성 실패 - 자소서 없음");
@@ -12,7 +12,10 @@ import com.ssafy.s13p21b204.global.fastapi.dto.AiResumeQAItem;
 import com.ssafy.s13p21b204.global.util.S3Util;
 import com.ssafy.s13p21b204.interview.entity.InterviewQuestion;
 import com.ssafy.s13p21b204.interview.repository.InterviewQuestionRepository;
+import com.ssafy.s13p21b204.interview.service.InterviewContextService;
+import com.ssafy.s13p21b204.interview.service.TtsAudioStore;
 import com.ssafy.s13p21b204.jobPosting.entity.JobPosting;
+import com.ssafy.s13p21b204.jobPosting.service.JobPostingPreferenceService;
 import com.ssafy.s13p21b204.resume.entity.Resume;
 import com.ssafy.s13p21b204.resume.repository.ResumeRepository;
 import java.util.ArrayList;
@@ -38,20 +41,28 @@ public class InterviewQuestionCreationService {
   private final InterviewQuestionRepository interviewQuestionRepository;
   private final S3Util s3Util;
   private final AiClient aiClient;
-  private final InterviewQuestionValidationService validationService;
+  private final JobPostingPreferenceService jobPostingPreferenceService;
+  private final TtsAudioStore ttsAudioStore;
 
   @Transactional
-  public void createQuestions(Long interviewId, ResumeCreatedEvent event) {
+  public void createQuestions(Long interviewId, Long resumeId) {
     log.info("[InterviewQuestionCreationService] FastAPI 기반 질문 생성 시작 ");
 
-    Resume resume = resumeRepository.findByIdWithJobPostingAndCompany(event.resumeId())
+    // 워크플로우 재실행 시 FastAPI 재호출 방지 (질문은 saveAll로 한 번에 저장됨)
+    if (!interviewQuestionRepository.findByInterviewId(interviewId).isEmpty()) {
+      log.info("[InterviewQuestionCreationService] 이미 생성된 질문 - 단계 생략 (interviewId={})",
+          interviewId);
+      return;
+    }
+
+    Resume resume = resumeRepository.findByIdWithJobPostingAndCompany(resumeId)
         .orElseThrow(() -> {
           log.warn("[InterviewQuestionCreationService] 질문 생성 실패 - Resume 미존재 ");
           return ApiException.of(HttpStatus.NOT_FOUND, ErrorMessage.RESUME_NOT_FOUND);
         });
 
     JobPosting jobPosting = resume.getJobPosting();
-    List<Answer> answers = answerRepository.findByResumeId(event.resumeId());
+    List<Answer> answers = answerRepository.findByResumeId(resumeId);
 
     List<S3Util.S3UploadInfo> uploadInfos = new ArrayList<>();
     List<String> presignedUrls = new ArrayList<>();
@@ -78,13 +89,14 @@ public class InterviewQuestionCreationService {
     List<InterviewQuestion> questions = new ArrayList<>();
     for (int i = 0; i < actualQuestionCount; i++) {
       String questionText = response.textFromTts().get(i);
-      String s3Key = uploadInfos.get(i).s3Key();
       InterviewQuestion.Difficult difficult = InterviewQuestion.Difficult.LAX;
       if (response.talker() != null && i < response.talker().size()) {
         difficult = response.talker().get(i) == 0
             ? InterviewQuestion.Difficult.STRICT
             : InterviewQuestion.Difficult.LAX;
       }
+      // 같은 내용/음성의 TTS가 이미 있으면 그 객체를 참조 (이번 업로드 파일은 저장소 정리 대상)
+      String s3Key = ttsAudioStore.resolve(questionText, difficult, uploadInfos.get(i).s3Key());
       InterviewQuestion question = InterviewQuestion.builder()
           .interviewId(interviewId)
           .content(questionText)
@@ -95,24 +107,18 @@ public class InterviewQuestionCreationService {
     }
 
     List<InterviewQuestion> saved = interviewQuestionRepository.saveAll(questions);
-    validationService.validate(interviewId, saved);
-    log.info("[InterviewQuestionCreationService] 질문 생성 및 검증 완료 - interviewId={}, 총 {}개",
+    log.info("[InterviewQuestionCreationService] 질문 생성 완료 - interviewId={}, 총 {}개",
         interviewId, saved.size());
   }
 
   private AiInterviewInput buildAiInterviewInput(JobPosting jobPosting, List<Answer> answers,
       List<String> presignedUrls) {
     String jd = s3Util.generateDownloadPresignedUrl(jobPosting.getS3PreferenceFileKey());
-    List<AiResumeQAItem> resumeQA = new ArrayList<>();
-    for (int i = 0; i < answers.size(); i++) {
-      Answer answer = answers.get(i);
-      String num = String.valueOf(i + 1);
-      String question = answer.getQuestion().getContent();
-      String answerContent = answer.getContent() != null ? answer.getContent() : "";
-      resumeQA.add(new AiResumeQAItem(num, question, answerContent, answerContent));
-    }
+    // 면접 컨텍스트 스냅샷과 같은 형식으로 자소서 Q&A 구성
+    List<AiResumeQAItem> resumeQA = InterviewContextService.toResumeQA(answers);
     return new AiInterviewInput(
         jd != null ? jd : "",
+        jobPostingPreferenceService.findText(jobPosting.getS3PreferenceFileKey()),
         resumeQA,
         new ArrayList<>(),
         "",
@@ -6,6 +6,7 @@ import com.ssafy.s13p21b204.global.exception.ErrorMessage;
 import com.ssafy.s13p21b204.global.util.S3Util;
 import com.ssafy.s13p21b204.interview.entity.InterviewQuestion;
 import com.ssafy.s13p21b204.interview.repository.InterviewQuestionRepository;
+import com.ssafy.s13p21b204.interview.service.TtsAudioStore;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -28,9 +29,11 @@ public class InterviewQuestionValidationService {
 
   private final InterviewQuestionRepository interviewQuestionRepository;
   private final S3Util s3Util;
+  private final TtsAudioStore ttsAudioStore;
 
   @Transactional
-  public void validate(Long interviewId, List<InterviewQuestion> questions) {
+  public void validate(Long interviewId) {
+    List<InterviewQuestion> questions = interviewQuestionRepository.findByInterviewId(interviewId);
     log.info("[InterviewQuestionValidationService] S3 검증 시작 - interviewId={}, 질문 수={}",
         interviewId, questions.size());
 
@@ -46,15 +49,17 @@ public class InterviewQuestionValidationService {
         .collect(Collectors.toList());
 
     if (!missingQuestionIds.isEmpty() || questions.size() < REQUIRED_QUESTION_COUNT) {
+      // 업로드 지연일 수 있으므로 질문은 삭제하지 않고 워크플로우 재시도에 맡김
       log.error("[InterviewQuestionValidationService] S3 검증 실패 - interviewId={}, 누락 질문={}",
           interviewId, missingQuestionIds);
-      if (!missingQuestionIds.isEmpty()) {
-        interviewQuestionRepository.deleteAllById(missingQuestionIds);
-      }
       throw ApiException.of(HttpStatus.UNPROCESSABLE_ENTITY,
           ErrorMessage.S3_FILE_VALIDATION_FAILED);
     }
 
+    // 업로드가 확인된 TTS를 대표 객체로 등록 (이후 같은 내용의 질문이 재사용)
+    questions.forEach(question -> ttsAudioStore.register(question.getContent(),
+        question.getDifficult(), question.getS3Key()));
+
     log.info("[InterviewQuestionValidationService] S3 검증 완료 - interviewId={}", interviewId);
   }
 }
\ No newline at end of file
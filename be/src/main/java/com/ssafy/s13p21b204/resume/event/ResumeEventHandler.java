@@ -1,6 +1,5 @@
 package com.ssafy.s13p21b204.resume.event;
 
-import com.ssafy.s13p21b204.global.exception.ApiException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -11,51 +10,23 @@ import org.springframework.transaction.event.TransactionalEventListener;
 /**
  * Resume 생성 이벤트 처리 Resume - Answer 등록 - Interview 생성 - FastAPI 호출 - InterviewQuestion 생성 -
  * Interview상태 변경
+ * 워크플로우는 자소서와 함께 저장되며(ResumeWorkflow), 실행과 재시도는 ResumeWorkflowEngine이 담당한다.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ResumeEventHandler {
 
-  private final AnswerRegistrationService answerRegistrationService;
-  private final InterviewCreationService interviewCreationService;
-  private final InterviewQuestionCreationService interviewQuestionCreationService;
-  private final InterviewStatusService interviewStatusService;
+  private final ResumeWorkflowEngine resumeWorkflowEngine;
 
   /**
-   * Resume 생성 이후 면접 워크플로우를 오케스트레이션한다.
+   * Resume 생성 이후 면접 워크플로우를 즉시 실행한다.
+   * 여기서 실행되지 못한 워크플로우(노드 종료, 재시도 대기, 실행기 포화로 거절)는 ResumeWorkflowEngine 주기 실행이 이어받는다.
    */
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-  @Async("interviewWorkflowExecutor")
+  @Async("questionGenerationExecutor")
   public void handleResumeCreated(ResumeCreatedEvent event) {
     log.info("[ResumeEventHandler] Resume 생성 이벤트 수신 ");
-
-    Long interviewId = null;
-    try {
-
-      answerRegistrationService.registerAnswers(event.resumeId(), event.answers());
-      interviewId = interviewCreationService.createInterview(event.resumeId());
-      interviewQuestionCreationService.createQuestions(interviewId, event);
-      interviewStatusService.markReady(interviewId);
-      log.info("[ResumeEventHandler] Resume 기반 면접 워크플로우 완료");
-    } catch (
-        ApiException apiException) {
-      log.warn("[ResumeEventHandler] 워크플로우 실패(ApiException) ");
-      handleFailure(event, interviewId);
-    } catch (
-        Exception exception) {
-      log.error("[ResumeEventHandler] 워크플로우 실패(Unexpected) ");
-      handleFailure(event, interviewId);
-    }
-  }
-
-  private void handleFailure(ResumeCreatedEvent event, Long interviewId) {
-    if (interviewId != null) {
-      interviewStatusService.markFailed(interviewId);
-    } else {
-      interviewStatusService.markFailedByResumeId(event.resumeId());
-    }
-
+    resumeWorkflowEngine.runByResumeId(event.resumeId());
   }
 }
-
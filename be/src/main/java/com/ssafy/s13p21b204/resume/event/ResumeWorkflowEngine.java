@@ -0,0 +1,152 @@
+package com.ssafy.s13p21b204.resume.event;
+
+import com.ssafy.s13p21b204.global.exception.ApiException;
+import com.ssafy.s13p21b204.global.util.LeaseHeartbeat;
+import com.ssafy.s13p21b204.resume.entity.ResumeWorkflow;
+import com.ssafy.s13p21b204.resume.entity.ResumeWorkflow.WorkflowStep;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 면접 준비 워크플로우 실행기
+ * 선점한 워크플로우를 마지막으로 완료된 단계 다음부터 실행하고, 단계마다 체크포인트를 기록한다.
+ * 실패한 단계만 백오프 후 다시 실행하므로 앞 단계(특히 FastAPI 질문 생성)를 반복하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeWorkflowEngine {
+
+  private final ResumeWorkflowService resumeWorkflowService;
+  private final AnswerRegistrationService answerRegistrationService;
+  private final InterviewCreationService interviewCreationService;
+  private final InterviewQuestionCreationService interviewQuestionCreationService;
+  private final InterviewQuestionValidationService interviewQuestionValidationService;
+  private final InterviewStatusService interviewStatusService;
+  private final Executor questionGenerationExecutor;
+  private final LeaseHeartbeat leaseHeartbeat;
+
+  @Value("${resume.workflow.batch-size:10}")
+  private int batchSize;
+
+  /**
+   * 자소서 등록 직후 실행
+   */
+  public void runByResumeId(Long resumeId) {
+    resumeWorkflowService.findIdByResumeId(resumeId).ifPresentOrElse(this::run,
+        () -> log.warn("[ResumeWorkflowEngine] 워크플로우 없음 - resumeId={}", resumeId));
+  }
+
+  /**
+   * 재시도 예약 건, 선점 만료 건(실행 노드 종료), 재기동 이전 미완료 건 주기 실행
+   */
+  @Scheduled(fixedDelayString = "${resume.workflow.poll-interval-ms:10000}",
+      initialDelayString = "${resume.workflow.initial-delay-ms:15000}")
+  public void resumePending() {
+    List<Long> workflowIds = resumeWorkflowService.findDispatchableIds(batchSize);
+    if (workflowIds.isEmpty()) {
+      return;
+    }
+    log.info("[ResumeWorkflowEngine] 미완료 워크플로우 재개 - {}건", workflowIds.size());
+    // 스케줄러 스레드를 점유하지 않도록 질문 생성 실행기에서 실행
+    for (Long workflowId : workflowIds) {
+      try {
+        questionGenerationExecutor.execute(() -> run(workflowId));
+      } catch (TaskRejectedException e) {
+        log.warn("[ResumeWorkflowEngine] 실행기 포화 - 남은 워크플로우는 다음 주기에 재개");
+        return;
+      }
+    }
+  }
+
+  public void run(Long workflowId) {
+    Optional<ResumeWorkflow> claimed = resumeWorkflowService.claim(workflowId);
+    if (claimed.isEmpty()) {
+      log.info("[ResumeWorkflowEngine] 이미 선점/완료된 워크플로우 - workflowId={}", workflowId);
+      return;
+    }
+
+    ResumeWorkflow workflow = claimed.get();
+    Long resumeId = workflow.getResumeId();
+    Long interviewId = workflow.getInterviewId();
+    WorkflowStep step = workflow.getStep();
+    log.info("[ResumeWorkflowEngine] 워크플로우 실행 - workflowId={}, 시작 단계={}, 시도={}",
+        workflowId, step, workflow.getAttempts() + 1);
+
+    // 단계 실행(특히 FastAPI 질문 생성)이 선점 유지 시간을 넘겨도 다시 선점되지 않도록 진행 중 연장
+    LeaseHeartbeat.Lease lease = leaseHeartbeat.start("workflow:" + workflowId,
+        workflow.getLockedUntil(), resumeWorkflowService.leaseRenewInterval(),
+        current -> resumeWorkflowService.renewLease(workflowId, current));
+    try {
+      while (step != null) {
+        // 주기 연장에서 선점을 잃었으면 다음 단계를 실행하지 않음
+        if (lease.isLost()) {
+          log.warn("[ResumeWorkflowEngine] 선점 상실 - 실행 중단 (workflowId={}, 단계={})",
+              workflowId, step);
+          return;
+        }
+        switch (step) {
+          case REGISTER_ANSWERS -> answerRegistrationService.registerAnswers(resumeId,
+              resumeWorkflowService.readAnswers(workflow));
+          case CREATE_INTERVIEW -> interviewId = interviewCreationService.createInterview(resumeId);
+          case GENERATE_QUESTIONS ->
+              interviewQuestionCreationService.createQuestions(interviewId, resumeId);
+          case VALIDATE_QUESTIONS -> interviewQuestionValidationService.validate(interviewId);
+          case MARK_READY -> interviewStatusService.markReady(interviewId);
+        }
+        // 체크포인트가 선점도 연장하므로 다음 단계는 새 선점 시간 안에서 시작
+        WorkflowStep completed = step;
+        Long checkpointInterviewId = interviewId;
+        if (!lease.apply(current -> resumeWorkflowService.checkpoint(workflowId, completed,
+            current, checkpointInterviewId))) {
+          log.warn("[ResumeWorkflowEngine] 선점 상실 - 실행 중단 (workflowId={}, 단계={})",
+              workflowId, completed);
+          return;
+        }
+        step = completed.next();
+      }
+      log.info("[ResumeWorkflowEngine] Resume 기반 면접 워크플로우 완료 - workflowId={}", workflowId);
+    } catch (ApiException apiException) {
+      log.warn("[ResumeWorkflowEngine] 단계 실패(ApiException) - workflowId={}, 단계={}, error={}",
+          workflowId, step, apiException.getMessage());
+      lease.close();
+      handleFailure(workflowId, resumeId, lease.current(), apiException);
+    } catch (Exception exception) {
+      log.error("[ResumeWorkflowEngine] 단계 실패(Unexpected) - workflowId={}, 단계={}",
+          workflowId, step, exception);
+      lease.close();
+      handleFailure(workflowId, resumeId, lease.current(), exception);
+    } finally {
+      lease.close();
+    }
+  }
+
+  private void handleFailure(Long workflowId, Long resumeId, LocalDateTime lease,
+      Exception cause) {
+    Optional<ResumeWorkflow> failed;
+    try {
+      failed = resumeWorkflowService.recordFailure(workflowId, lease, cause.getMessage());
+    } catch (Exception e) {
+      // 기록 실패 시 선점이 만료된 뒤 주기 실행에서 다시 시도
+      log.error("[ResumeWorkflowEngine] 실패 기록 실패 - workflowId={}", workflowId, e);
+      return;
+    }
+
+    // 재시도가 남아 있으면 면접은 CREATING 상태 유지
+    failed.ifPresent(workflow -> {
+      if (workflow.getInterviewId() != null) {
+        interviewStatusService.markFailed(workflow.getInterviewId());
+      } else {
+        interviewStatusService.markFailedByResumeId(resumeId);
+      }
+    });
+  }
+}
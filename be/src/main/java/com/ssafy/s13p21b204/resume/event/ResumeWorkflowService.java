@@ -0,0 +1,204 @@
+package com.ssafy.s13p21b204.resume.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s13p21b204.answer.dto.AnswerRequestDto;
+import com.ssafy.s13p21b204.global.exception.ApiException;
+import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import com.ssafy.s13p21b204.resume.entity.ResumeWorkflow;
+import com.ssafy.s13p21b204.resume.entity.ResumeWorkflow.WorkflowStatus;
+import com.ssafy.s13p21b204.resume.entity.ResumeWorkflow.WorkflowStep;
+import com.ssafy.s13p21b204.resume.repository.ResumeWorkflowRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 면접 준비 워크플로우 상태(체크포인트, 선점, 재시도) 관리 서비스.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeWorkflowService {
+
+  private static final TypeReference<List<AnswerRequestDto>> ANSWERS_TYPE = new TypeReference<>() {
+  };
+
+  private final ResumeWorkflowRepository resumeWorkflowRepository;
+  private final ObjectMapper objectMapper;
+
+  @Value("${resume.workflow.max-attempts:3}")
+  private int maxAttempts;
+
+  // 선점 유지 시간 (실행 중에는 LeaseHeartbeat가 1/3 주기로 연장하므로 단계 실행 시간 상한과 무관)
+  @Value("${resume.workflow.lease-seconds:600}")
+  private long leaseSeconds;
+
+  @Value("${resume.workflow.retry-base-seconds:10}")
+  private long retryBaseSeconds;
+
+  /**
+   * 워크플로우 생성 (자소서 저장 트랜잭션에 참여하여 원자적으로 저장)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public ResumeWorkflow create(Long resumeId, Long userId, List<AnswerRequestDto> answers) {
+    ResumeWorkflow workflow = resumeWorkflowRepository.save(ResumeWorkflow.builder()
+        .resumeId(resumeId)
+        .userId(userId)
+        .answers(writeAnswers(answers))
+        .nextAttemptAt(LocalDateTime.now())
+        .build());
+    log.info("[ResumeWorkflowService] 워크플로우 생성 - workflowId={}, resumeId={}",
+        workflow.getWorkflowId(), resumeId);
+    return workflow;
+  }
+
+  @Transactional(readOnly = true)
+  public Optional<Long> findIdByResumeId(Long resumeId) {
+    return resumeWorkflowRepository.findByResumeId(resumeId).map(ResumeWorkflow::getWorkflowId);
+  }
+
+  @Transactional(readOnly = true)
+  public List<Long> findDispatchableIds(int limit) {
+    return resumeWorkflowRepository.findDispatchableIds(WorkflowStatus.PENDING,
+        LocalDateTime.now(), PageRequest.of(0, limit));
+  }
+
+  /**
+   * 워크플로우 선점
+   * 선점 만료 시각(lockedUntil)을 선점 토큰으로 사용하며, 이후 연장/체크포인트/실패 기록은 이 토큰이 그대로일 때만 반영된다.
+   * @return 선점 성공 시 현재 상태(lockedUntil = 선점 토큰), 다른 노드가 실행 중이거나 이미 끝난 경우 empty
+   */
+  @Transactional
+  public Optional<ResumeWorkflow> claim(Long workflowId) {
+    LocalDateTime now = LocalDateTime.now();
+    int claimed = resumeWorkflowRepository.claim(workflowId, WorkflowStatus.PENDING, now,
+        leaseUntil(now));
+    if (claimed == 0) {
+      return Optional.empty();
+    }
+    return resumeWorkflowRepository.findById(workflowId);
+  }
+
+  /**
+   * 선점 연장 (단계 실행이 선점 유지 시간보다 오래 걸려도 다른 노드가 다시 선점하지 않도록)
+   * @return 연장된 선점 토큰, 선점을 잃은 경우 empty
+   */
+  @Transactional
+  public Optional<LocalDateTime> renewLease(Long workflowId, LocalDateTime lease) {
+    LocalDateTime renewed = leaseUntil(LocalDateTime.now());
+    if (resumeWorkflowRepository.renewLease(workflowId, WorkflowStatus.PENDING, lease, renewed)
+        != 1) {
+      return Optional.empty();
+    }
+    return Optional.of(renewed);
+  }
+
+  /**
+   * 선점 연장 주기 (선점 유지 시간의 1/3)
+   */
+  public Duration leaseRenewInterval() {
+    return Duration.ofSeconds(Math.max(1, leaseSeconds / 3));
+  }
+
+  public List<AnswerRequestDto> readAnswers(ResumeWorkflow workflow) {
+    try {
+      return objectMapper.readValue(workflow.getAnswers(), ANSWERS_TYPE);
+    } catch (JsonProcessingException e) {
+      log.error("[ResumeWorkflowService] 답변 역직렬화 실패 - workflowId={}", workflow.getWorkflowId());
+      throw ApiException.of(HttpStatus.INTERNAL_SERVER_ERROR, ErrorMessage.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  /**
+   * 단계 완료 기록 (선점 연장 포함) - 선점을 유지한 경우에만
+   * @param completed 완료한 단계
+   * @return 반영 시 새 선점 토큰, 선점을 잃은 경우 empty
+   */
+  @Transactional
+  public Optional<LocalDateTime> checkpoint(Long workflowId, WorkflowStep completed,
+      LocalDateTime lease, Long interviewId) {
+    LocalDateTime now = LocalDateTime.now();
+    WorkflowStep next = completed.next();
+    LocalDateTime renewed = next != null ? leaseUntil(now) : null;
+    int updated = resumeWorkflowRepository.checkpoint(workflowId, WorkflowStatus.PENDING, lease,
+        completed, next != null ? next : completed,
+        next != null ? WorkflowStatus.PENDING : WorkflowStatus.COMPLETED, interviewId, renewed,
+        now);
+    if (updated != 1) {
+      log.warn("[ResumeWorkflowService] 선점 상실 - 단계 완료 기록 생략 (workflowId={}, 단계={})",
+          workflowId, completed);
+      return Optional.empty();
+    }
+    log.info("[ResumeWorkflowService] 단계 완료 - workflowId={}, 완료 단계={}, 다음 단계={}",
+        workflowId, completed, next);
+    return Optional.of(renewed != null ? renewed : lease);
+  }
+
+  /**
+   * 현재 단계 실패 기록 (지수 백오프로 재시도 예약, 최대 횟수 초과 시 FAILED) - 선점을 유지한 경우에만
+   * @return 더 이상 재시도하지 않는 경우 FAILED 처리된 워크플로우, 재시도가 예약되었거나 선점을 잃은 경우 empty
+   */
+  @Transactional
+  public Optional<ResumeWorkflow> recordFailure(Long workflowId, LocalDateTime lease,
+      String error) {
+    ResumeWorkflow workflow = findWorkflow(workflowId);
+    LocalDateTime now = LocalDateTime.now();
+    String lastError = ResumeWorkflow.truncateError(error);
+    boolean exhausted = workflow.getAttempts() + 1 >= maxAttempts;
+    Duration backoff = Duration.ofSeconds(retryBaseSeconds << workflow.getAttempts());
+
+    int updated = exhausted
+        ? resumeWorkflowRepository.release(workflowId, WorkflowStatus.PENDING, lease,
+            WorkflowStatus.FAILED, workflow.getNextAttemptAt(), lastError, now)
+        : resumeWorkflowRepository.release(workflowId, WorkflowStatus.PENDING, lease,
+            WorkflowStatus.PENDING, now.plus(backoff), lastError, now);
+    if (updated != 1) {
+      log.warn("[ResumeWorkflowService] 선점 상실 - 실패 기록 생략 (workflowId={}, 단계={})",
+          workflowId, workflow.getStep());
+      return Optional.empty();
+    }
+
+    if (exhausted) {
+      log.error("[ResumeWorkflowService] 최대 재시도 초과 - workflowId={}, 단계={}, 시도={}",
+          workflowId, workflow.getStep(), workflow.getAttempts() + 1);
+      return Optional.of(workflow);
+    }
+    log.warn("[ResumeWorkflowService] 재시도 예약 - workflowId={}, 단계={}, 시도={}/{}, 대기={}초",
+        workflowId, workflow.getStep(), workflow.getAttempts() + 1, maxAttempts,
+        backoff.getSeconds());
+    return Optional.empty();
+  }
+
+  // DB 컬럼 정밀도와 무관하게 같은 값으로 비교되도록 초 단위로 자름
+  private LocalDateTime leaseUntil(LocalDateTime now) {
+    return now.plusSeconds(leaseSeconds).truncatedTo(ChronoUnit.SECONDS);
+  }
+
+  private ResumeWorkflow findWorkflow(Long workflowId) {
+    return resumeWorkflowRepository.findById(workflowId).orElseThrow(() -> {
+      log.warn("[ResumeWorkflowService] 워크플로우 없음 - workflowId={}", workflowId);
+      return ApiException.of(HttpStatus.INTERNAL_SERVER_ERROR, ErrorMessage.INTERNAL_SERVER_ERROR);
+    });
+  }
+
+  private String writeAnswers(List<AnswerRequestDto> answers) {
+    try {
+      return objectMapper.writeValueAsString(answers != null ? answers : List.of());
+    } catch (JsonProcessingException e) {
+      log.error("[ResumeWorkflowService] 답변 직렬화 실패 - {}", e.getMessage());
+      throw ApiException.of(HttpStatus.INTERNAL_SERVER_ERROR, ErrorMessage.INTERNAL_SERVER_ERROR);
+    }
+  }
+}
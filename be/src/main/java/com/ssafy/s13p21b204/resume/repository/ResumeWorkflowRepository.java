@@ -0,0 +1,103 @@
+package com.ssafy.s13p21b204.resume.repository;
+
+import com.ssafy.s13p21b204.resume.entity.ResumeWorkflow;
+import com.ssafy.s13p21b204.resume.entity.ResumeWorkflow.WorkflowStatus;
+import com.ssafy.s13p21b204.resume.entity.ResumeWorkflow.WorkflowStep;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ResumeWorkflowRepository extends JpaRepository<ResumeWorkflow, Long> {
+
+  Optional<ResumeWorkflow> findByResumeId(Long resumeId);
+
+  /**
+   * 실행 가능한 워크플로우 ID 조회 (재시도 시각 도래 + 선점되지 않았거나 선점 만료)
+   */
+  @Query("""
+      select w.workflowId from ResumeWorkflow w
+      where w.status = :status
+        and w.nextAttemptAt <= :now
+        and (w.lockedUntil is null or w.lockedUntil < :now)
+      order by w.workflowId
+      """)
+  List<Long> findDispatchableIds(@Param("status") WorkflowStatus status,
+      @Param("now") LocalDateTime now, Pageable pageable);
+
+  /**
+   * 워크플로우 선점 (조건부 UPDATE로 여러 노드 중 한 곳만 성공)
+   * @return 선점 성공 시 1, 이미 다른 노드가 선점했거나 처리된 경우 0
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      update ResumeWorkflow w
+      set w.lockedUntil = :lockedUntil
+      where w.workflowId = :workflowId
+        and w.status = :status
+        and w.nextAttemptAt <= :now
+        and (w.lockedUntil is null or w.lockedUntil < :now)
+      """)
+  int claim(@Param("workflowId") Long workflowId, @Param("status") WorkflowStatus status,
+      @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+  /**
+   * 선점 연장 (선점 토큰이 그대로인 경우에만)
+   * @return 연장 성공 시 1, 선점이 만료되어 다른 노드가 선점했거나 처리된 경우 0
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      update ResumeWorkflow w
+      set w.lockedUntil = :renewed
+      where w.workflowId = :workflowId
+        and w.status = :pending
+        and w.lockedUntil = :lease
+      """)
+  int renewLease(@Param("workflowId") Long workflowId, @Param("pending") WorkflowStatus pending,
+      @Param("lease") LocalDateTime lease, @Param("renewed") LocalDateTime renewed);
+
+  /**
+   * 단계 완료 기록 (선점 토큰이 그대로이고 완료한 단계가 현재 단계인 경우에만)
+   * 다음 단계가 없으면 status=COMPLETED, lockedUntil=null로 선점도 해제한다.
+   * @return 반영 시 1, 선점을 잃은 경우 0
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      update ResumeWorkflow w
+      set w.step = :next, w.status = :status, w.interviewId = coalesce(:interviewId, w.interviewId),
+        w.attempts = 0, w.lastError = null, w.lockedUntil = :lockedUntil, w.updatedAt = :now
+      where w.workflowId = :workflowId
+        and w.status = :pending
+        and w.step = :completed
+        and w.lockedUntil = :lease
+      """)
+  int checkpoint(@Param("workflowId") Long workflowId, @Param("pending") WorkflowStatus pending,
+      @Param("lease") LocalDateTime lease, @Param("completed") WorkflowStep completed,
+      @Param("next") WorkflowStep next, @Param("status") WorkflowStatus status,
+      @Param("interviewId") Long interviewId, @Param("lockedUntil") LocalDateTime lockedUntil,
+      @Param("now") LocalDateTime now);
+
+  /**
+   * 단계 실패 기록 (재시도 예약 또는 FAILED) 및 선점 해제 - 선점 토큰이 그대로인 경우에만
+   * 선점이 만료되어 다른 노드가 이어받은 뒤 늦게 끝난 실행이 상태를 덮어쓰지 않도록 한다.
+   * @return 반영 시 1, 선점을 잃은 경우 0
+   */
+  @Modifying(clearAutomatically = true)
+  @Query("""
+      update ResumeWorkflow w
+      set w.status = :status, w.attempts = w.attempts + 1, w.nextAttemptAt = :nextAttemptAt,
+        w.lockedUntil = null, w.lastError = :error, w.updatedAt = :now
+      where w.workflowId = :workflowId
+        and w.status = :pending
+        and w.lockedUntil = :lease
+      """)
+  int release(@Param("workflowId") Long workflowId, @Param("pending") WorkflowStatus pending,
+      @Param("lease") LocalDateTime lease, @Param("status") WorkflowStatus status,
+      @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error,
+      @Param("now") LocalDateTime now);
+
+}
@@ -15,6 +15,7 @@ import com.ssafy.s13p21b204.resume.dto.ResumeResponseDto;
 import com.ssafy.s13p21b204.resume.dto.ResumeWithInterviewIdProjection;
 import com.ssafy.s13p21b204.resume.entity.Resume;
 import com.ssafy.s13p21b204.resume.event.ResumeCreatedEvent;
+import com.ssafy.s13p21b204.resume.event.ResumeWorkflowService;
 import com.ssafy.s13p21b204.resume.repository.ResumeRepository;
 import com.ssafy.s13p21b204.resume.service.ResumeService;
 import java.util.List;
@@ -34,6 +35,7 @@ public class ResumeServiceImpl implements ResumeService {
     private final JobPostingRepository jobPostingRepository;
     private final AnswerRepository answerRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final ResumeWorkflowService resumeWorkflowService;
 
     @Override
     @Transactional
@@ -60,6 +62,10 @@ public class ResumeServiceImpl implements ResumeService {
                 .build()
         );
 
+        // 면접 준비 워크플로우를 자소서와 같은 트랜잭션에 저장 (재기동/실패 시 이어서 실행)
+        resumeWorkflowService.create(savedResume.getResumeId(), userId,
+            resumeRequestDto.answerRequestDtos());
+
         eventPublisher.publishEvent(
             new ResumeCreatedEvent(
                 savedResume.getResumeId(),
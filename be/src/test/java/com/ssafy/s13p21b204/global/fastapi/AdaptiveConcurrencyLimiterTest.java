@@ -0,0 +1,98 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 적응형 동시성 제한의 허가/반납, 드롭 시 절반 감소와 하한, 지연에 따른 한도 조정 검증
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long RTT = TimeUnit.MILLISECONDS.toNanos(100);
+
+  @Test
+  void rejectsBeyondLimitUntilReleased() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 2.0);
+
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    limiter.onIgnored();
+
+    assertThat(limiter.getInFlight()).isEqualTo(1);
+    assertThat(limiter.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void clampsInitialLimitToRange() {
+    assertThat(new AdaptiveConcurrencyLimiter(500, 1, 100, 2.0).getLimit()).isEqualTo(100);
+    assertThat(new AdaptiveConcurrencyLimiter(0, 3, 100, 2.0).getLimit()).isEqualTo(3);
+  }
+
+  @Test
+  void halvesLimitOnDropDownToMinimum() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 3, 100, 2.0);
+
+    drop(limiter);
+    assertThat(limiter.getLimit()).isEqualTo(10);
+    drop(limiter);
+    assertThat(limiter.getLimit()).isEqualTo(5);
+    drop(limiter);
+    drop(limiter);
+    assertThat(limiter.getLimit()).isEqualTo(3);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void growsWhileLatencyStableAndSaturated() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 100, 2.0);
+
+    for (int round = 0; round < 30; round++) {
+      saturateAndComplete(limiter, RTT);
+    }
+
+    assertThat(limiter.getLimit()).isGreaterThan(4);
+  }
+
+  @Test
+  void doesNotGrowWhileUnderused() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 2.0);
+
+    for (int i = 0; i < 50; i++) {
+      limiter.tryAcquire();
+      limiter.onSuccess(RTT);
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(10);
+  }
+
+  @Test
+  void shrinksWhenLatencyExceedsTolerance() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 2.0);
+    // 장기 평균 응답 시간 기록 (사용량이 적어 한도는 그대로)
+    limiter.tryAcquire();
+    limiter.onSuccess(RTT);
+
+    saturateAndComplete(limiter, RTT * 10);
+
+    assertThat(limiter.getLimit()).isLessThan(10);
+  }
+
+  private void drop(AdaptiveConcurrencyLimiter limiter) {
+    assertThat(limiter.tryAcquire()).isTrue();
+    limiter.onDropped();
+  }
+
+  private void saturateAndComplete(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+    int acquired = 0;
+    while (limiter.tryAcquire()) {
+      acquired++;
+    }
+    for (int i = 0; i < acquired; i++) {
+      limiter.onSuccess(rttNanos);
+    }
+  }
+}
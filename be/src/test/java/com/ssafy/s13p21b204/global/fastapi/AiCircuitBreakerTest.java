@@ -0,0 +1,127 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.s13p21b204.global.fastapi.AiCircuitBreaker.Admission;
+import com.ssafy.s13p21b204.global.fastapi.AiCircuitBreaker.State;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 서킷 브레이커 상태 전이 (CLOSED → OPEN → HALF_OPEN → CLOSED/OPEN)와 시험 요청 반납 검증
+ */
+class AiCircuitBreakerTest {
+
+  private static final long OPEN_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  @Test
+  void staysClosedBelowMinimumCalls() {
+    AiCircuitBreaker breaker = breaker(OPEN_NANOS, 2);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(breaker.onResult(breaker.tryAcquire(), true)).isFalse();
+    }
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void opensWhenFailureRateReachesThreshold() {
+    AiCircuitBreaker breaker = breaker(OPEN_NANOS, 2);
+
+    breaker.onResult(breaker.tryAcquire(), false);
+    breaker.onResult(breaker.tryAcquire(), true);
+    breaker.onResult(breaker.tryAcquire(), false);
+    boolean tripped = breaker.onResult(breaker.tryAcquire(), true);
+
+    assertThat(tripped).isTrue();
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(breaker.tryAcquire()).isEqualTo(Admission.REJECTED);
+    assertThat(breaker.retryAfterSeconds()).isBetween(59L, 60L);
+  }
+
+  @Test
+  void ignoresLateResultsWhileOpen() {
+    AiCircuitBreaker breaker = breaker(OPEN_NANOS, 2);
+    trip(breaker);
+
+    assertThat(breaker.onResult(Admission.PERMITTED, true)).isFalse();
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  void halfOpenAdmitsLimitedProbesAndClosesWhenAllSucceed() {
+    AiCircuitBreaker breaker = breaker(0, 2);
+    trip(breaker);
+
+    Admission first = breaker.tryAcquire();
+    Admission second = breaker.tryAcquire();
+    assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    assertThat(first).isEqualTo(Admission.PROBE);
+    assertThat(second).isEqualTo(Admission.PROBE);
+    assertThat(breaker.tryAcquire()).isEqualTo(Admission.REJECTED);
+
+    breaker.onResult(first, false);
+    assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    breaker.onResult(second, false);
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(breaker.tryAcquire()).isEqualTo(Admission.PERMITTED);
+  }
+
+  @Test
+  void closedAfterRecoveryStartsWithEmptyWindow() {
+    AiCircuitBreaker breaker = breaker(0, 1);
+    trip(breaker);
+    breaker.onResult(breaker.tryAcquire(), false);
+
+    // 이전 실패 기록이 남아 있으면 한 번의 실패로 다시 OPEN됨
+    assertThat(breaker.onResult(breaker.tryAcquire(), true)).isFalse();
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void reopensWhenProbeFails() {
+    AiCircuitBreaker breaker = breaker(0, 2);
+    trip(breaker);
+
+    Admission probe = breaker.tryAcquire();
+    Admission other = breaker.tryAcquire();
+    boolean tripped = breaker.onResult(probe, true);
+
+    assertThat(tripped).isTrue();
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    // 다시 OPEN된 뒤 도착한 다른 시험 요청의 결과는 반영하지 않음
+    assertThat(breaker.onResult(other, false)).isFalse();
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  void releasedProbeFreesSlot() {
+    AiCircuitBreaker breaker = breaker(0, 1);
+    trip(breaker);
+
+    Admission probe = breaker.tryAcquire();
+    assertThat(probe).isEqualTo(Admission.PROBE);
+    assertThat(breaker.tryAcquire()).isEqualTo(Admission.REJECTED);
+
+    breaker.release(probe);
+
+    assertThat(breaker.tryAcquire()).isEqualTo(Admission.PROBE);
+    assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+  }
+
+  /**
+   * 최근 10건 중 최소 4건, 실패율 50% 이상이면 OPEN
+   */
+  private AiCircuitBreaker breaker(long openNanos, int halfOpenProbes) {
+    return new AiCircuitBreaker(10, 4, 50, openNanos, halfOpenProbes);
+  }
+
+  private void trip(AiCircuitBreaker breaker) {
+    for (int i = 0; i < 4; i++) {
+      breaker.onResult(breaker.tryAcquire(), true);
+    }
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+  }
+}
@@ -0,0 +1,138 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ssafy.s13p21b204.global.exception.ApiException;
+import com.ssafy.s13p21b204.global.exception.ErrorMessage;
+import com.ssafy.s13p21b204.global.fastapi.AiCircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * 엔드포인트 호출 보호: 4xx는 실패로 세지 않고, 5xx·타임아웃만 한도 감소/서킷 실패로 반영하는지와
+ * 거절·취소 시 허가 반납 검증
+ */
+class AiEndpointGuardTest {
+
+  private static final String ENDPOINT = "/api/v1/test";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void clientErrorIsNotCountedAsFailure() {
+    AdaptiveConcurrencyLimiter limiter = limiter(8);
+    AiCircuitBreaker breaker = breaker(TimeUnit.MINUTES.toNanos(1));
+    AiEndpointGuard guard = guard(limiter, breaker);
+
+    for (int i = 0; i < 10; i++) {
+      guard.acquire().onError(ApiException.of(HttpStatus.BAD_REQUEST, ErrorMessage.BAD_REQUEST));
+      guard.acquire().onError(serverResponse(HttpStatus.NOT_FOUND));
+    }
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(limiter.getLimit()).isEqualTo(8);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void serverErrorHalvesLimitAndTripsCircuit() {
+    AdaptiveConcurrencyLimiter limiter = limiter(8);
+    AiCircuitBreaker breaker = breaker(TimeUnit.MINUTES.toNanos(1));
+    AiEndpointGuard guard = guard(limiter, breaker);
+
+    guard.acquire().onError(serverResponse(HttpStatus.INTERNAL_SERVER_ERROR));
+    assertThat(limiter.getLimit()).isEqualTo(4);
+
+    guard.acquire().onError(new TimeoutException("응답 없음"));
+
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(meterRegistry.get("ai.client.circuit.trips").counter().count()).isEqualTo(1);
+    assertThatThrownBy(guard::acquire)
+        .isInstanceOf(AiEndpointGuard.RejectedException.class)
+        .hasMessage(ErrorMessage.AI_SERVICE_UNAVAILABLE);
+    assertThat(meterRegistry.get("ai.client.rejected").tag("reason", "circuit").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void rejectsBeyondLimitWithoutHoldingProbe() {
+    AdaptiveConcurrencyLimiter limiter = limiter(1);
+    AiCircuitBreaker breaker = new AiCircuitBreaker(4, 2, 50, 0, 2);
+    AiEndpointGuard guard = guard(limiter, breaker);
+    guard.acquire().onError(serverResponse(HttpStatus.BAD_GATEWAY));
+    guard.acquire().onError(serverResponse(HttpStatus.BAD_GATEWAY));
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+    // HALF_OPEN 시험 요청이 진행 중인 동안 한도(1) 초과로 거절되면 시험 요청 자리는 돌려줌
+    AiEndpointGuard.Permit probe = guard.acquire();
+    assertThatThrownBy(guard::acquire)
+        .isInstanceOf(AiEndpointGuard.RejectedException.class)
+        .hasMessage(ErrorMessage.AI_SERVICE_BUSY);
+    probe.onSuccess();
+    guard.acquire().onSuccess();
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(meterRegistry.get("ai.client.rejected").tag("reason", "limit").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void cancelReleasesProbeAndLimit() {
+    AdaptiveConcurrencyLimiter limiter = limiter(8);
+    AiCircuitBreaker breaker = new AiCircuitBreaker(4, 2, 50, 0, 1);
+    AiEndpointGuard guard = guard(limiter, breaker);
+    guard.acquire().onError(serverResponse(HttpStatus.SERVICE_UNAVAILABLE));
+    guard.acquire().onError(serverResponse(HttpStatus.SERVICE_UNAVAILABLE));
+
+    AiEndpointGuard.Permit probe = guard.acquire();
+    assertThatThrownBy(guard::acquire).isInstanceOf(AiEndpointGuard.RejectedException.class);
+    probe.onCancel();
+
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    guard.acquire().onSuccess();
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void permitCompletesOnlyOnce() {
+    AdaptiveConcurrencyLimiter limiter = limiter(8);
+    AiCircuitBreaker breaker = breaker(TimeUnit.MINUTES.toNanos(1));
+    AiEndpointGuard guard = guard(limiter, breaker);
+
+    AiEndpointGuard.Permit permit = guard.acquire();
+    permit.onSuccess();
+    permit.onError(serverResponse(HttpStatus.INTERNAL_SERVER_ERROR));
+    permit.onCancel();
+
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(limiter.getLimit()).isEqualTo(8);
+  }
+
+  private AdaptiveConcurrencyLimiter limiter(int limit) {
+    return new AdaptiveConcurrencyLimiter(limit, 1, 100, 2.0);
+  }
+
+  /**
+   * 최근 4건 중 최소 2건, 실패율 50% 이상이면 OPEN (시험 요청 1건)
+   */
+  private AiCircuitBreaker breaker(long openNanos) {
+    return new AiCircuitBreaker(4, 2, 50, openNanos, 1);
+  }
+
+  private AiEndpointGuard guard(AdaptiveConcurrencyLimiter limiter, AiCircuitBreaker breaker) {
+    return new AiEndpointGuard(ENDPOINT, limiter, breaker, meterRegistry);
+  }
+
+  private WebClientResponseException serverResponse(HttpStatus status) {
+    return WebClientResponseException.create(status.value(), status.getReasonPhrase(),
+        HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+  }
+}
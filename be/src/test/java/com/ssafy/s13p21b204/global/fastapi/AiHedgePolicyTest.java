@@ -0,0 +1,95 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 헤지 정책: 표본이 모이기 전에는 헤지하지 않고, 백분위 지연(하한 적용)과 추가 부하 예산을 지키는지 검증
+ */
+class AiHedgePolicyTest {
+
+  @Test
+  void doesNotHedgeUntilMinSamples() {
+    AiHedgePolicy policy = new AiHedgePolicy(100, 0.9, 10, 0, 1.0);
+
+    for (int i = 1; i < 10; i++) {
+      policy.record(millis(i));
+    }
+
+    assertThat(policy.onRequest()).isEqualTo(-1);
+  }
+
+  @Test
+  void delayIsPercentileOfRecentLatencies() {
+    // 최소 표본(20건)에서 처음 계산한 뒤 20건마다 다시 계산 (100건째에 마지막 계산)
+    AiHedgePolicy policy = new AiHedgePolicy(100, 0.9, 20, 0, 1.0);
+
+    for (int i = 100; i >= 1; i--) {
+      policy.record(millis(i));
+    }
+
+    assertThat(policy.getDelayNanos()).isEqualTo(millis(90));
+    assertThat(policy.onRequest()).isEqualTo(millis(90));
+  }
+
+  @Test
+  void delayIsNotBelowMinimum() {
+    AiHedgePolicy policy = new AiHedgePolicy(100, 0.9, 10, millis(500), 1.0);
+
+    for (int i = 1; i <= 10; i++) {
+      policy.record(millis(i));
+    }
+
+    assertThat(policy.getDelayNanos()).isEqualTo(millis(500));
+  }
+
+  @Test
+  void windowKeepsOnlyRecentSamples() {
+    AiHedgePolicy policy = new AiHedgePolicy(20, 0.5, 20, 0, 1.0);
+
+    for (int i = 0; i < 20; i++) {
+      policy.record(millis(1000));
+    }
+    // 재계산 간격(20건)만큼 빠른 응답이 쌓이면 이전 표본은 밀려남
+    for (int i = 0; i < 20; i++) {
+      policy.record(millis(10));
+    }
+
+    assertThat(policy.getDelayNanos()).isEqualTo(millis(10));
+  }
+
+  @Test
+  void hedgesWithinBudget() {
+    AiHedgePolicy policy = new AiHedgePolicy(100, 0.9, 10, 0, 0.25);
+
+    for (int i = 0; i < 3; i++) {
+      policy.onRequest();
+    }
+    assertThat(policy.tryHedge()).isFalse();
+
+    policy.onRequest();
+    assertThat(policy.tryHedge()).isTrue();
+    assertThat(policy.tryHedge()).isFalse();
+  }
+
+  @Test
+  void capsAccumulatedBudget() {
+    AiHedgePolicy policy = new AiHedgePolicy(100, 0.9, 10, 0, 1.0);
+
+    for (int i = 0; i < 50; i++) {
+      policy.onRequest();
+    }
+    int hedges = 0;
+    while (policy.tryHedge()) {
+      hedges++;
+    }
+
+    assertThat(hedges).isEqualTo(10);
+  }
+
+  private static long millis(long value) {
+    return TimeUnit.MILLISECONDS.toNanos(value);
+  }
+}
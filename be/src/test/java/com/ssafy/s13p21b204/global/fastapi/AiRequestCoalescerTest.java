@@ -0,0 +1,145 @@
+package com.ssafy.s13p21b204.global.fastapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 동일 요청 병합: 진행 중 호출 공유, Presigned 서명 무시, 한 구독자 취소 시 공유 호출 유지, 성공 결과만 캐시하는지 검증
+ */
+class AiRequestCoalescerTest {
+
+  private static final String PATH = "/api/v1/ocr";
+  private static final Duration TTL = Duration.ofMinutes(1);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AiRequestCoalescer coalescer =
+      new AiRequestCoalescer(new ObjectMapper(), meterRegistry, 100);
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  void concurrentIdenticalRequestsShareOneCall() {
+    Sinks.One<String> response = Sinks.one();
+    AtomicReference<String> first = new AtomicReference<>();
+    AtomicReference<String> second = new AtomicReference<>();
+
+    coalescer.execute(PATH, body("a.pdf"), Duration.ZERO, pending(response)).subscribe(first::set);
+    coalescer.execute(PATH, body("a.pdf"), Duration.ZERO, pending(response)).subscribe(second::set);
+    response.tryEmitValue("결과");
+
+    assertThat(calls).hasValue(1);
+    assertThat(first).hasValue("결과");
+    assertThat(second).hasValue("결과");
+    assertThat(count("leader")).isEqualTo(1);
+    assertThat(count("joined")).isEqualTo(1);
+  }
+
+  @Test
+  void ignoresPresignedSignatureAndKeyOrder() {
+    Sinks.One<String> response = Sinks.one();
+    Map<String, Object> signedOnce = new LinkedHashMap<>();
+    signedOnce.put("file_url", "https://bucket.s3/a.pdf?X-Amz-Algorithm=AWS4&X-Amz-Signature=111");
+    signedOnce.put("resume_id", 1);
+    Map<String, Object> signedAgain = new LinkedHashMap<>();
+    signedAgain.put("resume_id", 1);
+    signedAgain.put("file_url", "https://bucket.s3/a.pdf?X-Amz-Algorithm=AWS4&X-Amz-Signature=222");
+
+    coalescer.execute(PATH, signedOnce, Duration.ZERO, pending(response)).subscribe();
+    coalescer.execute(PATH, signedAgain, Duration.ZERO, pending(response)).subscribe();
+
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void differentRequestsAreNotShared() {
+    Sinks.One<String> response = Sinks.one();
+
+    coalescer.execute(PATH, body("a.pdf"), Duration.ZERO, pending(response)).subscribe();
+    coalescer.execute(PATH, body("b.pdf"), Duration.ZERO, pending(response)).subscribe();
+    coalescer.execute("/api/v1/stt", body("a.pdf"), Duration.ZERO, pending(response)).subscribe();
+
+    assertThat(calls).hasValue(3);
+  }
+
+  @Test
+  void sharedCallSurvivesOneSubscriberCancel() {
+    Sinks.One<String> response = Sinks.one();
+    AtomicReference<String> remaining = new AtomicReference<>();
+
+    Disposable cancelled = coalescer.execute(PATH, body("a.pdf"), Duration.ZERO, pending(response))
+        .subscribe();
+    coalescer.execute(PATH, body("a.pdf"), Duration.ZERO, pending(response))
+        .subscribe(remaining::set);
+    cancelled.dispose();
+    response.tryEmitValue("결과");
+
+    assertThat(remaining).hasValue("결과");
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void reusesSuccessfulResultWithinTtl() {
+    assertThat(coalescer.execute(PATH, body("a.pdf"), TTL, immediate("결과")).block())
+        .isEqualTo("결과");
+    assertThat(coalescer.execute(PATH, body("a.pdf"), TTL, immediate("새 결과")).block())
+        .isEqualTo("결과");
+
+    assertThat(calls).hasValue(1);
+    assertThat(count("cache_hit")).isEqualTo(1);
+  }
+
+  @Test
+  void doesNotCacheFailure() {
+    Mono<String> failing = coalescer.execute(PATH, body("a.pdf"), TTL, () -> {
+      calls.incrementAndGet();
+      return Mono.error(new IllegalStateException("실패"));
+    });
+    assertThatThrownBy(failing::block).isInstanceOf(IllegalStateException.class);
+
+    assertThat(coalescer.execute(PATH, body("a.pdf"), TTL, immediate("결과")).block())
+        .isEqualTo("결과");
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void zeroTtlOnlyCoalescesInFlightCalls() {
+    coalescer.execute(PATH, body("a.pdf"), Duration.ZERO, immediate("결과")).block();
+    coalescer.execute(PATH, body("a.pdf"), Duration.ZERO, immediate("결과")).block();
+
+    assertThat(calls).hasValue(2);
+  }
+
+  private Map<String, Object> body(String fileName) {
+    return Map.of("file_url", "https://bucket.s3/" + fileName, "resume_id", 1);
+  }
+
+  private Supplier<Mono<String>> pending(Sinks.One<String> response) {
+    return () -> {
+      calls.incrementAndGet();
+      return response.asMono();
+    };
+  }
+
+  private Supplier<Mono<String>> immediate(String value) {
+    return () -> {
+      calls.incrementAndGet();
+      return Mono.just(value);
+    };
+  }
+
+  private double count(String result) {
+    return meterRegistry.get("ai.client.coalesce").tag("result", result).counter().count();
+  }
+}
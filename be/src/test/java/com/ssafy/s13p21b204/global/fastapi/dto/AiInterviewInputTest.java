@@ -0,0 +1,37 @@
+package com.ssafy.s13p21b204.global.fastapi.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 면접 시작/답변 요청 직렬화: 우대사항 OCR 텍스트가 없으면 jd_text 키를 생략하는지 검증
+ */
+class AiInterviewInputTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void OCR_텍스트가_없으면_jd_text_키를_생략한다() throws Exception {
+    JsonNode json = serialize(new AiInterviewInput("https://s3/jd.pdf", null,
+        List.of(), List.of(), "", List.of()));
+
+    assertThat(json.get("jd_presigned_url").asText()).isEqualTo("https://s3/jd.pdf");
+    assertThat(json.has("jd_text")).isFalse();
+  }
+
+  @Test
+  void OCR_텍스트가_있으면_jd_text로_전달한다() throws Exception {
+    JsonNode json = serialize(new AiInterviewInput("https://s3/jd.pdf", "Kotlin 경험자 우대",
+        List.of(), List.of(), "", List.of()));
+
+    assertThat(json.get("jd_text").asText()).isEqualTo("Kotlin 경험자 우대");
+  }
+
+  private JsonNode serialize(AiInterviewInput input) throws Exception {
+    return objectMapper.readTree(objectMapper.writeValueAsString(input));
+  }
+}
@@ -0,0 +1,222 @@
+package com.ssafy.s13p21b204.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 구간 분할 전사에 쓰는 WAV 헤더 해석, 무음 탐색, 구간 헤더 생성 검증
+ */
+class WavHeaderTest {
+
+  // 16kHz, 모노, 16비트 PCM (20ms 프레임 = 640바이트)
+  private static final int SAMPLE_RATE = 16_000;
+  private static final int FRAME_BYTES = 640;
+
+  @Test
+  void parsesCanonicalHeader() {
+    byte[] wav = wav(chunk("fmt ", fmt(1, 1, SAMPLE_RATE, 16)), dataChunk(32_000));
+
+    WavHeader header = WavHeader.parse(wav, wav.length).orElseThrow();
+
+    assertThat(header.audioFormat()).isEqualTo(1);
+    assertThat(header.channels()).isEqualTo(1);
+    assertThat(header.sampleRate()).isEqualTo(SAMPLE_RATE);
+    assertThat(header.bitsPerSample()).isEqualTo(16);
+    assertThat(header.blockAlign()).isEqualTo(2);
+    assertThat(header.dataOffset()).isEqualTo(44);
+    assertThat(header.dataSize()).isEqualTo(32_000);
+    assertThat(header.durationSeconds()).isEqualTo(1.0);
+    assertThat(header.isPcm16()).isTrue();
+  }
+
+  @Test
+  void skipsUnknownChunksWithPadding() {
+    // 홀수 길이 LIST 청크는 1바이트 패딩 후 다음 청크가 시작됨
+    byte[] wav = wav(chunk("fmt ", fmt(1, 2, SAMPLE_RATE, 16)), chunk("LIST", new byte[5]),
+        dataChunk(4_000));
+
+    WavHeader header = WavHeader.parse(wav, wav.length).orElseThrow();
+
+    assertThat(header.blockAlign()).isEqualTo(4);
+    assertThat(header.dataOffset()).isEqualTo(12 + 24 + 8 + 6 + 8);
+    assertThat(header.dataSize()).isEqualTo(4_000);
+  }
+
+  @Test
+  void correctsStreamingDataSizeFromObjectSize() {
+    // 녹음 중단으로 data 크기가 0으로 남은 파일: 실제 크기 기준, 샘플 프레임 단위로 내림
+    byte[] head = wav(chunk("fmt ", fmt(1, 2, SAMPLE_RATE, 16)), dataHeader(0));
+    long objectSize = head.length + 10_003;
+
+    WavHeader header = WavHeader.parse(head, objectSize).orElseThrow();
+
+    assertThat(header.dataSize()).isEqualTo(10_000);
+  }
+
+  @Test
+  void correctsOversizedDataSize() {
+    byte[] head = wav(chunk("fmt ", fmt(1, 1, SAMPLE_RATE, 16)), dataHeader(0xFFFFFFFF));
+
+    WavHeader header = WavHeader.parse(head, head.length + 2_000).orElseThrow();
+
+    assertThat(header.dataSize()).isEqualTo(2_000);
+  }
+
+  @Test
+  void rejectsNonWav() {
+    byte[] notRiff = "ID3\u0004 not a wav file".getBytes(StandardCharsets.US_ASCII);
+    byte[] dataBeforeFmt = wav(dataChunk(100), chunk("fmt ", fmt(1, 1, SAMPLE_RATE, 16)));
+    byte[] noData = wav(chunk("fmt ", fmt(1, 1, SAMPLE_RATE, 16)));
+
+    assertThat(WavHeader.parse(notRiff, notRiff.length)).isEmpty();
+    assertThat(WavHeader.parse(new byte[4], 4)).isEmpty();
+    assertThat(WavHeader.parse(dataBeforeFmt, dataBeforeFmt.length)).isEmpty();
+    assertThat(WavHeader.parse(noData, noData.length)).isEmpty();
+  }
+
+  @Test
+  void reportsNonPcm16() {
+    byte[] float32 = wav(chunk("fmt ", fmt(3, 1, SAMPLE_RATE, 32)), dataChunk(400));
+    byte[] pcm8 = wav(chunk("fmt ", fmt(1, 1, SAMPLE_RATE, 8)), dataChunk(400));
+
+    assertThat(WavHeader.parse(float32, float32.length).orElseThrow().isPcm16()).isFalse();
+    assertThat(WavHeader.parse(pcm8, pcm8.length).orElseThrow().isPcm16()).isFalse();
+  }
+
+  @Test
+  void bytesForAlignsToSampleFrames() {
+    WavHeader stereo = new WavHeader(1, 2, 44_100, 16, 4, 44, 0);
+
+    assertThat(stereo.bytesFor(1_000)).isEqualTo(176_400);
+    // 1ms = 176.4바이트 → 프레임(4바이트) 경계로 내림
+    assertThat(stereo.bytesFor(1)).isEqualTo(176);
+    assertThat(stereo.alignDown(7)).isEqualTo(4);
+  }
+
+  @Test
+  void findsQuietestFrame() {
+    WavHeader header = mono16();
+    short[] amplitudes = {8_000, 6_000, 7_000, 10, 5_000};
+    byte[] pcm = pcm(amplitudes);
+
+    assertThat(header.quietestFrameOffset(pcm)).isEqualTo(3 * FRAME_BYTES);
+  }
+
+  @Test
+  void quietestFrameCountsNegativeSamples() {
+    // 샘플을 절댓값으로 합산 (부호째 더하면 모든 프레임이 0에 가까워 첫 프레임이 선택됨)
+    WavHeader header = mono16();
+    byte[] pcm = pcm(new short[]{-8_000, 3_000, 200});
+
+    assertThat(header.quietestFrameOffset(pcm)).isEqualTo(2 * FRAME_BYTES);
+  }
+
+  @Test
+  void quietestFrameIgnoresTrailingPartialFrame() {
+    WavHeader header = mono16();
+    byte[] frames = pcm(new short[]{5_000, 4_000});
+    // 마지막 불완전 프레임(무음)은 후보에서 제외
+    byte[] pcm = new byte[frames.length + FRAME_BYTES / 2];
+    System.arraycopy(frames, 0, pcm, 0, frames.length);
+
+    assertThat(header.quietestFrameOffset(pcm)).isEqualTo(FRAME_BYTES);
+  }
+
+  @Test
+  void segmentHeaderRoundTrips() {
+    WavHeader source = new WavHeader(1, 2, 48_000, 16, 4, 1_024, 9_600_000);
+    int pcmLength = 192_000;
+    byte[] segment = new byte[44 + pcmLength];
+    System.arraycopy(source.segmentHeader(pcmLength), 0, segment, 0, 44);
+
+    WavHeader parsed = WavHeader.parse(segment, segment.length).orElseThrow();
+
+    assertThat(parsed.audioFormat()).isEqualTo(1);
+    assertThat(parsed.channels()).isEqualTo(2);
+    assertThat(parsed.sampleRate()).isEqualTo(48_000);
+    assertThat(parsed.bitsPerSample()).isEqualTo(16);
+    assertThat(parsed.blockAlign()).isEqualTo(4);
+    assertThat(parsed.dataOffset()).isEqualTo(44);
+    assertThat(parsed.dataSize()).isEqualTo(pcmLength);
+    assertThat(parsed.durationSeconds()).isEqualTo(1.0);
+
+    ByteBuffer buffer = ByteBuffer.wrap(segment).order(ByteOrder.LITTLE_ENDIAN);
+    assertThat(buffer.getInt(4)).isEqualTo(36 + pcmLength);
+    assertThat(buffer.getInt(28)).isEqualTo(48_000 * 4);
+  }
+
+  private static WavHeader mono16() {
+    return new WavHeader(1, 1, SAMPLE_RATE, 16, 2, 44, 0);
+  }
+
+  /**
+   * 프레임(20ms)마다 같은 진폭의 샘플로 채운 PCM (부호를 번갈아 바꿔 실제 파형처럼)
+   */
+  private static byte[] pcm(short[] frameAmplitudes) {
+    ByteBuffer buffer = ByteBuffer.allocate(frameAmplitudes.length * FRAME_BYTES)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    for (short amplitude : frameAmplitudes) {
+      for (int i = 0; i < FRAME_BYTES / 2; i++) {
+        buffer.putShort((short) (i % 2 == 0 ? amplitude : -amplitude));
+      }
+    }
+    return buffer.array();
+  }
+
+  private static byte[] fmt(int audioFormat, int channels, int sampleRate, int bitsPerSample) {
+    int blockAlign = channels * bitsPerSample / 8;
+    return ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN)
+        .putShort((short) audioFormat)
+        .putShort((short) channels)
+        .putInt(sampleRate)
+        .putInt(sampleRate * blockAlign)
+        .putShort((short) blockAlign)
+        .putShort((short) bitsPerSample)
+        .array();
+  }
+
+  private static byte[] chunk(String id, byte[] body) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.writeBytes(id.getBytes(StandardCharsets.US_ASCII));
+    out.writeBytes(littleEndian(body.length));
+    out.writeBytes(body);
+    if (body.length % 2 == 1) {
+      out.write(0);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] dataChunk(int size) {
+    return chunk("data", new byte[size]);
+  }
+
+  // 본문 없이 data 청크 헤더만 (파일 앞부분만 읽은 경우)
+  private static byte[] dataHeader(int declaredSize) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.writeBytes("data".getBytes(StandardCharsets.US_ASCII));
+    out.writeBytes(littleEndian(declaredSize));
+    return out.toByteArray();
+  }
+
+  private static byte[] wav(byte[]... chunks) {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    body.writeBytes("WAVE".getBytes(StandardCharsets.US_ASCII));
+    for (byte[] chunk : chunks) {
+      body.writeBytes(chunk);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.writeBytes("RIFF".getBytes(StandardCharsets.US_ASCII));
+    out.writeBytes(littleEndian(body.size()));
+    out.writeBytes(body.toByteArray());
+    return out.toByteArray();
+  }
+
+  private static byte[] littleEndian(int value) {
+    return ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array();
+  }
+}
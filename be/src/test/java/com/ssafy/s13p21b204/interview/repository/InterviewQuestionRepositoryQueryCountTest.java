@@ -0,0 +1,135 @@
+package com.ssafy.s13p21b204.interview.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.s13p21b204.interview.dto.InterviewQnaRow;
+import com.ssafy.s13p21b204.interview.entity.InterviewQuestion;
+import com.ssafy.s13p21b204.interview.entity.Reply;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * findQnaRowsByInterviewId 실행 쿼리 수 검증 (Hibernate Statistics)
+ * 질문 수와 관계없이 질문 + 부모 링크 + 답변이 한 번의 쿼리로 조회되어야 한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class InterviewQuestionRepositoryQueryCountTest {
+
+  private static final Long INTERVIEW_ID = 1L;
+
+  /**
+   * BeApplication의 @EnableMongoAuditing이 mongoMappingContext 빈을 참조하므로 JPA 슬라이스에서 대체 등록
+   */
+  @TestConfiguration
+  static class MongoAuditingSupport {
+
+    @Bean
+    MongoMappingContext mongoMappingContext() {
+      return new MongoMappingContext();
+    }
+  }
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private InterviewQuestionRepository interviewQuestionRepository;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManager.getEntityManager().getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 50})
+  void findQnaRows_executesSingleStatement(int parentCount) {
+    givenQuestionsWithReplies(parentCount);
+
+    List<InterviewQnaRow> rows = interviewQuestionRepository.findQnaRowsByInterviewId(INTERVIEW_ID);
+
+    // 대질문 + 꼬리질문 각각 한 행, 답변과 부모 링크 포함
+    assertThat(rows).hasSize(parentCount * 2);
+    assertThat(rows).allSatisfy(row -> assertThat(row.answer()).isNotNull());
+    assertThat(rows.stream().filter(InterviewQnaRow::isParentQuestion)).hasSize(parentCount);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  void findQnaRows_sameStatementCountForSmallAndLargeInterview() {
+    givenQuestionsWithReplies(2);
+    interviewQuestionRepository.findQnaRowsByInterviewId(INTERVIEW_ID);
+    long small = statistics.getPrepareStatementCount();
+
+    givenQuestionsWithReplies(100);
+    interviewQuestionRepository.findQnaRowsByInterviewId(INTERVIEW_ID);
+    long large = statistics.getPrepareStatementCount();
+
+    assertThat(large).isEqualTo(small);
+  }
+
+  @Test
+  void findQnaRows_unansweredQuestionHasNullAnswer() {
+    InterviewQuestion question = entityManager.persist(question(null, "답변 전 질문"));
+    entityManager.flush();
+    entityManager.clear();
+
+    List<InterviewQnaRow> rows = interviewQuestionRepository.findQnaRowsByInterviewId(INTERVIEW_ID);
+
+    assertThat(rows).singleElement().satisfies(row -> {
+      assertThat(row.questionId()).isEqualTo(question.getInterviewQuestionId());
+      assertThat(row.answer()).isNull();
+      assertThat(row.isParentQuestion()).isTrue();
+    });
+  }
+
+  /**
+   * 대질문 n개와 각 대질문의 꼬리질문 1개, 모든 질문의 답변 저장 후 영속성 컨텍스트/통계 초기화
+   */
+  private void givenQuestionsWithReplies(int parentCount) {
+    entityManager.getEntityManager().createQuery("delete from Reply").executeUpdate();
+    entityManager.getEntityManager().createQuery(
+        "delete from InterviewQuestion q where q.parentQuestionId is not null").executeUpdate();
+    entityManager.getEntityManager().createQuery("delete from InterviewQuestion").executeUpdate();
+
+    for (int i = 1; i <= parentCount; i++) {
+      InterviewQuestion parent = entityManager.persist(question(null, "대질문 " + i));
+      entityManager.persist(reply(parent, "대질문 답변 " + i));
+      InterviewQuestion child = entityManager.persist(question(parent, "꼬리질문 " + i));
+      entityManager.persist(reply(child, "꼬리질문 답변 " + i));
+    }
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+  }
+
+  private InterviewQuestion question(InterviewQuestion parent, String content) {
+    return InterviewQuestion.builder()
+        .interviewId(INTERVIEW_ID)
+        .parentQuestionId(parent)
+        .content(content)
+        .s3Key("interviews/questions/" + content + ".wav")
+        .build();
+  }
+
+  private Reply reply(InterviewQuestion question, String content) {
+    return Reply.builder()
+        .interviewQuestion(question)
+        .content(content)
+        .s3Key("interviews/audio/" + content + ".wav")
+        .build();
+  }
+}
@@ -0,0 +1,78 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 구간 전사 결과 이어 붙이기 (겹친 구간의 중복 단어 제거) 검증
+ */
+class ChunkedTranscriptionServiceTest {
+
+  @Test
+  void removesOverlappedWords() {
+    String stitched = ChunkedTranscriptionService.stitch(List.of(
+        "저는 백엔드 개발자로 일하면서 대용량 트래픽을",
+        "대용량 트래픽을 처리하는 경험을 했습니다",
+        "했습니다 그 과정에서 캐시를 도입했습니다"));
+
+    assertThat(stitched).isEqualTo(
+        "저는 백엔드 개발자로 일하면서 대용량 트래픽을 처리하는 경험을 했습니다 그 과정에서 캐시를 도입했습니다");
+  }
+
+  @Test
+  void keepsSegmentsWithoutOverlap() {
+    String stitched = ChunkedTranscriptionService.stitch(List.of("첫 번째 구간", "두 번째 구간"));
+
+    assertThat(stitched).isEqualTo("첫 번째 구간 두 번째 구간");
+  }
+
+  @Test
+  void skipsBlankSegmentsAndNormalizesWhitespace() {
+    List<String> transcripts = Arrays.asList("  앞 구간\n끝  ", null, " ", "끝 다음 구간");
+
+    assertThat(ChunkedTranscriptionService.stitch(transcripts)).isEqualTo("앞 구간 끝 다음 구간");
+    assertThat(ChunkedTranscriptionService.stitch(List.of())).isEmpty();
+  }
+
+  @Test
+  void overlapIgnoresPunctuationAndCase() {
+    List<String> previous = words("We use Redis, Kafka.");
+    List<String> next = words("redis kafka and MongoDB");
+
+    assertThat(ChunkedTranscriptionService.overlapWords(previous, next)).isEqualTo(2);
+  }
+
+  @Test
+  void overlapPrefersLongestMatch() {
+    // 끝 1단어("네")만 맞는 경우보다 끝 3단어("네 그렇습니다 네")가 맞는 경우를 우선
+    List<String> previous = words("질문에 답하면 네 그렇습니다 네");
+    List<String> next = words("네 그렇습니다 네 맞습니다");
+
+    assertThat(ChunkedTranscriptionService.overlapWords(previous, next)).isEqualTo(3);
+  }
+
+  @Test
+  void overlapRequiresSuffixPrefixMatch() {
+    // 다음 구간 중간에만 나오는 단어는 겹침이 아님
+    List<String> previous = words("프로젝트 리더");
+    List<String> next = words("저는 프로젝트 리더");
+
+    assertThat(ChunkedTranscriptionService.overlapWords(previous, next)).isZero();
+    assertThat(ChunkedTranscriptionService.overlapWords(List.of(), next)).isZero();
+  }
+
+  @Test
+  void overlapIsCappedAtTwelveWords() {
+    // 15단어 전체가 겹쳐도 끝 12단어까지만 비교
+    List<String> repeated = words("네 네 네 네 네 네 네 네 네 네 네 네 네 네 네");
+
+    assertThat(ChunkedTranscriptionService.overlapWords(repeated, repeated)).isEqualTo(12);
+  }
+
+  private static List<String> words(String text) {
+    return Arrays.asList(text.split(" "));
+  }
+}
@@ -0,0 +1,186 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ssafy.s13p21b204.company.entity.Company;
+import com.ssafy.s13p21b204.global.entity.Status;
+import com.ssafy.s13p21b204.global.redis.RedisDao;
+import com.ssafy.s13p21b204.interview.service.DemoInterviewCreationService.DemoInterview;
+import com.ssafy.s13p21b204.jobPosting.entity.JobPosting;
+import com.ssafy.s13p21b204.jobPosting.repository.JobPostingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 시연용 면접 풀: 풀에서 선점, 풀이 비었거나 Redis 오류 시 바로 생성으로 대체, 잔량 부족 시 보충,
+ * 비활성 공고 풀 정리와 공고별 태그 없는 합산 메트릭 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class DemoInterviewPoolServiceTest {
+
+  private static final Long JOB_POSTING_ID = 2L;
+  private static final String POOL_KEY = "demo:pool:2";
+  private static final String POSTINGS_KEY = "demo:pool:postings";
+  private static final DemoInterview CREATED = new DemoInterview(100L, 200L);
+
+  @Mock
+  private RedisDao redisDao;
+  @Mock
+  private JobPostingRepository jobPostingRepository;
+  @Mock
+  private DemoInterviewCreationService demoInterviewCreationService;
+  @Mock
+  private ThreadPoolTaskExecutor demoPoolExecutor;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private DemoInterviewPoolService demoInterviewPoolService;
+
+  @BeforeEach
+  void setUp() {
+    demoInterviewPoolService = new DemoInterviewPoolService(redisDao, jobPostingRepository,
+        demoInterviewCreationService, demoPoolExecutor, meterRegistry);
+    ReflectionTestUtils.setField(demoInterviewPoolService, "enabled", true);
+    ReflectionTestUtils.setField(demoInterviewPoolService, "poolSize", 4);
+    ReflectionTestUtils.setField(demoInterviewPoolService, "lowWatermark", 1);
+    ReflectionTestUtils.setField(demoInterviewPoolService, "refillBatchSize", 3);
+    ReflectionTestUtils.setField(demoInterviewPoolService, "refillLockSeconds", 60L);
+    demoInterviewPoolService.init();
+  }
+
+  @Test
+  void 풀에_면접이_있으면_선점하고_바로_생성하지_않는다() {
+    when(redisDao.popDemoInterview(POOL_KEY)).thenReturn("11:21");
+    when(redisDao.getDemoInterviewPoolSize(POOL_KEY)).thenReturn(3L);
+
+    DemoInterview claimed = demoInterviewPoolService.claimOrCreate(JOB_POSTING_ID, () -> {
+      throw new AssertionError("풀에서 선점해야 함");
+    });
+
+    assertThat(claimed).isEqualTo(new DemoInterview(11L, 21L));
+    verifyNoInteractions(demoPoolExecutor);
+    assertThat(meterRegistry.get("interview.demo.claim").tag("result", "pooled").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void 풀이_비어_있으면_바로_생성하고_보충을_요청한다() {
+    when(redisDao.popDemoInterview(POOL_KEY)).thenReturn(null);
+    when(redisDao.getDemoInterviewPoolSize(POOL_KEY)).thenReturn(0L);
+
+    DemoInterview claimed = demoInterviewPoolService.claimOrCreate(JOB_POSTING_ID, () -> CREATED);
+
+    assertThat(claimed).isEqualTo(CREATED);
+    verify(demoPoolExecutor).execute(any(Runnable.class));
+    assertThat(meterRegistry.get("interview.demo.claim").tag("result", "created").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void 잔량이_있어도_보충_작업이_진행_중이면_중복_제출하지_않는다() {
+    when(redisDao.popDemoInterview(POOL_KEY)).thenReturn("11:21", "12:22");
+    when(redisDao.getDemoInterviewPoolSize(POOL_KEY)).thenReturn(1L, 0L);
+
+    demoInterviewPoolService.claimOrCreate(JOB_POSTING_ID, () -> CREATED);
+    demoInterviewPoolService.claimOrCreate(JOB_POSTING_ID, () -> CREATED);
+
+    verify(demoPoolExecutor).execute(any(Runnable.class));
+  }
+
+  @Test
+  void Redis_조회에_실패하면_바로_생성으로_대체한다() {
+    when(redisDao.popDemoInterview(POOL_KEY)).thenThrow(new IllegalStateException("연결 끊김"));
+
+    DemoInterview claimed = demoInterviewPoolService.claimOrCreate(JOB_POSTING_ID, () -> CREATED);
+
+    assertThat(claimed).isEqualTo(CREATED);
+    verifyNoInteractions(demoPoolExecutor);
+  }
+
+  @Test
+  void 비활성화되면_풀을_사용하지_않고_바로_생성한다() {
+    ReflectionTestUtils.setField(demoInterviewPoolService, "enabled", false);
+
+    DemoInterview claimed = demoInterviewPoolService.claimOrCreate(JOB_POSTING_ID, () -> CREATED);
+
+    assertThat(claimed).isEqualTo(CREATED);
+    verifyNoInteractions(redisDao, demoPoolExecutor);
+  }
+
+  @Test
+  void 보충은_배치_단위로_목표_크기까지_생성하고_합산_메트릭을_갱신한다() {
+    when(redisDao.acquireDemoPoolRefillLock("demo:pool:refill-lock:2", 60L)).thenReturn(true);
+    when(redisDao.getDemoInterviewPoolSize(POOL_KEY)).thenReturn(0L, 4L);
+    when(jobPostingRepository.findById(JOB_POSTING_ID)).thenReturn(Optional.of(activePosting()));
+    when(demoInterviewCreationService.createAll(9L, 3))
+        .thenReturn(List.of(CREATED, CREATED, CREATED));
+    when(demoInterviewCreationService.createAll(9L, 1)).thenReturn(List.of(CREATED));
+
+    demoInterviewPoolService.refill(JOB_POSTING_ID);
+
+    verify(redisDao).addDemoPoolPosting(POSTINGS_KEY, "2");
+    verify(redisDao).pushDemoInterviews(POOL_KEY, List.of("100:200", "100:200", "100:200"));
+    verify(redisDao).pushDemoInterviews(POOL_KEY, List.of("100:200"));
+    verify(redisDao).releaseDemoPoolRefillLock("demo:pool:refill-lock:2");
+    assertThat(meterRegistry.get("interview.demo.pool.created").counter().count()).isEqualTo(4);
+    assertThat(meterRegistry.get("interview.demo.pool.size").gauge().value()).isEqualTo(4);
+    assertThat(meterRegistry.get("interview.demo.pool.size").gauge().getId().getTags()).isEmpty();
+  }
+
+  @Test
+  void 다른_인스턴스가_보충_중이면_생성하지_않는다() {
+    when(redisDao.acquireDemoPoolRefillLock(anyString(), anyLong())).thenReturn(false);
+
+    demoInterviewPoolService.refill(JOB_POSTING_ID);
+
+    verifyNoInteractions(demoInterviewCreationService);
+    verify(redisDao, never()).releaseDemoPoolRefillLock(anyString());
+  }
+
+  @Test
+  void 비활성_공고의_풀은_비우고_미사용_면접을_삭제한다() {
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(demoPoolExecutor).execute(any(Runnable.class));
+    when(jobPostingRepository.findByExpiredAtAfter(any(LocalDateTime.class)))
+        .thenReturn(List.of());
+    when(redisDao.getDemoPoolPostings(POSTINGS_KEY)).thenReturn(Set.of("2"));
+    when(redisDao.popDemoInterview(POOL_KEY)).thenReturn("11:21", "broken", "12:22", null);
+
+    demoInterviewPoolService.refillAll();
+
+    verify(demoInterviewCreationService).deleteAll(
+        List.of(new DemoInterview(11L, 21L), new DemoInterview(12L, 22L)));
+    verify(redisDao).removeDemoPoolPosting(POSTINGS_KEY, "2");
+    verify(redisDao, never()).pushDemoInterviews(anyString(), anyList());
+    assertThat(meterRegistry.get("interview.demo.pool.size").gauge().value()).isZero();
+  }
+
+  private JobPosting activePosting() {
+    return JobPosting.builder()
+        .jobPostingId(JOB_POSTING_ID)
+        .company(Company.builder().companyId(9L).build())
+        .status(Status.ACTIVE)
+        .expiredAt(LocalDateTime.now().plusDays(7))
+        .build();
+  }
+}
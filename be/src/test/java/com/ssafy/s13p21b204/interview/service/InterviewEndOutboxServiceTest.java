@@ -0,0 +1,102 @@
+package com.ssafy.s13p21b204.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.s13p21b204.global.fastapi.dto.AiEndInterviewInput;
+import com.ssafy.s13p21b204.global.util.S3Util;
+import com.ssafy.s13p21b204.interview.entity.InterviewEndOutbox;
+import com.ssafy.s13p21b204.interview.repository.InterviewEndOutboxRepository;
+import com.ssafy.s13p21b204.interview.service.InterviewEndOutboxService.InterviewEndRequest;
+import com.ssafy.s13p21b204.jobPosting.service.JobPostingPreferenceService;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 면접 종료 요청 구성: 우대사항 OCR 텍스트가 있으면 jd_text로 함께 전달하고,
+ * 없으면 jd_text를 생략하여 FastAPI가 jd_presigned_url을 OCR하도록 하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewEndOutboxServiceTest {
+
+  private static final Long OUTBOX_ID = 7L;
+  private static final String JD_KEY = "job-postings/2/preference.pdf";
+  private static final String PREFLIGHT_KEY = "interviews/3/preflight.wav";
+
+  @Mock
+  private InterviewEndOutboxRepository interviewEndOutboxRepository;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+  @Mock
+  private S3Util s3Util;
+  @Mock
+  private JobPostingPreferenceService jobPostingPreferenceService;
+
+  @InjectMocks
+  private InterviewEndOutboxService interviewEndOutboxService;
+
+  @Test
+  void OCR_텍스트가_있으면_jd_text로_함께_전달한다() throws Exception {
+    givenOutbox(JD_KEY);
+    when(jobPostingPreferenceService.findText(JD_KEY)).thenReturn("Kotlin 경험자 우대");
+
+    JsonNode json = loadPayload();
+
+    assertThat(json.get("jd_presigned_url").asText()).isEqualTo("https://s3/" + JD_KEY);
+    assertThat(json.get("jd_text").asText()).isEqualTo("Kotlin 경험자 우대");
+  }
+
+  @Test
+  void OCR_텍스트가_없으면_jd_text를_생략하고_URL만_전달한다() throws Exception {
+    givenOutbox(JD_KEY);
+    when(jobPostingPreferenceService.findText(JD_KEY)).thenReturn(null);
+
+    JsonNode json = loadPayload();
+
+    assertThat(json.get("jd_presigned_url").asText()).isEqualTo("https://s3/" + JD_KEY);
+    assertThat(json.has("jd_text")).isFalse();
+  }
+
+  @Test
+  void 우대사항_파일이_없는_공고는_빈_URL만_전달한다() throws Exception {
+    givenOutbox(null);
+    when(jobPostingPreferenceService.findText(null)).thenReturn(null);
+
+    JsonNode json = loadPayload();
+
+    assertThat(json.get("jd_presigned_url").asText()).isEmpty();
+    assertThat(json.has("jd_text")).isFalse();
+  }
+
+  private void givenOutbox(String jdS3Key) {
+    when(interviewEndOutboxRepository.findById(OUTBOX_ID)).thenReturn(Optional.of(
+        InterviewEndOutbox.builder()
+            .outboxId(OUTBOX_ID)
+            .interviewId(3L)
+            .userId(1L)
+            .jdS3Key(jdS3Key)
+            .preflightS3Key(PREFLIGHT_KEY)
+            .payload("{\"resume\":[],\"qnaHistory\":[]}")
+            .build()));
+    if (jdS3Key != null) {
+      when(s3Util.generateDownloadPresignedUrl(jdS3Key)).thenReturn("https://s3/" + jdS3Key);
+    }
+    when(s3Util.generateDownloadPresignedUrl(PREFLIGHT_KEY)).thenReturn("https://s3/" + PREFLIGHT_KEY);
+  }
+
+  private JsonNode loadPayload() throws Exception {
+    InterviewEndRequest request = interviewEndOutboxService.loadRequest(OUTBOX_ID).orElseThrow();
+    AiEndInterviewInput input = request.input();
+    return objectMapper.readTree(objectMapper.writeValueAsString(input));
+  }
+}
@@ -0,0 +1,151 @@
+package com.ssafy.s13p21b204.jobPosting.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ssafy.s13p21b204.global.fastapi.AiClient;
+import com.ssafy.s13p21b204.global.fastapi.dto.AiTextResponse;
+import com.ssafy.s13p21b204.global.util.S3Util;
+import com.ssafy.s13p21b204.jobPosting.entity.JobPostingPreference;
+import com.ssafy.s13p21b204.jobPosting.repository.JobPostingPreferenceRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * 우대사항 OCR 1회 수행: 같은 파일(ETag) 결과 재사용, 이미 추출된 공고 생략, OCR 결과가 없으면 저장하지 않음 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class JobPostingPreferenceServiceTest {
+
+  private static final String S3_KEY = "job-postings/2/preference.pdf";
+  private static final String ETAG = "\"9b2cf535f27731c974343645a3985328\"";
+  private static final String PRESIGNED_URL = "https://s3.example.com/preference.pdf?sig=1";
+
+  @Mock
+  private JobPostingPreferenceRepository jobPostingPreferenceRepository;
+  @Mock
+  private S3Util s3Util;
+  @Mock
+  private AiClient aiClient;
+
+  @InjectMocks
+  private JobPostingPreferenceService jobPostingPreferenceService;
+
+  @Test
+  void 같은_파일의_OCR_결과가_있으면_OCR_없이_재사용한다() {
+    when(jobPostingPreferenceRepository.existsById(S3_KEY)).thenReturn(false);
+    when(s3Util.getObjectETag(S3_KEY)).thenReturn(ETAG);
+    when(jobPostingPreferenceRepository.findFirstByContentHash(ETAG)).thenReturn(Optional.of(
+        JobPostingPreference.builder()
+            .s3PreferenceFileKey("job-postings/1/preference.pdf")
+            .contentHash(ETAG)
+            .text("Kotlin 경험자 우대")
+            .build()));
+
+    jobPostingPreferenceService.extract(S3_KEY);
+
+    verifyNoInteractions(aiClient);
+    JobPostingPreference saved = captureSaved();
+    assertThat(saved.getS3PreferenceFileKey()).isEqualTo(S3_KEY);
+    assertThat(saved.getContentHash()).isEqualTo(ETAG);
+    assertThat(saved.getText()).isEqualTo("Kotlin 경험자 우대");
+  }
+
+  @Test
+  void 처음_올라온_파일은_OCR하여_해시와_함께_저장한다() {
+    when(jobPostingPreferenceRepository.existsById(S3_KEY)).thenReturn(false);
+    when(s3Util.getObjectETag(S3_KEY)).thenReturn(ETAG);
+    when(jobPostingPreferenceRepository.findFirstByContentHash(ETAG)).thenReturn(Optional.empty());
+    when(s3Util.generateDownloadPresignedUrl(S3_KEY)).thenReturn(PRESIGNED_URL);
+    when(aiClient.performOcr(PRESIGNED_URL)).thenReturn(ocr("success", "대용량 트래픽 경험 우대"));
+
+    jobPostingPreferenceService.extract(S3_KEY);
+
+    JobPostingPreference saved = captureSaved();
+    assertThat(saved.getContentHash()).isEqualTo(ETAG);
+    assertThat(saved.getText()).isEqualTo("대용량 트래픽 경험 우대");
+  }
+
+  @Test
+  void ETag를_알_수_없으면_재사용_조회_없이_OCR한다() {
+    when(jobPostingPreferenceRepository.existsById(S3_KEY)).thenReturn(false);
+    when(s3Util.getObjectETag(S3_KEY)).thenReturn(null);
+    when(s3Util.generateDownloadPresignedUrl(S3_KEY)).thenReturn(PRESIGNED_URL);
+    when(aiClient.performOcr(PRESIGNED_URL)).thenReturn(ocr("success", "Spring 경험 우대"));
+
+    jobPostingPreferenceService.extract(S3_KEY);
+
+    verify(jobPostingPreferenceRepository, never()).findFirstByContentHash(anyString());
+    assertThat(captureSaved().getContentHash()).isNull();
+  }
+
+  @Test
+  void OCR_결과가_비어_있으면_저장하지_않아_URL_전달로_대체된다() {
+    when(jobPostingPreferenceRepository.existsById(S3_KEY)).thenReturn(false);
+    when(s3Util.getObjectETag(S3_KEY)).thenReturn(ETAG);
+    when(jobPostingPreferenceRepository.findFirstByContentHash(ETAG)).thenReturn(Optional.empty());
+    when(s3Util.generateDownloadPresignedUrl(S3_KEY)).thenReturn(PRESIGNED_URL);
+    when(aiClient.performOcr(PRESIGNED_URL)).thenReturn(ocr("error", "  "));
+
+    jobPostingPreferenceService.extract(S3_KEY);
+
+    verify(jobPostingPreferenceRepository, never()).save(any());
+  }
+
+  @Test
+  void OCR_응답이_없으면_저장하지_않는다() {
+    when(jobPostingPreferenceRepository.existsById(S3_KEY)).thenReturn(false);
+    when(s3Util.getObjectETag(S3_KEY)).thenReturn(ETAG);
+    when(jobPostingPreferenceRepository.findFirstByContentHash(ETAG)).thenReturn(Optional.empty());
+    when(s3Util.generateDownloadPresignedUrl(S3_KEY)).thenReturn(PRESIGNED_URL);
+    when(aiClient.performOcr(PRESIGNED_URL)).thenReturn(null);
+
+    jobPostingPreferenceService.extract(S3_KEY);
+
+    verify(jobPostingPreferenceRepository, never()).save(any());
+  }
+
+  @Test
+  void 이미_추출된_공고는_다시_OCR하지_않는다() {
+    when(jobPostingPreferenceRepository.existsById(S3_KEY)).thenReturn(true);
+
+    jobPostingPreferenceService.extract(S3_KEY);
+
+    verifyNoInteractions(s3Util, aiClient);
+    verify(jobPostingPreferenceRepository, never()).save(any());
+  }
+
+  @Test
+  void 키가_없거나_추출_전이면_텍스트는_null이다() {
+    when(jobPostingPreferenceRepository.findTextByS3PreferenceFileKey(S3_KEY))
+        .thenReturn(Optional.empty());
+
+    assertThat(jobPostingPreferenceService.findText(null)).isNull();
+    assertThat(jobPostingPreferenceService.findText(" ")).isNull();
+    assertThat(jobPostingPreferenceService.findText(S3_KEY)).isNull();
+    verify(jobPostingPreferenceRepository).findTextByS3PreferenceFileKey(S3_KEY);
+  }
+
+  private JobPostingPreference captureSaved() {
+    ArgumentCaptor<JobPostingPreference> captor = ArgumentCaptor.forClass(JobPostingPreference.class);
+    verify(jobPostingPreferenceRepository).save(captor.capture());
+    return captor.getValue();
+  }
+
+  private AiTextResponse ocr(String status, String text) {
+    AiTextResponse response = new AiTextResponse();
+    response.setStatus(status);
+    response.setText(text);
+    return response;
+  }
+}
@@ -0,0 +1,38 @@
+package com.ssafy.s13p21b204.report.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 리포트 상세 응답 필드 필터: fields 생략 시 null 필드를 포함한 기존 응답 유지, 일부 요청 시 요청 필드만 직렬화하는지 검증
+ */
+class ReportResponseDetailDtoTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ReportResponseDetailDto dto =
+      new ReportResponseDetailDto("총평", null, Map.of("팀워크", 80), null, null);
+
+  @Test
+  void allFieldsKeepNullKeys() throws Exception {
+    String json = write(ReportDetailField.parse(null));
+
+    assertThat(json).isEqualTo("{\"comment\":\"총평\",\"heartBeats\":null,"
+        + "\"myScores\":{\"팀워크\":80},\"averageScores\":null,\"qnaList\":null}");
+  }
+
+  @Test
+  void partialFieldsWriteOnlyRequested() throws Exception {
+    assertThat(write(ReportDetailField.parse("comment"))).isEqualTo("{\"comment\":\"총평\"}");
+    assertThat(write(EnumSet.of(ReportDetailField.COMMENT, ReportDetailField.AVERAGE_SCORES)))
+        .isEqualTo("{\"comment\":\"총평\",\"averageScores\":null}");
+  }
+
+  private String write(Set<ReportDetailField> fields) throws Exception {
+    return objectMapper.writer(ReportResponseDetailDto.fieldFilter(fields)).writeValueAsString(dto);
+  }
+}
@@ -0,0 +1,190 @@
+package com.ssafy.s13p21b204.report.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import com.ssafy.s13p21b204.company.entity.Company;
+import com.ssafy.s13p21b204.global.entity.ProgressStatus;
+import com.ssafy.s13p21b204.global.redis.RedisDao;
+import com.ssafy.s13p21b204.heartBeat.repository.HeartbeatRepository;
+import com.ssafy.s13p21b204.heartBeat.service.HeartbeatService;
+import com.ssafy.s13p21b204.interview.entity.Interview;
+import com.ssafy.s13p21b204.jobPosting.entity.JobPosting;
+import com.ssafy.s13p21b204.jobPosting.entity.JobPosting.Part;
+import com.ssafy.s13p21b204.report.dto.ReportResponseSummaryDto;
+import com.ssafy.s13p21b204.report.entity.Report;
+import com.ssafy.s13p21b204.report.repository.ReportRepository;
+import com.ssafy.s13p21b204.report.service.ScoreTrendService;
+import com.ssafy.s13p21b204.resume.entity.Resume;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * getReports 실행 쿼리 수 검증 (Hibernate Statistics)
+ * 면접 수와 관계없이 일반 면접 + 시연용 면접과 회사 정보가 한 번의 쿼리로 조회되어야 한다.
+ * 리포트(MongoDB)는 저장소를 대체하여 조회한 인터뷰 ID의 완료된 리포트를 돌려준다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ReportServiceImpl.class)
+class ReportServiceQueryCountTest {
+
+  private static final Long USER_ID = 1L;
+  private static final Long OTHER_USER_ID = 2L;
+
+  /**
+   * BeApplication의 @EnableMongoAuditing이 mongoMappingContext 빈을 참조하므로 JPA 슬라이스에서 대체 등록
+   */
+  @TestConfiguration
+  static class MongoAuditingSupport {
+
+    @Bean
+    MongoMappingContext mongoMappingContext() {
+      return new MongoMappingContext();
+    }
+  }
+
+  @MockitoBean
+  private ReportRepository reportRepository;
+  @MockitoBean
+  private HeartbeatRepository heartbeatRepository;
+  @MockitoBean
+  private HeartbeatService heartbeatService;
+  @MockitoBean
+  private RedisDao redisDao;
+  @MockitoBean
+  private ScoreTrendService scoreTrendService;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private ReportServiceImpl reportService;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManager.getEntityManager().getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    when(reportRepository.findByInterviewIdIn(anyList())).thenAnswer(invocation -> {
+      List<Long> interviewIds = invocation.getArgument(0);
+      return interviewIds.stream().map(this::report).toList();
+    });
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 50})
+  void getReports_executesSingleStatement(int interviewCount) {
+    givenInterviews(interviewCount);
+
+    List<ReportResponseSummaryDto> result = reportService.getReports(USER_ID);
+
+    // 사용자 일반 면접 + 시연용 면접 리포트만 반환 (다른 사용자 면접 제외)
+    assertThat(result).hasSize(interviewCount * 2);
+    assertThat(result).filteredOn(dto -> dto.CompanyName().equals("삼성전자"))
+        .hasSize(interviewCount)
+        .allSatisfy(dto -> assertThat(dto.part()).isEqualTo(Part.QUALITY));
+    assertThat(result).filteredOn(dto -> dto.CompanyName().startsWith("시연 기업"))
+        .hasSize(interviewCount)
+        .allSatisfy(dto -> assertThat(dto.part()).isEqualTo(Part.SOFTWARE));
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  @Test
+  void getReports_sameStatementCountForSmallAndLargeInput() {
+    givenInterviews(2);
+    reportService.getReports(USER_ID);
+    long small = statistics.getPrepareStatementCount();
+
+    givenInterviews(100);
+    reportService.getReports(USER_ID);
+    long large = statistics.getPrepareStatementCount();
+
+    assertThat(large).isEqualTo(small);
+  }
+
+  @Test
+  void getReports_skipsDemoInterviewWithoutCompany() {
+    givenInterviews(1);
+    entityManager.persist(Interview.builder().companyId(-1L).build());
+    entityManager.flush();
+    entityManager.clear();
+
+    assertThat(reportService.getReports(USER_ID)).hasSize(2);
+  }
+
+  @Test
+  void getReports_excludesInterviewOfDeletedResume() {
+    givenInterviews(1);
+    Resume deleted = entityManager.persist(Resume.builder().userId(USER_ID).build());
+    entityManager.persist(Interview.builder().resume(deleted).build());
+    entityManager.flush();
+    entityManager.clear();
+    entityManager.getEntityManager()
+        .createQuery("update Resume r set r.deletedAt = current_timestamp where r.resumeId = :id")
+        .setParameter("id", deleted.getResumeId())
+        .executeUpdate();
+
+    // 삭제된 이력서의 면접은 시연용 면접(Resume 없음)으로 취급하지 않음
+    assertThat(reportService.getReports(USER_ID)).hasSize(2);
+  }
+
+  /**
+   * 사용자 일반 면접 n개, 서로 다른 회사의 시연용 면접 n개, 다른 사용자 일반 면접 n개 저장 후 영속성 컨텍스트/통계 초기화
+   */
+  private void givenInterviews(int n) {
+    entityManager.getEntityManager().createQuery("delete from Interview").executeUpdate();
+    entityManager.getEntityManager().createQuery("delete from Resume").executeUpdate();
+    entityManager.getEntityManager().createQuery("delete from JobPosting").executeUpdate();
+    entityManager.getEntityManager().createQuery("delete from Company").executeUpdate();
+
+    JobPosting jobPosting = entityManager.persist(JobPosting.builder()
+        .company(entityManager.persist(company("삼성전자")))
+        .part(Part.QUALITY)
+        .createdAt(LocalDateTime.now())
+        .expiredAt(LocalDateTime.now().plusDays(7))
+        .build());
+    Resume resume = entityManager.persist(
+        Resume.builder().userId(USER_ID).jobPosting(jobPosting).build());
+    Resume otherResume = entityManager.persist(
+        Resume.builder().userId(OTHER_USER_ID).jobPosting(jobPosting).build());
+
+    for (int i = 1; i <= n; i++) {
+      entityManager.persist(Interview.builder().resume(resume).build());
+      entityManager.persist(Interview.builder().resume(otherResume).build());
+      Company demoCompany = entityManager.persist(company("시연 기업 " + i));
+      entityManager.persist(Interview.builder().companyId(demoCompany.getCompanyId()).build());
+    }
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+  }
+
+  private Company company(String name) {
+    return Company.builder().name(name).build();
+  }
+
+  private Report report(Long interviewId) {
+    return Report.builder()
+        .reportId("report-" + interviewId)
+        .interviewId(interviewId)
+        .progressStatus(ProgressStatus.REPORTED)
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+}
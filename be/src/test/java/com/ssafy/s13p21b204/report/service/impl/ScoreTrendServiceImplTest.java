@@ -0,0 +1,195 @@
+package com.ssafy.s13p21b204.report.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.client.result.UpdateResult;
+import com.ssafy.s13p21b204.company.entity.Company;
+import com.ssafy.s13p21b204.global.entity.ProgressStatus;
+import com.ssafy.s13p21b204.heartBeat.entity.Heartbeat;
+import com.ssafy.s13p21b204.heartBeat.repository.HeartbeatRepository;
+import com.ssafy.s13p21b204.interview.entity.Interview;
+import com.ssafy.s13p21b204.interview.repository.InterviewRepository;
+import com.ssafy.s13p21b204.jobPosting.entity.JobPosting;
+import com.ssafy.s13p21b204.report.dto.ScoreTrendPointDto;
+import com.ssafy.s13p21b204.report.entity.Report;
+import com.ssafy.s13p21b204.report.entity.ScoreTrend;
+import com.ssafy.s13p21b204.report.entity.ScoreTrendPoint;
+import com.ssafy.s13p21b204.report.repository.ReportRepository;
+import com.ssafy.s13p21b204.report.repository.ScoreTrendRepository;
+import com.ssafy.s13p21b204.resume.entity.Resume;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * 점수 추이 시계열: 같은 리포트 중복 추가 방지, 최초 생성(완료된 리포트만), 동시 생성 시 추가로 전환,
+ * 심박 평균/이상 횟수 계산, 공고별 필터와 정렬 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ScoreTrendServiceImplTest {
+
+  private static final Long USER_ID = 1L;
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 0);
+
+  @Mock
+  private ScoreTrendRepository scoreTrendRepository;
+  @Mock
+  private ReportRepository reportRepository;
+  @Mock
+  private InterviewRepository interviewRepository;
+  @Mock
+  private HeartbeatRepository heartbeatRepository;
+  @Mock
+  private MongoTemplate mongoTemplate;
+
+  @InjectMocks
+  private ScoreTrendServiceImpl scoreTrendService;
+
+  private final JobPosting jobPosting = JobPosting.builder()
+      .jobPostingId(10L)
+      .company(Company.builder().name("삼성전자").build())
+      .build();
+  private final Resume resume = Resume.builder().userId(USER_ID).jobPosting(jobPosting).build();
+
+  @Test
+  void appendPoint_skipsDemoInterview() {
+    scoreTrendService.appendPoint(report("r1", 1L, ProgressStatus.REPORTED),
+        Interview.builder().interviewId(1L).companyId(5L).build());
+
+    verifyNoInteractions(mongoTemplate, scoreTrendRepository);
+  }
+
+  @Test
+  void appendPoint_pushesOnlyIfReportNotInSeries() {
+    when(mongoTemplate.exists(any(Query.class), eq(ScoreTrend.class))).thenReturn(true);
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ScoreTrend.class)))
+        .thenReturn(UpdateResult.acknowledged(1, 0L, null));
+
+    scoreTrendService.appendPoint(report("r1", 1L, ProgressStatus.REPORTED), interview(1L));
+
+    ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+    verify(mongoTemplate).updateFirst(query.capture(), any(Update.class), eq(ScoreTrend.class));
+    Document criteria = query.getValue().getQueryObject();
+    assertThat(criteria.get("userId")).isEqualTo(USER_ID);
+    assertThat(criteria.get("points.reportId")).isEqualTo(new Document("$ne", "r1"));
+  }
+
+  @Test
+  void appendPoint_countsHeartbeatAnomalies() {
+    when(mongoTemplate.exists(any(Query.class), eq(ScoreTrend.class))).thenReturn(true);
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ScoreTrend.class)))
+        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    when(heartbeatRepository.findByInterviewIdOrderByMeasuredAtAsc(1L)).thenReturn(List.of(
+        heartbeat(70, "NORMAL"), heartbeat(130, "HIGH"), heartbeat(45, "LOW"),
+        heartbeat(null, "HIGH"), heartbeat(80, null)));
+
+    scoreTrendService.appendPoint(report("r1", 1L, ProgressStatus.REPORTED), interview(1L));
+
+    ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(ScoreTrend.class));
+    ScoreTrendPoint point = (ScoreTrendPoint) update.getValue().getUpdateObject()
+        .get("$push", Document.class).get("points");
+    // bpm이 없는 측정은 평균/이상 횟수에서 제외, 상태가 없는 측정은 정상으로 취급
+    assertThat(point.getAverageBpm()).isEqualTo((70 + 130 + 45 + 80) / 4.0);
+    assertThat(point.getAnomalyCount()).isEqualTo(2);
+    assertThat(point.getJobPostingId()).isEqualTo(10L);
+    assertThat(point.getCompanyName()).isEqualTo("삼성전자");
+  }
+
+  @Test
+  void appendPoint_buildsSeriesFromCompletedReportsWhenMissing() {
+    when(mongoTemplate.exists(any(Query.class), eq(ScoreTrend.class))).thenReturn(false);
+    when(interviewRepository.findByUserId(USER_ID)).thenReturn(List.of(interview(1L), interview(2L)));
+    when(reportRepository.findByInterviewIdIn(anyList())).thenReturn(List.of(
+        report("r1", 1L, ProgressStatus.REPORTED), report("r2", 2L, ProgressStatus.CREATING)));
+
+    scoreTrendService.appendPoint(report("r1", 1L, ProgressStatus.REPORTED), interview(1L));
+
+    ArgumentCaptor<ScoreTrend> saved = ArgumentCaptor.forClass(ScoreTrend.class);
+    verify(scoreTrendRepository).save(saved.capture());
+    assertThat(saved.getValue().getUserId()).isEqualTo(USER_ID);
+    assertThat(saved.getValue().getPoints()).extracting(ScoreTrendPoint::getReportId)
+        .containsExactly("r1");
+    // 방금 완료된 리포트가 생성 시 포함되므로 추가로 push하지 않음
+    verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class),
+        eq(ScoreTrend.class));
+  }
+
+  @Test
+  void appendPoint_pushesWhenConcurrentRequestCreatedSeries() {
+    when(mongoTemplate.exists(any(Query.class), eq(ScoreTrend.class))).thenReturn(false);
+    when(interviewRepository.findByUserId(USER_ID)).thenReturn(List.of());
+    when(scoreTrendRepository.save(any(ScoreTrend.class)))
+        .thenThrow(new DuplicateKeyException("userId"));
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ScoreTrend.class)))
+        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+    scoreTrendService.appendPoint(report("r1", 1L, ProgressStatus.REPORTED), interview(1L));
+
+    verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(ScoreTrend.class));
+  }
+
+  @Test
+  void getTrend_filtersByJobPostingAndSortsByCreatedAt() {
+    when(scoreTrendRepository.findByUserId(USER_ID)).thenReturn(Optional.of(ScoreTrend.builder()
+        .userId(USER_ID)
+        .points(List.of(
+            point("late", 10L, NOW.plusDays(2)),
+            point("other", 20L, NOW.plusDays(1)),
+            point("early", 10L, NOW)))
+        .build()));
+
+    List<ScoreTrendPointDto> all = scoreTrendService.getTrend(USER_ID, null);
+    List<ScoreTrendPointDto> filtered = scoreTrendService.getTrend(USER_ID, 10L);
+
+    assertThat(all).extracting(ScoreTrendPointDto::reportId)
+        .containsExactly("early", "other", "late");
+    assertThat(filtered).extracting(ScoreTrendPointDto::reportId)
+        .containsExactly("early", "late");
+  }
+
+  private Interview interview(Long interviewId) {
+    return Interview.builder().interviewId(interviewId).resume(resume).createdAt(NOW).build();
+  }
+
+  private Report report(String reportId, Long interviewId, ProgressStatus status) {
+    return Report.builder()
+        .reportId(reportId)
+        .interviewId(interviewId)
+        .progressStatus(status)
+        .scores(Map.of("팀워크", 80))
+        .createdAt(NOW)
+        .build();
+  }
+
+  private Heartbeat heartbeat(Integer bpm, String status) {
+    return Heartbeat.builder().interviewId(1L).bpm(bpm).status(status).build();
+  }
+
+  private ScoreTrendPoint point(String reportId, Long jobPostingId, LocalDateTime createdAt) {
+    return ScoreTrendPoint.builder()
+        .reportId(reportId)
+        .jobPostingId(jobPostingId)
+        .createdAt(createdAt)
+        .build();
+  }
+}
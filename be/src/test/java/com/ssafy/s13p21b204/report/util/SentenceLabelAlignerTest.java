@@ -0,0 +1,68 @@
+package com.ssafy.s13p21b204.report.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.s13p21b204.report.util.SentenceLabelAligner.AlignedLabels;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SentenceLabelAlignerTest {
+
+  @Test
+  void align_slicesLabelsBySentenceCount() {
+    AlignedLabels aligned = SentenceLabelAligner.align(List.of(1, 2, 0, 1, 1), new int[]{2, 3});
+
+    assertThat(aligned.labelsOf(0)).containsExactly(1, 2);
+    assertThat(aligned.labelsOf(1)).containsExactly(0, 1, 1);
+    assertThat(aligned.consumed()).isEqualTo(5);
+  }
+
+  @Test
+  void align_padsMissingLabelsWithNeutral() {
+    AlignedLabels aligned = SentenceLabelAligner.align(List.of(2, 1), new int[]{1, 3});
+
+    assertThat(aligned.labelsOf(0)).containsExactly(2);
+    assertThat(aligned.labelsOf(1)).containsExactly(1, 0, 0);
+    assertThat(aligned.totalNeeded()).isEqualTo(4);
+  }
+
+  @Test
+  void align_ignoresExtraLabels() {
+    AlignedLabels aligned = SentenceLabelAligner.align(List.of(1, 1, 2, 2), new int[]{1, 1});
+
+    assertThat(aligned.labelsOf(0)).containsExactly(1);
+    assertThat(aligned.labelsOf(1)).containsExactly(1);
+    assertThat(aligned.labelCount() - aligned.consumed()).isEqualTo(2);
+  }
+
+  @Test
+  void align_emptyAnswerGetsSingleNeutral() {
+    AlignedLabels aligned = SentenceLabelAligner.align(List.of(1, 2), new int[]{1, 0, 1});
+
+    assertThat(aligned.labelsOf(0)).containsExactly(1);
+    assertThat(aligned.labelsOf(1)).containsExactly(0);
+    assertThat(aligned.labelsOf(2)).containsExactly(2);
+  }
+
+  @Test
+  void align_withoutLabelsGivesSingleNeutralPerAnswer() {
+    AlignedLabels fromNull = SentenceLabelAligner.align(null, new int[]{2, 3});
+    AlignedLabels fromEmpty = SentenceLabelAligner.align(List.of(), new int[]{2, 3});
+    AlignedLabels noSentences = SentenceLabelAligner.align(List.of(1, 1), new int[]{0, 0});
+
+    for (AlignedLabels aligned : List.of(fromNull, fromEmpty, noSentences)) {
+      assertThat(aligned.size()).isEqualTo(2);
+      assertThat(aligned.labelsOf(0)).containsExactly(0);
+      assertThat(aligned.labelsOf(1)).containsExactly(0);
+    }
+  }
+
+  @Test
+  void align_nullLabelIsNeutral() {
+    AlignedLabels aligned = SentenceLabelAligner.align(Arrays.asList(1, null, 2),
+        new int[]{3});
+
+    assertThat(aligned.labelsOf(0)).containsExactly(1, 0, 2);
+  }
+}
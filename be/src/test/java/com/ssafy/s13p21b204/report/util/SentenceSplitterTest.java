@@ -0,0 +1,126 @@
+package com.ssafy.s13p21b204.report.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * AI/models/emotion_model.py split_sentences 규칙과의 일치 여부 검증
+ * 기대값은 Python 구현으로 계산한 문장 수
+ */
+class SentenceSplitterTest {
+
+  static List<Arguments> pythonCases() {
+    return List.of(
+        Arguments.of("", 0),
+        Arguments.of("   ", 0),
+        Arguments.of("안녕하세요.", 1),
+        Arguments.of("안녕하세요. 반갑습니다.", 2),
+        Arguments.of("저는 개발자입니다. 열심히 하겠습니다! 질문 있나요?", 3),
+        Arguments.of("문장 하나, 그리고 쉼표 뒤 문장", 1),
+        Arguments.of("끝에 공백.   ", 1),
+        Arguments.of("줄바꿈\n두 번째 줄", 2),
+        Arguments.of("첫 줄.\r\n\r\n둘째 줄. 셋째", 3),
+        Arguments.of("버전은 3.5 입니다", 1),
+        Arguments.of("점.점.점 붙어있음", 1),
+        Arguments.of("a.\tb", 2),
+        Arguments.of("a.\u00A0b", 2),
+        Arguments.of("a.\u3000b", 2),
+        Arguments.of("a.\u200Bb", 1),
+        Arguments.of("a\u2028b", 2),
+        Arguments.of("a.\u001Fb", 2),
+        Arguments.of("a\u001Cb", 2),
+        Arguments.of("a\u001Fb", 1),
+        Arguments.of("...   !!! ??", 3),
+        Arguments.of("다. 요. 다.", 3),
+        Arguments.of("  \n \n  ", 0),
+        Arguments.of("네. \n 아니요.", 2),
+        Arguments.of("a.\u0085b", 2),
+        Arguments.of("Hello world", 1),
+        Arguments.of("마지막!", 1)
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("pythonCases")
+  void countSentences_matchesPythonRule(String paragraph, int expected) {
+    assertThat(SentenceSplitter.countSentences(paragraph)).isEqualTo(expected);
+  }
+
+  @Test
+  void countSentences_null() {
+    assertThat(SentenceSplitter.countSentences(null)).isZero();
+  }
+
+  @Test
+  void countSentences_matchesReferenceOnRandomInput() {
+    // 문장부호, 공백, 줄바꿈 문자 위주로 무작위 문자열을 만들어 정규식 기반 참조 구현과 비교
+    char[] alphabet = {'가', '다', '요', 'a', '.', '!', '?', ',', ' ', '\t', '\n', '\r',
+        '\u00A0', '\u2028', '\u001F', '\u3000', '\u200B'};
+    Random random = new Random(20251019L);
+    for (int i = 0; i < 5_000; i++) {
+      StringBuilder sb = new StringBuilder();
+      int length = random.nextInt(40);
+      for (int j = 0; j < length; j++) {
+        sb.append(alphabet[random.nextInt(alphabet.length)]);
+      }
+      String paragraph = sb.toString();
+      assertThat(SentenceSplitter.countSentences(paragraph))
+          .as("paragraph=%s", paragraph.replace("\n", "\\n").replace("\r", "\\r"))
+          .isEqualTo(PythonReference.countSentences(paragraph));
+    }
+  }
+
+  /**
+   * Python 코드를 그대로 옮긴 참조 구현 (str.strip, str.splitlines, re.split)
+   */
+  private static final class PythonReference {
+
+    private static final String WS =
+        "\\t\\n\\u000B\\f\\r\\u001C-\\u001F \\u0085\\u00A0\\u1680\\u2000-\\u200A"
+            + "\\u2028\\u2029\\u202F\\u205F\\u3000";
+    private static final Pattern SPLIT = Pattern.compile(
+        "(?<=[\\.!?])[" + WS + "]+|(?<=다\\.)[" + WS + "]+|(?<=요\\.)[" + WS + "]+");
+    private static final Pattern LINE_BREAK = Pattern.compile(
+        "\\r\\n|[\\n\\u000B\\f\\r\\u001C\\u001D\\u001E\\u0085\\u2028\\u2029]");
+    private static final Pattern STRIP = Pattern.compile("^[" + WS + "]+|[" + WS + "]+$");
+
+    static int countSentences(String paragraph) {
+      int count = 0;
+      for (String rawLine : splitLines(strip(paragraph))) {
+        String line = strip(rawLine);
+        if (line.isEmpty()) {
+          continue;
+        }
+        for (String piece : SPLIT.split(line, -1)) {
+          if (!strip(piece).isEmpty()) {
+            count++;
+          }
+        }
+      }
+      return count;
+    }
+
+    private static String strip(String s) {
+      return STRIP.matcher(s).replaceAll("");
+    }
+
+    private static List<String> splitLines(String s) {
+      List<String> lines = new ArrayList<>();
+      if (s.isEmpty()) {
+        return lines;
+      }
+      for (String line : LINE_BREAK.split(s, -1)) {
+        lines.add(line);
+      }
+      return lines;
+    }
+  }
+}